@@ -0,0 +1,99 @@
+package rocks.inspectit.ocelot.search;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import rocks.inspectit.ocelot.config.model.InspectitServerSettings;
+import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
+import rocks.inspectit.ocelot.file.versioning.VersioningManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the indexed workspace search against scanning all files of a revision, which is how the search was
+ * executed before the {@link FileContentIndex} existed. The workspace is generated with the given amount of files,
+ * each containing a typical scope and rule definition.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FileContentSearchPerfTest {
+
+    @Param({"500", "5000"})
+    private int fileCount;
+
+    /**
+     * A query matching a single file, a query matching a few lines in every file and a query matching nothing.
+     */
+    @Param({"s_scope_4711", "enabled: true", "does-not-exist"})
+    private String query;
+
+    private Path workingDirectory;
+
+    private RevisionAccess revision;
+
+    private FileContentIndex index;
+
+    @Setup
+    public void setup() throws Exception {
+        workingDirectory = Files.createTempDirectory("ocelot-search-perf");
+        for (int i = 0; i < fileCount; i++) {
+            Path file = workingDirectory.resolve("files/dir_" + (i % 50) + "/config_" + i + ".yml");
+            Files.createDirectories(file.getParent());
+            Files.write(file, generateFile(i).getBytes(StandardCharsets.UTF_8));
+        }
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", null);
+        InspectitServerSettings settings = InspectitServerSettings.builder().mailSuffix("@test.com").build();
+        VersioningManager versioningManager = new VersioningManager(workingDirectory, () -> authentication, event -> {
+        }, settings);
+        versioningManager.initialize();
+
+        revision = versioningManager.getWorkspaceRevision();
+        index = new FileContentIndex();
+        index.update(revision);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(workingDirectory.toFile());
+    }
+
+    @Benchmark
+    public void indexedSearch(Blackhole blackhole) {
+        blackhole.consume(index.search(query, 100, true));
+    }
+
+    @Benchmark
+    public void fullScan(Blackhole blackhole) {
+        Pattern pattern = Pattern.compile(Pattern.quote(query), Pattern.CASE_INSENSITIVE);
+        int found = 0;
+        List<String> paths = revision.listConfigurationFiles("")
+                .stream()
+                .flatMap(fileInfo -> fileInfo.getAbsoluteFilePaths(""))
+                .toList();
+        for (String path : paths) {
+            Optional<String> content = revision.readConfigurationFile(path);
+            if (content.isPresent()) {
+                Matcher matcher = pattern.matcher(content.get());
+                while (found < 100 && matcher.find()) {
+                    blackhole.consume(matcher.start());
+                    found++;
+                }
+            }
+        }
+    }
+
+    private String generateFile(int i) {
+        return "inspectit:\n" + "  instrumentation:\n" + "    scopes:\n" + "      's_scope_" + i + "':\n" + "        type:\n" + "          name: 'com.example.service" + i + ".Controller'\n" + "        methods:\n" + "          - name: 'handle'\n" + "    rules:\n" + "      'r_rule_" + i + "':\n" + "        enabled: true\n" + "        scopes:\n" + "          's_scope_" + i + "': true\n" + "        tracing:\n" + "          start-span: true\n" + "          attributes:\n" + "            'service.id': 'service-" + i + "'\n";
+    }
+}
@@ -21,6 +21,11 @@ import java.time.Duration;
 @Component
 public class LogsCommandHandler implements CommandHandler {
 
+    /**
+     * Header containing the sequence number to request the logs following the returned ones.
+     */
+    public static final String HEADER_NEXT_SEQUENCE = "x-ocelot-next-log-sequence";
+
     @Autowired
     private InspectitServerSettings configuration;
 
@@ -72,8 +77,8 @@ public class LogsCommandHandler implements CommandHandler {
 
     /**
      * Takes an instance of {@link CommandResponse} as well as an instance of {@link DeferredResult}. Sets the
-     * {@link ResponseEntity} of the {@link DeferredResult} to the status OK. In this handler the given response is
-     * ignored since the response itself indicates that the agent is alive.
+     * {@link ResponseEntity} of the {@link DeferredResult} to the status OK. The body contains the returned logs, the
+     * sequence number for requesting subsequent logs is provided in the {@link #HEADER_NEXT_SEQUENCE} header.
      *
      * @param response The {@link CommandResponse} to be handled.
      * @param result   The {@link DeferredResult} the response should be written in.
@@ -81,7 +86,9 @@ public class LogsCommandHandler implements CommandHandler {
     @Override
     public void handleResponse(CommandResponse response, DeferredResult<ResponseEntity<?>> result) {
         LogsCommand.Response logsResponse = (LogsCommand.Response) response;
-        result.setResult(ResponseEntity.ok().body(logsResponse.getLogs()));
+        result.setResult(ResponseEntity.ok()
+                .header(HEADER_NEXT_SEQUENCE, String.valueOf(logsResponse.getNextSequence()))
+                .body(logsResponse.getLogs()));
     }
 
 }
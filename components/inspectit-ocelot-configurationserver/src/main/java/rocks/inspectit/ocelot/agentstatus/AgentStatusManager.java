@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.collect.Collections2;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,10 +18,11 @@ import rocks.inspectit.ocelot.commons.models.health.AgentHealthState;
 import rocks.inspectit.ocelot.commons.models.info.AgentSystemInformation;
 import rocks.inspectit.ocelot.config.model.InspectitServerSettings;
 
-import java.util.Collection;
-import java.util.Date;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * Holds a history when agents last fetched their configuration.
@@ -36,6 +39,22 @@ public class AgentStatusManager {
 
     private static final String HEADER_AGENT_SYSTEM_INFO = "x-ocelot-system-info";
 
+    /**
+     * Reader for the system information header, shared as readers are immutable and thread-safe.
+     */
+    private static final ObjectReader SYSTEM_INFORMATION_READER = new ObjectMapper().readerFor(AgentSystemInformation.class);
+
+    /**
+     * Reader for the health header, shared as readers are immutable and thread-safe.
+     */
+    private static final ObjectReader HEALTH_STATE_READER = new ObjectMapper().readerFor(AgentHealthState.class);
+
+    /**
+     * The order of the {@link #fetchTimeIndex}, records with the same fetch time are ordered by their sequence.
+     */
+    private static final Comparator<AgentStatusRecord> FETCH_TIME_ORDER = Comparator.comparingLong(AgentStatusRecord::getLastConfigFetch)
+            .thenComparingLong(AgentStatusRecord::getSequence);
+
     @Autowired
     @VisibleForTesting
     InspectitServerSettings config;
@@ -45,21 +64,34 @@ public class AgentStatusManager {
      * in case the configuration was not fetched by an agent (in case no agent id is specified).
      * This cache is limited in size and has an expiration based on {@link #config}.
      */
-    private Cache<Object, AgentStatus> attributesToAgentStatusCache;
+    private Cache<Object, AgentStatusRecord> attributesToAgentStatusCache;
+
+    /**
+     * The records of {@link #attributesToAgentStatusCache} sorted by their fetch time, which is the default order of
+     * the UI. Records are removed from the index as soon as they are removed from the cache.
+     */
+    private final NavigableSet<AgentStatusRecord> fetchTimeIndex = new ConcurrentSkipListSet<>(FETCH_TIME_ORDER);
+
+    private final AtomicLong recordSequence = new AtomicLong();
 
     /**
      * Clears the connection history.
      */
     @PostConstruct
     public void reset() {
+        fetchTimeIndex.clear();
         attributesToAgentStatusCache = CacheBuilder.newBuilder()
                 .maximumSize(config.getMaxAgents())
                 .expireAfterWrite(config.getAgentEvictionDelay().toMillis(), TimeUnit.MILLISECONDS)
+                .removalListener((RemovalListener<Object, AgentStatusRecord>) notification -> fetchTimeIndex.remove(notification.getValue()))
                 .build();
     }
 
     /**
      * Called to update the history when an agent just fetched a configuration.
+     * <p>
+     * The health and system information headers are only parsed in case they differ from the ones sent with the
+     * previous fetch of the same agent. Otherwise, the already parsed values are reused.
      *
      * @param agentAttributes     the attributes sent by the agent when fetching the configuration
      * @param headers             the headers sent by the client fetching the configuration
@@ -68,18 +100,6 @@ public class AgentStatusManager {
     public void notifyAgentConfigurationFetched(Map<String, String> agentAttributes, Map<String, String> headers, AgentConfiguration resultConfiguration) {
         AgentMetaInformation metaInformation = AgentMetaInformation.of(headers);
 
-        AgentStatus agentStatus = AgentStatus.builder()
-                .metaInformation(metaInformation)
-                .attributes(agentAttributes)
-                .lastConfigFetch(new Date())
-                .mappingName(resultConfiguration == null ? null : resultConfiguration.getMapping().name())
-                .sourceBranch(resultConfiguration == null ? null : resultConfiguration.getMapping()
-                        .sourceBranch()
-                        .getBranchName())
-                .build();
-
-        setSystemInformation(agentStatus, headers);
-
         Object statusKey;
         if (metaInformation != null) {
             statusKey = metaInformation.getAgentId();
@@ -87,55 +107,196 @@ public class AgentStatusManager {
             statusKey = agentAttributes;
         }
 
-        if (headers.containsKey(HEADER_AGENT_HEALTH)) {
-            setHealthState(agentStatus, headers, statusKey);
+        AgentStatusRecord lastRecord = attributesToAgentStatusCache.getIfPresent(statusKey);
+
+        // reuse the previously stored instances if nothing has changed, so the new ones can be collected right away
+        if (lastRecord != null && Objects.equals(lastRecord.getMetaInformation(), metaInformation)) {
+            metaInformation = lastRecord.getMetaInformation();
+        }
+        Map<String, String> attributes = agentAttributes;
+        if (lastRecord != null && Objects.equals(lastRecord.getAttributes(), agentAttributes)) {
+            attributes = lastRecord.getAttributes();
         }
 
-        attributesToAgentStatusCache.put(statusKey, agentStatus);
-    }
+        String systemInfoHeader = headers.get(HEADER_AGENT_SYSTEM_INFO);
+        int systemInfoHash = hash(systemInfoHeader);
+        AgentSystemInformation systemInformation;
+        if (lastRecord != null && isUnchanged(systemInfoHeader, systemInfoHash, lastRecord.getSystemInformationHeader(), lastRecord.getSystemInformationHash())) {
+            systemInfoHeader = lastRecord.getSystemInformationHeader();
+            systemInformation = lastRecord.getSystemInformation();
+        } else {
+            systemInformation = readSystemInformation(systemInfoHeader);
+        }
 
-    private void setSystemInformation(AgentStatus agentStatus, Map<String, String> headers) {
-        ObjectReader objectReader = new ObjectMapper().reader().forType(AgentSystemInformation.class);
+        String healthHeader = headers.get(HEADER_AGENT_HEALTH);
+        int healthHash = hash(healthHeader);
+        AgentHealthState healthState;
+        if (lastRecord != null && isUnchanged(healthHeader, healthHash, lastRecord.getHealthStateHeader(), lastRecord.getHealthStateHash())) {
+            healthHeader = lastRecord.getHealthStateHeader();
+            healthState = lastRecord.getHealthState();
+        } else {
+            healthState = readHealthState(healthHeader);
+            logHealthIfChanged(statusKey, lastRecord, healthState);
+        }
 
-        if(headers.containsKey(HEADER_AGENT_SYSTEM_INFO)) {
-            try {
-                AgentSystemInformation systemInfo = objectReader.readValue(headers.get(HEADER_AGENT_SYSTEM_INFO));
-                agentStatus.setSystemInformation(systemInfo);
-            } catch (JsonProcessingException e) {
-                log.info("Could not read system information", e);
-            }
+        String mappingName = null;
+        String sourceBranch = null;
+        if (resultConfiguration != null) {
+            mappingName = resultConfiguration.getMapping().name();
+            sourceBranch = resultConfiguration.getMapping().sourceBranch().getBranchName();
         }
+
+        AgentStatusRecord record = new AgentStatusRecord(metaInformation, attributes, System.currentTimeMillis(), recordSequence.incrementAndGet(), mappingName, sourceBranch, systemInformation, systemInfoHeader, systemInfoHash, healthState, healthHeader, healthHash);
+
+        // the replaced record is removed from the index by the removal listener of the cache
+        fetchTimeIndex.add(record);
+        attributesToAgentStatusCache.put(statusKey, record);
     }
 
-    private void setHealthState(AgentStatus agentStatus, Map<String, String> headers, Object statusKey) {
-        ObjectReader objectReader = new ObjectMapper().reader().forType(AgentHealthState.class);
+    /**
+     * Returns the hash of the given header value. The hash of an absent header is 0.
+     */
+    private int hash(String headerValue) {
+        return headerValue == null ? 0 : headerValue.hashCode();
+    }
 
-        AgentHealthState agentHealthState = null;
+    /**
+     * Checks whether a header value equals the one of the previous fetch. The hashes are compared first, so that
+     * changed headers are usually detected without comparing their content.
+     */
+    private boolean isUnchanged(String headerValue, int hash, String lastHeaderValue, int lastHash) {
+        return hash == lastHash && Objects.equals(headerValue, lastHeaderValue);
+    }
+
+    private AgentSystemInformation readSystemInformation(String systemInfoHeader) {
+        if (systemInfoHeader == null) {
+            return null;
+        }
+        try {
+            return SYSTEM_INFORMATION_READER.readValue(systemInfoHeader);
+        } catch (JsonProcessingException e) {
+            log.info("Could not read system information", e);
+            return null;
+        }
+    }
+
+    private AgentHealthState readHealthState(String healthHeader) {
+        if (healthHeader == null) {
+            return null;
+        }
         try {
-            agentHealthState = objectReader.readValue(headers.get(HEADER_AGENT_HEALTH));
+            return HEALTH_STATE_READER.readValue(healthHeader);
         } catch (
                 JsonProcessingException e) { //If this exception occurs we assume the corresponding agent uses the legacy health indicator.
             log.debug("Could not read health state", e);
-            AgentHealth agentHealth = AgentHealth.valueOf(headers.get(HEADER_AGENT_HEALTH));
-            agentHealthState = AgentHealthState.defaultState();
+            AgentHealth agentHealth = AgentHealth.valueOf(healthHeader);
+            AgentHealthState agentHealthState = AgentHealthState.defaultState();
             agentHealthState.setHealth(agentHealth);
+            return agentHealthState;
         }
-        agentStatus.setHealthState(agentHealthState);
-        logHealthIfChanged(statusKey, agentHealthState);
     }
 
-    private void logHealthIfChanged(Object statusKey, AgentHealthState agentHealthState) {
-        AgentStatus lastStatus = attributesToAgentStatusCache.getIfPresent(statusKey);
-
-        if (lastStatus == null || lastStatus.getHealthState().getHealth() != agentHealthState.getHealth()) {
+    private void logHealthIfChanged(Object statusKey, AgentStatusRecord lastRecord, AgentHealthState agentHealthState) {
+        if (agentHealthState == null) {
+            return;
+        }
+        if (lastRecord == null || lastRecord.getHealth() != agentHealthState.getHealth()) {
             log.info("Health of agent {} changed to {}", statusKey, agentHealthState);
         }
     }
 
     /**
-     * @return a collection of all agent statuses since {@link #reset()} was called.
+     * @return a view of all agent statuses since {@link #reset()} was called.
      */
     public Collection<AgentStatus> getAgentStatuses() {
-        return attributesToAgentStatusCache.asMap().values();
+        return Collections.unmodifiableCollection(Collections2.transform(attributesToAgentStatusCache.asMap()
+                .values(), AgentStatusRecord::toAgentStatus));
+    }
+
+    /**
+     * Returns a page of the agent statuses matching the given query. Only the statuses of the requested page are
+     * materialized.
+     * <p>
+     * Queries sorted by the fetch time, which is the default, walk the {@link #fetchTimeIndex}. Without filter, they
+     * stop as soon as the page is complete. Queries sorted by other properties select the page using a bounded heap, so
+     * the matching statuses don't have to be sorted completely.
+     *
+     * @param query the query to execute
+     *
+     * @return the requested page of statuses
+     */
+    public AgentStatusPage queryAgentStatuses(AgentStatusQuery query) {
+        int offset = Math.max(query.getOffset(), 0);
+        int limit = query.getLimit();
+        if (query.getSortBy() == AgentStatusQuery.SortField.LAST_CONFIG_FETCH) {
+            return queryByFetchTime(query, offset, limit);
+        }
+        Comparator<AgentStatusRecord> comparator = query.getComparator();
+
+        if (limit == 0) {
+            int totalCount = (int) attributesToAgentStatusCache.asMap().values().stream().filter(query::matches).count();
+            return new AgentStatusPage(totalCount, Collections.emptyList());
+        }
+
+        List<AgentStatusRecord> selected;
+        int totalCount = 0;
+        if (limit < 0) {
+            selected = new ArrayList<>();
+            for (AgentStatusRecord record : attributesToAgentStatusCache.asMap().values()) {
+                if (query.matches(record)) {
+                    totalCount++;
+                    selected.add(record);
+                }
+            }
+        } else {
+            long capacity = (long) offset + limit;
+            // the head of the heap is the greatest of the selected records, so it is the one to replace
+            PriorityQueue<AgentStatusRecord> heap = new PriorityQueue<>(comparator.reversed());
+            for (AgentStatusRecord record : attributesToAgentStatusCache.asMap().values()) {
+                if (query.matches(record)) {
+                    totalCount++;
+                    if (heap.size() < capacity) {
+                        heap.add(record);
+                    } else if (comparator.compare(record, heap.peek()) < 0) {
+                        heap.poll();
+                        heap.add(record);
+                    }
+                }
+            }
+            selected = new ArrayList<>(heap);
+        }
+        selected.sort(comparator);
+
+        List<AgentStatus> statuses = selected.stream()
+                .skip(offset)
+                .map(AgentStatusRecord::toAgentStatus)
+                .collect(Collectors.toList());
+        return new AgentStatusPage(totalCount, statuses);
+    }
+
+    private AgentStatusPage queryByFetchTime(AgentStatusQuery query, int offset, int limit) {
+        // removes expired records, so that the index only contains the records of the cache
+        attributesToAgentStatusCache.cleanUp();
+        boolean matchesAll = query.matchesAll();
+        Iterable<AgentStatusRecord> records = query.isDescending() ? fetchTimeIndex.descendingSet() : fetchTimeIndex;
+
+        List<AgentStatus> statuses = new ArrayList<>();
+        int totalCount = 0;
+        for (AgentStatusRecord record : records) {
+            boolean pageComplete = limit >= 0 && statuses.size() >= limit;
+            if (matchesAll && pageComplete) {
+                break;
+            }
+            if (query.matches(record)) {
+                if (totalCount >= offset && !pageComplete) {
+                    statuses.add(record.toAgentStatus());
+                }
+                totalCount++;
+            }
+        }
+        if (matchesAll) {
+            totalCount = (int) attributesToAgentStatusCache.size();
+        }
+        return new AgentStatusPage(totalCount, statuses);
     }
 }
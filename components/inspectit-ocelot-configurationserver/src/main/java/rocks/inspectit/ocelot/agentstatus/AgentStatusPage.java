@@ -0,0 +1,22 @@
+package rocks.inspectit.ocelot.agentstatus;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A page of agent statuses resulting from an {@link AgentStatusQuery}.
+ */
+@Value
+public class AgentStatusPage {
+
+    /**
+     * The total amount of statuses matching the query.
+     */
+    int totalCount;
+
+    /**
+     * The statuses of the requested page.
+     */
+    List<AgentStatus> statuses;
+}
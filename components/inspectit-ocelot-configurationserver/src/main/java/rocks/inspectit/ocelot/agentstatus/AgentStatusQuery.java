@@ -0,0 +1,109 @@
+package rocks.inspectit.ocelot.agentstatus;
+
+import lombok.Builder;
+import lombok.Value;
+import rocks.inspectit.ocelot.commons.models.health.AgentHealth;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Query for a page of the agent statuses known by the {@link AgentStatusManager}.
+ */
+@Value
+@Builder
+public class AgentStatusQuery {
+
+    /**
+     * The amount of matching statuses to skip.
+     */
+    @Builder.Default
+    int offset = 0;
+
+    /**
+     * The maximum amount of statuses to return, a negative value means no limit.
+     */
+    @Builder.Default
+    int limit = -1;
+
+    /**
+     * Case-insensitive text which has to be contained in the agent id, the mapping name or one of the agent's
+     * attribute values. If null or empty, all statuses are matching.
+     */
+    String filter;
+
+    /**
+     * If set, only statuses of agents having this health are matching.
+     */
+    AgentHealth health;
+
+    /**
+     * The property to sort the statuses by.
+     */
+    @Builder.Default
+    SortField sortBy = SortField.LAST_CONFIG_FETCH;
+
+    /**
+     * Whether the statuses are sorted in descending order.
+     */
+    @Builder.Default
+    boolean descending = true;
+
+    /**
+     * The properties statuses can be sorted by.
+     */
+    public enum SortField {
+        AGENT_ID(AgentStatusRecord::getAgentId),
+        SERVICE(record -> record.getAttributes() == null ? null : record.getAttributes().get("service")),
+        MAPPING_NAME(AgentStatusRecord::getMappingName),
+        HEALTH(AgentStatusRecord::getHealth),
+        LAST_CONFIG_FETCH(AgentStatusRecord::getLastConfigFetch);
+
+        private final Comparator<AgentStatusRecord> comparator;
+
+        <T extends Comparable<? super T>> SortField(Function<AgentStatusRecord, T> extractor) {
+            comparator = Comparator.comparing(extractor, Comparator.nullsFirst(Comparator.naturalOrder()));
+        }
+    }
+
+    /**
+     * @return the comparator defining the order of the resulting statuses
+     */
+    Comparator<AgentStatusRecord> getComparator() {
+        return descending ? sortBy.comparator.reversed() : sortBy.comparator;
+    }
+
+    /**
+     * @return true if this query matches all statuses
+     */
+    boolean matchesAll() {
+        return health == null && (filter == null || filter.isEmpty());
+    }
+
+    /**
+     * @param record the record to test
+     *
+     * @return true if the given record is matching this query
+     */
+    boolean matches(AgentStatusRecord record) {
+        if (health != null && health != record.getHealth()) {
+            return false;
+        }
+        if (filter == null || filter.isEmpty()) {
+            return true;
+        }
+        String lowerFilter = filter.toLowerCase(Locale.ROOT);
+        if (containsIgnoreCase(record.getAgentId(), lowerFilter) || containsIgnoreCase(record.getMappingName(), lowerFilter)) {
+            return true;
+        }
+        return record.getAttributes() != null && record.getAttributes()
+                .values()
+                .stream()
+                .anyMatch(value -> containsIgnoreCase(value, lowerFilter));
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerFilter) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerFilter);
+    }
+}
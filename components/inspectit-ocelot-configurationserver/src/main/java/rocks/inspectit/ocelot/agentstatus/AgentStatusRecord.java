@@ -0,0 +1,135 @@
+package rocks.inspectit.ocelot.agentstatus;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.Value;
+import lombok.experimental.NonFinal;
+import rocks.inspectit.ocelot.commons.models.health.AgentHealth;
+import rocks.inspectit.ocelot.commons.models.health.AgentHealthState;
+import rocks.inspectit.ocelot.commons.models.info.AgentSystemInformation;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Compact, immutable representation of the most recent status of a single agent as it is stored by the
+ * {@link AgentStatusManager}. Besides the parsed values, the raw header values and their hashes are kept, so unchanged
+ * headers of subsequent configuration fetches can be detected without parsing them again. An {@link AgentStatus} is
+ * only created when the status is actually requested and is reused for all further requests of the same record.
+ */
+@Value
+@RequiredArgsConstructor
+class AgentStatusRecord {
+
+    /**
+     * Meta information about the agent, in case the configuration was fetched by an agent.
+     */
+    AgentMetaInformation metaInformation;
+
+    /**
+     * The attributes with which the corresponding agent connected.
+     */
+    Map<String, String> attributes;
+
+    /**
+     * The epoch millis of the last configuration fetch.
+     */
+    long lastConfigFetch;
+
+    /**
+     * Unique number of this record, increasing with each configuration fetch. Orders records with the same
+     * {@link #lastConfigFetch}.
+     */
+    long sequence;
+
+    /**
+     * The mapping which was used to serve the agents configuration.
+     */
+    String mappingName;
+
+    /**
+     * The branch of which the mapping delivered to the agent originates.
+     */
+    String sourceBranch;
+
+    /**
+     * The parsed system information header.
+     */
+    AgentSystemInformation systemInformation;
+
+    /**
+     * The system information header the {@link #systemInformation} has been parsed from.
+     */
+    String systemInformationHeader;
+
+    /**
+     * The hash of the {@link #systemInformationHeader}, 0 if not present.
+     */
+    int systemInformationHash;
+
+    /**
+     * The parsed health header.
+     */
+    AgentHealthState healthState;
+
+    /**
+     * The health header the {@link #healthState} has been parsed from.
+     */
+    String healthStateHeader;
+
+    /**
+     * The hash of the {@link #healthStateHeader}, 0 if not present.
+     */
+    int healthStateHash;
+
+    /**
+     * The {@link AgentStatus} created for this record, null until it is requested for the first time.
+     */
+    @NonFinal
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    volatile AgentStatus agentStatus;
+
+    /**
+     * @return the agent id or null in case the configuration was not fetched by an agent
+     */
+    String getAgentId() {
+        return metaInformation == null ? null : metaInformation.getAgentId();
+    }
+
+    /**
+     * @return the health of the agent or null in case it is unknown
+     */
+    AgentHealth getHealth() {
+        return healthState == null ? null : healthState.getHealth();
+    }
+
+    /**
+     * @return the {@link AgentStatus} representing this record, which is created only once
+     */
+    AgentStatus toAgentStatus() {
+        AgentStatus status = agentStatus;
+        if (status == null) {
+            // concurrent requests might create multiple equal instances, of which only one is kept
+            status = createAgentStatus();
+            agentStatus = status;
+        }
+        return status;
+    }
+
+    private AgentStatus createAgentStatus() {
+        return AgentStatus.builder()
+                .metaInformation(metaInformation)
+                .systemInformation(systemInformation)
+                .attributes(attributes)
+                .lastConfigFetch(new Date(lastConfigFetch))
+                .mappingName(mappingName)
+                .sourceBranch(sourceBranch)
+                .healthState(healthState)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package rocks.inspectit.ocelot.autocomplete.autocompleterimpl;
 
 import com.google.common.annotations.VisibleForTesting;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
@@ -10,17 +12,30 @@ import rocks.inspectit.ocelot.config.utils.CaseUtils;
 import rocks.inspectit.ocelot.config.validation.PropertyPathHelper;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static rocks.inspectit.ocelot.autocomplete.autocompleterimpl.Constants.INSPECTIT;
 
+/**
+ * Suggests the properties of the {@link InspectitConfig} model.
+ * <p>
+ * The model is navigated via a graph of {@link ModelNode}s, one for each type found in the model. Each node is
+ * created once on first use and contains the suggestions for its type as well as the types of its properties, so
+ * resolving a path only requires a lookup per path segment.
+ */
 @Component
 public class ModelAutoCompleter implements AutoCompleter {
 
+    /**
+     * The nodes of the model, mapped by the type they represent.
+     */
+    private final Map<Type, ModelNode> modelNodes = new ConcurrentHashMap<>();
+
     @Override
     public List<String> getSuggestions(List<String> path) {
         if (CollectionUtils.isEmpty(path) || (path.size() == 1 && path.get(0).isEmpty())) {
@@ -39,21 +54,88 @@ public class ModelAutoCompleter implements AutoCompleter {
      * @return The names of the properties of the given path as list
      */
     private List<String> collectProperties(List<String> propertyPath) {
-        Type endType = PropertyPathHelper.getPathEndType(propertyPath, InspectitConfig.class);
         if (CollectionUtils.isEmpty(propertyPath) || ((propertyPath.size() == 1) && propertyPath.get(0).equals(""))) {
-            return getProperties(InspectitConfig.class).stream()
+            return getNode(InspectitConfig.class).getSuggestions().stream()
                     //Filter out the path "inspectit.env" which may only be managed by the agent.
                     .filter(property -> !property.equals("env")).collect(Collectors.toList());
         }
-        if (endType instanceof Class<?> && ((Class<?>) endType).isEnum()) {
-            return Arrays.stream(((Class<?>) endType).getEnumConstants())
-                    .map(Object::toString)
-                    .collect(Collectors.toList());
-        }
-        if (endType == null || PropertyPathHelper.isTerminal(endType) || PropertyPathHelper.isListOfTerminalTypes(endType) || !(endType instanceof Class<?>)) {
+        Type endType = getPathEndType(propertyPath);
+        if (endType == null) {
             return Collections.emptyList();
         }
-        return getProperties((Class<?>) endType);
+        return new ArrayList<>(getNode(endType).getSuggestions());
+    }
+
+    /**
+     * Returns the type which can be found at the end of the given path, starting at {@link InspectitConfig}.
+     * Resolves the same type as {@link PropertyPathHelper#getPathEndType(List, Type)}.
+     *
+     * @param propertyPath the path of the property
+     *
+     * @return the type at the end of the path or null if the path does not exist
+     */
+    private Type getPathEndType(List<String> propertyPath) {
+        Type type = InspectitConfig.class;
+        for (String propertyName : propertyPath) {
+            ModelNode node = getNode(type);
+            if (node.isMapOfTerminalTypes()) {
+                // all remaining path segments are keys of the map
+                return node.getValueType();
+            }
+            type = node.getChildType(propertyName);
+            if (type == null) {
+                return null;
+            }
+        }
+        return type;
+    }
+
+    private ModelNode getNode(Type type) {
+        return modelNodes.computeIfAbsent(type, this::createNode);
+    }
+
+    private ModelNode createNode(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType genericType = (ParameterizedType) type;
+            if (genericType.getRawType() == Map.class) {
+                Type valueType = genericType.getActualTypeArguments()[1];
+                return new ModelNode(type, Collections.emptyList(), valueType, PropertyPathHelper.isTerminal(valueType), null);
+            } else if (genericType.getRawType() == List.class) {
+                return new ModelNode(type, Collections.emptyList(), genericType.getActualTypeArguments()[0], false, null);
+            }
+        }
+        if (!(type instanceof Class<?>)) {
+            return new ModelNode(type, Collections.emptyList(), null, false, null);
+        }
+
+        Class<?> clazz = (Class<?>) type;
+        List<String> suggestions;
+        if (clazz.isEnum()) {
+            suggestions = Arrays.stream(clazz.getEnumConstants()).map(Object::toString).collect(Collectors.toList());
+        } else if (PropertyPathHelper.isTerminal(clazz)) {
+            suggestions = Collections.emptyList();
+        } else {
+            suggestions = getProperties(clazz);
+        }
+
+        // equal to the lookup of PropertyPathHelper, the first descriptor matching a property name is used
+        Map<String, Type> propertyTypes = new HashMap<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(clazz)) {
+            String key = toPropertyKey(descriptor.getName());
+            if (!propertyTypes.containsKey(key)) {
+                Method writeMethod = descriptor.getWriteMethod();
+                propertyTypes.put(key, writeMethod == null ? null : writeMethod.getParameters()[0].getParameterizedType());
+            }
+        }
+        return new ModelNode(type, suggestions, null, false, propertyTypes);
+    }
+
+    /**
+     * Normalizes the given property name, so that names which are equal regardless of their case-style result in the
+     * same key. See {@link CaseUtils#compareIgnoreCamelOrKebabCase(String, String)}.
+     */
+    private static String toPropertyKey(String propertyName) {
+        return CaseUtils.kebabCaseToCamelCase(propertyName).toLowerCase();
     }
 
     /**
@@ -71,4 +153,52 @@ public class ModelAutoCompleter implements AutoCompleter {
                 .map(CaseUtils::camelCaseToKebabCase)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * A type of the configuration model.
+     */
+    @AllArgsConstructor
+    @Getter
+    private static class ModelNode {
+
+        private final Type type;
+
+        /**
+         * The suggestions for a path ending in this type.
+         */
+        private final List<String> suggestions;
+
+        /**
+         * The element type in case this node is a map or list.
+         */
+        private final Type valueType;
+
+        /**
+         * True, if this node is a map whose values are of a terminal type.
+         */
+        private final boolean mapOfTerminalTypes;
+
+        /**
+         * The types of the properties in case this node is a bean, mapped by their normalized names.
+         * The type is null if the property cannot be written.
+         */
+        private final Map<String, Type> propertyTypes;
+
+        /**
+         * Returns the type found when descending into the given property of this node.
+         *
+         * @param propertyName the name of the property, map key or list index
+         *
+         * @return the type of the property or null if it does not exist
+         */
+        private Type getChildType(String propertyName) {
+            if (valueType != null) {
+                return valueType;
+            }
+            if (propertyTypes == null) {
+                throw new IllegalArgumentException("Unexpected type: " + type);
+            }
+            return propertyTypes.get(toPropertyKey(propertyName));
+        }
+    }
 }
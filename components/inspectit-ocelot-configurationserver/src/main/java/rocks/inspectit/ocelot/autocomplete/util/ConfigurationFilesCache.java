@@ -11,10 +11,13 @@ import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 /**
- * Caches the workspace revision.
+ * Caches the workspace revision. Besides the parsed configuration files, a {@link ConfigurationKeyTrie} of all their
+ * keys is kept, which is rebuilt whenever the workspace changes.
  */
 @Slf4j
 @Component
@@ -36,6 +39,16 @@ public class ConfigurationFilesCache {
      */
     private Collection<Object> parsedContents = Collections.emptyList();
 
+    /**
+     * The key trie of the current parsed contents.
+     */
+    private volatile ConfigurationKeyTrie keyTrie = ConfigurationKeyTrie.EMPTY;
+
+    /**
+     * The parsed configuration files, which are reused by the reload tasks for files whose content did not change.
+     */
+    private final Map<String, ConfigurationFilesCacheReloadTask.ParsedFile> parsedFiles = new ConcurrentHashMap<>();
+
     /**
      * Returns the most recently loaded .yaml and .yml files as a list of Objects. Each Object resembles the corresponding
      * files root element. All following elements are then appended to this root element.
@@ -57,6 +70,15 @@ public class ConfigurationFilesCache {
         return parsedContents;
     }
 
+    /**
+     * Returns the trie of all keys contained in the most recently loaded configuration files.
+     *
+     * @return the key trie of the current parsed contents
+     */
+    public ConfigurationKeyTrie getKeyTrie() {
+        return keyTrie;
+    }
+
     /**
      * Loads all .yaml and .yml files. The files are loaded from the "configuration" folder of the server and from the
      * "files" folder of the working directory. The files contents are parsed into either nested Lists or Maps.
@@ -68,7 +90,10 @@ public class ConfigurationFilesCache {
         if (activeReloadTask != null) {
             activeReloadTask.cancel();
         }
-        activeReloadTask = new ConfigurationFilesCacheReloadTask(fileAccess, (configs) -> parsedContents = configs);
+        activeReloadTask = new ConfigurationFilesCacheReloadTask(fileAccess, parsedFiles, (configs) -> {
+            keyTrie = ConfigurationKeyTrie.build(configs);
+            parsedContents = configs;
+        });
         executor.submit(activeReloadTask);
     }
 
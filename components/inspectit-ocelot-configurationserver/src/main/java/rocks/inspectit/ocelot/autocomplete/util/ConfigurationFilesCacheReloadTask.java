@@ -1,6 +1,7 @@
 package rocks.inspectit.ocelot.autocomplete.util;
 
 import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.yaml.snakeyaml.Yaml;
 import rocks.inspectit.ocelot.config.loaders.ConfigFileLoader;
@@ -8,16 +9,17 @@ import rocks.inspectit.ocelot.file.FileInfo;
 import rocks.inspectit.ocelot.file.accessor.AbstractFileAccessor;
 import rocks.inspectit.ocelot.utils.CancellableTask;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Loads all configuration files of the given revision and parses them.
+ * <p>
+ * Parsed files are kept in a cache which is shared between subsequent reload tasks. A file is only parsed again in
+ * case its content has changed since it has been parsed the last time.
  */
 @Slf4j
 public class ConfigurationFilesCacheReloadTask extends CancellableTask<Collection<Object>> {
@@ -28,11 +30,26 @@ public class ConfigurationFilesCacheReloadTask extends CancellableTask<Collectio
     private static final Predicate<String> HAS_YAML_ENDING = filePath -> filePath.toLowerCase()
             .endsWith(".yml") || filePath.toLowerCase().endsWith(".yaml");
 
+    /**
+     * Prefix of the cache keys of the default configuration files, distinguishing them from the workspace files.
+     */
+    private static final String DEFAULT_CONFIG_KEY_PREFIX = "default:";
+
     private AbstractFileAccessor fileAccess;
 
+    /**
+     * The previously parsed files, mapped by their path.
+     */
+    private Map<String, ParsedFile> parsedFiles;
+
     public ConfigurationFilesCacheReloadTask(AbstractFileAccessor fileAccess, Consumer<Collection<Object>> onLoadCallback) {
+        this(fileAccess, new ConcurrentHashMap<>(), onLoadCallback);
+    }
+
+    public ConfigurationFilesCacheReloadTask(AbstractFileAccessor fileAccess, Map<String, ParsedFile> parsedFiles, Consumer<Collection<Object>> onLoadCallback) {
         super(onLoadCallback);
         this.fileAccess = fileAccess;
+        this.parsedFiles = parsedFiles;
     }
 
     @Override
@@ -49,11 +66,15 @@ public class ConfigurationFilesCacheReloadTask extends CancellableTask<Collectio
                     parsedFileContents.add(parsed);
                 }
             }
-            ConfigFileLoader.getDefaultConfigFiles()
-                    .values()
-                    .stream()
-                    .map(this::parseYaml)
-                    .forEach(parsedFileContents::add);
+            Set<String> loadedKeys = new HashSet<>(filePaths);
+            for (Map.Entry<String, String> defaultFile : ConfigFileLoader.getDefaultConfigFiles().entrySet()) {
+                String key = DEFAULT_CONFIG_KEY_PREFIX + defaultFile.getKey();
+                loadedKeys.add(key);
+                parsedFileContents.add(getOrParse(key, defaultFile.getValue()));
+            }
+            if (!isCanceled()) {
+                parsedFiles.keySet().retainAll(loadedKeys);
+            }
             onTaskSuccess(parsedFileContents);
         } catch (Exception e) {
             log.error("Error refreshing cache for autocompleter", e);
@@ -91,13 +112,31 @@ public class ConfigurationFilesCacheReloadTask extends CancellableTask<Collectio
     Object loadYamlFile(String path) {
         try {
             Optional<String> src = fileAccess.readConfigurationFile(path);
-            return src.map(this::parseYaml).orElse(null);
+            return src.map(content -> getOrParse(path, content)).orElse(null);
         } catch (Exception e) {
             log.warn("Unable to load file with path {}", path);
             return null;
         }
     }
 
+    /**
+     * Returns the parsed content of the given file. The file is only parsed in case it has not been parsed with the
+     * same content before.
+     *
+     * @param key     the key of the file in the cache of parsed files
+     * @param content the current content of the file
+     *
+     * @return the parsed content
+     */
+    private Object getOrParse(String key, String content) {
+        ParsedFile parsedFile = parsedFiles.get(key);
+        if (parsedFile == null || !parsedFile.getContent().equals(content)) {
+            parsedFile = new ParsedFile(content, parseYaml(content));
+            parsedFiles.put(key, parsedFile);
+        }
+        return parsedFile.getParsedContent();
+    }
+
     /**
      * Searches in the current directory for files with .yml or .yaml ending. Returns all paths to those files as a
      * lexicographically ordered List of Strings.
@@ -118,4 +157,15 @@ public class ConfigurationFilesCacheReloadTask extends CancellableTask<Collectio
             return new ArrayList<>();
         }
     }
+
+    /**
+     * The content of a configuration file together with its parsed representation.
+     */
+    @Value
+    public static class ParsedFile {
+
+        String content;
+
+        Object parsedContent;
+    }
 }
@@ -0,0 +1,212 @@
+package rocks.inspectit.ocelot.autocomplete.util;
+
+import java.util.*;
+
+/**
+ * Prefix tree over the key paths of all parsed configuration files.
+ * <p>
+ * All documents are merged into a single tree: each node represents a path which exists in at least one document and
+ * holds the keys which can be found at the end of this path. Looking up the keys of a path therefore only requires
+ * descending the tree once instead of walking through every parsed document.
+ * <p>
+ * The keys of a node are the String keys of maps, the String elements of lists and String values found at the node's
+ * path. The same key is contained multiple times if it is defined in multiple documents. Each key is numbered in the
+ * order it has been inserted, so that the keys of multiple nodes matched by a wildcard can be returned in the order of
+ * the documents and their content. The tree is immutable once it has been built.
+ */
+public class ConfigurationKeyTrie {
+
+    /**
+     * Path literal which matches all map values or list elements.
+     */
+    private static final String WILDCARD = "*";
+
+    /**
+     * A trie which does not contain any keys.
+     */
+    public static final ConfigurationKeyTrie EMPTY = new ConfigurationKeyTrie(new Node());
+
+    private final Node root;
+
+    private ConfigurationKeyTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Builds the trie for the given parsed configuration files.
+     *
+     * @param documents the root elements of the parsed files, see {@link ConfigurationFilesCache#getParsedContents()}
+     *
+     * @return the trie containing the keys of all documents
+     */
+    public static ConfigurationKeyTrie build(Collection<Object> documents) {
+        Node root = new Node();
+        Inserter inserter = new Inserter();
+        for (Object document : documents) {
+            inserter.insert(root, document);
+        }
+        return new ConfigurationKeyTrie(root);
+    }
+
+    /**
+     * Returns the keys which can be found at the end of the given path.
+     * A literal "*" matches all values of a map or all elements of a list, numeric literals can be used to access a
+     * list element by its index.
+     *
+     * @param path the path to look up
+     *
+     * @return the keys found at the end of the path, in the order of their documents and their position within them
+     */
+    public List<String> getKeys(List<String> path) {
+        List<Node> current = Collections.singletonList(root);
+        for (String literal : path) {
+            List<Node> next = new ArrayList<>();
+            for (Node node : current) {
+                node.collectChildren(literal, next);
+            }
+            if (next.isEmpty()) {
+                return new ArrayList<>();
+            }
+            current = next;
+        }
+
+        List<Key> keys = new ArrayList<>();
+        for (Node node : current) {
+            keys.addAll(node.keys);
+        }
+        if (current.size() > 1) {
+            keys.sort(Comparator.comparingInt(key -> key.sequence));
+        }
+        List<String> result = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            result.add(key.value);
+        }
+        return result;
+    }
+
+    /**
+     * A key of a node together with its position in the order of all inserted keys.
+     */
+    private static class Key {
+
+        private final int sequence;
+
+        private final String value;
+
+        private Key(int sequence, String value) {
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Inserts the parsed documents into the trie and numbers their keys in the order they are visited.
+     */
+    private static class Inserter {
+
+        private int nextSequence;
+
+        /**
+         * Adds the given parsed element to the subtree of the given node.
+         *
+         * @param node    the node of the element's path
+         * @param element a map, list or scalar value of a parsed document
+         */
+        private void insert(Node node, Object element) {
+            if (element instanceof Map) {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) element).entrySet()) {
+                    Node child;
+                    if (entry.getKey() instanceof String) {
+                        addKey(node, (String) entry.getKey());
+                        child = node.children.computeIfAbsent((String) entry.getKey(), key -> new Node());
+                    } else {
+                        if (node.otherValues == null) {
+                            node.otherValues = new Node();
+                        }
+                        child = node.otherValues;
+                    }
+                    insert(child, entry.getValue());
+                }
+            } else if (element instanceof List) {
+                List<?> list = (List<?>) element;
+                for (int i = 0; i < list.size(); i++) {
+                    Object listElement = list.get(i);
+                    if (listElement instanceof String) {
+                        addKey(node, (String) listElement);
+                    }
+                    if (i == node.elements.size()) {
+                        node.elements.add(new Node());
+                    }
+                    insert(node.elements.get(i), listElement);
+                }
+            } else if (element instanceof String) {
+                addKey(node, (String) element);
+            }
+        }
+
+        private void addKey(Node node, String key) {
+            node.keys.add(new Key(nextSequence++, key));
+        }
+    }
+
+    /**
+     * A single path of the trie.
+     */
+    private static class Node {
+
+        /**
+         * The keys found at the end of this node's path.
+         */
+        private final List<Key> keys = new ArrayList<>();
+
+        /**
+         * The nodes of map values, mapped by the (String) keys of the map.
+         */
+        private final Map<String, Node> children = new LinkedHashMap<>();
+
+        /**
+         * The nodes of list elements, mapped by their index.
+         */
+        private final List<Node> elements = new ArrayList<>();
+
+        /**
+         * The node of all map values whose key is no String. These can only be reached via a wildcard.
+         */
+        private Node otherValues;
+
+        /**
+         * Adds the child nodes matching the given path literal to the given list.
+         *
+         * @param literal the path literal
+         * @param result  the list to add the matching nodes to
+         */
+        private void collectChildren(String literal, List<Node> result) {
+            if (literal.equals(WILDCARD)) {
+                result.addAll(children.values());
+                result.addAll(elements);
+                if (otherValues != null) {
+                    result.add(otherValues);
+                }
+                return;
+            }
+            Node child = children.get(literal);
+            if (child != null) {
+                result.add(child);
+            }
+            if (!elements.isEmpty()) {
+                Integer index = parseIndex(literal);
+                if (index != null && index >= 0 && index < elements.size()) {
+                    result.add(elements.get(index));
+                }
+            }
+        }
+
+        private static Integer parseIndex(String literal) {
+            try {
+                return Integer.parseInt(literal);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
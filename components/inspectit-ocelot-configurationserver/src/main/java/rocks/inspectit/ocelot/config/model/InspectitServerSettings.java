@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Duration;
@@ -65,6 +66,13 @@ public class InspectitServerSettings {
      */
     private Duration agentEvictionDelay;
 
+    /**
+     * The maximum total size of the file contents which are cached when reading Git revisions.
+     * The cache is shared by all revisions, thus, files which are equal in multiple revisions are only cached once.
+     */
+    @Builder.Default
+    private DataSize revisionCacheSize = DataSize.ofMegabytes(64);
+
     @Builder.Default
     private KapacitorSettings kapacitor = new KapacitorSettings();
 
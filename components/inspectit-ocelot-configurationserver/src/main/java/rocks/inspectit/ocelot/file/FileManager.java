@@ -8,7 +8,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 import rocks.inspectit.ocelot.config.model.InspectitServerSettings;
 import rocks.inspectit.ocelot.file.accessor.git.CachingRevisionAccess;
 import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
@@ -61,12 +60,6 @@ public class FileManager {
      */
     private CachingRevisionAccess cachedWorkspaceRevision;
 
-    /**
-     * The currently existing workspace versions. This field may not reflect the versions which actual exist in the
-     * server's repository because it is only refreshed if a user accesses it via the {@link #listWorkspaceVersions()} method.
-     */
-    private List<WorkspaceVersion> workspaceVersions;
-
     @Autowired
     public FileManager(InspectitServerSettings settings, ApplicationEventPublisher eventPublisher, Executor executor) throws GitAPIException, IOException {
         Path workingDirectory = Paths.get(settings.getWorkingDirectory()).toAbsolutePath().normalize();
@@ -185,21 +178,22 @@ public class FileManager {
     }
 
     /**
-     * A list of {@link WorkspaceVersion} existing in the workspace branch is returned. In case the workspace branch does
-     * not change, the list is cached in the {@link #workspaceVersions} field to prevent expensive recreation of it.
+     * Returns a page of the {@link WorkspaceVersion}s existing in the workspace branch, starting with the latest one.
+     *
+     * @param offset the amount of versions to skip
+     * @param limit  the maximum amount of versions to return, a negative value means no limit
      *
      * @return a list of {@link WorkspaceVersion} existing in the workspace branch.
      */
-    public List<WorkspaceVersion> listWorkspaceVersions() throws IOException, GitAPIException {
-        if (CollectionUtils.isEmpty(workspaceVersions)) {
-            workspaceVersions = versioningManager.listWorkspaceVersions();
-        } else {
-            String latestId = workspaceVersions.get(0).getId();
-            if (!latestId.equals(getWorkspaceRevision().getRevisionId())) {
-                workspaceVersions = versioningManager.listWorkspaceVersions();
-            }
-        }
-        return workspaceVersions;
+    public List<WorkspaceVersion> listWorkspaceVersions(int offset, int limit) throws IOException, GitAPIException {
+        return versioningManager.listWorkspaceVersions(offset, limit);
+    }
+
+    /**
+     * @return the total amount of versions existing in the workspace branch
+     */
+    public int getWorkspaceVersionCount() {
+        return versioningManager.getWorkspaceVersionCount();
     }
 
     /**
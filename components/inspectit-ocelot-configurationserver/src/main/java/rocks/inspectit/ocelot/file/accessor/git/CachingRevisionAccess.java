@@ -1,5 +1,6 @@
 package rocks.inspectit.ocelot.file.accessor.git;
 
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import rocks.inspectit.ocelot.file.FileInfo;
@@ -10,13 +11,20 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Decorates {@link RevisionAccess} with a cache to make subsequent lookups of the same files faster.
+ * File contents are stored in a {@link RevisionContentCache} which is shared across revisions, this instance only
+ * remembers which blob belongs to which path.
  */
 public class CachingRevisionAccess extends RevisionAccess {
 
     /**
-     * Maps file paths to their cached contents
+     * The shared cache holding the file contents.
      */
-    private final ConcurrentHashMap<String, byte[]> fileContentsCache = new ConcurrentHashMap<>();
+    private final RevisionContentCache contentCache;
+
+    /**
+     * Maps file paths to the ids of their blobs
+     */
+    private final ConcurrentHashMap<String, ObjectId> blobIdCache = new ConcurrentHashMap<>();
 
     /**
      * Maps directory paths to their cached contents
@@ -26,23 +34,25 @@ public class CachingRevisionAccess extends RevisionAccess {
     /**
      * Constructor.
      *
-     * @param repository the repository to use
-     * @param revCommit  the commit which will be used for the operations
+     * @param repository   the repository to use
+     * @param revCommit    the commit which will be used for the operations
+     * @param contentCache the cache to use for file contents
      */
-    public CachingRevisionAccess(Repository repository, RevCommit revCommit) {
+    public CachingRevisionAccess(Repository repository, RevCommit revCommit, RevisionContentCache contentCache) {
         super(repository, revCommit);
+        this.contentCache = contentCache;
     }
 
     @Override
     protected byte[] readFile(String path) throws IOException {
         if (path != null) {
-            byte[] cached = fileContentsCache.get(path);
-            if (cached != null) {
-                return cached;
+            ObjectId blobId = blobIdCache.get(path);
+            if (blobId == null) {
+                blobId = resolveBlobId(path);
+                blobIdCache.put(path, blobId);
             }
-            byte[] contents = super.readFile(path);
-            fileContentsCache.put(path, contents);
-            return contents;
+            ObjectId id = blobId;
+            return contentCache.get(id, () -> readBlob(id));
         } else {
             return super.readFile(null);
         }
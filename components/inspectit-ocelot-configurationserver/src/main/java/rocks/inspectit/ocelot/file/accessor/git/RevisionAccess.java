@@ -2,14 +2,19 @@ package rocks.inspectit.ocelot.file.accessor.git;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.ObjectLoader;
+import org.eclipse.jgit.lib.ObjectReader;
 import org.eclipse.jgit.lib.Repository;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.revwalk.filter.RevFilter;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import rocks.inspectit.ocelot.file.FileInfo;
 import rocks.inspectit.ocelot.file.accessor.AbstractFileAccessor;
 
@@ -213,6 +218,26 @@ public class RevisionAccess extends AbstractFileAccessor {
         return !currentContent.equals(previousContent);
     }
 
+    /**
+     * Returns the changes of the configuration files between the given base revision and this revision.
+     * The paths of the returned entries are relative to the repository root.
+     *
+     * @param baseRevision the revision to compare against
+     *
+     * @return the diff entries of all configuration files which differ between both revisions
+     */
+    public List<DiffEntry> getConfigurationFileChanges(RevisionAccess baseRevision) {
+        try (ObjectReader reader = repository.newObjectReader(); TreeWalk treeWalk = new TreeWalk(repository, reader)) {
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(AndTreeFilter.create(PathFilter.create(CONFIGURATION_FILES_SUBFOLDER), TreeFilter.ANY_DIFF));
+            treeWalk.addTree(baseRevision.revCommit.getTree());
+            treeWalk.addTree(revCommit.getTree());
+            return DiffEntry.scan(treeWalk);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not compute the changes between the revisions", e);
+        }
+    }
+
     @Override
     protected String verifyPath(String relativeBasePath, String relativePath) throws IllegalArgumentException {
         if (relativePath.startsWith("/")) {
@@ -239,6 +264,19 @@ public class RevisionAccess extends AbstractFileAccessor {
 
     @Override
     protected byte[] readFile(String path) throws IOException {
+        return readBlob(resolveBlobId(path));
+    }
+
+    /**
+     * Resolves the id of the blob representing the given file in this revision.
+     *
+     * @param path the path of the file
+     *
+     * @return the id of the file's blob
+     *
+     * @throws IOException in case the file does not exist or the repository cannot be read
+     */
+    protected ObjectId resolveBlobId(String path) throws IOException {
         try (TreeWalk treeWalk = TreeWalk.forPath(repository, path, revCommit.getTree())) {
             if (treeWalk == null) {
                 throw new FileNotFoundException("Did not find expected file '" + path + "' in git repository");
@@ -248,13 +286,24 @@ public class RevisionAccess extends AbstractFileAccessor {
                 throw new IllegalArgumentException("Target must be a file but found directory: " + path);
             }
 
-            ObjectId objectId = treeWalk.getObjectId(0);
-            ObjectLoader loader = repository.open(objectId);
-
-            return loader.getBytes();
+            return treeWalk.getObjectId(0);
         }
     }
 
+    /**
+     * Reads the content of the given blob.
+     *
+     * @param blobId the id of the blob
+     *
+     * @return the blob's content
+     *
+     * @throws IOException in case the repository cannot be read
+     */
+    protected byte[] readBlob(ObjectId blobId) throws IOException {
+        ObjectLoader loader = repository.open(blobId);
+        return loader.getBytes();
+    }
+
     @Override
     protected boolean exists(String path) {
         try (TreeWalk treeWalk = TreeWalk.forPath(repository, path, revCommit.getTree())) {
@@ -0,0 +1,63 @@
+package rocks.inspectit.ocelot.file.accessor.git;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache for the contents of Git blobs which is shared across all {@link CachingRevisionAccess} instances.
+ * As the contents are keyed by their blob id, a file which is unchanged between revisions is only cached once.
+ * The cache is bounded by the total size of the cached contents.
+ */
+public class RevisionContentCache {
+
+    private final Cache<ObjectId, byte[]> contents;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumBytes the maximum total size of the cached contents in bytes
+     */
+    public RevisionContentCache(long maximumBytes) {
+        contents = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((ObjectId id, byte[] content) -> content.length)
+                .build();
+    }
+
+    /**
+     * Returns the content of the given blob. In case it is not cached yet, it is loaded using the given loader.
+     *
+     * @param blobId the id of the blob
+     * @param loader the loader to use in case the content is not cached
+     *
+     * @return the blob's content
+     *
+     * @throws IOException in case the content could not be loaded
+     */
+    public byte[] get(ObjectId blobId, Callable<byte[]> loader) throws IOException {
+        try {
+            return contents.get(blobId.copy(), loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the total amount of cached blobs
+     */
+    public long size() {
+        return contents.size();
+    }
+}
@@ -0,0 +1,113 @@
+package rocks.inspectit.ocelot.file.versioning;
+
+import lombok.Value;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the amount of commits reachable from the heads of the repository's branches.
+ * <p>
+ * Instead of walking the whole history for each request, the count of a branch is derived from the last known state
+ * of the branch: when the branch head moves from commit A to commit B, the new count is the old count plus the commits
+ * only reachable from B minus the commits only reachable from A. Both walks are limited to the commits in which both
+ * heads differ, which is usually a handful of commits (e.g. a new commit, an amended commit or a promotion).
+ */
+class CommitIndex {
+
+    /**
+     * The repository to index.
+     */
+    private final Repository repository;
+
+    /**
+     * The last known head and commit count for each branch, mapped by the full ref name.
+     */
+    private final Map<String, IndexedHead> indexedHeads = new HashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param repository the repository to index
+     */
+    CommitIndex(Repository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Returns the amount of commits reachable from the given ref.
+     *
+     * @param refName the full name of the ref, e.g. "refs/heads/workspace"
+     *
+     * @return the amount of commits, 0 if the ref does not exist
+     */
+    synchronized int getCommitCount(String refName) throws IOException {
+        Ref ref = repository.exactRef(refName);
+        if (ref == null || ref.getObjectId() == null) {
+            indexedHeads.remove(refName);
+            return 0;
+        }
+
+        ObjectId head = ref.getObjectId();
+        IndexedHead indexed = indexedHeads.get(refName);
+        if (indexed != null && indexed.getHead().equals(head)) {
+            return indexed.getCount();
+        }
+
+        int count;
+        if (indexed == null) {
+            count = countExclusive(head, null);
+        } else {
+            count = indexed.getCount() + countExclusive(head, indexed.getHead()) - countExclusive(indexed.getHead(), head);
+        }
+        indexedHeads.put(refName, new IndexedHead(head, count));
+        return count;
+    }
+
+    /**
+     * Updates the index for the given ref. Should be called after the branch head has been moved, e.g. due to a commit
+     * or a promotion, so subsequent queries do not have to do any work.
+     *
+     * @param refName the full name of the ref
+     */
+    void update(String refName) throws IOException {
+        getCommitCount(refName);
+    }
+
+    /**
+     * Counts the commits which are reachable from the given start commit but not from the excluded one.
+     *
+     * @param start    the commit to start the walk from
+     * @param excluded the commit whose history is excluded, may be null
+     *
+     * @return the amount of commits only reachable from the start commit
+     */
+    private int countExclusive(ObjectId start, ObjectId excluded) throws IOException {
+        try (RevWalk walk = new RevWalk(repository)) {
+            walk.setRetainBody(false);
+            walk.markStart(walk.parseCommit(start));
+            if (excluded != null) {
+                walk.markUninteresting(walk.parseCommit(excluded));
+            }
+
+            int count = 0;
+            while (walk.next() != null) {
+                count++;
+            }
+            return count;
+        }
+    }
+
+    @Value
+    private static class IndexedHead {
+
+        ObjectId head;
+
+        int count;
+    }
+}
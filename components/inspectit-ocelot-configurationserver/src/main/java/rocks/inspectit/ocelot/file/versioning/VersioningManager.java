@@ -1,7 +1,6 @@
 package rocks.inspectit.ocelot.file.versioning;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Iterables;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jgit.api.*;
@@ -28,6 +27,7 @@ import rocks.inspectit.ocelot.events.WorkspaceChangedEvent;
 import rocks.inspectit.ocelot.file.accessor.AbstractFileAccessor;
 import rocks.inspectit.ocelot.file.accessor.git.CachingRevisionAccess;
 import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
+import rocks.inspectit.ocelot.file.accessor.git.RevisionContentCache;
 import rocks.inspectit.ocelot.file.versioning.model.Promotion;
 import rocks.inspectit.ocelot.file.versioning.model.SimpleDiffEntry;
 import rocks.inspectit.ocelot.file.versioning.model.WorkspaceDiff;
@@ -102,6 +102,16 @@ public class VersioningManager {
      */
     private RemoteConfigurationManager remoteConfigurationManager;
 
+    /**
+     * Index of the commit counts of the repository's branches.
+     */
+    private CommitIndex commitIndex;
+
+    /**
+     * Cache for file contents which is shared by all {@link CachingRevisionAccess} instances.
+     */
+    private final RevisionContentCache revisionContentCache;
+
     /**
      * Constructor.
      *
@@ -115,6 +125,9 @@ public class VersioningManager {
         this.authenticationSupplier = authenticationSupplier;
         this.eventPublisher = eventPublisher;
         this.settings = settings;
+
+        long revisionCacheSize = settings.getRevisionCacheSize() != null ? settings.getRevisionCacheSize().toBytes() : 0;
+        revisionContentCache = new RevisionContentCache(revisionCacheSize);
     }
 
     /**
@@ -126,6 +139,7 @@ public class VersioningManager {
         boolean hasGit = isGitRepository();
 
         git = Git.init().setDirectory(workingDirectory.toFile()).call();
+        commitIndex = new CommitIndex(git.getRepository());
 
         RemoteConfigurationsSettings remoteSettings = settings.getRemoteConfigurations();
         boolean usingRemoteConfiguration = remoteSettings != null && remoteSettings.isEnabled();
@@ -296,6 +310,7 @@ public class VersioningManager {
         stageFiles();
 
         if (commitAllFiles(author, message, author != GIT_SYSTEM_AUTHOR)) {
+            updateCommitIndex(Branch.WORKSPACE);
             eventPublisher.publishEvent(new WorkspaceChangedEvent(this, getWorkspaceRevision()));
         }
     }
@@ -371,13 +386,25 @@ public class VersioningManager {
      */
     public int getCommitCount() {
         try {
-            Iterable<RevCommit> commits = git.log().call();
-            return Iterables.size(commits);
+            return commitIndex.getCommitCount(git.getRepository().getFullBranch());
         } catch (Exception e) {
             return 0;
         }
     }
 
+    /**
+     * Updates the commit index for the given branch after its head has been moved.
+     *
+     * @param branch the branch to update
+     */
+    private void updateCommitIndex(Branch branch) {
+        try {
+            commitIndex.update("refs/heads/" + branch.getBranchName());
+        } catch (IOException e) {
+            log.warn("Could not update the commit index of branch '{}'", branch.getBranchName(), e);
+        }
+    }
+
     /**
      * @return Returns <code>true</code> if the working directory is managed by Git.
      */
@@ -453,7 +480,7 @@ public class VersioningManager {
      */
     public CachingRevisionAccess getLiveRevision() {
         Optional<RevCommit> latestCommit = getLatestCommit(Branch.LIVE);
-        return latestCommit.map(revCommit -> new CachingRevisionAccess(git.getRepository(), revCommit)).orElse(null);
+        return latestCommit.map(revCommit -> new CachingRevisionAccess(git.getRepository(), revCommit, revisionContentCache)).orElse(null);
     }
 
     /**
@@ -461,7 +488,7 @@ public class VersioningManager {
      */
     public CachingRevisionAccess getWorkspaceRevision() {
         Optional<RevCommit> latestCommit = getLatestCommit(Branch.WORKSPACE);
-        return latestCommit.map(revCommit -> new CachingRevisionAccess(git.getRepository(), revCommit)).orElse(null);
+        return latestCommit.map(revCommit -> new CachingRevisionAccess(git.getRepository(), revCommit, revisionContentCache)).orElse(null);
     }
 
     /**
@@ -470,7 +497,7 @@ public class VersioningManager {
     public CachingRevisionAccess getRevisionById(ObjectId commitId) {
         RevCommit commit = getCommit(commitId);
         if (commit != null) {
-            return new CachingRevisionAccess(git.getRepository(), commit);
+            return new CachingRevisionAccess(git.getRepository(), commit, revisionContentCache);
         }
         return null;
     }
@@ -937,6 +964,7 @@ public class VersioningManager {
             // checkout workspace branch
             git.checkout().setName(Branch.WORKSPACE.getBranchName()).call();
 
+            updateCommitIndex(Branch.LIVE);
             eventPublisher.publishEvent(new PromotionEvent(this, getLiveRevision()));
         }
 
@@ -994,15 +1022,49 @@ public class VersioningManager {
      * @return returning a list of {@link WorkspaceVersion} existing in the workspace branch.
      */
     public List<WorkspaceVersion> listWorkspaceVersions() throws IOException, GitAPIException {
+        return listWorkspaceVersions(0, -1);
+    }
+
+    /**
+     * Returns a page of the {@link WorkspaceVersion}s existing in the workspace branch, starting with the latest one.
+     * The history is walked lazily, so only the commits up to the requested page are loaded.
+     *
+     * @param offset the amount of versions to skip
+     * @param limit  the maximum amount of versions to return, a negative value means no limit
+     *
+     * @return the requested page of {@link WorkspaceVersion}s
+     */
+    public List<WorkspaceVersion> listWorkspaceVersions(int offset, int limit) throws IOException, GitAPIException {
+        if (limit == 0) {
+            return Collections.emptyList();
+        }
         ObjectId branch = git.getRepository().resolve("refs/heads/" + Branch.WORKSPACE.getBranchName());
 
-        Iterable<RevCommit> workspaceCommits = git.log().add(branch).call();
+        LogCommand logCommand = git.log().add(branch);
+        if (offset > 0) {
+            logCommand.setSkip(offset);
+        }
+        if (limit > 0) {
+            logCommand.setMaxCount(limit);
+        }
+        Iterable<RevCommit> workspaceCommits = logCommand.call();
 
         return StreamSupport.stream(workspaceCommits.spliterator(), false)
                 .map(WorkspaceVersion::of)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @return Returns the amount of versions existing in the workspace branch.
+     */
+    public int getWorkspaceVersionCount() {
+        try {
+            return commitIndex.getCommitCount("refs/heads/" + Branch.WORKSPACE.getBranchName());
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
     /**
      * Synchronizes the local workspace branch with the configured remote configuration source. The synchronization
      * is only done in case it is configured and enabled. In this case, the configured remote will be fetched and its
@@ -9,6 +9,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import rocks.inspectit.ocelot.agentstatus.AgentStatus;
 import rocks.inspectit.ocelot.agentstatus.AgentStatusManager;
+import rocks.inspectit.ocelot.agentstatus.AgentStatusPage;
+import rocks.inspectit.ocelot.agentstatus.AgentStatusQuery;
+import rocks.inspectit.ocelot.commons.models.health.AgentHealth;
 import rocks.inspectit.ocelot.rest.AbstractBaseController;
 import rocks.inspectit.ocelot.security.config.UserRoleConfiguration;
 
@@ -31,6 +34,20 @@ public class AgentStatusController extends AbstractBaseController {
         return statusManager.getAgentStatuses();
     }
 
+    @Operation(summary = "Fetch a page of Agent Statuses", description = "Gives a filtered and sorted page of the connected agents, together with the total amount of matching agents")
+    @GetMapping(value = {"agentstatus/page", "agentstatus/page/"})
+    public AgentStatusPage queryAgentStatuses(@RequestParam(name = "offset", required = false, defaultValue = "0") int offset, @RequestParam(name = "limit", required = false, defaultValue = "-1") int limit, @RequestParam(name = "filter", required = false) String filter, @RequestParam(name = "health", required = false) AgentHealth health, @RequestParam(name = "sortBy", required = false, defaultValue = "LAST_CONFIG_FETCH") AgentStatusQuery.SortField sortBy, @RequestParam(name = "descending", required = false, defaultValue = "true") boolean descending) {
+        AgentStatusQuery query = AgentStatusQuery.builder()
+                .offset(offset)
+                .limit(limit)
+                .filter(filter)
+                .health(health)
+                .sortBy(sortBy)
+                .descending(descending)
+                .build();
+        return statusManager.queryAgentStatuses(query);
+    }
+
     @Secured(UserRoleConfiguration.WRITE_ACCESS_ROLE)
     @Operation(summary = "Clear the List of Agent Statuses", description = "Clears the list of connected agents")
     @DeleteMapping(value = {"agentstatus", "agentstatus/"})
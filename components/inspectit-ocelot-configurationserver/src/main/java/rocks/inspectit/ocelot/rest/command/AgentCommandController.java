@@ -37,8 +37,9 @@ public class AgentCommandController extends AbstractBaseController {
     }
 
     @GetMapping(value = {"command/logs", "command/logs/"})
-    public DeferredResult<ResponseEntity<?>> logs(@RequestParam(value = "agent-id") String agentId) throws ExecutionException {
+    public DeferredResult<ResponseEntity<?>> logs(@RequestParam(value = "agent-id") String agentId, @RequestParam(value = "from-sequence", defaultValue = "0") long fromSequence) throws ExecutionException {
         LogsCommand logsCommand = new LogsCommand();
+        logsCommand.setFromSequence(fromSequence);
         return commandDispatcher.dispatchCommand(agentId, logsCommand);
     }
 
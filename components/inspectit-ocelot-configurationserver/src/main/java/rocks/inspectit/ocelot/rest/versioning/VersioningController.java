@@ -15,7 +15,6 @@ import rocks.inspectit.ocelot.security.config.UserRoleConfiguration;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controller for accessing version information.
@@ -28,14 +27,17 @@ public class VersioningController extends AbstractBaseController {
     private FileManager fileManager;
 
     @Secured(UserRoleConfiguration.READ_ACCESS_ROLE)
-    @Operation(summary = "List versions", description = "Lists all versions which are existing in the configuration server. By default, only versions in the workspace branch will be considered.")
+    @Operation(summary = "List versions", description = "Lists all versions which are existing in the configuration server. By default, only versions in the workspace branch will be considered. The versions can be paged using the offset and limit parameters.")
     @GetMapping(value = {"versions", "versions/"})
-    public List<WorkspaceVersion> listVersions(@RequestParam(name = "limit", required = false) Integer limit) throws IOException, GitAPIException {
-        if (limit == null || limit < 0) {
-            return fileManager.listWorkspaceVersions();
-        }
+    public List<WorkspaceVersion> listVersions(@RequestParam(name = "offset", required = false, defaultValue = "0") int offset, @RequestParam(name = "limit", required = false) Integer limit) throws IOException, GitAPIException {
+        return fileManager.listWorkspaceVersions(Math.max(offset, 0), limit == null ? -1 : limit);
+    }
 
-        return fileManager.listWorkspaceVersions().stream().limit(limit).collect(Collectors.toList());
+    @Secured(UserRoleConfiguration.READ_ACCESS_ROLE)
+    @Operation(summary = "Count versions", description = "Returns the amount of versions existing in the workspace branch.")
+    @GetMapping(value = {"versions/count", "versions/count/"})
+    public int countVersions() {
+        return fileManager.getWorkspaceVersionCount();
     }
 
 }
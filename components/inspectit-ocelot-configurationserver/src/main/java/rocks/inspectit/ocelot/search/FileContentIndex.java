@@ -0,0 +1,341 @@
+package rocks.inspectit.ocelot.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.diff.DiffEntry;
+import rocks.inspectit.ocelot.file.accessor.AbstractFileAccessor;
+import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Trigram based inverted index over the configuration files of a single workspace revision.
+ * <p>
+ * Each indexed file keeps its content together with the start offsets of its lines. Additionally, every (lower-cased)
+ * trigram of the content is mapped to the files containing it. A query is answered by intersecting the posting lists
+ * of the query's trigrams and running the actual (case-insensitive) match only on the remaining candidate files.
+ * <p>
+ * The index is moved from one revision to another incrementally by applying the git diff between both revisions.
+ */
+@Slf4j
+public class FileContentIndex {
+
+    /**
+     * The length of the n-grams which are indexed.
+     */
+    private static final int GRAM_LENGTH = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The indexed files, mapped by their path relative to the configuration files folder.
+     * The map is sorted to ensure a stable order of the search results.
+     */
+    private final SortedMap<String, IndexedFile> files = new TreeMap<>();
+
+    /**
+     * Maps each trigram to the paths of the files containing it. The paths are sorted, so candidates can be streamed
+     * in the order of the results without sorting them first.
+     */
+    private final Map<Long, SortedSet<String>> postings = new HashMap<>();
+
+    /**
+     * The revision the index currently represents, null if nothing has been indexed yet.
+     */
+    private RevisionAccess indexedRevision;
+
+    /**
+     * Brings the index to the state of the given revision. In case the index already represents another revision,
+     * only the files which differ between both revisions are re-indexed. Otherwise, all files are indexed.
+     *
+     * <p>
+     * Whether the index is up-to-date is checked under the read lock, so that searches are only blocked in case the
+     * index actually has to be updated.
+     *
+     * @param revision the revision to index
+     */
+    public void update(RevisionAccess revision) {
+        lock.readLock().lock();
+        try {
+            if (isIndexed(revision)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            // the index might have been updated by another thread in the meantime
+            if (isIndexed(revision)) {
+                return;
+            }
+
+            if (indexedRevision == null) {
+                rebuild(revision);
+            } else {
+                try {
+                    applyChanges(revision, revision.getConfigurationFileChanges(indexedRevision));
+                } catch (Exception e) {
+                    log.warn("Could not update the search index incrementally, rebuilding it", e);
+                    rebuild(revision);
+                }
+            }
+            indexedRevision = revision;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Must only be called while holding the read or write lock.
+     *
+     * @return true, if the index represents the given revision
+     */
+    private boolean isIndexed(RevisionAccess revision) {
+        return indexedRevision != null && Objects.equals(indexedRevision.getRevisionId(), revision.getRevisionId());
+    }
+
+    /**
+     * @return the id of the currently indexed revision or null if nothing has been indexed yet
+     */
+    public String getIndexedRevisionId() {
+        lock.readLock().lock();
+        try {
+            return indexedRevision == null ? null : indexedRevision.getRevisionId();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the indexed files for the given query. The query is matched case-insensitively. The search stops as soon
+     * as the given amount of results has been found.
+     *
+     * @param query             the string to search for
+     * @param limit             the maximum amount of results, a negative value means no limit
+     * @param retrieveFirstLine If true, the first line of a match is added to the SearchResult
+     *
+     * @return a list of {@link SearchResult} representing the matches
+     */
+    public List<SearchResult> search(String query, int limit, boolean retrieveFirstLine) {
+        if (query.isEmpty() || limit == 0) {
+            return Collections.emptyList();
+        }
+
+        Pattern queryPattern = Pattern.compile(Pattern.quote(query), Pattern.CASE_INSENSITIVE);
+        List<SearchResult> results = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Iterator<IndexedFile> candidates = findCandidates(query).iterator();
+            while (candidates.hasNext() && (limit < 0 || results.size() < limit)) {
+                IndexedFile file = candidates.next();
+                Matcher matcher = queryPattern.matcher(file.content);
+                while ((limit < 0 || results.size() < limit) && matcher.find()) {
+                    results.add(file.toResult(matcher.start(), matcher.end(), retrieveFirstLine));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the files which can contain the given query. In case the query is shorter than a trigram, all files
+     * are candidates.
+     *
+     * @param query the query string
+     *
+     * @return stream of candidate files, in the order of their paths
+     */
+    private Stream<IndexedFile> findCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return files.values().stream();
+        }
+
+        List<Set<String>> queryPostings = new ArrayList<>();
+        for (long gram : grams(query)) {
+            Set<String> posting = postings.get(gram);
+            if (posting == null) {
+                return Stream.empty();
+            }
+            queryPostings.add(posting);
+        }
+        queryPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> smallest = queryPostings.get(0);
+        List<Set<String>> others = queryPostings.subList(1, queryPostings.size());
+
+        return smallest.stream()
+                .filter(path -> others.stream().allMatch(posting -> posting.contains(path)))
+                .map(files::get);
+    }
+
+    /**
+     * Drops the current index state and indexes all configuration files of the given revision.
+     *
+     * @param revision the revision to index
+     */
+    private void rebuild(RevisionAccess revision) {
+        files.clear();
+        postings.clear();
+
+        revision.listConfigurationFiles("")
+                .stream()
+                .flatMap(fileInfo -> fileInfo.getAbsoluteFilePaths(""))
+                .forEach(path -> indexFile(revision, path));
+    }
+
+    /**
+     * Re-indexes all configuration files affected by the given diff entries.
+     *
+     * @param revision the revision which is indexed
+     * @param changes  the changes between the currently indexed revision and the given one
+     */
+    private void applyChanges(RevisionAccess revision, List<DiffEntry> changes) {
+        for (DiffEntry change : changes) {
+            if (change.getChangeType() != DiffEntry.ChangeType.ADD) {
+                toConfigurationPath(change.getOldPath()).ifPresent(this::removeFile);
+            }
+            if (change.getChangeType() != DiffEntry.ChangeType.DELETE) {
+                toConfigurationPath(change.getNewPath()).ifPresent(path -> {
+                    removeFile(path);
+                    indexFile(revision, path);
+                });
+            }
+        }
+    }
+
+    private void indexFile(RevisionAccess revision, String path) {
+        Optional<String> content = revision.readConfigurationFile(path);
+        if (!content.isPresent() || content.get().isEmpty()) {
+            return;
+        }
+        IndexedFile file = new IndexedFile(path, content.get());
+        files.put(path, file);
+        for (long gram : grams(file.content)) {
+            postings.computeIfAbsent(gram, g -> new TreeSet<>()).add(path);
+        }
+    }
+
+    private void removeFile(String path) {
+        IndexedFile removed = files.remove(path);
+        if (removed == null) {
+            return;
+        }
+        for (long gram : grams(removed.content)) {
+            Set<String> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(path);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts a path of the repository into a path relative to the configuration files folder.
+     *
+     * @param repositoryPath the path within the repository
+     *
+     * @return the relative path or an empty optional if the path does not point to a configuration file
+     */
+    private Optional<String> toConfigurationPath(String repositoryPath) {
+        String prefix = AbstractFileAccessor.CONFIGURATION_FILES_SUBFOLDER + "/";
+        if (repositoryPath != null && repositoryPath.startsWith(prefix)) {
+            return Optional.of(repositoryPath.substring(prefix.length()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Computes the distinct lower-cased trigrams of the given string. Each trigram is encoded into a single long.
+     * Characters are lower-cased one by one to keep the mapping stable regardless of the locale.
+     *
+     * @param text the text to process
+     *
+     * @return the encoded trigrams
+     */
+    private static Set<Long> grams(String text) {
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            long gram = 0;
+            for (int j = 0; j < GRAM_LENGTH; j++) {
+                gram = (gram << 16) | Character.toLowerCase(text.charAt(i + j));
+            }
+            result.add(gram);
+        }
+        return result;
+    }
+
+    /**
+     * A single indexed file.
+     */
+    private static class IndexedFile {
+
+        private final String path;
+
+        private final String content;
+
+        /**
+         * The absolute start index of each line in the content.
+         */
+        private final int[] lineStarts;
+
+        private IndexedFile(String path, String content) {
+            this.path = path;
+            this.content = content;
+
+            int[] starts = new int[16];
+            int count = 0;
+            int index = 0;
+            do {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = index;
+                index = content.indexOf('\n', index) + 1;
+            } while (index > 0 && index < content.length());
+            lineStarts = Arrays.copyOf(starts, count);
+        }
+
+        /**
+         * Returns the line which contains the given character index.
+         */
+        private int lineOf(int index) {
+            int line = Arrays.binarySearch(lineStarts, index);
+            return line >= 0 ? line : -line - 2;
+        }
+
+        private int lineEnd(int line) {
+            return line + 1 < lineStarts.length ? lineStarts[line + 1] : content.length();
+        }
+
+        private SearchResult toResult(int start, int end, boolean retrieveFirstLine) {
+            int startLine = lineOf(start);
+            // a match ending directly behind a line break still ends in that line
+            int endLine = end > 0 ? lineOf(end - 1) : startLine;
+
+            SearchResult.SearchResultBuilder builder = SearchResult.builder()
+                    .file(path)
+                    .startLine(startLine)
+                    .startColumn(start - lineStarts[startLine])
+                    .endLine(endLine)
+                    .endColumn(end - lineStarts[endLine]);
+
+            if (retrieveFirstLine) {
+                String firstLine = content.substring(lineStarts[startLine], lineEnd(startLine));
+                builder.firstLine(firstLine.replace("\n", "").replace("\r", ""));
+            }
+            return builder.build();
+        }
+    }
+}
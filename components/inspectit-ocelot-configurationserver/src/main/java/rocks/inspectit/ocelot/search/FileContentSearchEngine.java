@@ -1,28 +1,36 @@
 package rocks.inspectit.ocelot.search;
 
-import org.apache.commons.lang3.StringUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import rocks.inspectit.ocelot.file.FileInfo;
+import rocks.inspectit.ocelot.events.WorkspaceChangedEvent;
 import rocks.inspectit.ocelot.file.FileManager;
 import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
 
-import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Component to search for a specific pattern in the configuration files.
+ * The search is served by a {@link FileContentIndex} of the current workspace revision.
  */
+@Slf4j
 @Component
 public class FileContentSearchEngine {
 
     @Autowired
     private FileManager fileManager;
 
+    @Autowired
+    private ExecutorService executor;
+
+    /**
+     * The index of the workspace revision's configuration files.
+     */
+    private final FileContentIndex index = new FileContentIndex();
+
     /**
      * Searches in all files in the current Workspace Revision of the server for the given query. The minimum amount of
      * returned entries is the amount that could be found, the maximum amount of returned entries is defined by the
@@ -48,7 +56,8 @@ public class FileContentSearchEngine {
 
     /**
      * Searches in all configuration files which can be accessed by the given {@link RevisionAccess} for the specified
-     * query string. The amount of results can be limited using the limit argument.
+     * query string. The amount of results can be limited using the limit argument. In case the index is not yet
+     * up-to-date with the given revision, it will be updated before the search is executed.
      *
      * @param query             the query string to look for
      * @param limit             the maximum amount of results
@@ -58,118 +67,24 @@ public class FileContentSearchEngine {
      * @return a list of {@link SearchResult} representing the matches
      */
     private List<SearchResult> search(String query, int limit, RevisionAccess revisionAccess, boolean retrieveFirstLine) {
-        Pattern queryPattern = Pattern.compile(Pattern.quote(query), Pattern.CASE_INSENSITIVE);
-        List<FileInfo> files = revisionAccess.listConfigurationFiles("");
-
-        AtomicInteger limitCounter = new AtomicInteger(limit);
-
-        return files.stream()
-                .map(fileInfo -> fileInfo.getAbsoluteFilePaths(""))
-                .reduce(Stream.empty(), Stream::concat)
-                .map(filename -> {
-                    Optional<String> content = revisionAccess.readConfigurationFile(filename);
-                    return content.map(fileContent -> findQuery(filename, fileContent, queryPattern, limitCounter, retrieveFirstLine));
-                })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Searches in the specified content for the specified query pattern. The passed content represents the content of the
-     * file with the specified name.
-     *
-     * @param fileName          the filename of the current file
-     * @param content           the file's content
-     * @param queryPattern      the pattern to search for
-     * @param limitCounter      the amount of results to add
-     * @param retrieveFirstLine If true, the first line of a match is added to the SearchResult
-     *
-     * @return a list of {@link SearchResult} representing the matches
-     */
-    private List<SearchResult> findQuery(String fileName, String content, Pattern queryPattern, AtomicInteger limitCounter, boolean retrieveFirstLine) {
-        if (StringUtils.isEmpty(content)) {
-            return Collections.emptyList();
-        }
-
-        List<SearchResult> results = new ArrayList<>();
-
-        List<Line> lines = getLines(content);
-
-        ListIterator<Line> listIterator = lines.listIterator();
-        Line currentLine = listIterator.next();
-
-        Matcher matcher = queryPattern.matcher(content);
-        while (matcher.find() && limitCounter.decrementAndGet() >= 0) {
-            SearchResult.SearchResultBuilder searchResultBuilder = SearchResult.builder().file(fileName);
-            int start = matcher.start();
-            int end = matcher.end();
-
-            while (start >= currentLine.endIndex()) {
-                currentLine = listIterator.next();
-            }
-            searchResultBuilder.startLine(currentLine.lineNumber());
-            searchResultBuilder.startColumn(start - currentLine.startIndex());
-
-            if (retrieveFirstLine) {
-                String firstLine = content.substring(currentLine.startIndex(), currentLine.endIndex());
-                firstLine = firstLine.replace("\n", "").replace("\r", "");
-                searchResultBuilder.firstLine(firstLine);
-            }
-
-            while (end > currentLine.endIndex()) {
-                currentLine = listIterator.next();
-            }
-            searchResultBuilder.endLine(currentLine.lineNumber());
-            searchResultBuilder.endColumn(end - currentLine.startIndex());
-
-            results.add(searchResultBuilder.build());
-        }
-
-        return results;
+        index.update(revisionAccess);
+        return index.search(query, limit, retrieveFirstLine);
     }
 
     /**
-     * Extracts a list of {@link Line}s of the given content.
-     *
-     * @param content the content used as basis
+     * Updates the index in the background when the workspace has changed, so subsequent searches do not have to wait
+     * for it.
      *
-     * @return list of {@link Line}s representing the content
+     * @param event the event containing the new workspace revision
      */
-    private List<Line> getLines(String content) {
-        if (StringUtils.isEmpty(content)) {
-            return Collections.emptyList();
-        }
-
-        List<Line> result = new LinkedList<>();
-        int lineNumber = 0;
-        int startIndex = 0;
-        do {
-            int nextIndex = content.indexOf("\n", startIndex) + 1;
-
-            // in case there are no further line breaks
-            if (nextIndex == 0) {
-                nextIndex = content.length();
+    @EventListener(WorkspaceChangedEvent.class)
+    public void workspaceChanged(WorkspaceChangedEvent event) {
+        executor.submit(() -> {
+            try {
+                index.update(event.getWorkspaceRevision());
+            } catch (Exception e) {
+                log.error("Could not update the search index", e);
             }
-
-            Line line = new Line(lineNumber++, startIndex, nextIndex);
-            result.add(line);
-
-            startIndex = nextIndex;
-        } while (startIndex < content.length());
-
-        return result;
-    }
-
-    /**
-     * Class for representing a line in a string.
-     *
-     * @param lineNumber The line number.
-     * @param startIndex The absolute index where the line is starting.
-     * @param endIndex   The absolute end index where the line is ending.
-     */
-        private record Line(int lineNumber, int startIndex, int endIndex) {
-
+        });
     }
 }
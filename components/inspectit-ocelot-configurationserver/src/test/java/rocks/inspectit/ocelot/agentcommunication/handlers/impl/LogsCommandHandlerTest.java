@@ -0,0 +1,65 @@
+package rocks.inspectit.ocelot.agentcommunication.handlers.impl;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.DeferredResult;
+import rocks.inspectit.ocelot.commons.models.command.impl.LogsCommand;
+import rocks.inspectit.ocelot.commons.models.command.impl.PingCommand;
+import rocks.inspectit.ocelot.config.model.InspectitServerSettings;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LogsCommandHandlerTest {
+
+    @InjectMocks
+    LogsCommandHandler logsCommandHandler;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private InspectitServerSettings configuration;
+
+    @Nested
+    class PrepareResponse {
+
+        @Test
+        public void cantHandleCommand() {
+            assertThatThrownBy(() -> logsCommandHandler.prepareResponse("test-id", new PingCommand())).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        public void preparesResponse() {
+            when(configuration.getAgentCommand().getResponseTimeout()).thenReturn(Duration.ofMinutes(1));
+
+            DeferredResult<ResponseEntity<?>> result = logsCommandHandler.prepareResponse("test-id", new LogsCommand());
+
+            assertThat(result).isNotNull();
+        }
+    }
+
+    @Nested
+    class HandleResponse {
+
+        @Test
+        public void handlesResponse() {
+            LogsCommand.Response response = new LogsCommand.Response("logs");
+            response.setNextSequence(42);
+            DeferredResult<ResponseEntity<?>> result = new DeferredResult<>();
+
+            logsCommandHandler.handleResponse(response, result);
+
+            ResponseEntity<?> entity = (ResponseEntity<?>) result.getResult();
+            assertThat(entity.getBody()).isEqualTo("logs");
+            assertThat(entity.getHeaders().getFirst(LogsCommandHandler.HEADER_NEXT_SEQUENCE)).isEqualTo("42");
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import rocks.inspectit.ocelot.agentconfiguration.AgentConfiguration;
+import rocks.inspectit.ocelot.commons.models.health.AgentHealth;
 import rocks.inspectit.ocelot.config.model.InspectitServerSettings;
 import rocks.inspectit.ocelot.file.versioning.Branch;
 import rocks.inspectit.ocelot.mappings.model.AgentMapping;
@@ -24,6 +25,8 @@ public class AgentStatusManagerTest {
 
     public static final String HEADER_AGENT_ID = "x-ocelot-agent-id";
 
+    public static final String HEADER_HEALTH = "x-ocelot-health";
+
     @InjectMocks
     AgentStatusManager manager;
 
@@ -119,5 +122,162 @@ public class AgentStatusManagerTest {
                 assertThat(status.getLastConfigFetch()).isAfter(firstFetch);
             });
         }
+
+        @Test
+        void reuseUnchangedHeaders() {
+            Map<String, String> attributes = ImmutableMap.of("service", "test");
+            Map<String, String> headers = ImmutableMap.of(HEADER_AGENT_ID, "aid", HEADER_HEALTH, "WARNING");
+
+            manager.notifyAgentConfigurationFetched(attributes, headers, null);
+            AgentStatus first = manager.getAgentStatuses().iterator().next();
+            manager.notifyAgentConfigurationFetched(ImmutableMap.of("service", "test"), headers, null);
+            AgentStatus second = manager.getAgentStatuses().iterator().next();
+
+            assertThat(second.getHealthState()).isSameAs(first.getHealthState());
+            assertThat(second.getHealthState().getHealth()).isEqualTo(AgentHealth.WARNING);
+            assertThat(second.getAttributes()).isSameAs(attributes);
+        }
+
+        @Test
+        void parseChangedHeaders() {
+            Map<String, String> attributes = ImmutableMap.of("service", "test");
+
+            manager.notifyAgentConfigurationFetched(attributes, ImmutableMap.of(HEADER_AGENT_ID, "aid", HEADER_HEALTH, "WARNING"), null);
+            manager.notifyAgentConfigurationFetched(attributes, ImmutableMap.of(HEADER_AGENT_ID, "aid", HEADER_HEALTH, "ERROR"), null);
+
+            assertThat(manager.getAgentStatuses()).hasSize(1)
+                    .anySatisfy(status -> assertThat(status.getHealthState().getHealth()).isEqualTo(AgentHealth.ERROR));
+        }
+
+        @Test
+        void parseChangedHeadersWithSameHash() {
+            Map<String, String> attributes = ImmutableMap.of("service", "test");
+            String firstHeader = "{\"vmName\":\"Aa\"}";
+            String secondHeader = "{\"vmName\":\"BB\"}";
+            assertThat(firstHeader.hashCode()).isEqualTo(secondHeader.hashCode());
+
+            manager.notifyAgentConfigurationFetched(attributes, ImmutableMap.of(HEADER_AGENT_ID, "aid", "x-ocelot-system-info", firstHeader), null);
+            manager.notifyAgentConfigurationFetched(attributes, ImmutableMap.of(HEADER_AGENT_ID, "aid", "x-ocelot-system-info", secondHeader), null);
+
+            assertThat(manager.getAgentStatuses()).hasSize(1)
+                    .anySatisfy(status -> assertThat(status.getSystemInformation().getVmName()).isEqualTo("BB"));
+        }
+    }
+
+    @Nested
+    class QueryAgentStatuses {
+
+        @BeforeEach
+        void fetchConfigurations() {
+            manager.notifyAgentConfigurationFetched(ImmutableMap.of("service", "frontend"), ImmutableMap.of(HEADER_AGENT_ID, "b", HEADER_HEALTH, "OK"), null);
+            manager.notifyAgentConfigurationFetched(ImmutableMap.of("service", "backend"), ImmutableMap.of(HEADER_AGENT_ID, "c", HEADER_HEALTH, "ERROR"), null);
+            manager.notifyAgentConfigurationFetched(ImmutableMap.of("service", "backend-db"), ImmutableMap.of(HEADER_AGENT_ID, "a", HEADER_HEALTH, "OK"), null);
+        }
+
+        @Test
+        void sortedPage() {
+            AgentStatusQuery query = AgentStatusQuery.builder()
+                    .sortBy(AgentStatusQuery.SortField.AGENT_ID)
+                    .descending(false)
+                    .offset(1)
+                    .limit(1)
+                    .build();
+
+            AgentStatusPage result = manager.queryAgentStatuses(query);
+
+            assertThat(result.getTotalCount()).isEqualTo(3);
+            assertThat(result.getStatuses()).extracting(status -> status.getMetaInformation().getAgentId())
+                    .containsExactly("b");
+        }
+
+        @Test
+        void unlimitedDescending() {
+            AgentStatusQuery query = AgentStatusQuery.builder().sortBy(AgentStatusQuery.SortField.SERVICE).build();
+
+            AgentStatusPage result = manager.queryAgentStatuses(query);
+
+            assertThat(result.getTotalCount()).isEqualTo(3);
+            assertThat(result.getStatuses()).extracting(status -> status.getMetaInformation().getAgentId())
+                    .containsExactly("b", "a", "c");
+        }
+
+        @Test
+        void filtered() {
+            AgentStatusQuery query = AgentStatusQuery.builder()
+                    .filter("BACKEND")
+                    .health(AgentHealth.OK)
+                    .limit(10)
+                    .build();
+
+            AgentStatusPage result = manager.queryAgentStatuses(query);
+
+            assertThat(result.getTotalCount()).isEqualTo(1);
+            assertThat(result.getStatuses()).extracting(status -> status.getMetaInformation().getAgentId())
+                    .containsExactly("a");
+        }
+        @Test
+        void pageByFetchTime() {
+            AgentStatusQuery query = AgentStatusQuery.builder().offset(1).limit(1).build();
+
+            AgentStatusPage result = manager.queryAgentStatuses(query);
+
+            assertThat(result.getTotalCount()).isEqualTo(3);
+            assertThat(result.getStatuses()).extracting(status -> status.getMetaInformation().getAgentId())
+                    .containsExactly("c");
+        }
+
+        @Test
+        void ascendingByFetchTimeWithFilter() {
+            AgentStatusQuery query = AgentStatusQuery.builder().filter("backend").descending(false).build();
+
+            AgentStatusPage result = manager.queryAgentStatuses(query);
+
+            assertThat(result.getTotalCount()).isEqualTo(2);
+            assertThat(result.getStatuses()).extracting(status -> status.getMetaInformation().getAgentId())
+                    .containsExactly("c", "a");
+        }
+
+        @Test
+        void replacedStatusesNotIndexed() {
+            manager.notifyAgentConfigurationFetched(ImmutableMap.of("service", "frontend"), ImmutableMap.of(HEADER_AGENT_ID, "b", HEADER_HEALTH, "OK"), null);
+
+            AgentStatusPage result = manager.queryAgentStatuses(AgentStatusQuery.builder().build());
+
+            assertThat(result.getTotalCount()).isEqualTo(3);
+            assertThat(result.getStatuses()).extracting(status -> status.getMetaInformation().getAgentId())
+                    .containsExactly("b", "a", "c");
+        }
+
+        @Test
+        void evictedStatusesNotIndexed() {
+            manager.config = InspectitServerSettings.builder()
+                    .maxAgents(2)
+                    .agentEvictionDelay(Duration.ofDays(1))
+                    .build();
+            manager.reset();
+            fetchConfigurations();
+
+            AgentStatusPage result = manager.queryAgentStatuses(AgentStatusQuery.builder().build());
+
+            // the cache evicts entries per segment, so it is only known that at least one status has been evicted
+            Collection<AgentStatus> cachedStatuses = manager.getAgentStatuses();
+            assertThat(cachedStatuses).hasSizeLessThanOrEqualTo(2);
+            assertThat(result.getTotalCount()).isEqualTo(cachedStatuses.size());
+            assertThat(result.getStatuses()).containsExactlyInAnyOrderElementsOf(cachedStatuses);
+        }
+    }
+
+    @Nested
+    class GetAgentStatuses {
+
+        @Test
+        void statusCreatedOnce() {
+            manager.notifyAgentConfigurationFetched(ImmutableMap.of("service", "test"), ImmutableMap.of(HEADER_AGENT_ID, "aid"), null);
+
+            AgentStatus first = manager.getAgentStatuses().iterator().next();
+            AgentStatus second = manager.getAgentStatuses().iterator().next();
+
+            assertThat(second).isSameAs(first);
+        }
     }
 }
@@ -47,7 +47,7 @@ public class ModelAutoCompleterTest {
 
             List<String> result = completer.getSuggestions(input);
 
-            assertThat(result).containsExactlyInAnyOrder("config", "exporters", "instrumentation", "instrumentation-feedback", "logging", "metrics", "plugins", "privacy", "publish-open-telemetry-to-bootstrap", "self-monitoring", "service-name", "tags", "thread-pool-size", "tracing", "agent-commands", "log-preloading");
+            assertThat(result).containsExactlyInAnyOrder("config", "exporters", "instrumentation", "instrumentation-feedback", "logging", "metrics", "plugins", "privacy", "publish-open-telemetry-to-bootstrap", "scheduler", "self-monitoring", "service-name", "tags", "thread-pool-size", "tracing", "agent-commands", "log-preloading");
         }
 
         @Test
@@ -72,6 +72,34 @@ public class ModelAutoCompleterTest {
             assertThat(result).contains("ALWAYS");
         }
 
+        @Test
+        void camelCasePath() {
+            List<String> input = Arrays.asList("inspectit", "selfMonitoring");
+
+            List<String> result = completer.getSuggestions(input);
+
+            assertThat(result).isEqualTo(completer.getSuggestions(Arrays.asList("inspectit", "self-monitoring")))
+                    .isNotEmpty();
+        }
+
+        @Test
+        void pastMapOfTerminalTypes() {
+            List<String> input = Arrays.asList("inspectit", "instrumentation", "ignored-packages", "com", "example", "foo");
+
+            List<String> result = completer.getSuggestions(input);
+
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        void unknownProperty() {
+            List<String> input = Arrays.asList("inspectit", "instrumentation", "does-not-exist", "rules");
+
+            List<String> result = completer.getSuggestions(input);
+
+            assertThat(result).isEmpty();
+        }
+
         @Test
         void propertyIsPresentAndReadMethodIsNull() {
             List<String> input = Arrays.asList("inspectit", "instrumentation", "data", "method_duration", "is-tag");
@@ -152,7 +180,7 @@ public class ModelAutoCompleterTest {
         void getPropertiesInspectit() {
             List<String> result = completer.getProperties(InspectitConfig.class);
 
-            assertThat(result).containsExactlyInAnyOrder("config", "env", "exporters", "instrumentation", "instrumentation-feedback", "logging", "metrics", "plugins", "privacy", "publish-open-telemetry-to-bootstrap", "self-monitoring", "service-name", "tags", "thread-pool-size", "tracing", "agent-commands", "log-preloading");
+            assertThat(result).containsExactlyInAnyOrder("config", "env", "exporters", "instrumentation", "instrumentation-feedback", "logging", "metrics", "plugins", "privacy", "publish-open-telemetry-to-bootstrap", "scheduler", "self-monitoring", "service-name", "tags", "thread-pool-size", "tracing", "agent-commands", "log-preloading");
         }
     }
 }
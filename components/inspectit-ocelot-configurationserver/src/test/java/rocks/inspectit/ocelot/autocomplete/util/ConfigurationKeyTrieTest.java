@@ -0,0 +1,97 @@
+package rocks.inspectit.ocelot.autocomplete.util;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigurationKeyTrieTest {
+
+    private ConfigurationKeyTrie build(String... documents) {
+        Yaml yaml = new Yaml();
+        return ConfigurationKeyTrie.build(Arrays.stream(documents).map(yaml::load).collect(Collectors.toList()));
+    }
+
+    @Nested
+    public class GetKeys {
+
+        @Test
+        public void emptyTrie() {
+            List<String> keys = ConfigurationKeyTrie.EMPTY.getKeys(Arrays.asList("inspectit", "metrics"));
+
+            assertThat(keys).isEmpty();
+        }
+
+        @Test
+        public void keysOfAllDocuments() {
+            ConfigurationKeyTrie trie = build("inspectit:\n  scopes:\n    s_first: {}\n    s_second: {}", "inspectit:\n  scopes:\n    s_third: {}\n    s_first: {}");
+
+            List<String> keys = trie.getKeys(Arrays.asList("inspectit", "scopes"));
+
+            assertThat(keys).containsExactly("s_first", "s_second", "s_third", "s_first");
+        }
+
+        @Test
+        public void rootKeys() {
+            ConfigurationKeyTrie trie = build("inspectit:\n  service-name: test", "other: value");
+
+            List<String> keys = trie.getKeys(Collections.emptyList());
+
+            assertThat(keys).containsExactly("inspectit", "other");
+        }
+
+        @Test
+        public void scalarValue() {
+            ConfigurationKeyTrie trie = build("inspectit:\n  service-name: test\n  thread-pool-size: 2");
+
+            assertThat(trie.getKeys(Arrays.asList("inspectit", "service-name"))).containsExactly("test");
+            assertThat(trie.getKeys(Arrays.asList("inspectit", "thread-pool-size"))).isEmpty();
+            assertThat(trie.getKeys(Arrays.asList("inspectit", "service-name", "test"))).isEmpty();
+        }
+
+        @Test
+        public void listIndexAndMapKey() {
+            ConfigurationKeyTrie trie = build("values:\n  - first\n  - nested: true", "values:\n  1: map-value");
+
+            assertThat(trie.getKeys(Collections.singletonList("values"))).containsExactly("first");
+            assertThat(trie.getKeys(Arrays.asList("values", "0"))).containsExactly("first");
+            assertThat(trie.getKeys(Arrays.asList("values", "1"))).containsExactly("nested");
+            assertThat(trie.getKeys(Arrays.asList("values", "01"))).containsExactly("nested");
+            assertThat(trie.getKeys(Arrays.asList("values", "2"))).isEmpty();
+            assertThat(trie.getKeys(Arrays.asList("values", "no-index"))).isEmpty();
+        }
+
+        @Test
+        public void wildcard() {
+            ConfigurationKeyTrie trie = build("actions:\n  a_first:\n    input:\n      value: String\n  a_second:\n    input:\n      other: String\n  42:\n    input:\n      number: int");
+
+            List<String> keys = trie.getKeys(Arrays.asList("actions", "*", "input"));
+
+            assertThat(keys).containsExactly("value", "other", "number");
+        }
+
+        @Test
+        public void wildcardKeepsDocumentOrder() {
+            ConfigurationKeyTrie trie = build("actions:\n  a_first:\n    input:\n      x: String\n  a_second:\n    input:\n      y: String", "actions:\n  a_first:\n    input:\n      z: String");
+
+            List<String> keys = trie.getKeys(Arrays.asList("actions", "*", "input"));
+
+            assertThat(keys).containsExactly("x", "y", "z");
+        }
+
+        @Test
+        public void wildcardKeepsOrderOfNonStringKeys() {
+            ConfigurationKeyTrie trie = build("actions:\n  42:\n    input:\n      number: int\n  a_first:\n    input:\n      value: String");
+
+            List<String> keys = trie.getKeys(Arrays.asList("actions", "*", "input"));
+
+            assertThat(keys).containsExactly("number", "value");
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("instrumentation", instrumentation);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<String> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -59,7 +59,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("metrics", metrics);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<String> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -80,7 +80,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("metrics", metrics);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<?> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -106,7 +106,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("list", list);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<String> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -127,7 +127,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("exampleList", list);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<String> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -144,7 +144,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("exampleList", list);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<String> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -162,7 +162,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("exampleList", list);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<?> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -178,7 +178,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("exampleList", list);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<?> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
@@ -194,7 +194,7 @@ public class ConfigurationQueryHelperTest {
             inspectit.put("exampleList", list);
             topLevelMap.put("inspectit", inspectit);
             Collection<Object> mockData = Collections.singletonList(topLevelMap);
-            when(configurationFilesCache.getParsedContents()).thenReturn(mockData);
+            when(configurationFilesCache.getKeyTrie()).thenReturn(ConfigurationKeyTrie.build(mockData));
 
             List<?> output = configurationQueryHelper.getKeysForPath(propertyPath);
 
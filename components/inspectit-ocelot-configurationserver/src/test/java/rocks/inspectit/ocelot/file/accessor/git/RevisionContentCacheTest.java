@@ -0,0 +1,60 @@
+package rocks.inspectit.ocelot.file.accessor.git;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RevisionContentCacheTest {
+
+    private static final ObjectId BLOB_A = ObjectId.fromString("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+
+    private static final ObjectId BLOB_B = ObjectId.fromString("bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb");
+
+    @Nested
+    class Get {
+
+        @Test
+        public void loadOnlyOnce() throws IOException {
+            RevisionContentCache cache = new RevisionContentCache(1024);
+            AtomicInteger loads = new AtomicInteger();
+
+            byte[] first = cache.get(BLOB_A, () -> {
+                loads.incrementAndGet();
+                return new byte[]{1, 2, 3};
+            });
+            byte[] second = cache.get(BLOB_A, () -> {
+                loads.incrementAndGet();
+                return new byte[]{4};
+            });
+
+            assertThat(first).containsExactly(1, 2, 3);
+            assertThat(second).isSameAs(first);
+            assertThat(loads).hasValue(1);
+        }
+
+        @Test
+        public void boundedBySize() throws IOException {
+            RevisionContentCache cache = new RevisionContentCache(10);
+
+            cache.get(BLOB_A, () -> new byte[8]);
+            cache.get(BLOB_B, () -> new byte[8]);
+
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        public void propagateIOException() {
+            RevisionContentCache cache = new RevisionContentCache(1024);
+
+            assertThatExceptionOfType(IOException.class).isThrownBy(() -> cache.get(BLOB_A, () -> {
+                throw new IOException("missing");
+            })).withMessage("missing");
+        }
+    }
+}
@@ -1078,6 +1078,30 @@ class VersioningManagerTest extends FileTestBase {
                     .containsExactly("second commit", "Staging and committing of external changes", "Initializing Git repository using existing working directory");
             assertThat(result).flatExtracting(WorkspaceVersion::getAuthor).containsExactly("user", "System", "System");
         }
+
+        @Test
+        public void paginated() throws GitAPIException, IOException {
+            List<WorkspaceVersion> firstPage = versioningManager.listWorkspaceVersions(0, 2);
+            List<WorkspaceVersion> secondPage = versioningManager.listWorkspaceVersions(2, 2);
+
+            assertThat(firstPage).flatExtracting(WorkspaceVersion::getMessage)
+                    .containsExactly("second commit", "Staging and committing of external changes");
+            assertThat(secondPage).flatExtracting(WorkspaceVersion::getId).containsExactly(prevCommitId);
+        }
+
+        @Test
+        public void versionCount() throws GitAPIException, IOException {
+            int before = versioningManager.getWorkspaceVersionCount();
+
+            versioningManager.setAmendTimeout(-1);
+            createTestFiles(AbstractFileAccessor.CONFIGURATION_FILES_SUBFOLDER + "/file_b.yml=4");
+            versioningManager.commitAllChanges("third commit");
+
+            int after = versioningManager.getWorkspaceVersionCount();
+
+            assertThat(before).isEqualTo(3);
+            assertThat(after).isEqualTo(4);
+        }
     }
 
     @Nested
@@ -0,0 +1,154 @@
+package rocks.inspectit.ocelot.search;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.config.model.InspectitServerSettings;
+import rocks.inspectit.ocelot.file.FileTestBase;
+import rocks.inspectit.ocelot.file.accessor.git.RevisionAccess;
+import rocks.inspectit.ocelot.file.versioning.VersioningManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.*;
+
+class FileContentIndexIntTest extends FileTestBase {
+
+    private VersioningManager versioningManager;
+
+    private FileContentIndex index;
+
+    @BeforeEach
+    public void beforeEach() throws IOException, GitAPIException {
+        tempDirectory = Files.createTempDirectory("ocelot");
+
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn("user");
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        InspectitServerSettings settings = InspectitServerSettings.builder().mailSuffix("@test.com").build();
+
+        versioningManager = new VersioningManager(tempDirectory, () -> authentication, eventPublisher, settings);
+        versioningManager.setAmendTimeout(-1);
+
+        createTestFiles("files/file_a.yml=first: alpha", "files/sub/file_b.yml=second:\n  beta: ALPHA", "untracked.yml=alpha");
+        versioningManager.initialize();
+
+        index = new FileContentIndex();
+    }
+
+    @AfterEach
+    public void afterEach() throws IOException {
+        FileUtils.deleteDirectory(tempDirectory.toFile());
+    }
+
+    @Nested
+    class Search {
+
+        @Test
+        public void findInAllFiles() {
+            index.update(versioningManager.getWorkspaceRevision());
+
+            List<SearchResult> results = index.search("alpha", -1, true);
+
+            assertThat(results).extracting(SearchResult::getFile, SearchResult::getFirstLine, SearchResult::getStartLine, SearchResult::getStartColumn, SearchResult::getEndLine, SearchResult::getEndColumn)
+                    .containsExactly(tuple("file_a.yml", "first: alpha", 0, 7, 0, 12), tuple("sub/file_b.yml", "  beta: ALPHA", 1, 8, 1, 13));
+        }
+
+        @Test
+        public void shortQuery() {
+            index.update(versioningManager.getWorkspaceRevision());
+
+            List<SearchResult> results = index.search("ph", -1, false);
+
+            assertThat(results).extracting(SearchResult::getFile).containsExactly("file_a.yml", "sub/file_b.yml");
+        }
+
+        @Test
+        public void stopAtLimit() {
+            index.update(versioningManager.getWorkspaceRevision());
+
+            List<SearchResult> results = index.search("a", 3, false);
+
+            assertThat(results).extracting(SearchResult::getFile)
+                    .containsExactly("file_a.yml", "file_a.yml", "sub/file_b.yml");
+        }
+
+        @Test
+        public void unknownTrigram() {
+            index.update(versioningManager.getWorkspaceRevision());
+
+            List<SearchResult> results = index.search("gamma", -1, false);
+
+            assertThat(results).isEmpty();
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Test
+        public void applyChangesIncrementally() throws GitAPIException, IOException {
+            RevisionAccess initial = spy(versioningManager.getWorkspaceRevision());
+            index.update(initial);
+
+            createTestFiles("files/file_a.yml=first: gamma", "files/file_c.yml=third: alpha");
+            Files.delete(tempDirectory.resolve("files/sub/file_b.yml"));
+            versioningManager.commitAllChanges("change");
+            RevisionAccess changed = spy(versioningManager.getWorkspaceRevision());
+            index.update(changed);
+
+            assertThat(index.getIndexedRevisionId()).isEqualTo(changed.getRevisionId());
+            assertThat(index.search("alpha", -1, false)).extracting(SearchResult::getFile)
+                    .containsExactly("file_c.yml");
+            assertThat(index.search("gamma", -1, false)).extracting(SearchResult::getFile)
+                    .containsExactly("file_a.yml");
+            verify(changed).readConfigurationFile("file_a.yml");
+            verify(changed).readConfigurationFile("file_c.yml");
+            verify(changed, never()).listConfigurationFiles(any());
+        }
+
+        @Test
+        public void sameRevision() {
+            RevisionAccess revision = spy(versioningManager.getWorkspaceRevision());
+            index.update(revision);
+            clearInvocations(revision);
+
+            index.update(revision);
+
+            verify(revision, never()).readConfigurationFile(any());
+            verify(revision, never()).getConfigurationFileChanges(any());
+        }
+
+        @Test
+        public void sameRevisionDuringSearch() throws Exception {
+            RevisionAccess revision = versioningManager.getWorkspaceRevision();
+            index.update(revision);
+            ReadWriteLock lock = (ReadWriteLock) ReflectionTestUtils.getField(index, "lock");
+            ExecutorService searcher = Executors.newSingleThreadExecutor();
+            try {
+                // simulates a running search
+                searcher.submit(() -> lock.readLock().lock()).get();
+
+                assertTimeoutPreemptively(Duration.ofSeconds(5), () -> index.update(revision));
+            } finally {
+                searcher.submit(() -> lock.readLock().unlock()).get();
+                searcher.shutdown();
+            }
+        }
+    }
+}
@@ -75,6 +75,17 @@ public class AgentManager {
         }
     }
 
+    /**
+     * @return the date the agent was build
+     */
+    public static String getAgentBuildDate() {
+        if (agentInstance == null) {
+            return "UNKNOWN";
+        } else {
+            return agentInstance.getBuildDate();
+        }
+    }
+
     /**
      * @return the current OTel version the agent was build with
      */
@@ -0,0 +1,23 @@
+package rocks.inspectit.ocelot.bootstrap.context;
+
+/**
+ * Interface which is added to instrumented task classes (e.g. {@link Runnable}s) together with a synthetic field.
+ * The {@link IContextManager} uses this field to hand over a context to the thread executing the task, instead of
+ * storing it in a global cache.
+ * <p>
+ * The methods are prefixed to prevent clashes with methods of the instrumented classes.
+ */
+public interface ContextCarrier {
+
+    /**
+     * @return the context stored in the injected field, null if none is stored
+     */
+    Object inspectit$getContext();
+
+    /**
+     * Stores the given context in the injected field.
+     *
+     * @param context the context to store, null to clear the field
+     */
+    void inspectit$setContext(Object context);
+}
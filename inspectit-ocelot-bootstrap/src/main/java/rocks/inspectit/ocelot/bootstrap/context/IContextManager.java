@@ -31,14 +31,32 @@ public interface IContextManager {
     void exitCorrelation();
 
     /**
-     * Stores the current context related to the specified target object in a global cache. A stored context might be
-     * removed by the garbage collector, thus it is not ensured that a stored context will be available for restoring!
+     * Checks whether the current context has to be captured when a task is handed over to another thread. This is not
+     * the case if the current context is empty, e.g. when no trace is active. In this case, the task neither has to be
+     * wrapped nor does a context have to be stored for it.
+     *
+     * @return <code>true</code> if the current context has to be captured
+     */
+    boolean shouldCaptureContext();
+
+    /**
+     * Stores the current context related to the specified target object. In case the target is a {@link ContextCarrier},
+     * the context is stored in the target itself, otherwise in a global cache. A context stored in the global cache might
+     * be removed by the garbage collector, thus it is not ensured that a stored context will be available for restoring!
      *
      * @param target                 the object which can be used to restore the context
      * @param invalidateAfterRestore defines whether the context should be removed from the cache once it has been restored
      */
     void storeContext(Object target, boolean invalidateAfterRestore);
 
+    /**
+     * Removes the context stored for the specified target object, if any. This has to be done when a task is handed
+     * over again without capturing the context, so that it does not restore the context of a previous handover.
+     *
+     * @param target the object whose stored context should be removed
+     */
+    void clearContext(Object target);
+
     /**
      * Attaches/Restores the context related to the specified target object on the current thead. Nothing will happen in
      * case no context could be found using the target object.
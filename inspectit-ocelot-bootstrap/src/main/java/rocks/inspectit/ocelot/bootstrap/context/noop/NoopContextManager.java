@@ -30,10 +30,19 @@ public class NoopContextManager implements IContextManager {
     public void exitCorrelation() {
     }
 
+    @Override
+    public boolean shouldCaptureContext() {
+        return false;
+    }
+
     @Override
     public void storeContext(Object target, boolean invalidate) {
     }
 
+    @Override
+    public void clearContext(Object target) {
+    }
+
     @Override
     public ContextTuple attachContext(Object target) {
         return null;
@@ -23,6 +23,12 @@ public class LogsCommand extends Command {
 
     private String logFormat = "%d{ISO8601} %-5p %-6r --- [inspectIT] [%15.15t] %-40.40logger{39} : %m%n%rEx";
 
+    /**
+     * Only logs with this or a higher sequence number are returned. Allows to request only the logs which have been
+     * preloaded since the last request.
+     */
+    private long fromSequence = 0;
+
     /**
      * Represents a response to the {@link rocks.inspectit.ocelot.commons.models.command.impl.LogsCommand}.
      */
@@ -34,5 +40,13 @@ public class LogsCommand extends Command {
 
         private String logs;
 
+        /**
+         * The sequence number to use for requesting the logs following the returned ones.
+         */
+        private long nextSequence;
+
+        public Response(String logs) {
+            this.logs = logs;
+        }
     }
 }
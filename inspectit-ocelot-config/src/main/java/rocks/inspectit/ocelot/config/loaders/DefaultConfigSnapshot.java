@@ -0,0 +1,267 @@
+package rocks.inspectit.ocelot.config.loaders;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes the precompiled snapshot of the default configuration.
+ * <p>
+ * Parsing the default YAML files is one of the most expensive steps during the startup of the agent. Therefore, the
+ * build flattens the default configuration once and stores the resulting properties in a compact binary format
+ * next to the YAML files, see {@link #main(String[])}. The agent loads the snapshot via {@link #load()} and only falls
+ * back to parsing the YAML files if no valid snapshot is present, e.g. when running from an IDE.
+ * <p>
+ * The snapshot consists of a header ({@link #MAGIC}, {@link #VERSION} and the number of properties) followed by the
+ * properties sorted by their keys. Each key is stored as the length of the prefix it shares with the previous key and
+ * the remaining suffix. Each value is stored with a type marker, so that the loaded properties are equal to the ones
+ * parsed from YAML.
+ */
+@UtilityClass
+@Slf4j
+public class DefaultConfigSnapshot {
+
+    /**
+     * The classpath location of the snapshot.
+     */
+    public static final String RESOURCE = "rocks/inspectit/ocelot/config/default-config.snapshot";
+
+    /**
+     * Marks a file as default configuration snapshot.
+     */
+    static final int MAGIC = 0x69744F63;
+
+    /**
+     * The version of the snapshot format, snapshots with a different version are ignored.
+     */
+    static final int VERSION = 1;
+
+    private static final byte TYPE_STRING = 0;
+
+    private static final byte TYPE_BOOLEAN = 1;
+
+    private static final byte TYPE_INTEGER = 2;
+
+    private static final byte TYPE_LONG = 3;
+
+    private static final byte TYPE_DOUBLE = 4;
+
+    private static final byte TYPE_BIG_INTEGER = 5;
+
+    /**
+     * Loads the snapshot of the default configuration from the classpath.
+     *
+     * @return the properties of the default configuration or an empty optional if no valid snapshot is present
+     */
+    public Optional<Properties> load() {
+        InputStream snapshot = DefaultConfigSnapshot.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        try (InputStream in = snapshot) {
+            return read(in);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read the default configuration snapshot, falling back to the YAML files", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses the YAML files of the default configuration in the same way as the agent does when no snapshot is present.
+     *
+     * @return the flattened default configuration
+     */
+    public Properties readDefaultConfigFiles() throws IOException {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setSingleton(false);
+        yaml.setResources(ConfigFileLoader.getDefaultResources());
+        return yaml.getObject();
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(Properties, OutputStream)}.
+     *
+     * @param in the stream to read from, is not closed by this method
+     *
+     * @return the contained properties or an empty optional if the stream does not contain a snapshot of the current version
+     */
+    public Optional<Properties> read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            return Optional.empty();
+        }
+        int count = data.readInt();
+        Properties result = new Properties();
+        byte[] buffer = new byte[256];
+        char[] key = new char[256];
+        int keyLength = 0;
+        for (int i = 0; i < count; i++) {
+            int sharedLength = readVarInt(data);
+            String suffix = readString(data, buffer);
+            keyLength = sharedLength + suffix.length();
+            if (keyLength > key.length) {
+                char[] grown = new char[Math.max(keyLength, key.length * 2)];
+                System.arraycopy(key, 0, grown, 0, sharedLength);
+                key = grown;
+            }
+            suffix.getChars(0, suffix.length(), key, sharedLength);
+            result.put(new String(key, 0, keyLength), readValue(data, buffer));
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Writes the given properties as snapshot.
+     *
+     * @param properties the properties to write, all keys have to be strings
+     * @param out        the stream to write to, is not closed by this method
+     *
+     * @throws IllegalArgumentException if a value has a type which is not produced when parsing YAML
+     */
+    public void write(Properties properties, OutputStream out) throws IOException {
+        Map<String, Object> sorted = new TreeMap<>();
+        properties.forEach((key, value) -> sorted.put((String) key, value));
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(sorted.size());
+        String previousKey = "";
+        for (Map.Entry<String, Object> entry : sorted.entrySet()) {
+            String key = entry.getKey();
+            int sharedLength = sharedPrefixLength(previousKey, key);
+            writeVarInt(data, sharedLength);
+            writeString(data, key.substring(sharedLength));
+            writeValue(data, key, entry.getValue());
+            previousKey = key;
+        }
+        data.flush();
+    }
+
+    /**
+     * Generates the snapshot of the default configuration found on the classpath. Invoked by the build.
+     *
+     * @param args the path of the snapshot file to write
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the path of the snapshot file as only argument");
+        }
+        Path target = Paths.get(args[0]);
+        if (target.getParent() != null) {
+            Files.createDirectories(target.getParent());
+        }
+        Properties properties = readDefaultConfigFiles();
+        // the agent rejects such properties, which are the result of invalid YAML, when parsing the YAML files
+        properties.forEach((key, value) -> {
+            if (key.toString().contains(":") && value.toString().isEmpty()) {
+                throw new IllegalStateException("The default configuration contains the invalid property '" + key + "'");
+            }
+        });
+        try (OutputStream out = Files.newOutputStream(target)) {
+            write(properties, out);
+        }
+    }
+
+    private int sharedPrefixLength(String first, String second) {
+        int maxLength = Math.min(first.length(), second.length());
+        int length = 0;
+        while (length < maxLength && first.charAt(length) == second.charAt(length)) {
+            length++;
+        }
+        // do not split surrogate pairs, as the suffix is stored as UTF-8
+        if (length > 0 && Character.isHighSurrogate(second.charAt(length - 1))) {
+            length--;
+        }
+        return length;
+    }
+
+    private void writeValue(DataOutputStream data, String key, Object value) throws IOException {
+        if (value instanceof String) {
+            data.writeByte(TYPE_STRING);
+            writeString(data, (String) value);
+        } else if (value instanceof Boolean) {
+            data.writeByte(TYPE_BOOLEAN);
+            data.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            data.writeByte(TYPE_INTEGER);
+            data.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            data.writeByte(TYPE_LONG);
+            data.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            data.writeByte(TYPE_DOUBLE);
+            data.writeDouble((Double) value);
+        } else if (value instanceof BigInteger) {
+            data.writeByte(TYPE_BIG_INTEGER);
+            writeString(data, value.toString());
+        } else {
+            throw new IllegalArgumentException("The value of '" + key + "' has the unsupported type " + (value == null ? null : value.getClass()
+                    .getName()));
+        }
+    }
+
+    private Object readValue(DataInputStream data, byte[] buffer) throws IOException {
+        byte type = data.readByte();
+        switch (type) {
+            case TYPE_STRING:
+                return readString(data, buffer);
+            case TYPE_BOOLEAN:
+                return data.readBoolean();
+            case TYPE_INTEGER:
+                return data.readInt();
+            case TYPE_LONG:
+                return data.readLong();
+            case TYPE_DOUBLE:
+                return data.readDouble();
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readString(data, buffer));
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private String readString(DataInputStream data, byte[] buffer) throws IOException {
+        int length = readVarInt(data);
+        byte[] bytes = length <= buffer.length ? buffer : new byte[length];
+        data.readFully(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+}
@@ -11,6 +11,7 @@ import rocks.inspectit.ocelot.config.model.logging.LoggingSettings;
 import rocks.inspectit.ocelot.config.model.metrics.MetricsSettings;
 import rocks.inspectit.ocelot.config.model.plugins.PluginSettings;
 import rocks.inspectit.ocelot.config.model.privacy.PrivacySettings;
+import rocks.inspectit.ocelot.config.model.scheduler.SchedulerSettings;
 import rocks.inspectit.ocelot.config.model.selfmonitoring.InstrumentationFeedbackSettings;
 import rocks.inspectit.ocelot.config.model.selfmonitoring.LogPreloadingSettings;
 import rocks.inspectit.ocelot.config.model.selfmonitoring.SelfMonitoringSettings;
@@ -112,11 +113,17 @@ public class InspectitConfig {
     private PluginSettings plugins = new PluginSettings();
 
     /**
-     * Defines how many threads inspectIT may start for its internal tasks.
+     * Defines how many threads inspectIT may start for its internal tasks of the default task group.
      */
     @Min(1)
     private int threadPoolSize;
 
+    /**
+     * Settings for the task groups executing the internal tasks of inspectIT.
+     */
+    @Valid
+    private SchedulerSettings scheduler = new SchedulerSettings();
+
     /**
      * Settings for the agent command feature.
      */
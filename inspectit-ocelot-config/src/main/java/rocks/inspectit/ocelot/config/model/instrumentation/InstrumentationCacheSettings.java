@@ -0,0 +1,33 @@
+package rocks.inspectit.ocelot.config.model.instrumentation;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.util.unit.DataSize;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Settings for the on-disk cache of instrumented bytecode, which is reused after restarts of the JVM.
+ * The settings are only read on startup of the agent.
+ */
+@Data
+@NoArgsConstructor
+public class InstrumentationCacheSettings {
+
+    /**
+     * If true, instrumented bytecode is stored in the {@link #directory} and loaded from it instead of instrumenting
+     * the same class again.
+     */
+    private boolean enabled = false;
+
+    /**
+     * The directory containing the cached bytecode.
+     */
+    private String directory;
+
+    /**
+     * The maximum size of the cache. If it is exceeded, the least recently used entries are evicted.
+     */
+    @NotNull
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+}
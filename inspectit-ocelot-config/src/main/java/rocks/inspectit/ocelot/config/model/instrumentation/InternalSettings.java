@@ -3,7 +3,9 @@ package rocks.inspectit.ocelot.config.model.instrumentation;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.validation.Valid;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 import java.time.Duration;
 
 /**
@@ -34,6 +36,13 @@ public class InternalSettings {
     // The actual default value is defined in the default.yml
     private int classRetransformBatchSize = 1; //default value for testing
 
+    /**
+     * Defines the number of threads retransforming the classes of a batch in parallel.
+     * The batch is split into this many sub-batches, so that the bytecode of the classes is generated concurrently.
+     */
+    @Min(1)
+    private int classRetransformParallelism = 1;
+
     /**
      * Defines how often the Agent should check if new classes have been defined.
      * This check is only performed if Classloader.defineClass was called less than {@link #numClassDiscoveryTrials} ago.
@@ -64,4 +73,24 @@ public class InternalSettings {
      */
     private boolean async = true;
 
+    /**
+     * The maximum number of objects for which results of actions with "cache-by" are cached.
+     * If this limit is exceeded, the least recently used entries are evicted.
+     */
+    @Min(0)
+    private long actionCacheSize = 10000;
+
+    /**
+     * If true, unmodified default actions like 'a_timing_nanos' are executed by built-in implementations instead of
+     * injected action classes.
+     */
+    private boolean intrinsicActions = true;
+
+    /**
+     * The settings of the on-disk cache for instrumented bytecode.
+     */
+    @Valid
+    @NotNull
+    private InstrumentationCacheSettings cache = new InstrumentationCacheSettings();
+
 }
@@ -3,6 +3,11 @@ package rocks.inspectit.ocelot.config.model.instrumentation;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Settings for the {@link SpecialSensor}s.
  */
@@ -25,6 +30,27 @@ public class SpecialSensorSettings {
      */
     private boolean scheduledExecutorContextPropagation;
 
+    /**
+     * Restricts the executor context propagation sensors to the executor classes whose fully qualified name starts with
+     * one of the enabled prefixes. If no prefix is enabled, all executors take part in the context propagation.
+     */
+    @NotNull
+    private Map<@NotBlank String, Boolean> executorContextPropagationIncludes = Collections.emptyMap();
+
+    /**
+     * Executor classes whose fully qualified name starts with one of the enabled prefixes do not take part in the
+     * context propagation, even if they are included by {@link #executorContextPropagationIncludes}.
+     */
+    @NotNull
+    private Map<@NotBlank String, Boolean> executorContextPropagationExcludes = Collections.emptyMap();
+
+    /**
+     * If true, a synthetic field is injected into {@link Runnable} and {@link java.util.concurrent.Callable} classes
+     * when they are loaded. This field is used to pass the context to the executing thread instead of a global cache.
+     * Classes which have been loaded before or which cannot be changed fall back to the global cache.
+     */
+    private boolean contextFieldInjection;
+
     /**
      * If true, we instrument all class loaders which contain instrumented classes to make sure our bootstrap classes are reachable.
      * This ensures that in custom module systems such as OSGi our instrumentation works without the need for configuration changes.
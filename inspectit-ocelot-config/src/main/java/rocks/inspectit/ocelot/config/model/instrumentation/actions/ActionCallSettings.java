@@ -54,6 +54,16 @@ public class ActionCallSettings extends ConditionalActionSettings {
      */
     private Map<@NotBlank String, @NotBlank String> dataInput = Collections.emptyMap();
 
+    /**
+     * The name of an input of the action whose value is used as cache key for the result of the action.
+     * If set, the action is only executed once per identity of the input value, subsequent calls with the same
+     * object reuse the cached result. The cache holds the objects weakly, so it does not prevent them from being
+     * garbage collected.
+     * This must only be used for actions whose result solely depends on the given input and does not change over time,
+     * e.g. the URL of the connection of a JDBC statement.
+     */
+    private String cacheBy;
+
     /**
      * Defines before and after which other action calls this call needs to be executed.
      * Through these dependencies an order is derived in which action calls are executed.
@@ -74,6 +84,23 @@ public class ActionCallSettings extends ConditionalActionSettings {
             checkNoNonExistingInputsAssigned(actionConf, vios);
             checkNoSpecialInputsAssigned(vios);
             checkConstantInputsCanBeDecoded(actionConf, vios);
+            checkCacheByIsDynamicInput(actionConf, vios);
+        }
+    }
+
+    private void checkCacheByIsDynamicInput(GenericActionSettings actionConf, ViolationBuilder vios) {
+        if (cacheBy == null) {
+            return;
+        }
+        if (actionConf.getIsVoid()) {
+            vios.message("The result of action '{action}' cannot be cached as it is a void action!")
+                    .parameter(PARAMETER_ACTION, action)
+                    .buildAndPublish();
+        } else if (!actionConf.getInput().containsKey(cacheBy) || constantInput.containsKey(cacheBy)) {
+            vios.message("The cache key '{var}' must be a non-constant input of action '{action}'!")
+                    .parameter(PARAMETER_VAR, cacheBy)
+                    .parameter(PARAMETER_ACTION, action)
+                    .buildAndPublish();
         }
     }
 
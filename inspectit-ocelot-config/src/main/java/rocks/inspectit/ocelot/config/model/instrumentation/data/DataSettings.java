@@ -35,6 +35,14 @@ public class DataSettings {
     @Setter(AccessLevel.NONE)
     private Boolean isTag;
 
+    /**
+     * Defines the type of the values stored for this data.
+     * If LONG or DOUBLE is specified, the values are stored without boxing.
+     * This is only possible for data which is neither propagated, stored for sessions nor used as tag, otherwise
+     * the values are stored as objects.
+     */
+    private DataType type;
+
     public void setIsTag(Boolean isTag) {
         this.isTag = isTag;
     }
@@ -0,0 +1,9 @@
+package rocks.inspectit.ocelot.config.model.instrumentation.data;
+
+/**
+ * The type of the values stored for a data key.
+ * Data keys with a primitive type are stored without boxing, but can neither be propagated nor used as tags.
+ */
+public enum DataType {
+    OBJECT, LONG, DOUBLE
+}
@@ -0,0 +1,24 @@
+package rocks.inspectit.ocelot.config.model.metrics;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Settings for the metrics recorders based on JDK Flight Recorder events.
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class JfrMetricsSettings extends StandardMetricsSettings {
+
+    /**
+     * The minimum duration of monitor contention, waiting, parking and sleeping events to be recorded.
+     * Lower values increase the accuracy, but also the overhead of the Flight Recorder.
+     */
+    @NotNull
+    private Duration threshold;
+}
@@ -0,0 +1,18 @@
+package rocks.inspectit.ocelot.config.model.metrics;
+
+/**
+ * The backends which can be used for recording measurements of the defined metrics.
+ */
+public enum MetricsRecordingBackend {
+
+    /**
+     * Measurements are recorded via the OpenCensus stats API. The OpenCensus views are translated to OpenTelemetry
+     * on every export.
+     */
+    OPEN_CENSUS,
+
+    /**
+     * Measurements are recorded directly via OpenTelemetry instruments, without going through the OpenCensus stats API.
+     */
+    OPEN_TELEMETRY,
+}
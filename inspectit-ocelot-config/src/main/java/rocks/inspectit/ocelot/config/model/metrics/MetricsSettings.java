@@ -38,6 +38,13 @@ public class MetricsSettings {
      */
     private Duration frequency;
 
+    /**
+     * The backend used for recording measurements. The backend is selected when the agent starts,
+     * changes at runtime are not applied.
+     */
+    @NotNull
+    private MetricsRecordingBackend recordingBackend = MetricsRecordingBackend.OPEN_CENSUS;
+
     /**
      * Settings for controlling the amount of unique tag values
      */
@@ -88,6 +95,12 @@ public class MetricsSettings {
     @Valid
     private StandardPollingMetricsRecorderSettings concurrent;
 
+    /**
+     * Settings for the recorders in {@link rocks.inspectit.ocelot.core.metrics.system.jfr}
+     */
+    @Valid
+    private JfrMetricsSettings jfr;
+
     /**
      * Settings for {@link rocks.inspectit.ocelot.core.metrics.system.JmxMetricsRecorder}
      */
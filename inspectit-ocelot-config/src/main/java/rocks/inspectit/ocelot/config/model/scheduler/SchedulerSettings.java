@@ -0,0 +1,25 @@
+package rocks.inspectit.ocelot.config.model.scheduler;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for the scheduling of the agent's background tasks.
+ */
+@Data
+@NoArgsConstructor
+public class SchedulerSettings {
+
+    /**
+     * The settings of the task groups, the key is the name of the group.
+     * Each group is executed by its own threads, so that slow tasks of one group do not delay the tasks of the others.
+     * Groups which are not configured use {@link rocks.inspectit.ocelot.config.model.InspectitConfig#getThreadPoolSize()}
+     * threads with normal priority.
+     */
+    @Valid
+    private Map<String, TaskGroupSettings> groups = new HashMap<>();
+}
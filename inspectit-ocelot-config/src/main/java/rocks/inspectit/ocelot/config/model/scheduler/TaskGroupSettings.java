@@ -0,0 +1,28 @@
+package rocks.inspectit.ocelot.config.model.scheduler;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+/**
+ * Settings for a group of background tasks which share their threads.
+ */
+@Data
+@NoArgsConstructor
+public class TaskGroupSettings {
+
+    /**
+     * The number of threads executing the tasks of this group.
+     */
+    @Min(1)
+    private int poolSize = 1;
+
+    /**
+     * The priority of the threads executing the tasks of this group.
+     */
+    @Min(Thread.MIN_PRIORITY)
+    @Max(Thread.MAX_PRIORITY)
+    private int priority = Thread.NORM_PRIORITY;
+}
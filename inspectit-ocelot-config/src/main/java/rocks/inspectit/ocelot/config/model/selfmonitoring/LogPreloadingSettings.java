@@ -3,6 +3,7 @@ package rocks.inspectit.ocelot.config.model.selfmonitoring;
 import ch.qos.logback.classic.Level;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.util.unit.DataSize;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
@@ -28,4 +29,11 @@ public class LogPreloadingSettings {
     @Min(1)
     private int bufferSize;
 
+    /**
+     * The maximum amount of memory used by the preloaded log messages. When reaching the size, oldest messages are
+     * dropped first.
+     */
+    @NotNull
+    private DataSize maxMemory = DataSize.ofMegabytes(1);
+
 }
@@ -2,7 +2,10 @@ package rocks.inspectit.ocelot.config.model.tracing;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.util.unit.DataSize;
 
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import java.time.Duration;
 
 /**
@@ -28,4 +31,30 @@ public class AutoTracingSettings {
      * If a span requests sampling after the timer has shutdown, it will restart it.
      */
     private Duration shutdownDelay;
+
+    /**
+     * The mechanism used for capturing the stack traces of the sampled threads.
+     */
+    private StackTraceBackend stackTraceBackend;
+
+    /**
+     * The (estimated) memory which may be used for storing the stack trace samples of a single trace.
+     * If a trace exceeds this limit, no more samples are taken for it and its root span is marked with the
+     * attribute "java.sampling.truncated".
+     */
+    private DataSize maxTraceMemory;
+
+    /**
+     * The maximum number of finished traces waiting to be exported.
+     * If the export can not keep up and the queue is full, finished traces are dropped.
+     * Changes take only effect after a restart of the agent.
+     */
+    @Min(1)
+    private int exportQueueCapacity;
+
+    /**
+     * Settings for aggregating the stack trace samples into continuously exported profiles.
+     */
+    @Valid
+    private ProfilingSettings profiling;
 }
@@ -0,0 +1,18 @@
+package rocks.inspectit.ocelot.config.model.tracing;
+
+/**
+ * The formats in which aggregated profiles can be written.
+ */
+public enum ProfileFormat {
+
+    /**
+     * The collapsed stack format, where each line consists of the semicolon separated frames of a stack followed by
+     * the number of samples. This format can be directly processed by flame graph tools.
+     */
+    COLLAPSED,
+
+    /**
+     * The gzip compressed protobuf format used by pprof.
+     */
+    PPROF
+}
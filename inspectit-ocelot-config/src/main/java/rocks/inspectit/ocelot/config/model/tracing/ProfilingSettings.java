@@ -0,0 +1,60 @@
+package rocks.inspectit.ocelot.config.model.tracing;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Settings for continuously aggregating the stack trace samples taken by the auto-tracing into profiles.
+ */
+@Data
+@NoArgsConstructor
+public class ProfilingSettings {
+
+    /**
+     * Whether the continuous profiling is enabled.
+     * If enabled, all threads executing a method with auto-tracing enabled are sampled, even if the span of the
+     * method is not sampled.
+     */
+    private boolean enabled;
+
+    /**
+     * The interval at which the aggregated profile is exported and reset.
+     */
+    @NotNull
+    private Duration exportInterval;
+
+    /**
+     * The maximum number of threads which are sampled at the same time for profiling only, meaning that their spans
+     * are not sampled. Threads exceeding this limit are not profiled, which bounds the overhead of the sampling.
+     */
+    @Min(0)
+    private int maxThreads;
+
+    /**
+     * The maximum number of distinct frames (nodes of the call tree) kept in a profile.
+     * Samples which would exceed this limit are dropped until the profile is exported.
+     */
+    @Min(1)
+    private int maxFrames;
+
+    /**
+     * The format in which the profiles are written.
+     */
+    @NotNull
+    private ProfileFormat format;
+
+    /**
+     * The directory into which the profiles are written. If not set, no profiles are written to disk.
+     */
+    private String directory;
+
+    /**
+     * The maximum number of profiles kept in the {@link #directory}, older profiles are deleted.
+     */
+    @Min(1)
+    private int maxFiles;
+}
@@ -0,0 +1,26 @@
+package rocks.inspectit.ocelot.config.model.tracing;
+
+/**
+ * The mechanisms which can be used by auto-tracing for capturing the stack traces of sampled threads.
+ */
+public enum StackTraceBackend {
+
+    /**
+     * Uses {@link #THREAD_HANDSHAKE} if the JVM supports capturing the stack trace of a single thread without a global
+     * safepoint, which is the case starting with Java 19. Otherwise {@link #THREAD_MX_BEAN} is used.
+     */
+    AUTO,
+
+    /**
+     * Captures the stack traces of all sampled threads at once via the ThreadMXBean.
+     * This requires a single global safepoint, for which all threads of the JVM are paused.
+     */
+    THREAD_MX_BEAN,
+
+    /**
+     * Captures the stack trace of each sampled thread on its own via {@link Thread#getStackTrace()}.
+     * Starting with Java 19, this only pauses the sampled thread via a thread-local handshake. On older JVMs, a
+     * global safepoint is required for each sampled thread.
+     */
+    THREAD_HANDSHAKE
+}
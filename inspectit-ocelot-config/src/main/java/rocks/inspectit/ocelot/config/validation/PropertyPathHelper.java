@@ -4,6 +4,7 @@ import lombok.experimental.UtilityClass;
 import org.springframework.beans.BeanUtils;
 import org.springframework.boot.convert.ApplicationConversionService;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.unit.DataSize;
 import rocks.inspectit.ocelot.config.utils.CaseUtils;
 
 import java.beans.PropertyDescriptor;
@@ -22,7 +23,7 @@ public class PropertyPathHelper {
      * A HashSet of classes which are used as wildcards in the search for properties. If a found class matches one of these
      * classes, the end of the property path is reached. Mainly used in the search of maps
      */
-    private static final HashSet<Class<?>> TERMINAL_TYPES = new HashSet<>(Arrays.asList(Object.class, String.class, Integer.class, Long.class, Float.class, Double.class, Character.class, Void.class, Boolean.class, Byte.class, Short.class, Duration.class, Path.class, URL.class, FileSystemResource.class));
+    private static final HashSet<Class<?>> TERMINAL_TYPES = new HashSet<>(Arrays.asList(Object.class, String.class, Integer.class, Long.class, Float.class, Double.class, Character.class, Void.class, Boolean.class, Byte.class, Short.class, Duration.class, DataSize.class, Path.class, URL.class, FileSystemResource.class));
 
     /**
      * Returns the type which can be found at the end of the path. Returns null if the path does not exist
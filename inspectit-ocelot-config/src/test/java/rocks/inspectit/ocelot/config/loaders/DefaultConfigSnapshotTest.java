@@ -0,0 +1,104 @@
+package rocks.inspectit.ocelot.config.loaders;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DefaultConfigSnapshotTest {
+
+    private Optional<Properties> writeAndRead(Properties properties) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DefaultConfigSnapshot.write(properties, out);
+        return DefaultConfigSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Nested
+    public class WriteAndRead {
+
+        @Test
+        void defaultConfigFiles() throws IOException {
+            Properties defaults = DefaultConfigSnapshot.readDefaultConfigFiles();
+
+            Optional<Properties> result = writeAndRead(defaults);
+
+            assertThat(defaults).isNotEmpty();
+            assertThat(result).contains(defaults);
+        }
+
+        @Test
+        void valueTypesPreserved() throws IOException {
+            Properties properties = new Properties();
+            properties.put("inspectit.string", "value");
+            properties.put("inspectit.empty", "");
+            properties.put("inspectit.boolean", true);
+            properties.put("inspectit.integer", 42);
+            properties.put("inspectit.long", 1L << 40);
+            properties.put("inspectit.double", 0.5);
+            properties.put("inspectit.big", new BigInteger("123456789012345678901234567890"));
+
+            Properties result = writeAndRead(properties).get();
+
+            assertThat(result).isEqualTo(properties);
+            assertThat(result.get("inspectit.integer")).isInstanceOf(Integer.class);
+            assertThat(result.get("inspectit.long")).isInstanceOf(Long.class);
+        }
+
+        @Test
+        void keysWithSharedPrefixes() throws IOException {
+            StringBuilder longKey = new StringBuilder("inspectit.long");
+            for (int i = 0; i < 100; i++) {
+                longKey.append(".segment").append(i);
+            }
+            Properties properties = new Properties();
+            properties.put("inspectit.a", "1");
+            properties.put("inspectit.ab", "2");
+            properties.put("inspectit.abc[0]", "3");
+            properties.put("inspectit.b", "4");
+            properties.put("inspectit.😀", "surrogate");
+            properties.put("inspectit.😁", "other surrogate");
+            properties.put(longKey.toString(), "5");
+            properties.put(longKey + ".child", "6");
+
+            assertThat(writeAndRead(properties)).contains(properties);
+        }
+
+        @Test
+        void unsupportedValueType() {
+            Properties properties = new Properties();
+            properties.put("inspectit.object", new Object());
+
+            assertThatThrownBy(() -> writeAndRead(properties)).isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("inspectit.object");
+        }
+    }
+
+    @Nested
+    public class Read {
+
+        @Test
+        void otherVersionIgnored() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            DefaultConfigSnapshot.write(new Properties(), out);
+            byte[] bytes = out.toByteArray();
+            bytes[7]++;
+
+            assertThat(DefaultConfigSnapshot.read(new ByteArrayInputStream(bytes))).isEmpty();
+        }
+
+        @Test
+        void noSnapshot() throws IOException {
+            byte[] yaml = "inspectit:\n  service-name: test".getBytes();
+
+            assertThat(DefaultConfigSnapshot.read(new ByteArrayInputStream(yaml))).isEmpty();
+        }
+    }
+}
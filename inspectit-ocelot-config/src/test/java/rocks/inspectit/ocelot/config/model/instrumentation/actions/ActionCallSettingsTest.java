@@ -366,4 +366,63 @@ public class ActionCallSettingsTest {
             assertThat(violations).hasSize(0);
         }
     }
+
+    @Nested
+    class CheckCacheByIsDynamicInput {
+
+        @Test
+        void dataInput() {
+            action.getInput().put("my-prop", "String");
+            call.getDataInput().put("my-prop", "my_data_key");
+            call.setCacheBy("my-prop");
+
+            call.performValidation(instr, vios);
+
+            assertThat(violations).isEmpty();
+        }
+
+        @Test
+        void specialVariable() {
+            action.getInput().put("_this", "Object");
+            call.setCacheBy("_this");
+
+            call.performValidation(instr, vios);
+
+            assertThat(violations).isEmpty();
+        }
+
+        @Test
+        void constantInput() {
+            action.getInput().put("my-prop", "String");
+            call.getConstantInput().put("my-prop", "value");
+            call.setCacheBy("my-prop");
+
+            call.performValidation(instr, vios);
+
+            assertThat(violations).hasSize(1);
+            assertThat(violations.get(0).getParameters().values()).contains("my-prop");
+        }
+
+        @Test
+        void nonExistingInput() {
+            call.setCacheBy("my-prop");
+
+            call.performValidation(instr, vios);
+
+            assertThat(violations).hasSize(1);
+            assertThat(violations.get(0).getMessage()).containsIgnoringCase("cache key");
+        }
+
+        @Test
+        void voidAction() {
+            action.setIsVoid(true);
+            action.getInput().put("_this", "Object");
+            call.setCacheBy("_this");
+
+            call.performValidation(instr, vios);
+
+            assertThat(violations).hasSize(1);
+            assertThat(violations.get(0).getMessage()).containsIgnoringCase("void");
+        }
+    }
 }
@@ -0,0 +1,39 @@
+package rocks.inspectit.ocelot.core.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.Resource;
+import rocks.inspectit.ocelot.config.loaders.ConfigFileLoader;
+import rocks.inspectit.ocelot.config.loaders.DefaultConfigSnapshot;
+import rocks.inspectit.ocelot.core.config.util.PropertyUtils;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading the default configuration by parsing its YAML files, as done previously on startup, against
+ * loading its precompiled snapshot. Requires the snapshot generated by the build of the config module.
+ * Single shot measurements are used, because the default configuration is loaded once during the startup of the agent.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 0)
+@Measurement(iterations = 20)
+@Fork(10)
+public class DefaultConfigLoadingPerfTest {
+
+    @Benchmark
+    public Properties yaml() throws Exception {
+        Properties result = new Properties();
+        for (Resource resource : ConfigFileLoader.getDefaultResources()) {
+            result.putAll(PropertyUtils.readYamlFiles(resource));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Properties snapshot() {
+        return DefaultConfigSnapshot.load()
+                .orElseThrow(() -> new IllegalStateException("The default configuration snapshot has not been generated"));
+    }
+}
@@ -0,0 +1,149 @@
+package rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic;
+
+import org.openjdk.jmh.annotations.*;
+import rocks.inspectit.ocelot.bootstrap.instrumentation.IGenericAction;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
+import rocks.inspectit.ocelot.core.instrumentation.actions.bound.BoundGenericAction;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.GenericActionConfig;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.propagation.PropagationMetaData;
+import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.context.session.PropagationSessionStorage;
+import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+import rocks.inspectit.ocelot.core.instrumentation.injection.InjectedClass;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the actions of the default timing rules when executed as generic actions against their intrinsic
+ * implementations: 'a_timing_nanos' and 'a_assign_true' on entry and 'a_timing_elapsedMillis' on exit.
+ * The generic actions are bound to hand-written classes equivalent to the ones generated for the default definitions.
+ * The intrinsic actions are additionally executed with the timings declared as primitive data, see {@link DataType}.
+ * Run with {@code -prof gc} to compare the allocations per invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class IntrinsicActionPerfTest {
+
+    private static final String ENTRY_TIME = "method_entry_time";
+
+    private static final String DURATION = "method_duration";
+
+    private static final String FLAG = "capture_timing";
+
+    private IHookAction[] genericActions;
+
+    private IHookAction[] intrinsicActions;
+
+    private IHookAction.ExecutionContext executionContext;
+
+    private IHookAction.ExecutionContext primitiveExecutionContext;
+
+    @Setup
+    public void init() {
+        GenericActionConfig nanos = GenericActionConfig.builder()
+                .name("a_timing_nanos")
+                .valueBody("return new Long(System.nanoTime());")
+                .build();
+        GenericActionConfig elapsed = GenericActionConfig.builder()
+                .name("a_timing_elapsedMillis")
+                .actionArgumentType("since_nanos", "long")
+                .valueBody("return new Double( (System.nanoTime() - since_nanos) * 1E-6);")
+                .build();
+        GenericActionConfig assignTrue = GenericActionConfig.builder()
+                .name("a_assign_true")
+                .valueBody("return Boolean.TRUE;")
+                .build();
+
+        Map<String, VariableAccessor> sinceNanos = Collections.singletonMap("since_nanos", context -> context.getInspectitContext()
+                .getData(ENTRY_TIME));
+
+        genericActions = new IHookAction[]{BoundGenericAction.bind(ENTRY_TIME, nanos, new InjectedClass<>(NanosAction.class), Collections
+                .emptyMap(), Collections.emptyMap()), BoundGenericAction.bind(FLAG, assignTrue, new InjectedClass<>(AssignTrueAction.class), Collections
+                .emptyMap(), Collections.emptyMap()), BoundGenericAction.bind(DURATION, elapsed, new InjectedClass<>(ElapsedMillisAction.class), Collections
+                .emptyMap(), sinceNanos)};
+
+        intrinsicActions = new IHookAction[]{IntrinsicActions.create(nanos, ENTRY_TIME, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())
+                .get(), IntrinsicActions.create(assignTrue, FLAG, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())
+                .get(), IntrinsicActions.create(elapsed, DURATION, Collections.emptyMap(), sinceNanos, Collections.singletonMap("since_nanos", ENTRY_TIME))
+                .get()};
+
+        InspectitContextImpl context = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), PropagationMetaData.builder()
+                .build(), new PropagationSessionStorage(), false);
+        executionContext = new IHookAction.ExecutionContext(new Object[0], null, null, null, null, context, null);
+
+        InspectitContextImpl primitiveContext = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), PropagationMetaData
+                .builder()
+                .setType(ENTRY_TIME, DataType.LONG)
+                .setType(DURATION, DataType.DOUBLE)
+                .build(), new PropagationSessionStorage(), false);
+        primitiveExecutionContext = new IHookAction.ExecutionContext(new Object[0], null, null, null, null, primitiveContext, null);
+    }
+
+    @Benchmark
+    public Object generic() {
+        executeAll(genericActions, executionContext);
+        return executionContext.getInspectitContext().getData(DURATION);
+    }
+
+    @Benchmark
+    public Object intrinsic() {
+        executeAll(intrinsicActions, executionContext);
+        return executionContext.getInspectitContext().getData(DURATION);
+    }
+
+    @Benchmark
+    public double intrinsicPrimitive() {
+        executeAll(intrinsicActions, primitiveExecutionContext);
+        return primitiveExecutionContext.getInspectitContext().getDoubleData(DURATION);
+    }
+
+    private void executeAll(IHookAction[] actions, IHookAction.ExecutionContext context) {
+        for (IHookAction action : actions) {
+            action.execute(context);
+        }
+    }
+
+    /**
+     * Equivalent to the class generated for 'a_timing_nanos'.
+     */
+    public static class NanosAction implements IGenericAction {
+
+        public static final IGenericAction INSTANCE = new NanosAction();
+
+        @Override
+        public Object execute(Object[] instrumentedMethodArgs, Object thiz, Object returnValue, Throwable thrown, Object[] actionArguments) {
+            return new Long(System.nanoTime());
+        }
+    }
+
+    /**
+     * Equivalent to the class generated for 'a_assign_true'.
+     */
+    public static class AssignTrueAction implements IGenericAction {
+
+        public static final IGenericAction INSTANCE = new AssignTrueAction();
+
+        @Override
+        public Object execute(Object[] instrumentedMethodArgs, Object thiz, Object returnValue, Throwable thrown, Object[] actionArguments) {
+            return Boolean.TRUE;
+        }
+    }
+
+    /**
+     * Equivalent to the class generated for 'a_timing_elapsedMillis'.
+     */
+    public static class ElapsedMillisAction implements IGenericAction {
+
+        public static final IGenericAction INSTANCE = new ElapsedMillisAction();
+
+        @Override
+        public Object execute(Object[] instrumentedMethodArgs, Object thiz, Object returnValue, Throwable thrown, Object[] actionArguments) {
+            long since_nanos = ((Long) actionArguments[0]).longValue();
+            return new Double((System.nanoTime() - since_nanos) * 1E-6);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import rocks.inspectit.ocelot.config.model.tracing.StackTraceBackend;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the stack trace backends of auto-tracing.
+ * <p>
+ * {@link #capture()} measures the time for capturing the stack traces of the sampled threads.
+ * {@link #unsampledWork()} measures the latency of work done by threads which are not sampled, while the stack traces
+ * of the sampled threads are captured every millisecond in the background. This shows the impact of the sampling on
+ * the rest of the application, e.g. due to global safepoints.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StackTraceProviderPerfTest {
+
+    private static final long SAMPLING_PERIOD_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Param({"THREAD_MX_BEAN", "THREAD_HANDSHAKE"})
+    private StackTraceBackend backend;
+
+    @Param({"1", "8"})
+    private int sampledThreadCount;
+
+    private StackTraceProvider provider;
+
+    private List<Thread> sampledThreads;
+
+    private Thread sampler;
+
+    private volatile boolean running;
+
+    @Setup
+    public void init() {
+        provider = StackTraceProvider.create(backend);
+        running = true;
+
+        sampledThreads = new ArrayList<>();
+        for (int i = 0; i < sampledThreadCount; i++) {
+            Thread thread = new Thread(() -> {
+                while (running) {
+                    Blackhole.consumeCPU(1000);
+                }
+            }, "sampled-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            sampledThreads.add(thread);
+        }
+
+        sampler = new Thread(() -> {
+            while (running) {
+                provider.capture(sampledThreads);
+                LockSupport.parkNanos(SAMPLING_PERIOD_NANOS);
+            }
+        }, "sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @TearDown
+    public void shutdown() throws InterruptedException {
+        running = false;
+        sampler.join();
+        for (Thread thread : sampledThreads) {
+            thread.join();
+        }
+    }
+
+    @Benchmark
+    public Map<Thread, StackTrace> capture() {
+        return provider.capture(sampledThreads);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void unsampledWork() {
+        Blackhole.consumeCPU(10000);
+    }
+}
@@ -0,0 +1,90 @@
+package rocks.inspectit.ocelot.core.instrumentation.context;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import rocks.inspectit.ocelot.bootstrap.context.ContextCarrier;
+import rocks.inspectit.ocelot.bootstrap.context.ContextTuple;
+import rocks.inspectit.ocelot.core.instrumentation.config.InstrumentationConfigurationResolver;
+import rocks.inspectit.ocelot.core.instrumentation.context.session.PropagationSessionStorage;
+import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares handing over a context to a task via the global weak-key cache against handing it over via a field
+ * injected by {@link rocks.inspectit.ocelot.core.instrumentation.special.ContextCarrierInjection}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ContextHandoffPerfTest {
+
+    private ContextManager contextManager;
+
+    @Setup
+    public void init() {
+        CommonTagsManager commonTagsManager = new CommonTagsManager();
+        InstrumentationConfigurationResolver configurationResolver = new InstrumentationConfigurationResolver();
+        PropagationSessionStorage sessionStorage = new PropagationSessionStorage();
+
+        contextManager = new ContextManager(commonTagsManager, sessionStorage, configurationResolver);
+    }
+
+    @Benchmark
+    public void weakKeyCache(Blackhole blackhole) {
+        handoff(new PlainTask(), blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void weakKeyCacheConcurrent(Blackhole blackhole) {
+        handoff(new PlainTask(), blackhole);
+    }
+
+    @Benchmark
+    public void injectedField(Blackhole blackhole) {
+        handoff(new CarrierTask(), blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void injectedFieldConcurrent(Blackhole blackhole) {
+        handoff(new CarrierTask(), blackhole);
+    }
+
+    private void handoff(Runnable task, Blackhole blackhole) {
+        contextManager.storeContext(task, true);
+        ContextTuple tuple = contextManager.attachContext(task);
+        blackhole.consume(tuple);
+        contextManager.detachContext(tuple);
+    }
+
+    private static class PlainTask implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+    /**
+     * Equivalent of a task class into which a carrier field has been injected.
+     */
+    private static class CarrierTask implements Runnable, ContextCarrier {
+
+        private transient Object context;
+
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public Object inspectit$getContext() {
+            return context;
+        }
+
+        @Override
+        public void inspectit$setContext(Object context) {
+            this.context = context;
+        }
+    }
+}
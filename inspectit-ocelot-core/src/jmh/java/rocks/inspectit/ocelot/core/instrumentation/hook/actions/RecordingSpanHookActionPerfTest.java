@@ -0,0 +1,97 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook.actions;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.openjdk.jmh.annotations.*;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.propagation.PropagationMetaData;
+import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.context.session.PropagationSessionStorage;
+import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.span.SetSpanStatusAction;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.span.WriteSpanAttributesAction;
+import rocks.inspectit.ocelot.core.privacy.obfuscation.IObfuscatory;
+import rocks.inspectit.ocelot.core.privacy.obfuscation.impl.PatternObfuscatory;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares executing the span exit actions of a hook one by one, as done previously, against executing them grouped
+ * in a {@link RecordingSpanHookAction}, which skips them for non-recording spans. The spans are sampled with the given
+ * sample rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RecordingSpanHookActionPerfTest {
+
+    @Param({"0.01", "0.1", "1.0"})
+    private double sampleRate;
+
+    private Tracer tracer;
+
+    private PropagationMetaData propagation;
+
+    private PropagationSessionStorage sessionStorage;
+
+    private List<IHookAction> actions;
+
+    private List<IHookAction> groupedActions;
+
+    @Setup
+    public void init() {
+        tracer = SdkTracerProvider.builder()
+                .setSampler(Sampler.traceIdRatioBased(sampleRate))
+                .build()
+                .get("benchmark");
+        propagation = PropagationMetaData.builder().build();
+        sessionStorage = new PropagationSessionStorage();
+
+        IObfuscatory obfuscatory = new PatternObfuscatory(Arrays.asList(PatternObfuscatory.PatternEntry.builder()
+                .pattern(Pattern.compile(".*password.*", Pattern.CASE_INSENSITIVE))
+                .checkKey(true)
+                .build(), PatternObfuscatory.PatternEntry.builder()
+                .pattern(Pattern.compile("[\\w.+-]+@[\\w-]+\\.[\\w.-]+"))
+                .checkData(true)
+                .build()));
+        Map<String, VariableAccessor> attributeAccessors = new HashMap<>();
+        attributeAccessors.put("http.method", context -> "GET");
+        attributeAccessors.put("http.url", context -> "/api/v1/customers/42/orders");
+        attributeAccessors.put("http.status", context -> 200);
+        attributeAccessors.put("user", context -> "john.doe@example.com");
+        attributeAccessors.put("service", context -> "order-service");
+
+        actions = Arrays.asList(new SetSpanStatusAction(IHookAction.ExecutionContext::getThrown), new WriteSpanAttributesAction(attributeAccessors, () -> obfuscatory));
+        groupedActions = RecordingSpanHookAction.groupRecordingSpanOnly(actions);
+    }
+
+    @Benchmark
+    public void sequential() {
+        executeInSpan(actions);
+    }
+
+    @Benchmark
+    public void grouped() {
+        executeInSpan(groupedActions);
+    }
+
+    private void executeInSpan(List<IHookAction> exitActions) {
+        InspectitContextImpl inspectitContext = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), propagation, sessionStorage, false);
+        inspectitContext.makeActive();
+        Span span = tracer.spanBuilder("span").startSpan();
+        io.opentelemetry.context.Scope scope = span.makeCurrent();
+        inspectitContext.setSpanScope(scope);
+
+        IHookAction.ExecutionContext context = new IHookAction.ExecutionContext(new Object[0], null, null, null, null, inspectitContext, null);
+        for (IHookAction action : exitActions) {
+            action.execute(context);
+        }
+
+        scope.close();
+        span.end();
+        inspectitContext.close();
+    }
+}
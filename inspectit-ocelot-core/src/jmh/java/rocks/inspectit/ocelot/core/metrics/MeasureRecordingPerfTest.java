@@ -0,0 +1,107 @@
+package rocks.inspectit.ocelot.core.metrics;
+
+import io.opencensus.stats.*;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.Tags;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.openjdk.jmh.annotations.*;
+import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings;
+import rocks.inspectit.ocelot.config.model.metrics.definition.ViewDefinitionSettings;
+import rocks.inspectit.ocelot.core.tags.TagUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares recording a measurement with a SUM and a HISTOGRAM view via the OpenCensus stats API against recording it
+ * via the {@link OpenTelemetryMeasureRecorder}. Run with {@code -prof gc} to compare the allocations per recording.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MeasureRecordingPerfTest {
+
+    private static final List<Double> BUCKET_BOUNDARIES = Arrays.asList(10.0, 50.0, 100.0, 500.0);
+
+    private StatsRecorder statsRecorder;
+
+    private Measure.MeasureDouble measure;
+
+    private OpenTelemetryMeasureRecorder openTelemetryRecorder;
+
+    private SdkMeterProvider meterProvider;
+
+    private TagContext[] tagContexts;
+
+    private int index;
+
+    @Setup
+    public void init() {
+        String prefix = "perf/" + UUID.randomUUID() + "/";
+        measure = Measure.MeasureDouble.create(prefix + "measure", "description", "ms");
+        List<TagKey> tagKeys = Arrays.asList(TagKey.create("service"), TagKey.create("method"));
+        ViewManager viewManager = Stats.getViewManager();
+        viewManager.registerView(View.create(View.Name.create(prefix + "sum"), "sum", measure, Aggregation.Sum.create(), tagKeys));
+        viewManager.registerView(View.create(View.Name.create(prefix + "histogram"), "histogram", measure, Aggregation.Distribution
+                .create(BucketBoundaries.create(BUCKET_BOUNDARIES)), tagKeys));
+        statsRecorder = Stats.getStatsRecorder();
+
+        meterProvider = SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+        openTelemetryRecorder = new OpenTelemetryMeasureRecorder();
+        openTelemetryRecorder.bind(meterProvider);
+        List<String> tagNames = Arrays.asList("service", "method");
+        openTelemetryRecorder.registerView(measure.getName(), MetricDefinitionSettings.MeasureType.DOUBLE, "ms", prefix + "sum", ViewDefinitionSettings
+                .builder()
+                .description("sum")
+                .aggregation(ViewDefinitionSettings.Aggregation.SUM)
+                .build(), tagNames);
+        openTelemetryRecorder.registerView(measure.getName(), MetricDefinitionSettings.MeasureType.DOUBLE, "ms", prefix + "histogram", ViewDefinitionSettings
+                .builder()
+                .description("histogram")
+                .aggregation(ViewDefinitionSettings.Aggregation.HISTOGRAM)
+                .bucketBoundaries(BUCKET_BOUNDARIES)
+                .build(), tagNames);
+
+        tagContexts = new TagContext[16];
+        for (int i = 0; i < tagContexts.length; i++) {
+            tagContexts[i] = Tags.getTagger()
+                    .emptyBuilder()
+                    .putLocal(TagKey.create("service"), TagUtils.createTagValue("service", "my-service"))
+                    .putLocal(TagKey.create("method"), TagUtils.createTagValue("method", "method-" + i))
+                    .putLocal(TagKey.create("unused"), TagUtils.createTagValue("unused", "value"))
+                    .build();
+        }
+    }
+
+    @TearDown
+    public void shutdown() {
+        meterProvider.close();
+    }
+
+    @Benchmark
+    public void openCensus() {
+        statsRecorder.newMeasureMap().put(measure, 42.0).record(nextTagContext());
+    }
+
+    @Benchmark
+    public void openTelemetry() {
+        openTelemetryRecorder.record(measure.getName(), 42.0, nextTagContext());
+    }
+
+    /**
+     * Recording with the same tag context repeatedly, as done for the common tags, uses the cached attributes.
+     */
+    @Benchmark
+    public void openTelemetrySameTags() {
+        openTelemetryRecorder.record(measure.getName(), 42.0, tagContexts[0]);
+    }
+
+    private TagContext nextTagContext() {
+        index = (index + 1) & (tagContexts.length - 1);
+        return tagContexts[index];
+    }
+}
@@ -0,0 +1,124 @@
+package rocks.inspectit.ocelot.core.privacy.obfuscation.impl;
+
+import io.opentelemetry.api.trace.Span;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares checking span attribute values against a realistic set of PII data patterns by evaluating each pattern in
+ * turn, as done previously, against the {@link MultiPatternMatcher} and the {@link PatternObfuscatory} with its value
+ * cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PatternObfuscatoryPerfTest {
+
+    private static final List<String> KEY_PATTERNS = Arrays.asList(".*pass(word|wd)?.*", ".*secret.*", ".*token.*", ".*api[-_]?key.*", ".*credential.*", ".*authorization.*", ".*session[-_]?id.*", ".*cookie.*");
+
+    private static final List<String> DATA_PATTERNS = Arrays.asList(
+            // e-mail addresses
+            "[\\w.+-]+@[\\w-]+\\.[\\w.-]+",
+            // credit card numbers
+            "(?:\\d[ -]?){13,16}",
+            // IBAN
+            "[A-Z]{2}\\d{2}[A-Z0-9 ]{11,30}",
+            // US social security numbers
+            "\\d{3}-\\d{2}-\\d{4}",
+            // phone numbers
+            "\\+\\d{1,3}[ -]?\\(?\\d{1,4}\\)?[ -]?\\d{3,4}[ -]?\\d{3,4}",
+            // IPv4 addresses
+            "\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}",
+            // JSON web tokens
+            "eyJ[\\w-]+\\.[\\w-]+\\.[\\w-]+",
+            // bearer tokens
+            "Bearer [\\w.~+/-]+=*",
+            // basic auth
+            "Basic [A-Za-z0-9+/]+=*",
+            // credentials in URLs
+            "\\w+://[^/\\s:@]+:[^/\\s@]+@.*",
+            // credentials in query strings
+            ".*[?&]password=.*", ".*[?&]token=.*", ".*[?&]api_key=.*", ".*[?&]access_token=.*", ".*[?&]secret=.*",
+            // AWS access keys
+            "AKIA[0-9A-Z]{16}",
+            // private keys
+            ".*-----BEGIN [A-Z ]*PRIVATE KEY-----.*",
+            // German tax ids
+            "DE\\d{9}",
+            // dates of birth
+            ".*birth(day|date)?=.*",
+            // UUID based session ids
+            ".*JSESSIONID=.*", ".*sessionid=[0-9a-f-]{36}.*");
+
+    private static final List<String> VALUES = Arrays.asList("GET", "/api/v1/customers/42/orders", "/api/v1/login?user=john&password=secret", "SELECT id, name FROM customers WHERE id = ?", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/118.0.0.0 Safari/537.36", "john.doe@example.com", "200", "com.example.shop.OrderService", "https://shop.example.com/cart?item=1234&quantity=2", "10.0.12.34", "Bearer eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxMjM0In0.abc", "application/json", "true", "4111 1111 1111 1111", "order-service", "java.lang.IllegalStateException: Connection refused");
+
+    private Pattern[] dataPatterns;
+
+    private MultiPatternMatcher matcher;
+
+    private PatternObfuscatory obfuscatory;
+
+    private String[] values;
+
+    private int index;
+
+    @Setup
+    public void init() {
+        List<Pattern> compiledDataPatterns = new ArrayList<>();
+        List<PatternObfuscatory.PatternEntry> entries = new ArrayList<>();
+        for (String pattern : KEY_PATTERNS) {
+            entries.add(PatternObfuscatory.PatternEntry.builder()
+                    .pattern(Pattern.compile(pattern, Pattern.CASE_INSENSITIVE))
+                    .checkKey(true)
+                    .build());
+        }
+        for (String pattern : DATA_PATTERNS) {
+            Pattern compiled = Pattern.compile(pattern, Pattern.CASE_INSENSITIVE);
+            compiledDataPatterns.add(compiled);
+            entries.add(PatternObfuscatory.PatternEntry.builder().pattern(compiled).checkData(true).build());
+        }
+        dataPatterns = compiledDataPatterns.toArray(new Pattern[0]);
+        matcher = new MultiPatternMatcher(compiledDataPatterns);
+        obfuscatory = new PatternObfuscatory(entries);
+
+        // a power of two, so that the index can be wrapped with a mask
+        values = new String[64];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = VALUES.get(i % VALUES.size());
+        }
+    }
+
+    @Benchmark
+    public int sequential() {
+        String value = nextValue();
+        for (int i = 0; i < dataPatterns.length; i++) {
+            if (dataPatterns[i].matcher(value).matches()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int prefiltered() {
+        return matcher.firstMatch(nextValue());
+    }
+
+    /**
+     * Includes the key check and the value cache, the values are repeated as usual for span attributes.
+     */
+    @Benchmark
+    public void obfuscatory() {
+        obfuscatory.putSpanAttribute(Span.getInvalid(), "http.url", nextValue());
+    }
+
+    private String nextValue() {
+        index = (index + 1) & (values.length - 1);
+        return values[index];
+    }
+}
@@ -11,6 +11,7 @@ import rocks.inspectit.ocelot.bootstrap.IAgent;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.config.spring.SpringConfiguration;
 import rocks.inspectit.ocelot.core.logging.logback.LogbackInitializer;
+import rocks.inspectit.ocelot.core.selfmonitoring.StartupTimings;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -77,6 +78,7 @@ public class AgentImpl implements IAgent {
 
     @Override
     public void start(String cmdArgs, Instrumentation instrumentation) {
+        StartupTimings startupTimings = new StartupTimings();
         LOGGER.info("Starting inspectIT Ocelot Agent...");
         LOGGER.info("\tVersion: {}", getVersion());
         LOGGER.info("\tBuild Date: {}", getBuildDate());
@@ -88,6 +90,7 @@ public class AgentImpl implements IAgent {
 
         // once we have the environment, init the logging with the config
         LogbackInitializer.initLogging(environment.getCurrentConfig());
+        startupTimings.phaseCompleted(StartupTimings.ENVIRONMENT_PHASE);
 
         ctx.registerShutdownHook();
 
@@ -106,6 +109,7 @@ public class AgentImpl implements IAgent {
 
         // allows to use autowiring to acquire the Instrumentation instance
         ctx.addBeanFactoryPostProcessor(bf -> bf.registerSingleton("instrumentation", instrumentation));
+        ctx.addBeanFactoryPostProcessor(bf -> bf.registerSingleton("startupTimings", startupTimings));
 
         ctx.register(SpringConfiguration.class);
         ctx.refresh();
@@ -3,6 +3,7 @@ package rocks.inspectit.ocelot.core.command;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.command.AgentCommandSettings;
@@ -25,10 +26,15 @@ public class AgentCommandService extends DynamicallyActivatableService implement
     @Autowired
     private ScheduledExecutorService executor;
 
+    /**
+     * The command handling components are only created once agent commands are enabled.
+     */
     @Autowired
+    @Lazy
     private CommandHandler commandHandler;
 
     @Autowired
+    @Lazy
     private HttpCommandFetcher commandFetcher;
 
     /**
@@ -1,6 +1,7 @@
 package rocks.inspectit.ocelot.core.command;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.command.Command;
 import rocks.inspectit.ocelot.commons.models.command.CommandResponse;
@@ -12,6 +13,7 @@ import java.util.List;
  * This component redirects commands to the respective {@link CommandExecutor} instance.
  */
 @Component
+@Lazy
 public class CommandDelegator {
 
     /**
@@ -1,6 +1,7 @@
 package rocks.inspectit.ocelot.core.command.handler.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.command.Command;
 import rocks.inspectit.ocelot.commons.models.command.CommandResponse;
@@ -14,6 +15,7 @@ import java.lang.management.ManagementFactory;
  */
 @Slf4j
 @Component
+@Lazy
 public class EnvironmentCommandExecutor implements CommandExecutor {
 
     /**
@@ -2,6 +2,7 @@ package rocks.inspectit.ocelot.core.command.handler.impl;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.command.Command;
 import rocks.inspectit.ocelot.commons.models.command.CommandResponse;
@@ -18,6 +19,7 @@ import java.util.Map;
  */
 @Slf4j
 @Component
+@Lazy
 public class InstrumentationFeedbackCommandExecutor implements CommandExecutor {
 
     @Autowired
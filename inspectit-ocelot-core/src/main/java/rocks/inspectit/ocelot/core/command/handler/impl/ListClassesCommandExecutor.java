@@ -2,6 +2,7 @@ package rocks.inspectit.ocelot.core.command.handler.impl;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.command.Command;
 import rocks.inspectit.ocelot.commons.models.command.impl.ListClassesCommand;
@@ -21,6 +22,7 @@ import java.util.Set;
  */
 @Slf4j
 @Component
+@Lazy
 public class ListClassesCommandExecutor implements CommandExecutor {
 
     private static final int ACCESS_MODIFIERS = Modifier.PUBLIC | Modifier.PROTECTED | Modifier.PRIVATE;
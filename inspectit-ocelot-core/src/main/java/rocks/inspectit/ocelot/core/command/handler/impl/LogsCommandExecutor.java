@@ -1,23 +1,30 @@
 package rocks.inspectit.ocelot.core.command.handler.impl;
 
 import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.PatternLayout;
-import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.command.Command;
 import rocks.inspectit.ocelot.commons.models.command.CommandResponse;
 import rocks.inspectit.ocelot.commons.models.command.impl.LogsCommand;
 import rocks.inspectit.ocelot.core.command.handler.CommandExecutor;
 import rocks.inspectit.ocelot.core.selfmonitoring.logs.LogPreloader;
+import rocks.inspectit.ocelot.core.selfmonitoring.logs.PreloadedLogRecord;
+import rocks.inspectit.ocelot.core.selfmonitoring.logs.PreloadedLogs;
+
+import java.util.Collections;
 
 /**
  * Executor for executing {@link LogsCommand}s.
  */
 @Slf4j
 @Component
+@Lazy
 public class LogsCommandExecutor implements CommandExecutor {
 
     @Autowired
@@ -41,7 +48,8 @@ public class LogsCommandExecutor implements CommandExecutor {
      *
      * @param command The command to be executed.
      *
-     * @return An instance of {@link LogsCommand} with alive set to true and the id of the given command.
+     * @return An instance of {@link LogsCommand.Response} containing the logs preloaded since the sequence number of the
+     * given command as well as the sequence number to request the subsequent logs with.
      */
     @Override
     public CommandResponse execute(Command command) {
@@ -56,18 +64,40 @@ public class LogsCommandExecutor implements CommandExecutor {
         PatternLayout layout = new PatternLayout();
         layout.setPattern(logsCommand.getLogFormat());
         Logger rootLogger = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
-        layout.setContext(rootLogger.getLoggerContext());
+        LoggerContext loggerContext = rootLogger.getLoggerContext();
+        layout.setContext(loggerContext);
         layout.start();
 
         LogsCommand.Response response = new LogsCommand.Response();
         response.setCommandId(command.getCommandId());
+        PreloadedLogs preloadedLogs = logPreloader.getPreloadedLogs(logsCommand.getFromSequence());
         StringBuilder logs = new StringBuilder();
-        for (ILoggingEvent event : logPreloader.getPreloadedLogs()) {
-            logs.append(layout.doLayout(event));
+        for (PreloadedLogRecord record : preloadedLogs.getRecords()) {
+            logs.append(layout.doLayout(toLoggingEvent(record, loggerContext)));
+            // the stack trace has already been formatted when preloading the record
+            if (record.getThrowable() != null) {
+                logs.append(record.getThrowable());
+            }
         }
 
         response.setLogs(logs.toString());
+        response.setNextSequence(preloadedLogs.getNextSequence());
         layout.stop();
         return response;
     }
+
+    /**
+     * Creates a logging event from the given record, which can be formatted by a layout.
+     */
+    private LoggingEvent toLoggingEvent(PreloadedLogRecord record, LoggerContext loggerContext) {
+        LoggingEvent event = new LoggingEvent();
+        event.setTimeStamp(record.getTimestamp());
+        event.setLevel(record.getLevel());
+        event.setLoggerName(record.getLoggerName());
+        event.setThreadName(record.getThreadName());
+        event.setMessage(record.getMessage());
+        event.setLoggerContextRemoteView(loggerContext.getLoggerContextRemoteView());
+        event.setMDCPropertyMap(Collections.emptyMap());
+        return event;
+    }
 }
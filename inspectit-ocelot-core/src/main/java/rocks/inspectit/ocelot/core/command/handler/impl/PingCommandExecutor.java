@@ -1,6 +1,7 @@
 package rocks.inspectit.ocelot.core.command.handler.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.command.Command;
 import rocks.inspectit.ocelot.commons.models.command.impl.PingCommand;
@@ -12,6 +13,7 @@ import rocks.inspectit.ocelot.core.command.handler.CommandExecutor;
  */
 @Slf4j
 @Component
+@Lazy
 public class PingCommandExecutor implements CommandExecutor {
 
     /**
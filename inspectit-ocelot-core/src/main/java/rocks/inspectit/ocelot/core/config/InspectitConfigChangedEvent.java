@@ -1,9 +1,19 @@
 package rocks.inspectit.ocelot.core.config;
 
 import lombok.Getter;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.context.ApplicationEvent;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Published by the {@link InspectitEnvironment} when the configuration has changed.
+ * <p>
+ * Listeners which only depend on a part of the configuration can use {@link #isAffected(String)} to skip changes
+ * of other parts, e.g. via {@code @EventListener(condition = "#root.event.isAffected('inspectit.privacy')")}.
+ */
 public class InspectitConfigChangedEvent extends ApplicationEvent {
 
     /**
@@ -18,10 +28,36 @@ public class InspectitConfigChangedEvent extends ApplicationEvent {
     @Getter
     private final InspectitConfig newConfig;
 
+    /**
+     * The names of the properties whose value changed, null if they are unknown.
+     */
+    private final Set<ConfigurationPropertyName> changedProperties;
 
     InspectitConfigChangedEvent(Object source, InspectitConfig oldConfig, InspectitConfig newConfig) {
+        this(source, oldConfig, newConfig, null);
+    }
+
+    InspectitConfigChangedEvent(Object source, InspectitConfig oldConfig, InspectitConfig newConfig, Set<ConfigurationPropertyName> changedProperties) {
         super(source);
         this.oldConfig = oldConfig;
         this.newConfig = newConfig;
+        this.changedProperties = changedProperties == null ? null : Collections.unmodifiableSet(changedProperties);
+    }
+
+    /**
+     * Checks whether the configuration below the given path may have changed.
+     * If the changed properties are unknown, e.g. because the configuration has been loaded from a fallback,
+     * all paths are considered as affected.
+     *
+     * @param path the path of the configuration, e.g. "inspectit.metrics.enabled", in kebab- or camelCase
+     *
+     * @return true, if any property below or at the given path changed
+     */
+    public boolean isAffected(String path) {
+        if (changedProperties == null) {
+            return true;
+        }
+        ConfigurationPropertyName prefix = ConfigurationPropertyName.adapt(path, '.');
+        return changedProperties.stream().anyMatch(name -> prefix.equals(name) || prefix.isAncestorOf(name));
     }
 }
@@ -3,19 +3,26 @@ package rocks.inspectit.ocelot.core.config;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.config.BeanExpressionResolver;
+import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.context.properties.bind.PropertySourcesPlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
 import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.expression.StandardBeanExpressionResolver;
 import org.springframework.context.support.LiveBeansView;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.env.*;
 import org.springframework.core.io.Resource;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import rocks.inspectit.ocelot.config.conversion.InspectitConfigConversionService;
 import rocks.inspectit.ocelot.config.loaders.ConfigFileLoader;
+import rocks.inspectit.ocelot.config.loaders.DefaultConfigSnapshot;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.config.ConfigSettings;
 import rocks.inspectit.ocelot.config.utils.CaseUtils;
@@ -23,11 +30,13 @@ import rocks.inspectit.ocelot.core.config.propertysources.EnvironmentInformation
 import rocks.inspectit.ocelot.core.config.propertysources.file.DirectoryPropertySource;
 import rocks.inspectit.ocelot.core.config.propertysources.http.HttpPropertySourceState;
 import rocks.inspectit.ocelot.core.config.util.InvalidPropertiesException;
+import rocks.inspectit.ocelot.core.config.util.PropertiesSnapshot;
 import rocks.inspectit.ocelot.core.config.util.PropertyUtils;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
+import java.beans.PropertyDescriptor;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -35,10 +44,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
-import java.util.Properties;
+import java.util.*;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -48,6 +54,9 @@ import java.util.stream.Collectors;
  * This Environment extends the {@link StandardEnvironment} by additional property sources such as {@link DirectoryPropertySource}.
  * In addition this class offers a thread-safe way of reading and altering the configuration through {@link #readPropertySources(Consumer)} and {@link #updatePropertySources(Consumer)}.
  * Configuration changes are published by firing {@link InspectitConfigChangedEvent}s.
+ * <p>
+ * On updates, only the top-level sections of the {@link InspectitConfig} containing changed properties are loaded and
+ * validated again, all other sections are taken over from the previous configuration.
  */
 @Slf4j
 public class InspectitEnvironment extends StandardEnvironment {
@@ -62,6 +71,12 @@ public class InspectitEnvironment extends StandardEnvironment {
      */
     private static final String INSPECTIT_CONFIG_SETTINGS_PREFIX = "inspectit.config";
 
+    /**
+     * The sections of the {@link InspectitConfig} which are referenced by its additional validations.
+     * If any of them changes, the whole configuration has to be validated.
+     */
+    private static final Set<String> CROSS_VALIDATED_SECTIONS = new HashSet<>(Arrays.asList("instrumentation", "metrics"));
+
     /**
      * The name to use for the property source holding the {@link rocks.inspectit.ocelot.config.model.env.EnvironmentSettings},
      * Used for the {@link EnvironmentInformationPropertySource}.
@@ -122,6 +137,12 @@ public class InspectitEnvironment extends StandardEnvironment {
      */
     private Validator validator;
 
+    /**
+     * The values of the properties from which {@link #currentConfig} has been loaded.
+     * Null if they are unknown, in this case the next update loads the whole configuration.
+     */
+    private PropertiesSnapshot currentProperties;
+
     /**
      * Creates and applies an InspectitEnvironment onto the given context.
      *
@@ -149,10 +170,21 @@ public class InspectitEnvironment extends StandardEnvironment {
         propertiesUpdater.accept(getPropertySources());
         InspectitConfig oldConfig = currentConfig;
 
-        Optional<InspectitConfig> newConfig = loadAndValidateFromProperties(INSPECTIT_ROOT_PREFIX, InspectitConfig.class);
-        newConfig.ifPresent(c -> currentConfig = c);
+        PropertiesSnapshot newProperties = capturePropertiesSnapshot();
+        Set<ConfigurationPropertyName> changedProperties = null;
+        Optional<InspectitConfig> newConfig;
+        if (currentProperties != null && newProperties != null) {
+            changedProperties = currentProperties.getChangedProperties(newProperties);
+            newConfig = loadAndValidateChanges(oldConfig, changedProperties);
+        } else {
+            newConfig = loadAndValidateFromProperties(INSPECTIT_ROOT_PREFIX, InspectitConfig.class);
+        }
+        if (newConfig.isPresent()) {
+            currentConfig = newConfig.get();
+            currentProperties = newProperties;
+        }
         if (!currentConfig.equals(oldConfig)) {
-            val event = new InspectitConfigChangedEvent(this, oldConfig, currentConfig);
+            val event = new InspectitConfigChangedEvent(this, oldConfig, currentConfig, changedProperties);
             eventDrain.publishEvent(event);
         }
         eventDrain.publishEvent(new PropertySourcesChangedEvent(this));
@@ -178,7 +210,7 @@ public class InspectitEnvironment extends StandardEnvironment {
         loadCmdLineArgumentsPropertySource(cmdLineArgs, propsList);
         PropertySource defaultSettings;
         try {
-            defaultSettings = loadAgentResourceYaml(DEFAULT_CONFIG_PROPERTYSOURCE_NAME, ConfigFileLoader.getDefaultResources());
+            defaultSettings = loadDefaultConfiguration();
         } catch (IOException e) {
             throw new RuntimeException(e);
         } catch (InvalidPropertiesException e) {
@@ -195,6 +227,7 @@ public class InspectitEnvironment extends StandardEnvironment {
         Optional<InspectitConfig> initialConfig = loadAndValidateFromProperties(INSPECTIT_ROOT_PREFIX, InspectitConfig.class);
         if (initialConfig.isPresent()) {
             currentConfig = initialConfig.get();
+            currentProperties = capturePropertiesSnapshot();
         } else {
             log.error("Startup configuration is not valid! Using fallback configuration but listening for configuration updates...");
             PropertySource fallbackSettings;
@@ -262,16 +295,111 @@ public class InspectitEnvironment extends StandardEnvironment {
             return Optional.of(newConfig);
         } else {
             log.error("Error loading the configuration '{}'", prefix);
-            for (ConstraintViolation<T> vio : violations) {
-                String property = CaseUtils.camelCaseToKebabCase(vio.getPropertyPath().toString());
-                if (vio.getInvalidValue() instanceof CharSequence || vio.getInvalidValue() instanceof Number || vio.getInvalidValue() instanceof Duration) {
-                    log.error("{} (={}) => {}", property, vio.getInvalidValue(), vio.getMessage());
+            logViolations("", violations);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads and validates the top-level sections of the {@link InspectitConfig} containing any of the given properties.
+     * All other sections are taken over from the given configuration.
+     * <p>
+     * Sections which are referenced by the additional validations of {@link InspectitConfig} cause a validation
+     * of the whole configuration, all other sections are validated on their own.
+     *
+     * @param oldConfig         the configuration loaded from the previous properties
+     * @param changedProperties the properties which changed since the old configuration has been loaded
+     *
+     * @return the loaded configuration in case of success or an empty optional otherwise
+     */
+    private Optional<InspectitConfig> loadAndValidateChanges(InspectitConfig oldConfig, Set<ConfigurationPropertyName> changedProperties) {
+        Set<String> changedSections = changedProperties.stream()
+                .filter(name -> name.getNumberOfElements() > 1)
+                .map(name -> name.getElement(1, ConfigurationPropertyName.Form.UNIFORM))
+                .collect(Collectors.toSet());
+        if (changedSections.isEmpty()) {
+            return Optional.of(oldConfig);
+        }
+
+        InspectitConfig newConfig = new InspectitConfig();
+        BeanWrapper oldValues = PropertyAccessorFactory.forBeanPropertyAccess(oldConfig);
+        BeanWrapper defaultValues = PropertyAccessorFactory.forBeanPropertyAccess(new InspectitConfig());
+        BeanWrapper newValues = PropertyAccessorFactory.forBeanPropertyAccess(newConfig);
+        List<String> reloadedSections = new ArrayList<>();
+        try {
+            Binder binder = new Binder(ConfigurationPropertySources.get(this), new PropertySourcesPlaceholdersResolver(this), InspectitConfigConversionService
+                    .getInstance());
+            for (PropertyDescriptor section : newValues.getPropertyDescriptors()) {
+                if (section.getWriteMethod() == null) {
+                    continue;
+                }
+                String name = section.getName();
+                if (changedSections.contains(name.toLowerCase())) {
+                    String sectionPrefix = INSPECTIT_ROOT_PREFIX + "." + CaseUtils.camelCaseToKebabCase(name);
+                    Object defaultValue = defaultValues.getPropertyValue(name);
+                    Bindable<Object> bindable = Bindable.of(ResolvableType.forMethodReturnType(section.getReadMethod()))
+                            .withExistingValue(defaultValue);
+                    newValues.setPropertyValue(name, binder.bind(sectionPrefix, bindable).orElse(defaultValue));
+                    reloadedSections.add(name);
                 } else {
-                    log.error("{} => {}", property, vio.getMessage());
+                    newValues.setPropertyValue(name, oldValues.getPropertyValue(name));
                 }
             }
+        } catch (Exception e) {
+            log.error("Error loading the configuration '{}'", INSPECTIT_ROOT_PREFIX, e);
             return Optional.empty();
         }
+
+        Validator myValidator = getValidator();
+        boolean valid = true;
+        if (reloadedSections.stream().anyMatch(CROSS_VALIDATED_SECTIONS::contains)) {
+            val violations = myValidator.validate(newConfig);
+            if (!violations.isEmpty()) {
+                log.error("Error loading the configuration '{}'", INSPECTIT_ROOT_PREFIX);
+                logViolations("", violations);
+                valid = false;
+            }
+        } else {
+            for (String section : reloadedSections) {
+                Set<ConstraintViolation<?>> violations = new LinkedHashSet<>(myValidator.validateProperty(newConfig, section));
+                Object value = newValues.getPropertyValue(section);
+                if (value != null && !BeanUtils.isSimpleValueType(value.getClass())) {
+                    violations.addAll(myValidator.validate(value));
+                }
+                if (!violations.isEmpty()) {
+                    if (valid) {
+                        log.error("Error loading the configuration '{}'", INSPECTIT_ROOT_PREFIX);
+                    }
+                    logViolations(section + ".", violations);
+                    valid = false;
+                }
+            }
+        }
+        if (valid) {
+            log.debug("Reloaded configuration sections {}", reloadedSections);
+            return Optional.of(newConfig);
+        }
+        return Optional.empty();
+    }
+
+    private void logViolations(String pathPrefix, Set<? extends ConstraintViolation<?>> violations) {
+        for (ConstraintViolation<?> vio : violations) {
+            String path = vio.getRootBean() instanceof InspectitConfig ? "" : pathPrefix;
+            String property = CaseUtils.camelCaseToKebabCase(path + vio.getPropertyPath().toString());
+            if (vio.getInvalidValue() instanceof CharSequence || vio.getInvalidValue() instanceof Number || vio.getInvalidValue() instanceof Duration) {
+                log.error("{} (={}) => {}", property, vio.getInvalidValue(), vio.getMessage());
+            } else {
+                log.error("{} => {}", property, vio.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the current values of all inspectIT properties or null, if they cannot be determined
+     */
+    private PropertiesSnapshot capturePropertiesSnapshot() {
+        return PropertiesSnapshot.capture(getPropertySources(), new PropertySourcesPlaceholdersResolver(this), INSPECTIT_ROOT_PREFIX)
+                .orElse(null);
     }
 
     private Validator getValidator() {
@@ -296,6 +424,19 @@ public class InspectitEnvironment extends StandardEnvironment {
         return config.isPresent() ? config : lastConfig;
     }
 
+    /**
+     * Loads the default configuration from its precompiled snapshot. If no valid snapshot is present, the default
+     * configuration is parsed from the YAML files.
+     */
+    private static PropertiesPropertySource loadDefaultConfiguration() throws IOException, InvalidPropertiesException {
+        Optional<Properties> snapshot = DefaultConfigSnapshot.load();
+        if (snapshot.isPresent()) {
+            log.debug("Loaded default configuration from snapshot");
+            return new PropertiesPropertySource(DEFAULT_CONFIG_PROPERTYSOURCE_NAME, snapshot.get());
+        }
+        return loadAgentResourceYaml(DEFAULT_CONFIG_PROPERTYSOURCE_NAME, ConfigFileLoader.getDefaultResources());
+    }
+
     private static PropertiesPropertySource loadAgentResourceYaml(String propertySourceName, Resource[] resources) throws InvalidPropertiesException {
         Properties result = new Properties();
         for (val res : resources) {
@@ -36,6 +36,8 @@ public class PropertyNamesValidator {
         env.readPropertySources(propertySources -> {
             propertySources.stream()
                     .filter(ps -> ps instanceof EnumerablePropertySource)
+                    // the default configuration is shipped with the agent and verified by its tests
+                    .filter(ps -> !InspectitEnvironment.DEFAULT_CONFIG_PROPERTYSOURCE_NAME.equals(ps.getName()))
                     .map(ps -> (EnumerablePropertySource) ps)
                     .flatMap(ps -> Arrays.stream(ps.getPropertyNames()))
                     .filter(ps -> isInvalidPropertyName(ps))
@@ -48,7 +50,7 @@ public class PropertyNamesValidator {
      * apparently are meant to be found in the inspectit environment but are not. This applies for all properties
      * starting with "inspectit.". Further it is checked whether a given property exists in the model and ends
      * in a terminal-type. Terminal types are all enums, primitive types and their corresponding wrapper classes as well
-     * as Duration.class, Path.class, URL.class and FileSystemResource.class
+     * as Duration.class, DataSize.class, Path.class, URL.class and FileSystemResource.class
      *
      * @param propertyName the path which should be checked
      * @return True: the propertyName exists as path <br> False: the propertyName does not exist as path
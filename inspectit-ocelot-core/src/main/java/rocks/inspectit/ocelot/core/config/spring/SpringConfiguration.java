@@ -1,42 +1,83 @@
 package rocks.inspectit.ocelot.core.config.spring;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.scheduler.TaskGroupSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.service.scheduling.MonitoredScheduledExecutor;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 
 import javax.annotation.PreDestroy;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 @ComponentScan("rocks.inspectit")
 @Slf4j
 public class SpringConfiguration {
 
-    private ScheduledExecutorService activeExecutor = null;
+    private final List<MonitoredScheduledExecutor> activeExecutors = new ArrayList<>();
 
     @Bean(destroyMethod = "shutdown")
-    public ScheduledExecutorService getScheduledExecutorService(@Value("#{#inspectit.threadPoolSize}") int poolSize) {
-        AtomicInteger threadCount = new AtomicInteger();
-        activeExecutor = Executors.newScheduledThreadPool(poolSize, (runnable) -> {
-            Thread t = Executors.defaultThreadFactory().newThread(runnable);
-            t.setDaemon(true);
-            t.setName("inspectit-thread-" + threadCount.getAndIncrement());
-            return t;
-        });
-        return activeExecutor;
+    @Primary
+    @Qualifier(TaskGroups.DEFAULT)
+    public MonitoredScheduledExecutor getScheduledExecutorService(InspectitEnvironment env) {
+        return createExecutor(TaskGroups.DEFAULT, env.getCurrentConfig());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @Qualifier(TaskGroups.METRICS)
+    public MonitoredScheduledExecutor getMetricsScheduledExecutorService(InspectitEnvironment env) {
+        return createExecutor(TaskGroups.METRICS, env.getCurrentConfig());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @Qualifier(TaskGroups.EXPORT)
+    public MonitoredScheduledExecutor getExportScheduledExecutorService(InspectitEnvironment env) {
+        return createExecutor(TaskGroups.EXPORT, env.getCurrentConfig());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @Qualifier(TaskGroups.INSTRUMENTATION)
+    public MonitoredScheduledExecutor getInstrumentationScheduledExecutorService(InspectitEnvironment env) {
+        return createExecutor(TaskGroups.INSTRUMENTATION, env.getCurrentConfig());
+    }
+
+    /**
+     * The executor retransforming sub-batches of classes in parallel. It is sized by the
+     * {@link rocks.inspectit.ocelot.core.instrumentation.InstrumentationTriggerer} according to the configured parallelism.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @Qualifier(TaskGroups.RETRANSFORM)
+    public synchronized MonitoredScheduledExecutor getRetransformScheduledExecutorService() {
+        MonitoredScheduledExecutor executor = new MonitoredScheduledExecutor(TaskGroups.RETRANSFORM, 1, Thread.NORM_PRIORITY);
+        activeExecutors.add(executor);
+        return executor;
+    }
+
+    private synchronized MonitoredScheduledExecutor createExecutor(String group, InspectitConfig config) {
+        TaskGroupSettings settings = config.getScheduler().getGroups().get(group);
+        if (settings == null) {
+            settings = new TaskGroupSettings();
+            settings.setPoolSize(config.getThreadPoolSize());
+        }
+        MonitoredScheduledExecutor executor = new MonitoredScheduledExecutor(group, settings.getPoolSize(), settings.getPriority());
+        activeExecutors.add(executor);
+        return executor;
     }
 
     @PreDestroy
-    void destroy() {
-        if (activeExecutor != null) {
-            activeExecutor.shutdownNow();
+    synchronized void destroy() {
+        activeExecutors.forEach(MonitoredScheduledExecutor::shutdownNow);
+        for (MonitoredScheduledExecutor executor : activeExecutors) {
             try {
-                activeExecutor.awaitTermination(5000, TimeUnit.MILLISECONDS);
+                executor.awaitTermination(5000, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 log.error("Error waiting for executor shutdown", e);
             }
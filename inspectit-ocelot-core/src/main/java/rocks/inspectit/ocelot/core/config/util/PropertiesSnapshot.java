@@ -0,0 +1,73 @@
+package rocks.inspectit.ocelot.core.config.util;
+
+import org.springframework.boot.context.properties.bind.PlaceholdersResolver;
+import org.springframework.boot.context.properties.source.ConfigurationProperty;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.IterableConfigurationPropertySource;
+import org.springframework.core.env.PropertySources;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The effective values of all properties below a given prefix at a point in time.
+ * The values are taken from the property source with the highest priority and their placeholders are resolved,
+ * so that two snapshots differ exactly in the properties whose bound value may have changed.
+ */
+public class PropertiesSnapshot {
+
+    private final Map<ConfigurationPropertyName, Object> values;
+
+    private PropertiesSnapshot(Map<ConfigurationPropertyName, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * Captures the current values of all properties below the given prefix.
+     *
+     * @param propertySources the property sources, ordered by their priority
+     * @param resolver        the resolver for placeholders in the values
+     * @param prefix          the prefix of the properties to capture, e.g. "inspectit"
+     *
+     * @return the snapshot or an empty optional, if any of the property sources cannot be enumerated
+     */
+    public static Optional<PropertiesSnapshot> capture(PropertySources propertySources, PlaceholdersResolver resolver, String prefix) {
+        ConfigurationPropertyName root = ConfigurationPropertyName.of(prefix);
+        Map<ConfigurationPropertyName, Object> values = new HashMap<>();
+        for (ConfigurationPropertySource source : ConfigurationPropertySources.from(propertySources)) {
+            if (!(source instanceof IterableConfigurationPropertySource)) {
+                return Optional.empty();
+            }
+            ((IterableConfigurationPropertySource) source).filter(root::isAncestorOf).forEach(name -> {
+                if (!values.containsKey(name)) {
+                    ConfigurationProperty property = source.getConfigurationProperty(name);
+                    Object value = property == null ? null : resolver.resolvePlaceholders(property.getValue());
+                    values.put(name, value);
+                }
+            });
+        }
+        return Optional.of(new PropertiesSnapshot(values));
+    }
+
+    /**
+     * @param other the snapshot to compare with
+     *
+     * @return the names of all properties which were added, removed or have a different value in the other snapshot
+     */
+    public Set<ConfigurationPropertyName> getChangedProperties(PropertiesSnapshot other) {
+        Set<ConfigurationPropertyName> changed = new HashSet<>();
+        values.forEach((name, value) -> {
+            if (!other.values.containsKey(name) || !Objects.equals(value, other.values.get(name))) {
+                changed.add(name);
+            }
+        });
+        other.values.keySet().stream().filter(name -> !values.containsKey(name)).forEach(changed::add);
+        return changed;
+    }
+}
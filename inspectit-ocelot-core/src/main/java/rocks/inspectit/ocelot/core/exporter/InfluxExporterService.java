@@ -2,6 +2,7 @@ package rocks.inspectit.ocelot.core.exporter;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
@@ -9,6 +10,7 @@ import rocks.inspectit.ocelot.config.model.exporters.ExporterEnabledState;
 import rocks.inspectit.ocelot.config.model.exporters.metrics.InfluxExporterSettings;
 import rocks.inspectit.ocelot.core.metrics.percentiles.PercentileViewManager;
 import rocks.inspectit.ocelot.core.service.DynamicallyActivatableService;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 import rocks.inspectit.opencensus.influx.InfluxExporter;
 
 import java.util.concurrent.Future;
@@ -36,6 +38,7 @@ public class InfluxExporterService extends DynamicallyActivatableService {
     private static Logger LOGGER = Logger.getLogger(InfluxExporterService.class.getName());
 
     @Autowired
+    @Qualifier(TaskGroups.EXPORT)
     private ScheduledExecutorService executor;
 
     @Autowired
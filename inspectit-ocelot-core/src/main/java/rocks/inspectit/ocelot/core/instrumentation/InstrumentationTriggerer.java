@@ -4,11 +4,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import io.opencensus.common.Scope;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
@@ -23,8 +25,12 @@ import rocks.inspectit.ocelot.core.instrumentation.event.IClassDiscoveryListener
 import rocks.inspectit.ocelot.core.instrumentation.event.TransformerShutdownEvent;
 import rocks.inspectit.ocelot.core.instrumentation.hook.HookManager;
 import rocks.inspectit.ocelot.core.instrumentation.special.ClassLoaderDelegation;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringBatch;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringMeasure;
 import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
 import rocks.inspectit.ocelot.core.service.BatchJobExecutorService;
+import rocks.inspectit.ocelot.core.service.scheduling.MonitoredScheduledExecutor;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -32,7 +38,7 @@ import java.lang.instrument.Instrumentation;
 import java.lang.reflect.Field;
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.*;
 
 /**
  * This class is responsible for making sure that for every class the instrumentation and hooking
@@ -46,6 +52,17 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class InstrumentationTriggerer implements IClassDiscoveryListener {
 
+    private static final SelfMonitoringMeasure RETRANSFORMATION_DURATION = SelfMonitoringMeasure.duration("instrumentation-retransformation");
+
+    private static final SelfMonitoringMeasure ANALYSIS_DURATION = SelfMonitoringMeasure.duration("instrumentation-analysis");
+
+    /**
+     * Self monitoring duration of the class loader delegation, which is summed up for all classes of a batch.
+     */
+    private static final SelfMonitoringMeasure CLASSLOADER_DELEGATION_DURATION = SelfMonitoringMeasure.duration("classloader-delegation");
+
+    private static final SelfMonitoringMeasure QUEUE_SIZE = SelfMonitoringMeasure.of("instrumentation-queue-size");
+
     @Autowired
     private BatchJobExecutorService executor;
 
@@ -84,11 +101,27 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
 
     private BatchJobExecutorService.BatchJob<BatchSize> classInstrumentationJob;
 
+    /**
+     * The number of threads retransforming the classes of a batch in parallel.
+     * Package-private for testing.
+     */
+    volatile int retransformParallelism = 1;
+
+    /**
+     * Executes the sub-batches of a batch which are retransformed in parallel.
+     * Its threads are only started if a parallelism greater than one is configured.
+     * Package-private for testing.
+     */
+    @Autowired
+    @Qualifier(TaskGroups.RETRANSFORM)
+    MonitoredScheduledExecutor retransformExecutor;
+
     @PostConstruct
     private void init() {
         InternalSettings conf = env.getCurrentConfig().getInstrumentation().getInternal();
         val batchSizes = new BatchSize(conf.getClassConfigurationCheckBatchSize(), conf.getClassRetransformBatchSize());
         Duration delay = conf.getInterBatchDelay();
+        updateRetransformParallelism(conf.getClassRetransformParallelism());
 
         classInstrumentationJob = executor.startJob(this::checkClassesForConfigurationUpdates, batchSizes, delay, delay);
     }
@@ -99,6 +132,17 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
         classInstrumentationJob.cancel();
     }
 
+    /**
+     * Sets the number of threads retransforming a batch. As the calling thread retransforms one of the sub-batches
+     * itself, the {@link #retransformExecutor} is sized to one thread less.
+     *
+     * @param parallelism the configured parallelism
+     */
+    private void updateRetransformParallelism(int parallelism) {
+        retransformExecutor.setCorePoolSize(Math.max(1, parallelism - 1));
+        retransformParallelism = parallelism;
+    }
+
     @Override
     public void onNewClassesDiscovered(Set<Class<?>> newClasses) {
         for (Class<?> clazz : newClasses) {
@@ -126,6 +170,7 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
         val batchSizes = new BatchSize(newInternal.getClassConfigurationCheckBatchSize(), newInternal.getClassRetransformBatchSize());
         classInstrumentationJob.setBatchSizes(batchSizes);
         classInstrumentationJob.setInterBatchDelay(newInternal.getInterBatchDelay());
+        updateRetransformParallelism(newInternal.getClassRetransformParallelism());
     }
 
     @EventListener
@@ -147,49 +192,93 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
     void checkClassesForConfigurationUpdates(BatchSize batchSize) {
         List<Class<?>> classesToRetransform = new ArrayList<>(getBatchOfClassesToRetransform(batchSize));
 
-        try (Scope sm = selfMonitoring.withDurationSelfMonitoring("instrumentation-retransformation")) {
+        try (Scope sm = selfMonitoring.withDurationSelfMonitoring(RETRANSFORMATION_DURATION)) {
             Stopwatch watch = Stopwatch.createStarted();
             if (!classesToRetransform.isEmpty()) {
+                int parallelism = Math.min(retransformParallelism, classesToRetransform.size());
+                if (parallelism > 1) {
+                    retransformInParallel(classesToRetransform, parallelism);
+                } else {
+                    retransform(classesToRetransform);
+                }
+                log.debug("Retransformed {} classes in {} ms", classesToRetransform.size(), watch.elapsed(TimeUnit.MILLISECONDS));
+            }
+        }
+        recordPendingClassesQueueSize();
+    }
+
+    /**
+     * Splits the given classes into the given number of sub-batches and retransforms them concurrently.
+     * The bytecode of a class is generated by the thread triggering its retransformation, therefore the bytecode
+     * of the sub-batches is generated in parallel. The last sub-batch is retransformed by the calling thread.
+     *
+     * @param classes     the classes to retransform
+     * @param parallelism the number of sub-batches
+     */
+    private void retransformInParallel(List<Class<?>> classes, int parallelism) {
+        int subBatchSize = (classes.size() + parallelism - 1) / parallelism;
+        List<List<Class<?>>> subBatches = Lists.partition(classes, subBatchSize);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<Class<?>> subBatch : subBatches.subList(0, subBatches.size() - 1)) {
+            futures.add(retransformExecutor.submit(() -> retransform(new ArrayList<>(subBatch))));
+        }
+        retransform(new ArrayList<>(subBatches.get(subBatches.size() - 1)));
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Error retransforming batch of classes", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Retransforms the given classes at once. If this fails, the classes are retransformed one by one.
+     *
+     * @param classesToRetransform the classes to retransform, the list is modified by this method
+     */
+    private void retransform(List<Class<?>> classesToRetransform) {
+        try {
+            instrumentation.retransformClasses(classesToRetransform.toArray(new Class<?>[]{}));
+        } catch (Throwable e) {
+            log.warn("Error retransforming batch of classes, retrying classes one by one");
+            boolean singleBatch = classesToRetransform.size() == 1;
+
+            classesToRetransform.removeIf(clazz -> {
                 try {
-                    instrumentation.retransformClasses(classesToRetransform.toArray(new Class<?>[]{}));
-                    log.debug("Retransformed {} classes in {} ms", classesToRetransform.size(), watch.elapsed(TimeUnit.MILLISECONDS));
-                } catch (Throwable e) {
-                    log.warn("Error retransforming batch of classes, retrying classes one by one");
-                    boolean singleBatch = classesToRetransform.size() == 1;
-
-                    classesToRetransform.removeIf(clazz -> {
-                        try {
-                            // this will fail if dependency classes are missing
-                            Field[] fields = clazz.getDeclaredFields();
-                            return false;
-                        } catch (Throwable throwable) {
-                            if (throwable instanceof NoClassDefFoundError) {
-                                // this can happen, when classes are lazy loaded which dependencies are not existing.
-                                // see ticket https://github.com/inspectIT/inspectit-ocelot/issues/512
-                                log.warn("Class {} will not be instrumented because it cannot be loaded. This can happen if dependencies are not existing", clazz.getName());
-                                return true;
-                            } else {
-                                // we'll try the instrumentation once more
-                                return false;
-                            }
-                        }
-                    });
-
-                    if (singleBatch && classesToRetransform.size() == 1) {
-                        log.error("Error retransforming class '{}'", classesToRetransform.get(0).getName(), e);
-                    } else if (!classesToRetransform.isEmpty()) {
-                        for (Class<?> clazz : classesToRetransform) {
-                            try {
-                                instrumentation.retransformClasses(clazz);
-                            } catch (Throwable e2) {
-                                log.error("Error retransforming class '{}'", clazz.getName(), e2);
-                            }
-                        }
+                    // this will fail if dependency classes are missing
+                    Field[] fields = clazz.getDeclaredFields();
+                    return false;
+                } catch (Throwable throwable) {
+                    if (throwable instanceof NoClassDefFoundError) {
+                        // this can happen, when classes are lazy loaded which dependencies are not existing.
+                        // see ticket https://github.com/inspectIT/inspectit-ocelot/issues/512
+                        log.warn("Class {} will not be instrumented because it cannot be loaded. This can happen if dependencies are not existing", clazz.getName());
+                        return true;
+                    } else {
+                        // we'll try the instrumentation once more
+                        return false;
+                    }
+                }
+            });
+
+            if (singleBatch && classesToRetransform.size() == 1) {
+                log.error("Error retransforming class '{}'", classesToRetransform.get(0).getName(), e);
+            } else if (!classesToRetransform.isEmpty()) {
+                for (Class<?> clazz : classesToRetransform) {
+                    try {
+                        instrumentation.retransformClasses(clazz);
+                    } catch (Throwable e2) {
+                        log.error("Error retransforming class '{}'", clazz.getName(), e2);
                     }
                 }
             }
         }
-        recordPendingClassesQueueSize();
     }
 
     /**
@@ -203,7 +292,7 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
      */
     @VisibleForTesting
     Set<Class<?>> getBatchOfClassesToRetransform(BatchSize batchSize) {
-        try (val sm = selfMonitoring.withDurationSelfMonitoring("instrumentation-analysis")) {
+        try (val sm = selfMonitoring.withDurationSelfMonitoring(ANALYSIS_DURATION); val delegationDuration = selfMonitoring.startBatch(CLASSLOADER_DELEGATION_DURATION)) {
             Set<Class<?>> classesToRetransform = new HashSet<>();
             val watch = Stopwatch.createStarted();
             try {
@@ -217,7 +306,7 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
                     queueIterator.remove();
                     checkedClassesCount++;
 
-                    updateClass(clazz, classesToRetransform);
+                    updateClass(clazz, classesToRetransform, delegationDuration);
 
                     if (checkedClassesCount >= batchSize.maxClassesToCheck || classesToRetransform.size() >= batchSize.maxClassesToRetransform) {
                         break;
@@ -246,10 +335,11 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
      *
      * @param clazz                the class whose instrumentation should be checked
      * @param classesToRetransform if the class does require a change of the bytecode, it will be added to this set.
+     * @param delegationDuration   the batch summing up the durations of the class loader delegation
      */
-    private void updateClass(Class<?> clazz, Set<Class<?>> classesToRetransform) {
+    private void updateClass(Class<?> clazz, Set<Class<?>> classesToRetransform, SelfMonitoringBatch delegationDuration) {
         if (instrumentationManager.doesClassRequireRetransformation(clazz)) {
-            applyClassLoaderDelegation(clazz, classesToRetransform);
+            applyClassLoaderDelegation(clazz, classesToRetransform, delegationDuration);
             classesToRetransform.add(clazz);
         }
         try {
@@ -264,8 +354,8 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
         }
     }
 
-    private void applyClassLoaderDelegation(Class<?> clazz, Set<Class<?>> classesToRetransform) {
-        try (val sm = selfMonitoring.withDurationSelfMonitoring("classloader-delegation")) {
+    private void applyClassLoaderDelegation(Class<?> clazz, Set<Class<?>> classesToRetransform, SelfMonitoringBatch delegationDuration) {
+        try (Scope sm = delegationDuration.time()) {
             LinkedHashSet<Class<?>> classLoadersToRetransform = classLoaderDelegation.getClassLoaderClassesRequiringRetransformation(clazz.getClassLoader(), configResolver.getCurrentConfig());
             //the order is important here!
             for (Class<?> classLoaderToRetransform : classLoadersToRetransform) {
@@ -284,7 +374,7 @@ public class InstrumentationTriggerer implements IClassDiscoveryListener {
 
     @EventListener(classes = {InspectitConfigChangedEvent.class}, condition = "!#root.event.oldConfig.selfMonitoring.enabled")
     private void recordPendingClassesQueueSize() {
-        selfMonitoring.recordMeasurement("instrumentation-queue-size", pendingClasses.size());
+        selfMonitoring.recordMeasurement(QUEUE_SIZE, pendingClasses.size());
     }
 
     /**
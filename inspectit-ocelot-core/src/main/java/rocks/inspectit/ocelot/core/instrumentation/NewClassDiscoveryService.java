@@ -5,11 +5,13 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.instrumentation.event.IClassDefinitionListener;
 import rocks.inspectit.ocelot.core.instrumentation.event.IClassDiscoveryListener;
 import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -32,6 +34,7 @@ public class NewClassDiscoveryService implements IClassDefinitionListener {
     private Instrumentation instrumentation;
 
     @Autowired
+    @Qualifier(TaskGroups.INSTRUMENTATION)
     private ScheduledExecutorService exec;
 
     @Autowired
@@ -1,11 +1,16 @@
 package rocks.inspectit.ocelot.core.instrumentation;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.pool.TypePool;
 import rocks.inspectit.ocelot.core.AgentImpl;
 
+import java.util.concurrent.ExecutionException;
+
 /**
  * Represents a combination of {@link TypeDescription}, {@link ClassLoader} and a {@link  Class} represented by the {@link TypeDescription}.
  * The purpose if this triumvirate is to have a one  type object which works for async as well as sync instrumentation.
@@ -14,6 +19,18 @@ import rocks.inspectit.ocelot.core.AgentImpl;
 @EqualsAndHashCode
 public class TypeDescriptionWithClassLoader {
 
+    /**
+     * The {@link TypePool}s shared by all type resolutions of a class loader, so that the class files of commonly
+     * referenced types like super classes and interfaces are only parsed once. The pools only keep soft references to
+     * the resolved types and weak references to their class loader, so they are discarded together with it.
+     */
+    private static final Cache<ClassLoader, TypePool> TYPE_POOLS = CacheBuilder.newBuilder().weakKeys().build();
+
+    /**
+     * The {@link TypePool} used for the bootstrap class loader, which can not be used as key of {@link #TYPE_POOLS}.
+     */
+    private static final TypePool BOOTSTRAP_TYPE_POOL = createTypePool(null);
+
     @Getter
     private final TypeDescription type;
 
@@ -62,8 +79,33 @@ public class TypeDescriptionWithClassLoader {
             return new TypeDescriptionWithClassLoader(AgentImpl.AGENT_CLASS_LOADER_TYPE_POOL.describe(className)
                     .resolve(), loader, null);
         }
-        return new TypeDescriptionWithClassLoader(TypePool.Default.of(loader)
-                .describe(className)
-                .resolve(), loader, null);
+        return new TypeDescriptionWithClassLoader(getTypePool(loader).describe(className).resolve(), loader, null);
+    }
+
+    /**
+     * Returns the shared {@link TypePool} of the given class loader.
+     *
+     * @param loader the class loader, null for the bootstrap class loader
+     *
+     * @return the {@link TypePool} resolving types via the class files of the given loader
+     */
+    static TypePool getTypePool(ClassLoader loader) {
+        if (loader == null) {
+            return BOOTSTRAP_TYPE_POOL;
+        }
+        try {
+            return TYPE_POOLS.get(loader, () -> createTypePool(loader));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not create type pool", e.getCause());
+        }
+    }
+
+    /**
+     * Creates a {@link TypePool} for the given class loader. The pool only references the class loader weakly,
+     * otherwise the pool cached in {@link #TYPE_POOLS} would prevent its own key from being collected.
+     */
+    private static TypePool createTypePool(ClassLoader loader) {
+        ClassFileLocator locator = loader == null ? ClassFileLocator.ForClassLoader.ofBootLoader() : ClassFileLocator.ForClassLoader.WeaklyReferenced.of(loader);
+        return new TypePool.Default(new TypePool.CacheProvider.Simple.UsingSoftReference(), locator, TypePool.Default.ReaderMode.FAST);
     }
 }
@@ -0,0 +1,146 @@
+package rocks.inspectit.ocelot.core.instrumentation.actions.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.core.config.InspectitConfigChangedEvent;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.context.ObjectAttachmentsImpl;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stores the results of actions which are called with "cache-by", see
+ * {@link rocks.inspectit.ocelot.config.model.instrumentation.actions.ActionCallSettings#getCacheBy()}.
+ * The results are attached to the object used as cache key via a bounded {@link ObjectAttachmentsImpl}, meaning that
+ * the objects are held weakly and the least recently used objects are evicted if the cache is full.
+ * <p>
+ * The cached results are discarded whenever the definitions of the actions or the size of the cache change.
+ */
+@Component
+public class ActionResultCache {
+
+    /**
+     * Returned by {@link #get(Object, String, Object[], Statistics)} if no result has been cached.
+     */
+    public static final Object MISS = new Object();
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    private volatile ObjectAttachmentsImpl results;
+
+    /**
+     * The number of cache hits and misses per action name.
+     */
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        results = new ObjectAttachmentsImpl(env.getCurrentConfig().getInstrumentation().getInternal().getActionCacheSize());
+    }
+
+    @EventListener
+    void configChanged(InspectitConfigChangedEvent event) {
+        InspectitConfig oldConfig = event.getOldConfig();
+        InspectitConfig newConfig = event.getNewConfig();
+        long oldSize = oldConfig.getInstrumentation().getInternal().getActionCacheSize();
+        long newSize = newConfig.getInstrumentation().getInternal().getActionCacheSize();
+        if (oldSize != newSize || !Objects.equals(oldConfig.getInstrumentation()
+                .getActions(), newConfig.getInstrumentation().getActions())) {
+            results = new ObjectAttachmentsImpl(newSize);
+        }
+    }
+
+    /**
+     * Returns the cached result of the given action call for the given key.
+     * The result is only returned if it has been computed for the same input values.
+     *
+     * @param key        the object whose identity is used as cache key
+     * @param callName   the identifier of the action call, see {@link #put(Object, String, Object[], Object)}
+     * @param inputs     the values of all other inputs of the action call
+     * @param statistics the statistics of the action as returned by {@link #getStatistics(String)}
+     *
+     * @return the cached result, which might be null, or {@link #MISS} if no result has been cached yet
+     */
+    public Object get(Object key, String callName, Object[] inputs, Statistics statistics) {
+        Entry entry = (Entry) results.getAttachment(key, callName);
+        if (entry == null || !Arrays.equals(entry.inputs, inputs)) {
+            statistics.misses.increment();
+            return MISS;
+        }
+        statistics.hits.increment();
+        return entry.result;
+    }
+
+    /**
+     * Stores the result of the given action call for the given key, replacing the result of previous input values.
+     *
+     * @param key      the object whose identity is used as cache key
+     * @param callName the identifier of the action call, which has to distinguish the actions, data keys and constant
+     *                 inputs of all calls using this cache
+     * @param inputs   the values of all other inputs of the action call
+     * @param result   the result of the action, may be null
+     */
+    public void put(Object key, String callName, Object[] inputs, Object result) {
+        results.attach(key, callName, new Entry(inputs, result));
+    }
+
+    /**
+     * Returns the statistics of the given action, which are created if they do not exist yet.
+     *
+     * @param actionName the name of the action
+     *
+     * @return the statistics of the action
+     */
+    public Statistics getStatistics(String actionName) {
+        return statistics.computeIfAbsent(actionName, name -> new Statistics());
+    }
+
+    /**
+     * @return the statistics of all actions whose results are cached
+     */
+    public Map<String, Statistics> getAllStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * A cached result together with the input values it has been computed for.
+     */
+    private static class Entry {
+
+        private final Object[] inputs;
+
+        private final Object result;
+
+        private Entry(Object[] inputs, Object result) {
+            this.inputs = inputs;
+            this.result = result;
+        }
+    }
+
+    /**
+     * The number of cache hits and misses of an action.
+     */
+    public static class Statistics {
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic;
+
+import rocks.inspectit.ocelot.core.instrumentation.config.model.GenericActionConfig;
+import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction.ExecutionContext;
+
+import java.util.*;
+
+/**
+ * Library of built-in implementations for frequently executed standard actions, e.g. 'a_timing_nanos' or 'a_assign_true'.
+ * These are used instead of the injected generic actions, which require the inputs to be passed in an argument array.
+ * <p>
+ * An intrinsic implementation is only used if the configured action still has the same inputs and the same body as
+ * the default definition, so actions which have been redefined by the user are still executed as generic actions.
+ * <p>
+ * The timing actions read and write data with a primitive type (see
+ * {@link rocks.inspectit.ocelot.config.model.instrumentation.data.DataType}) without boxing it.
+ */
+public class IntrinsicActions {
+
+    private static final Map<String, Intrinsic> INTRINSICS = new HashMap<>();
+
+    static {
+        register("a_timing_nanos", "return new Long(System.nanoTime());", Collections.emptyList(), (name, dataKey, inputs, inputKeys) -> new Nanos(name, dataKey));
+        register("a_timing_elapsedMillis", "return new Double( (System.nanoTime() - since_nanos) * 1E-6);", Collections.singletonList("since_nanos"), (name, dataKey, inputs, inputKeys) -> new ElapsedMillis(name, dataKey, inputs[0], inputKeys[0]));
+        register("a_assign_value", "return value;", Collections.singletonList("value"), (name, dataKey, inputs, inputKeys) -> new AssignValue(name, dataKey, inputs[0], inputKeys[0]));
+        register("a_assign_null", "return null;", Collections.emptyList(), (name, dataKey, inputs, inputKeys) -> new AssignConstant(name, dataKey, null));
+        register("a_assign_true", "return Boolean.TRUE;", Collections.emptyList(), (name, dataKey, inputs, inputKeys) -> new AssignConstant(name, dataKey, Boolean.TRUE));
+        register("a_assign_false", "return Boolean.FALSE;", Collections.emptyList(), (name, dataKey, inputs, inputKeys) -> new AssignConstant(name, dataKey, Boolean.FALSE));
+        register("a_logic_isNull", "return Boolean.valueOf(value == null);", Collections.singletonList("value"), (name, dataKey, inputs, inputKeys) -> new IsNull(name, dataKey, inputs[0], true));
+        register("a_logic_isNotNull", "return Boolean.valueOf(value != null);", Collections.singletonList("value"), (name, dataKey, inputs, inputKeys) -> new IsNull(name, dataKey, inputs[0], false));
+        register("a_logic_and", "return Boolean.valueOf((a != null && a.booleanValue()) && (b != null && b.booleanValue()));", Arrays.asList("a", "b"), (name, dataKey, inputs, inputKeys) -> new And(name, dataKey, inputs[0], inputs[1]));
+        register("a_logic_or", "return Boolean.valueOf((a != null && a.booleanValue()) || (b != null && b.booleanValue()));", Arrays.asList("a", "b"), (name, dataKey, inputs, inputKeys) -> new Or(name, dataKey, inputs[0], inputs[1]));
+        register("a_logic_isTrueOrNotNull", "if (value instanceof Boolean) { return (Boolean) value; } if (value instanceof String) { return Boolean.valueOf(Boolean.parseBoolean((String) value)); } return Boolean.valueOf(value != null);", Collections
+                .singletonList("value"), (name, dataKey, inputs, inputKeys) -> new IsTrueOrNotNull(name, dataKey, inputs[0]));
+        register("a_string_concat", "return new StringBuilder().append(a).append(b).toString();;", Arrays.asList("a", "b"), (name, dataKey, inputs, inputKeys) -> new Concat(name, dataKey, inputs));
+        register("a_string_concat_3", "return new StringBuilder().append(a).append(b).append(c).toString();;", Arrays.asList("a", "b", "c"), (name, dataKey, inputs, inputKeys) -> new Concat(name, dataKey, inputs));
+    }
+
+    private IntrinsicActions() {
+    }
+
+    private static void register(String name, String valueBody, List<String> inputs, IntrinsicFactory factory) {
+        INTRINSICS.put(name, new Intrinsic(normalize(valueBody), new TreeSet<>(inputs), factory));
+    }
+
+    /**
+     * Creates the intrinsic implementation for the given action, if one exists.
+     *
+     * @param actionConfig        the configuration of the action
+     * @param dataKey             the data key under which the result of the action will be stored
+     * @param constantAssignments a map mapping input variable names to their constant values
+     * @param dynamicAssignments  a map mapping input variables to the accessor used to derive their value
+     * @param dataInputs          a map mapping input variables to the data keys they are read from
+     *
+     * @return the intrinsic action or an empty optional if the action has no intrinsic implementation
+     */
+    public static Optional<IHookAction> create(GenericActionConfig actionConfig, String dataKey, Map<String, Object> constantAssignments, Map<String, VariableAccessor> dynamicAssignments, Map<String, String> dataInputs) {
+        Intrinsic intrinsic = INTRINSICS.get(actionConfig.getName());
+        if (intrinsic == null || actionConfig.isVoid() || !intrinsic.matches(actionConfig)) {
+            return Optional.empty();
+        }
+        VariableAccessor[] inputs = new VariableAccessor[intrinsic.inputs.size()];
+        String[] inputKeys = new String[intrinsic.inputs.size()];
+        int index = 0;
+        for (String input : intrinsic.inputs) {
+            String inputKey = dataInputs.get(input);
+            if (inputKey != null && inputKey.charAt(0) != '_') {
+                inputKeys[index] = inputKey;
+            }
+            VariableAccessor accessor = dynamicAssignments.get(input);
+            if (accessor == null) {
+                Object constant = constantAssignments.get(input);
+                accessor = context -> constant;
+            }
+            inputs[index++] = accessor;
+        }
+        return Optional.of(intrinsic.factory.create(actionConfig.getName(), dataKey, inputs, inputKeys));
+    }
+
+    /**
+     * Removes all whitespace, so that action bodies only differing in their formatting are considered equal.
+     */
+    private static String normalize(String valueBody) {
+        return valueBody == null ? "" : valueBody.replaceAll("\\s+", "");
+    }
+
+    private static class Intrinsic {
+
+        private final String valueBody;
+
+        /**
+         * The names of the inputs in the order they are passed to the {@link #factory}.
+         */
+        private final SortedSet<String> inputs;
+
+        private final IntrinsicFactory factory;
+
+        private Intrinsic(String valueBody, SortedSet<String> inputs, IntrinsicFactory factory) {
+            this.valueBody = valueBody;
+            this.inputs = inputs;
+            this.factory = factory;
+        }
+
+        private boolean matches(GenericActionConfig actionConfig) {
+            return valueBody.equals(normalize(actionConfig.getValueBody())) && inputs.equals(actionConfig.getActionArgumentTypes()
+                    .keySet());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntrinsicFactory {
+
+        /**
+         * @param inputKeys for each input the data key it is read from or null, if it is not a data input
+         */
+        IntrinsicHookAction create(String name, String dataKey, VariableAccessor[] inputs, String[] inputKeys);
+    }
+
+    private static class Nanos extends IntrinsicHookAction {
+
+        private Nanos(String name, String dataKey) {
+            super(name, dataKey);
+        }
+
+        @Override
+        public void execute(ExecutionContext context) {
+            context.getInspectitContext().setLongData(getDataKey(), System.nanoTime());
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            return System.nanoTime();
+        }
+    }
+
+    private static class ElapsedMillis extends IntrinsicHookAction {
+
+        private final VariableAccessor sinceNanos;
+
+        /**
+         * The data key 'since_nanos' is read from, null if it is not read from the data.
+         */
+        private final String sinceNanosKey;
+
+        private ElapsedMillis(String name, String dataKey, VariableAccessor sinceNanos, String sinceNanosKey) {
+            super(name, dataKey);
+            this.sinceNanos = sinceNanos;
+            this.sinceNanosKey = sinceNanosKey;
+        }
+
+        @Override
+        public void execute(ExecutionContext context) {
+            if (sinceNanosKey == null) {
+                super.execute(context);
+            } else {
+                InspectitContextImpl inspectitContext = context.getInspectitContext();
+                long since = inspectitContext.getLongData(sinceNanosKey);
+                inspectitContext.setDoubleData(getDataKey(), (System.nanoTime() - since) * 1E-6);
+            }
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            long since = (Long) sinceNanos.get(context);
+            return (System.nanoTime() - since) * 1E-6;
+        }
+    }
+
+    private static class AssignValue extends IntrinsicHookAction {
+
+        private final VariableAccessor value;
+
+        /**
+         * The data key the value is read from, null if it is not read from the data.
+         */
+        private final String valueKey;
+
+        private AssignValue(String name, String dataKey, VariableAccessor value, String valueKey) {
+            super(name, dataKey);
+            this.value = value;
+            this.valueKey = valueKey;
+        }
+
+        @Override
+        public void execute(ExecutionContext context) {
+            if (valueKey == null || !context.getInspectitContext().copyPrimitiveData(valueKey, getDataKey())) {
+                super.execute(context);
+            }
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            return value.get(context);
+        }
+    }
+
+    private static class AssignConstant extends IntrinsicHookAction {
+
+        private final Object value;
+
+        private AssignConstant(String name, String dataKey, Object value) {
+            super(name, dataKey);
+            this.value = value;
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            return value;
+        }
+    }
+
+    private static class IsNull extends IntrinsicHookAction {
+
+        private final VariableAccessor value;
+
+        /**
+         * True for 'a_logic_isNull', false for 'a_logic_isNotNull'.
+         */
+        private final boolean expectNull;
+
+        private IsNull(String name, String dataKey, VariableAccessor value, boolean expectNull) {
+            super(name, dataKey);
+            this.value = value;
+            this.expectNull = expectNull;
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            return (value.get(context) == null) == expectNull ? Boolean.TRUE : Boolean.FALSE;
+        }
+    }
+
+    private static class And extends IntrinsicHookAction {
+
+        private final VariableAccessor a;
+
+        private final VariableAccessor b;
+
+        private And(String name, String dataKey, VariableAccessor a, VariableAccessor b) {
+            super(name, dataKey);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            return isTrue(a.get(context)) && isTrue(b.get(context)) ? Boolean.TRUE : Boolean.FALSE;
+        }
+    }
+
+    private static class Or extends IntrinsicHookAction {
+
+        private final VariableAccessor a;
+
+        private final VariableAccessor b;
+
+        private Or(String name, String dataKey, VariableAccessor a, VariableAccessor b) {
+            super(name, dataKey);
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            return isTrue(a.get(context)) || isTrue(b.get(context)) ? Boolean.TRUE : Boolean.FALSE;
+        }
+    }
+
+    private static class IsTrueOrNotNull extends IntrinsicHookAction {
+
+        private final VariableAccessor value;
+
+        private IsTrueOrNotNull(String name, String dataKey, VariableAccessor value) {
+            super(name, dataKey);
+            this.value = value;
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            Object input = value.get(context);
+            if (input instanceof Boolean) {
+                return input;
+            }
+            if (input instanceof String) {
+                return Boolean.valueOf(Boolean.parseBoolean((String) input));
+            }
+            return input != null ? Boolean.TRUE : Boolean.FALSE;
+        }
+    }
+
+    private static class Concat extends IntrinsicHookAction {
+
+        private final VariableAccessor[] parts;
+
+        private Concat(String name, String dataKey, VariableAccessor[] parts) {
+            super(name, dataKey);
+            this.parts = parts;
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            StringBuilder result = new StringBuilder();
+            for (VariableAccessor part : parts) {
+                result.append(part.get(context));
+            }
+            return result.toString();
+        }
+    }
+
+    /**
+     * Equivalent to the Boolean inputs of the logic actions, which are casted and treat null as false.
+     */
+    private static boolean isTrue(Object value) {
+        return value != null && (Boolean) value;
+    }
+}
@@ -0,0 +1,65 @@
+package rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic;
+
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+
+/**
+ * Base class for the built-in implementations of standard actions, see {@link IntrinsicActions}.
+ * In contrast to a {@link rocks.inspectit.ocelot.core.instrumentation.actions.bound.BoundGenericAction}, the value is
+ * computed directly from the {@link ExecutionContext} without passing the inputs through an argument array and without
+ * invoking an injected action class.
+ */
+public abstract class IntrinsicHookAction implements IHookAction {
+
+    private final String name;
+
+    /**
+     * The key to store the action result in the data context.
+     */
+    private final String dataKey;
+
+    protected IntrinsicHookAction(String name, String dataKey) {
+        this.name = name;
+        this.dataKey = dataKey;
+    }
+
+    @Override
+    public void execute(ExecutionContext context) {
+        executeImpl(context);
+    }
+
+    /**
+     * Computes the result of this action and stores it under the data key.
+     *
+     * @param context the context of the current execution
+     *
+     * @return the result of this action
+     */
+    public Object executeImpl(ExecutionContext context) {
+        Object result = compute(context);
+        context.getInspectitContext().setData(dataKey, result);
+        return result;
+    }
+
+    /**
+     * Computes the result of this action.
+     *
+     * @param context the context of the current execution
+     *
+     * @return the result to store under the data key
+     */
+    protected abstract Object compute(ExecutionContext context);
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public String getDataKey() {
+        return dataKey;
+    }
+
+    @Override
+    public String toString() {
+        return "Intrinsic action '" + name + "' for data key '" + dataKey + "'";
+    }
+}
@@ -0,0 +1,193 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A prefix tree containing all stack trace samples of a single {@link SampledTrace}.
+ * Consecutive samples of a thread usually share most of their frames, therefore each sample is only stored as a
+ * reference to the node representing its top-most frame. The frames leading to this node are shared with all other
+ * samples passing through the same call path.
+ * <p>
+ * In addition, the frames themselves are interned across all traces, so that a frame is only kept once in memory,
+ * no matter how many traces contain it.
+ * <p>
+ * This class is not thread-safe, it is guarded by the {@link SampledTrace} it belongs to.
+ */
+class CallTree {
+
+    /**
+     * Interner for the frames of all call trees. Frames which are not used by any tree anymore can be garbage collected.
+     */
+    private static final Interner<StackTraceElement> FRAMES = Interners.newWeakInterner();
+
+    /**
+     * Rough estimate of the memory in bytes retained by a single node, used for limiting the memory of a trace.
+     */
+    static final int NODE_SIZE_ESTIMATE = 48;
+
+    /**
+     * All nodes of this tree, the index in this list corresponds to the id of the node.
+     */
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * The root of the tree, which does not represent a frame but an empty stack trace.
+     */
+    private final Node root = new Node(0, null, null);
+
+    CallTree() {
+        nodes.add(root);
+    }
+
+    /**
+     * Adds the given stack trace to this tree, creating nodes for all frames which are not yet present.
+     *
+     * @param stackTrace the stack trace to add
+     *
+     * @return the id of the node representing the top-most frame of the stack trace
+     */
+    int add(StackTrace stackTrace) {
+        return walk(stackTrace, true).getId();
+    }
+
+    /**
+     * Looks up the node representing the given stack trace without modifying this tree.
+     *
+     * @param stackTrace the stack trace to look up
+     *
+     * @return the id of the node representing the top-most frame of the stack trace or -1 if it is not contained
+     */
+    int find(StackTrace stackTrace) {
+        Node node = walk(stackTrace, false);
+        return node == null ? -1 : node.getId();
+    }
+
+    private Node walk(StackTrace stackTrace, boolean createMissing) {
+        Node current = root;
+        for (int depth = 0; depth < stackTrace.size(); depth++) {
+            StackTraceElement frame = stackTrace.get(depth);
+            Node child = current.getChild(frame);
+            if (child == null) {
+                if (!createMissing) {
+                    return null;
+                }
+                child = new Node(nodes.size(), current, FRAMES.intern(frame));
+                current.addChild(child);
+                nodes.add(child);
+            }
+            current = child;
+        }
+        return current;
+    }
+
+    /**
+     * @param id the id of the node
+     *
+     * @return the node with the given id
+     */
+    Node getNode(int id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * @return the number of nodes in this tree
+     */
+    int getNodeCount() {
+        return nodes.size();
+    }
+
+    /**
+     * A node of the tree, representing a frame within a certain call path.
+     */
+    static class Node {
+
+        @Getter
+        private final int id;
+
+        @Getter
+        private final Node parent;
+
+        @Getter
+        private final StackTraceElement frame;
+
+        /**
+         * The number of frames from the root up to and including this node.
+         */
+        @Getter
+        private final int depth;
+
+        /**
+         * The children of this node, either null, a single node or a map from the frame to the child node.
+         * Most nodes only have a single child, for which no map is allocated.
+         */
+        private Object children;
+
+        /**
+         * The stack trace represented by this node, which is only created when it is requested.
+         */
+        private StackTrace stackTrace;
+
+        private Node(int id, Node parent, StackTraceElement frame) {
+            this.id = id;
+            this.parent = parent;
+            this.frame = frame;
+            depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node getChild(StackTraceElement childFrame) {
+            if (children instanceof Node) {
+                Node child = (Node) children;
+                return child.frame.equals(childFrame) ? child : null;
+            } else if (children != null) {
+                return ((Map<StackTraceElement, Node>) children).get(childFrame);
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void addChild(Node child) {
+            if (children == null) {
+                children = child;
+            } else {
+                Map<StackTraceElement, Node> childMap;
+                if (children instanceof Node) {
+                    Node firstChild = (Node) children;
+                    childMap = new HashMap<>();
+                    childMap.put(firstChild.frame, firstChild);
+                    children = childMap;
+                } else {
+                    childMap = (Map<StackTraceElement, Node>) children;
+                }
+                childMap.put(child.frame, child);
+            }
+        }
+
+        /**
+         * Returns the stack trace consisting of all frames from the root up to and including this node.
+         * The stack trace is created on the first call and reused afterwards, so that all samples referencing this
+         * node share the same instance.
+         *
+         * @return the stack trace of this node
+         */
+        StackTrace getStackTrace() {
+            if (stackTrace == null) {
+                StackTraceElement[] frames = new StackTraceElement[depth];
+                Node current = this;
+                for (int i = 0; i < depth; i++) {
+                    frames[i] = current.frame;
+                    current = current.parent;
+                }
+                stackTrace = StackTrace.createFromCleanedFrames(frames);
+            }
+            return stackTrace;
+        }
+    }
+}
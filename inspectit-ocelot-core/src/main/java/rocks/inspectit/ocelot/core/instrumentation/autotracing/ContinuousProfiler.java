@@ -0,0 +1,205 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.tracing.ProfilingSettings;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling.Profile;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling.ProfileExporter;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+import rocks.inspectit.ocelot.core.service.DynamicallyActivatableService;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Aggregates the stack trace samples taken by the {@link StackTraceSampler} into profiles per endpoint, which are
+ * periodically passed to all {@link ProfileExporter}s. The endpoint of a sample is the name of the span which
+ * started the auto-tracing.
+ * <p>
+ * When enabled, threads executing a method with auto-tracing are also sampled if their span is not sampled.
+ * The number of these threads is limited by {@link ProfilingSettings#getMaxThreads()} and the size of a profile is
+ * limited by {@link ProfilingSettings#getMaxFrames()}.
+ */
+@Component
+@Slf4j
+public class ContinuousProfiler extends DynamicallyActivatableService {
+
+    private static final String SAMPLES_MEASURE = "profiling/samples";
+
+    private static final String FRAMES_MEASURE = "profiling/frames";
+
+    private static final String SAMPLING_DURATION_MEASURE = "profiling/sampling-duration";
+
+    private static final String RESULT_TAG = "result";
+
+    @Autowired
+    @Qualifier(TaskGroups.EXPORT)
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    @Autowired(required = false)
+    private List<ProfileExporter> exporters = Collections.emptyList();
+
+    /**
+     * The number of threads which are currently sampled for profiling only.
+     */
+    private final AtomicInteger profilingOnlyThreads = new AtomicInteger();
+
+    /**
+     * Lock guarding the {@link #aggregator} and the timing of the current profile.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The aggregation of the current profile, null if the profiler is disabled.
+     */
+    private ProfileAggregator aggregator;
+
+    private long profileStartEpochNanos;
+
+    private long profileStartNanos;
+
+    /**
+     * The time spent for capturing the stack traces of the current profile.
+     */
+    private long samplingNanos;
+
+    private volatile int maxThreads;
+
+    private ScheduledFuture<?> exportTask;
+
+    public ContinuousProfiler() {
+        super("tracing.autoTracing.profiling", "tracing.autoTracing.frequency");
+    }
+
+    @Override
+    protected boolean checkEnabledForConfig(InspectitConfig configuration) {
+        return configuration.getTracing().getAutoTracing().getProfiling().isEnabled();
+    }
+
+    @Override
+    protected boolean doEnable(InspectitConfig configuration) {
+        ProfilingSettings settings = configuration.getTracing().getAutoTracing().getProfiling();
+        maxThreads = settings.getMaxThreads();
+        synchronized (lock) {
+            startProfile(settings.getMaxFrames());
+        }
+        long intervalMillis = settings.getExportInterval().toMillis();
+        exportTask = executor.scheduleWithFixedDelay(this::export, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Starting continuous profiling");
+        return true;
+    }
+
+    @Override
+    protected boolean doDisable() {
+        exportTask.cancel(false);
+        synchronized (lock) {
+            aggregator = null;
+        }
+        log.info("Stopping continuous profiling");
+        return true;
+    }
+
+    /**
+     * Reserves a slot for a thread which should be sampled for profiling only.
+     * If a slot has been acquired, it has to be released via {@link #releaseThread()}.
+     *
+     * @return true, if the thread may be sampled
+     */
+    boolean tryAcquireThread() {
+        if (profilingOnlyThreads.incrementAndGet() > maxThreads) {
+            profilingOnlyThreads.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases a slot acquired via {@link #tryAcquireThread()}.
+     */
+    void releaseThread() {
+        profilingOnlyThreads.decrementAndGet();
+    }
+
+    /**
+     * Adds a sample to the current profile. Has no effect if the profiler is disabled.
+     *
+     * @param endpoint   the endpoint for which the sample has been taken
+     * @param stackTrace the sampled stack trace
+     */
+    void addSample(String endpoint, StackTrace stackTrace) {
+        synchronized (lock) {
+            if (aggregator != null) {
+                aggregator.add(endpoint, stackTrace);
+            }
+        }
+    }
+
+    /**
+     * Adds the time spent for capturing stack traces to the self-monitoring of the current profile.
+     *
+     * @param nanos the time spent in nanoseconds
+     */
+    void addSamplingTime(long nanos) {
+        synchronized (lock) {
+            samplingNanos += nanos;
+        }
+    }
+
+    /**
+     * Passes the current profile to all exporters and starts a new one.
+     */
+    void export() {
+        ProfileAggregator finishedAggregator;
+        long startEpochNanos;
+        long durationNanos;
+        long finishedSamplingNanos;
+        synchronized (lock) {
+            if (aggregator == null) {
+                return;
+            }
+            finishedAggregator = aggregator;
+            startEpochNanos = profileStartEpochNanos;
+            durationNanos = System.nanoTime() - profileStartNanos;
+            finishedSamplingNanos = samplingNanos;
+            startProfile(env.getCurrentConfig().getTracing().getAutoTracing().getProfiling().getMaxFrames());
+        }
+
+        recordSelfMonitoring(finishedAggregator, finishedSamplingNanos);
+
+        InspectitConfig config = env.getCurrentConfig();
+        long samplingPeriodNanos = config.getTracing().getAutoTracing().getFrequency().toNanos();
+        Profile profile = finishedAggregator.toProfile(config.getServiceName(), startEpochNanos, durationNanos, samplingPeriodNanos);
+        for (ProfileExporter exporter : exporters) {
+            try {
+                exporter.export(profile);
+            } catch (Exception e) {
+                log.error("Error exporting profile via {}", exporter.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private void startProfile(int maxFrames) {
+        aggregator = new ProfileAggregator(maxFrames);
+        profileStartEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        profileStartNanos = System.nanoTime();
+        samplingNanos = 0;
+    }
+
+    private void recordSelfMonitoring(ProfileAggregator finishedAggregator, long finishedSamplingNanos) {
+        selfMonitoringService.recordMeasurement(SAMPLES_MEASURE, finishedAggregator.getRecordedSamples(), Collections.singletonMap(RESULT_TAG, "recorded"));
+        selfMonitoringService.recordMeasurement(SAMPLES_MEASURE, finishedAggregator.getDroppedSamples(), Collections.singletonMap(RESULT_TAG, "dropped"));
+        selfMonitoringService.recordMeasurement(FRAMES_MEASURE, finishedAggregator.getFrameCount());
+        selfMonitoringService.recordMeasurement(SAMPLING_DURATION_MEASURE, TimeUnit.NANOSECONDS.toMicros(finishedSamplingNanos));
+    }
+}
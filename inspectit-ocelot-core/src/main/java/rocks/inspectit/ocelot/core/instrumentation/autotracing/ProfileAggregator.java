@@ -0,0 +1,143 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling.Profile;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates stack trace samples per endpoint by counting how often each distinct stack trace has been sampled.
+ * The stack traces of each endpoint are stored in a {@link CallTree}, so the size of the aggregation is bounded by the
+ * number of distinct frames instead of the number of samples.
+ * <p>
+ * This class is not thread-safe, it is guarded by the {@link ContinuousProfiler}.
+ */
+class ProfileAggregator {
+
+    /**
+     * The maximum number of frames which may be stored. When this limit is reached, only samples of already known
+     * stack traces are counted.
+     */
+    private final int maxFrames;
+
+    private final Map<String, EndpointSamples> endpoints = new HashMap<>();
+
+    /**
+     * The number of frames stored in all call trees. Each endpoint is counted as an additional frame.
+     */
+    private int frameCount = 0;
+
+    private long recordedSamples = 0;
+
+    private long droppedSamples = 0;
+
+    ProfileAggregator(int maxFrames) {
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * Counts the given sample.
+     *
+     * @param endpoint   the endpoint for which the sample has been taken
+     * @param stackTrace the sampled stack trace
+     */
+    void add(String endpoint, StackTrace stackTrace) {
+        EndpointSamples samples = endpoints.get(endpoint);
+        if (samples == null) {
+            if (frameCount >= maxFrames) {
+                droppedSamples++;
+                return;
+            }
+            samples = new EndpointSamples();
+            endpoints.put(endpoint, samples);
+            frameCount++;
+        }
+
+        int nodeId;
+        if (frameCount < maxFrames) {
+            int nodeCountBefore = samples.tree.getNodeCount();
+            nodeId = samples.tree.add(stackTrace);
+            frameCount += samples.tree.getNodeCount() - nodeCountBefore;
+        } else {
+            nodeId = samples.tree.find(stackTrace);
+            if (nodeId < 0) {
+                droppedSamples++;
+                return;
+            }
+        }
+        samples.increment(nodeId);
+        recordedSamples++;
+    }
+
+    /**
+     * @return the number of frames stored in this aggregation
+     */
+    int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return the number of samples which have been counted
+     */
+    long getRecordedSamples() {
+        return recordedSamples;
+    }
+
+    /**
+     * @return the number of samples which have been dropped because the maximum number of frames had been reached
+     */
+    long getDroppedSamples() {
+        return droppedSamples;
+    }
+
+    /**
+     * Creates the profile containing all aggregated samples.
+     *
+     * @param serviceName         the name of the profiled service
+     * @param startEpochNanos     the start of the aggregation in nanoseconds since the epoch
+     * @param durationNanos       the duration of the aggregation in nanoseconds
+     * @param samplingPeriodNanos the interval at which the samples have been taken
+     *
+     * @return the created profile
+     */
+    Profile toProfile(String serviceName, long startEpochNanos, long durationNanos, long samplingPeriodNanos) {
+        List<Profile.Sample> result = new ArrayList<>();
+        endpoints.forEach((endpoint, samples) -> {
+            for (int id = 0; id < samples.counts.length; id++) {
+                if (samples.counts[id] > 0) {
+                    CallTree.Node node = samples.tree.getNode(id);
+                    StackTrace stackTrace = node.getStackTrace();
+                    List<StackTraceElement> frames = new ArrayList<>(stackTrace.size());
+                    for (int i = 0; i < stackTrace.size(); i++) {
+                        frames.add(stackTrace.get(i));
+                    }
+                    result.add(new Profile.Sample(endpoint, frames, samples.counts[id]));
+                }
+            }
+        });
+        return new Profile(serviceName, startEpochNanos, durationNanos, samplingPeriodNanos, result, droppedSamples);
+    }
+
+    /**
+     * The samples of a single endpoint.
+     */
+    private static class EndpointSamples {
+
+        private final CallTree tree = new CallTree();
+
+        /**
+         * The number of samples per node of the {@link #tree}.
+         */
+        private long[] counts = new long[16];
+
+        private void increment(int nodeId) {
+            if (nodeId >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(counts.length * 2, nodeId + 1));
+            }
+            counts[nodeId]++;
+        }
+    }
+}
@@ -5,9 +5,6 @@ import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.sdk.trace.OcelotSpanUtils;
 import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.MethodEntryEvent;
-import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.MethodExitEvent;
-import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.StackTraceSampledEvent;
-import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.TraceEvent;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -19,6 +16,8 @@ import java.util.stream.Collectors;
  * This is the data structure which holds all recorded information to reconstruct a trace based on both instrumented methods
  * as well as collected stack trace samples.
  * Namely, this information is simply a list of events.
+ * The events are stored in a compact form: stack trace samples are kept in a {@link CallTree}
+ * and all events are stored in a {@link TraceEventLog}.
  * <p>
  * The actual algorithm for this reconstruction is defined by the {@link InvocationResolver}.
  */
@@ -61,18 +60,45 @@ public class SampledTrace {
     private Span rootSpan;
 
     /**
-     * The list storing the sequence of events.
+     * The log storing the sequence of events.
      * E.g. whenever a stack-trace sample is recorded or an instrumented method is entered or exited,
-     * a corresponding event is appended to this list.
+     * a corresponding event is appended to this log.
      * <p>
-     * This means that the order of the events in this List corresponds to the order in time in which the events occurred!
+     * This means that the order of the events in this log corresponds to the order in time in which the events occurred!
      */
-    private ArrayList<TraceEvent> events;
+    private final TraceEventLog events;
+
+    /**
+     * The prefix tree holding the stack traces of all samples referenced by {@link #events}.
+     */
+    private final CallTree callTree;
+
+    /**
+     * The (estimated) memory in bytes which may be used for storing the stack trace samples.
+     * If this limit is exceeded, no more samples are recorded.
+     */
+    private final long maxMemory;
+
+    /**
+     * Flag, whether the recording of samples has been stopped because {@link #maxMemory} has been exceeded.
+     */
+    private boolean isTruncated;
 
     public SampledTrace(Span rootSpan, Supplier<StackTrace> rootStackTraceProvider) {
+        this(rootSpan, rootStackTraceProvider, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param rootSpan               the span which acts as a root for all sampled methods
+     * @param rootStackTraceProvider provides the stack trace of the method which started the sampling
+     * @param maxMemory              the (estimated) memory in bytes which may be used for storing the stack trace samples
+     */
+    public SampledTrace(Span rootSpan, Supplier<StackTrace> rootStackTraceProvider, long maxMemory) {
         this.rootStackTraceProvider = rootStackTraceProvider;
         this.rootSpan = rootSpan;
-        events = new ArrayList<>();
+        this.maxMemory = maxMemory;
+        events = new TraceEventLog();
+        callTree = new CallTree();
         isFinished = false;
         isPaused = false;
     }
@@ -104,16 +130,29 @@ public class SampledTrace {
 
     /**
      * Called when a new stack trace has been recorded.
+     * As soon as the memory used by this trace exceeds its limit, no further samples are recorded and the root span is
+     * marked with the attribute "java.sampling.truncated". Instrumented methods are still recorded in this case.
      *
      * @param stackTrace the new stack trace
      * @param timestamp  the (approximate) timestamp when the stack trace was recorded
      */
     public synchronized void addStackTrace(StackTrace stackTrace, long timestamp) {
-        if (!isFinished) {
-            events.add(new StackTraceSampledEvent(stackTrace, timestamp));
+        if (!isFinished && !isTruncated) {
+            events.addSample(callTree.add(stackTrace), timestamp);
+            if (getEstimatedMemory() > maxMemory) {
+                isTruncated = true;
+                rootSpan.setAttribute(AttributeKey.booleanKey("java.sampling.truncated"), true);
+            }
         }
     }
 
+    /**
+     * @return the estimated memory in bytes used for storing the samples of this trace
+     */
+    private long getEstimatedMemory() {
+        return (long) callTree.getNodeCount() * CallTree.NODE_SIZE_ESTIMATE + (long) events.size() * TraceEventLog.EVENT_SIZE_ESTIMATE;
+    }
+
     /**
      * Should be called when an instrumented method is called within this trace.
      * This ensures that the method is correctly placed between the sampled method calls.
@@ -127,8 +166,8 @@ public class SampledTrace {
     public synchronized MethodExitNotifier newSpanStarted(PlaceholderSpan span, String className, String methodName) {
         if (!isFinished) {
             MethodEntryEvent entryEvent = new MethodEntryEvent(span, null, span.getStartNanoTime(), className, methodName, null);
-            events.add(entryEvent);
-            return (exitTime) -> addExit(entryEvent, exitTime);
+            int entryIndex = events.addEntry(entryEvent);
+            return (exitTime) -> addExit(entryIndex, exitTime);
         }
         return (time) -> {
         }; //Return NOOP if already finished
@@ -148,16 +187,16 @@ public class SampledTrace {
     public synchronized MethodExitNotifier spanContinued(Span span, long startTime, String className, String methodName) {
         if (!isFinished) {
             MethodEntryEvent entryEvent = new MethodEntryEvent(null, span, startTime, className, methodName, null);
-            events.add(entryEvent);
-            return (exitTime) -> addExit(entryEvent, exitTime);
+            int entryIndex = events.addEntry(entryEvent);
+            return (exitTime) -> addExit(entryIndex, exitTime);
         }
         return (time) -> {
         }; //Return NOOP if already finished
     }
 
-    private synchronized void addExit(MethodEntryEvent entryEvent, long timestamp) {
+    private synchronized void addExit(int entryIndex, long timestamp) {
         if (!isFinished) {
-            events.add(new MethodExitEvent(entryEvent, timestamp));
+            events.addExit(entryIndex, timestamp);
         }
     }
 
@@ -181,7 +220,7 @@ public class SampledTrace {
     Iterable<Invocation> generateInvocations() {
         StackTrace rootTrace = rootStackTraceProvider.get();
         int rootDepth = rootTrace.size() - 1;
-        Iterable<Invocation> invocations = InvocationResolver.convertEventsToInvocations(events, rootDepth);
+        Iterable<Invocation> invocations = InvocationResolver.convertEventsToInvocations(events.toEvents(callTree), rootDepth);
         return invocations;
     }
 
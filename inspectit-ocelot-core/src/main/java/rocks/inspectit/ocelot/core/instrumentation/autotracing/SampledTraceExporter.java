@@ -0,0 +1,218 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+import rocks.inspectit.ocelot.core.utils.MpscArrayQueue;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Exports the finished {@link SampledTrace}s of the {@link StackTraceSampler}.
+ * <p>
+ * Stack-trace samples require a post-processing before being exported as traces, which happens asynchronously to the
+ * application. The finished traces are collected in a lock-free queue, so that application threads ending a trace
+ * never block each other. The queue is processed by a dedicated worker thread with lowered priority, so that the
+ * post-processing does not compete with the other tasks of the agent's shared executor.
+ * <p>
+ * The worker exports the queued traces in batches. If a batch is full, the next batch is exported immediately,
+ * otherwise the worker waits for {@link #EXPORT_INTERVAL_MILLIS}. This way the batches grow with the load, while the
+ * worker does not spin if only few traces are finished.
+ */
+@Component
+@Slf4j
+public class SampledTraceExporter {
+
+    /**
+     * The time the worker waits for further traces if the queue has been drained.
+     */
+    public static final int EXPORT_INTERVAL_MILLIS = 200;
+
+    /**
+     * The maximum number of traces exported before checking whether the metrics need to be recorded.
+     */
+    @VisibleForTesting
+    static final int MAX_BATCH_SIZE = 256;
+
+    private static final String TRACES_MEASURE = "auto-tracing/traces";
+
+    private static final String RESOLUTION_DURATION_MEASURE = "auto-tracing/resolution-duration";
+
+    private static final String RESULT_TAG = "result";
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    /**
+     * A bounded queue containing all traces which have finished but need to be processed for exporting.
+     */
+    private MpscArrayQueue<SampledTrace> tracesToExport;
+
+    private Thread worker;
+
+    /**
+     * The lifecycle state of the worker. Offering traces only reads this field, so that the lock of
+     * {@link #startWorker()} is only acquired until the worker has been started or the exporter has been shut down.
+     */
+    private volatile State state = State.NEW;
+
+    private final LongAdder enqueuedTraces = new LongAdder();
+
+    private final LongAdder droppedTraces = new LongAdder();
+
+    /**
+     * The number of exported traces, only accessed by the worker.
+     */
+    private long exportedTraces;
+
+    /**
+     * The time spent for resolving the invocations and creating the spans of the traces, only accessed by the worker.
+     */
+    private long resolutionNanos;
+
+    private long lastEnqueued;
+
+    private long lastDropped;
+
+    private long lastExported;
+
+    private long lastResolutionNanos;
+
+    @PostConstruct
+    void init() {
+        int capacity = env.getCurrentConfig().getTracing().getAutoTracing().getExportQueueCapacity();
+        tracesToExport = new MpscArrayQueue<>(capacity);
+    }
+
+    /**
+     * Starts the worker, which only happens once the first trace is offered, so that no thread is started if
+     * auto-tracing is not used.
+     */
+    private synchronized void startWorker() {
+        if (state == State.NEW) {
+            state = State.RUNNING;
+            worker = new Thread(this::run, "inspectit-auto-tracing-export");
+            worker.setDaemon(true);
+            worker.setPriority(Thread.MIN_PRIORITY);
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        state = State.SHUTDOWN;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Adds the given trace to the export queue.
+     *
+     * @param sampledTrace the finished trace
+     *
+     * @return false, if the trace has been dropped because the queue is full
+     */
+    boolean offer(SampledTrace sampledTrace) {
+        if (state == State.NEW) {
+            startWorker();
+        }
+        if (tracesToExport.offer(sampledTrace)) {
+            enqueuedTraces.increment();
+            return true;
+        }
+        droppedTraces.increment();
+        return false;
+    }
+
+    private void run() {
+        long metricsIntervalNanos = env.getCurrentConfig().getMetrics().getFrequency().toNanos();
+        long nextMetricsRecording = System.nanoTime() + metricsIntervalNanos;
+        while (state == State.RUNNING) {
+            try {
+                int exported = exportBatch();
+                if (System.nanoTime() - nextMetricsRecording >= 0) {
+                    recordMetrics();
+                    nextMetricsRecording = System.nanoTime() + metricsIntervalNanos;
+                }
+                if (exported < MAX_BATCH_SIZE) {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(EXPORT_INTERVAL_MILLIS));
+                }
+            } catch (Throwable t) {
+                log.error("Error in auto-tracing export", t);
+            }
+        }
+    }
+
+    /**
+     * Exports up to {@link #MAX_BATCH_SIZE} traces of the queue.
+     *
+     * @return the number of traces taken from the queue
+     */
+    @VisibleForTesting
+    int exportBatch() {
+        long start = System.nanoTime();
+        int count = tracesToExport.drain(this::export, MAX_BATCH_SIZE);
+        if (count > 0) {
+            resolutionNanos += System.nanoTime() - start;
+        }
+        return count;
+    }
+
+    private void export(SampledTrace sampledTrace) {
+        try {
+            sampledTrace.export();
+            exportedTraces++;
+        } catch (Exception e) {
+            log.error("Error exporting sampled trace", e);
+        }
+    }
+
+    /**
+     * Records the traces enqueued, dropped and exported since the last invocation as well as the time spent for
+     * their export.
+     */
+    @VisibleForTesting
+    void recordMetrics() {
+        long enqueued = enqueuedTraces.sum();
+        long dropped = droppedTraces.sum();
+
+        selfMonitoringService.recordMeasurement(TRACES_MEASURE, enqueued - lastEnqueued, Collections.singletonMap(RESULT_TAG, "enqueued"));
+        selfMonitoringService.recordMeasurement(TRACES_MEASURE, dropped - lastDropped, Collections.singletonMap(RESULT_TAG, "dropped"));
+        selfMonitoringService.recordMeasurement(TRACES_MEASURE, exportedTraces - lastExported, Collections.singletonMap(RESULT_TAG, "exported"));
+        selfMonitoringService.recordMeasurement(RESOLUTION_DURATION_MEASURE, TimeUnit.NANOSECONDS.toMicros(resolutionNanos - lastResolutionNanos));
+
+        lastEnqueued = enqueued;
+        lastDropped = dropped;
+        lastExported = exportedTraces;
+        lastResolutionNanos = resolutionNanos;
+    }
+
+    enum State {
+        /**
+         * No trace has been offered yet, thus the worker has not been started.
+         */
+        NEW,
+
+        /**
+         * The worker has been started and exports the offered traces.
+         */
+        RUNNING,
+
+        /**
+         * The exporter has been shut down, the worker is stopped or has never been started.
+         */
+        SHUTDOWN
+    }
+}
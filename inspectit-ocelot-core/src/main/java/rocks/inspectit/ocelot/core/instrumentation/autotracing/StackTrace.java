@@ -1,15 +1,5 @@
 package rocks.inspectit.ocelot.core.instrumentation.autotracing;
 
-import com.google.common.annotations.VisibleForTesting;
-
-import java.lang.management.ManagementFactory;
-import java.lang.management.ThreadInfo;
-import java.lang.management.ThreadMXBean;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 /**
  * A wrapper for an Array of {@link StackTraceElement}s as returned by {@link Thread#getStackTrace}.
  * This wrapper performs a cleanup removing the following stack frames:
@@ -26,11 +16,8 @@ public class StackTrace {
 
     private StackTraceElement[] data;
 
-    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
-
     private int size;
 
-    @VisibleForTesting
     StackTrace(StackTraceElement[] stackTrace) {
         data = stackTrace;
         size = stackTrace.length;
@@ -54,30 +41,14 @@ public class StackTrace {
     }
 
     /**
-     * Returns a stacktrace for each of the specified Threads.
-     * When more than one thread is requested, {@link Thread#getAllStackTraces()} will be used.
-     * The reason is that this way only one safepoint needs to be reached instead of N (where N is the number of Threads)
+     * Creates a stack trace from frames which have already been cleaned up, e.g. because they originate from another stack trace.
      *
-     * @param threads
+     * @param frames the frames, with the top of the stack at index 0
      *
-     * @return
+     * @return a stack trace containing exactly the given frames.
      */
-    public static Map<Thread, StackTrace> createFor(Collection<Thread> threads) {
-        long[] ids = threads.stream().mapToLong(Thread::getId).toArray();
-        Map<Long, Thread> idsToThreads = threads.stream().collect(Collectors.toMap(Thread::getId, thread -> thread));
-
-        ThreadInfo[] threadInfos = THREAD_BEAN.getThreadInfo(ids, MAX_DEPTH);
-
-        Map<Thread, StackTrace> result = new HashMap<>();
-
-        for (int i = 0; i < threadInfos.length; i++) {
-            Thread thread = idsToThreads.get(ids[i]);
-            StackTraceElement[] stackTrace = threadInfos[i].getStackTrace();
-            if (stackTrace != null && stackTrace.length > 0) {
-                result.put(thread, new StackTrace(stackTrace));
-            }
-        }
-        return result;
+    static StackTrace createFromCleanedFrames(StackTraceElement[] frames) {
+        return new StackTrace(frames, frames.length);
     }
 
     private void cleanup() {
@@ -0,0 +1,44 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.apache.commons.lang3.JavaVersion;
+import org.apache.commons.lang3.SystemUtils;
+import rocks.inspectit.ocelot.config.model.tracing.StackTraceBackend;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A backend for capturing the stack traces of the threads sampled by the {@link StackTraceSampler}.
+ */
+public interface StackTraceProvider {
+
+    /**
+     * Captures the current stack trace of each of the given threads.
+     *
+     * @param threads the threads to capture
+     *
+     * @return the stack traces of the threads, threads which have terminated or have no stack trace are not contained
+     */
+    Map<Thread, StackTrace> capture(Collection<Thread> threads);
+
+    /**
+     * Creates the provider for the given backend.
+     *
+     * @param backend the configured backend
+     *
+     * @return the provider, {@link StackTraceBackend#AUTO} is resolved depending on the current JVM
+     */
+    static StackTraceProvider create(StackTraceBackend backend) {
+        switch (backend) {
+            case THREAD_HANDSHAKE:
+                return new ThreadHandshakeStackTraceProvider();
+            case THREAD_MX_BEAN:
+                return new ThreadMXBeanStackTraceProvider();
+            default:
+                if (SystemUtils.isJavaVersionAtLeast(JavaVersion.JAVA_19)) {
+                    return new ThreadHandshakeStackTraceProvider();
+                }
+                return new ThreadMXBeanStackTraceProvider();
+        }
+    }
+}
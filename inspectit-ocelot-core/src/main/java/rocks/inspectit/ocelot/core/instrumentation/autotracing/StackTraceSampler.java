@@ -7,11 +7,13 @@ import io.opentelemetry.api.trace.SpanKind;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.trace.ReadableSpan;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import rocks.inspectit.ocelot.config.model.tracing.AutoTracingSettings;
 import rocks.inspectit.ocelot.core.config.InspectitConfigChangedEvent;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
@@ -23,10 +25,10 @@ import rocks.inspectit.ocelot.core.utils.OpenTelemetryUtils;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
 
 /**
  * Component for executing stack-trace-sampling (=auto-tracing).
@@ -35,13 +37,6 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StackTraceSampler {
 
-    /**
-     * Stack-trace samples require a post-processing before being exported as traces.
-     * This happens asynchronously to the application to minimize the performance impact in a periodically executed task.
-     * This value defines the frequency at which the queue is checked.
-     */
-    public static final int EXPORT_INTERVAL_MILLIS = 200;
-
     /**
      * The change to apply to the state of the sampler when invoking {@link #createAndEnterSpan(String, SpanContext, Sampler, io.opentelemetry.api.trace.SpanKind, MethodReflectionInformation, Mode)}
      * or {@link #continueSpan(Span, MethodReflectionInformation, Mode)}.
@@ -65,29 +60,34 @@ public class StackTraceSampler {
     private InspectitEnvironment env;
 
     @Autowired
-    private ScheduledExecutorService executor;
+    private SampledTraceExporter exporter;
 
     /**
-     * The task periodicalyl executed for ptocessing the {@link #tracesToExport} queue.
+     * Global map which stores all threads for which stack-trace sampling is currently active.
+     * If a thread is present in this map, it will be sampled and the stack trace will be added to the corresponding trace.
      */
-    private Future<?> exportTask;
+    private ConcurrentHashMap<Thread, SampledTrace> activeSamplings = new ConcurrentHashMap<>();
 
     /**
-     * A bounded queue containing all traces which have finished but need to be processed for exporting.
+     * Global map which stores all threads which are currently sampled for the {@link ContinuousProfiler}.
+     * The value is the endpoint, meaning the name of the span which started the sampling.
+     * This includes threads for which no {@link SampledTrace} is recorded because their span is not sampled.
      */
-    private ArrayBlockingQueue<SampledTrace> tracesToExport = new ArrayBlockingQueue<>(4096);
+    private ConcurrentHashMap<Thread, String> profiledThreads = new ConcurrentHashMap<>();
 
-    /**
-     * Global map which stores all threads for which stack-trace sampling is currently active.
-     * If a thread is present in this map, it will be sampled and the stack trace will be added to the corresponding trace.
-     */
-    private ConcurrentHashMap<Thread, SampledTrace> activeSamplings = new ConcurrentHashMap<>();
+    @Autowired
+    private ContinuousProfiler profiler;
 
     /**
      * The timer used to trigger the capturing of stack-trace samples.
      */
     private HighPrecisionTimer sampleTimer;
 
+    /**
+     * The backend used for capturing the stack traces.
+     */
+    private volatile StackTraceProvider stackTraceProvider;
+
     /**
      * The clock used for timing the stack-traces.
      * This clock must be the same as used for OpenTelemetry {@link io.opentelemetry.api.trace.Span}s, to make sure that the timings are consistent.
@@ -96,8 +96,8 @@ public class StackTraceSampler {
 
     @PostConstruct
     void init() {
-        exportTask = executor.scheduleWithFixedDelay(this::doExportTraces, EXPORT_INTERVAL_MILLIS, EXPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
         AutoTracingSettings settings = env.getCurrentConfig().getTracing().getAutoTracing();
+        stackTraceProvider = StackTraceProvider.create(settings.getStackTraceBackend());
         sampleTimer = new HighPrecisionTimer("Ocelot stack trace sampler", settings.getFrequency(), settings.getShutdownDelay(), this::doSample);
     }
 
@@ -106,11 +106,11 @@ public class StackTraceSampler {
         AutoTracingSettings settings = env.getCurrentConfig().getTracing().getAutoTracing();
         sampleTimer.setPeriod(settings.getFrequency());
         sampleTimer.setMaximumInactivity(settings.getShutdownDelay());
+        stackTraceProvider = StackTraceProvider.create(settings.getStackTraceBackend());
     }
 
     @PreDestroy
     void shutdown() {
-        exportTask.cancel(false);
         sampleTimer.destroy();
     }
 
@@ -171,7 +171,7 @@ public class StackTraceSampler {
         SampledTrace activeSampling = activeSamplings.get(self);
         if (activeSampling == null) {
             if (mode == Mode.ENABLE) {
-                return startSampling(span);
+                return startSampling(span, getSpanName(span));
             } else {
                 return span.makeCurrent();
             }
@@ -220,31 +220,82 @@ public class StackTraceSampler {
 
     private AutoCloseable startSampling(String name, SpanContext remoteParent, Sampler sampler, SpanKind kind) {
         Span rootSpan = createNormalSpan(name, remoteParent, sampler, kind);
-        return startSampling(rootSpan);
+        return startSampling(rootSpan, name);
     }
 
-    private AutoCloseable startSampling(Span rootSpan) {
+    private AutoCloseable startSampling(Span rootSpan, String name) {
         boolean spanExists = rootSpan.getSpanContext().isValid() && rootSpan.getSpanContext()
                 .getTraceFlags()
                 .isSampled();
-        if (!spanExists) {
+        Thread selfThread = Thread.currentThread();
+        boolean profiled = startProfiling(selfThread, name, spanExists);
+        if (!spanExists && !profiled) {
             return rootSpan.makeCurrent();
+        } else if (!spanExists) {
+            sampleTimer.start();
+            AutoCloseable spanScope = rootSpan.makeCurrent();
+            return () -> {
+                spanScope.close();
+                stopProfiling(selfThread, false);
+            };
         } else {
             Throwable stackTrace = new Throwable(); //the constructor collects the current stack-trace
-            SampledTrace sampledTrace = new SampledTrace(rootSpan, () -> StackTrace.createFromThrowable(stackTrace));
-            Thread selfThread = Thread.currentThread();
+            SampledTrace sampledTrace = new SampledTrace(rootSpan, () -> StackTrace.createFromThrowable(stackTrace), getMaxTraceMemory());
             activeSamplings.put(selfThread, sampledTrace);
             sampleTimer.start();
             AutoCloseable spanScope = rootSpan.makeCurrent();
             return () -> {
                 spanScope.close();
                 activeSamplings.remove(selfThread);
+                if (profiled) {
+                    stopProfiling(selfThread, true);
+                }
                 sampledTrace.finish();
                 addToExportQueue(sampledTrace);
             };
         }
     }
 
+    /**
+     * Registers the given thread for being sampled by the {@link ContinuousProfiler}, if it is enabled.
+     * Threads whose span is not sampled are only registered if the profiler has a free slot for them.
+     *
+     * @param thread      the thread to sample
+     * @param endpoint    the name of the span starting the sampling
+     * @param spanSampled true, if the span is sampled and therefore the thread is sampled anyway
+     *
+     * @return true, if the thread has been registered and has to be unregistered via {@link #stopProfiling(Thread, boolean)}
+     */
+    private boolean startProfiling(Thread thread, String endpoint, boolean spanSampled) {
+        if (!profiler.isEnabled() || profiledThreads.containsKey(thread)) {
+            return false;
+        }
+        if (!spanSampled && !profiler.tryAcquireThread()) {
+            return false;
+        }
+        profiledThreads.put(thread, endpoint);
+        return true;
+    }
+
+    private void stopProfiling(Thread thread, boolean spanSampled) {
+        profiledThreads.remove(thread);
+        if (!spanSampled) {
+            profiler.releaseThread();
+        }
+    }
+
+    private String getSpanName(Span span) {
+        if (span instanceof ReadableSpan) {
+            return ((ReadableSpan) span).getName();
+        }
+        return "unknown";
+    }
+
+    private long getMaxTraceMemory() {
+        DataSize maxTraceMemory = env.getCurrentConfig().getTracing().getAutoTracing().getMaxTraceMemory();
+        return maxTraceMemory == null ? Long.MAX_VALUE : maxTraceMemory.toBytes();
+    }
+
     private AutoCloseable createSamplingAwareSpan(String name, SpanContext remoteParent, SpanKind kind, MethodReflectionInformation actualMethod, SampledTrace activeSampling) {
         SpanContext parent = remoteParent;
         if (remoteParent == null) {
@@ -283,29 +334,41 @@ public class StackTraceSampler {
     }
 
     /**
-     * Method invoked by a timer to sample all threads for which stack trace sampling is activated.
+     * Method invoked by a timer to sample all threads for which stack trace sampling or profiling is activated.
      * Returns true, if any sampling was performed
      */
     private boolean doSample() {
-        //copy the map to avoid concurrent modifications due to the starting and ending of sampling traces
+        //copy the maps to avoid concurrent modifications due to the starting and ending of sampling traces
         Map<Thread, SampledTrace> samplingsCopy = new HashMap<>(activeSamplings);
+        Map<Thread, String> profiledCopy = new HashMap<>(profiledThreads);
 
-        Set<Thread> threadsToSample = samplingsCopy.keySet()
-                .stream()
-                .filter(trace -> !samplingsCopy.get(trace).isPaused())
-                .collect(Collectors.toSet());
+        Set<Thread> threadsToSample = new HashSet<>(profiledCopy.keySet());
+        threadsToSample.addAll(samplingsCopy.keySet());
+        threadsToSample.removeIf(thread -> {
+            SampledTrace trace = samplingsCopy.get(thread);
+            return trace != null && trace.isPaused();
+        });
 
         long timestamp = clock.nanoTime();
-        Map<Thread, StackTrace> stackTraces = StackTrace.createFor(threadsToSample);
+        Map<Thread, StackTrace> stackTraces = stackTraceProvider.capture(threadsToSample);
+        if (!profiledCopy.isEmpty()) {
+            profiler.addSamplingTime(clock.nanoTime() - timestamp);
+        }
 
         boolean anySampled = false;
 
         for (Thread thread : threadsToSample) {
-            SampledTrace trace = samplingsCopy.get(thread);
             StackTrace stackTrace = stackTraces.get(thread);
             if (stackTrace != null) { //recheck for concurrent finishSampling() calls
                 anySampled = true;
-                trace.addStackTrace(stackTrace, timestamp); //has no effect if the trace was finished concurrently
+                SampledTrace trace = samplingsCopy.get(thread);
+                if (trace != null) {
+                    trace.addStackTrace(stackTrace, timestamp); //has no effect if the trace was finished concurrently
+                }
+                String endpoint = profiledCopy.get(thread);
+                if (endpoint != null) {
+                    profiler.addSample(endpoint, stackTrace);
+                }
             }
         }
 
@@ -313,19 +376,9 @@ public class StackTraceSampler {
     }
 
     private void addToExportQueue(SampledTrace sampledTrace) {
-        if (!tracesToExport.offer(sampledTrace)) {
+        if (!exporter.offer(sampledTrace)) {
             log.warn("Dropping sampled-spans! Please reduce your auto-tracing scope!");
         }
     }
 
-    private void doExportTraces() {
-        while (!tracesToExport.isEmpty()) {
-            try {
-                tracesToExport.poll().export();
-            } catch (Exception e) {
-                log.error("Error exporting sampled trace", e);
-            }
-        }
-    }
-
 }
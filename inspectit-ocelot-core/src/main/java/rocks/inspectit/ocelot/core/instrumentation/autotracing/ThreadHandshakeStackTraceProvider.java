@@ -0,0 +1,25 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Captures the stack trace of each requested thread on its own via {@link Thread#getStackTrace()}.
+ * Starting with Java 19, the JVM only pauses the captured thread via a thread-local handshake, so that the other
+ * threads of the application are not affected by the sampling. On older JVMs, each capture requires a global safepoint.
+ */
+class ThreadHandshakeStackTraceProvider implements StackTraceProvider {
+
+    @Override
+    public Map<Thread, StackTrace> capture(Collection<Thread> threads) {
+        Map<Thread, StackTrace> result = new HashMap<>();
+        for (Thread thread : threads) {
+            StackTraceElement[] stackTrace = thread.getStackTrace();
+            if (stackTrace.length > 0) {
+                result.put(thread, new StackTrace(stackTrace));
+            }
+        }
+        return result;
+    }
+}
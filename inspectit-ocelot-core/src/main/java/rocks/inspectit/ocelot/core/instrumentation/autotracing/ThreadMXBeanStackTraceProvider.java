@@ -0,0 +1,41 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Captures the stack traces of all requested threads at once via {@link ThreadMXBean#getThreadInfo(long[], int)}.
+ * This way only one safepoint needs to be reached instead of N (where N is the number of threads), but all threads of
+ * the JVM are paused for it.
+ */
+class ThreadMXBeanStackTraceProvider implements StackTraceProvider {
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Override
+    public Map<Thread, StackTrace> capture(Collection<Thread> threads) {
+        long[] ids = threads.stream().mapToLong(Thread::getId).toArray();
+        Map<Long, Thread> idsToThreads = threads.stream().collect(Collectors.toMap(Thread::getId, thread -> thread));
+
+        ThreadInfo[] threadInfos = THREAD_BEAN.getThreadInfo(ids, StackTrace.MAX_DEPTH);
+
+        Map<Thread, StackTrace> result = new HashMap<>();
+
+        for (int i = 0; i < threadInfos.length; i++) {
+            // the thread info is null if the thread has terminated
+            if (threadInfos[i] != null) {
+                Thread thread = idsToThreads.get(ids[i]);
+                StackTraceElement[] stackTrace = threadInfos[i].getStackTrace();
+                if (stackTrace != null && stackTrace.length > 0) {
+                    result.put(thread, new StackTrace(stackTrace));
+                }
+            }
+        }
+        return result;
+    }
+}
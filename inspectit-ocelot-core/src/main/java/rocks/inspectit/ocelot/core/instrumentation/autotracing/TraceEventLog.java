@@ -0,0 +1,129 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.MethodEntryEvent;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.MethodExitEvent;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.StackTraceSampledEvent;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.events.TraceEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact storage for the sequence of events of a {@link SampledTrace}.
+ * Instead of an object per event, the type, the timestamp and a reference of each event are stored in primitive arrays.
+ * Stack trace samples reference a node of the {@link CallTree} of the trace, method exits reference their entry.
+ * Only method entries are kept as objects, as they hold the spans of the instrumented methods.
+ * <p>
+ * The actual {@link TraceEvent}s are only created via {@link #toEvents(CallTree)} when the trace is exported.
+ * <p>
+ * This class is not thread-safe, it is guarded by the {@link SampledTrace} it belongs to.
+ */
+class TraceEventLog {
+
+    /**
+     * Rough estimate of the memory in bytes used by a single event, used for limiting the memory of a trace.
+     */
+    static final int EVENT_SIZE_ESTIMATE = 13;
+
+    private static final byte SAMPLE = 0;
+
+    private static final byte ENTRY = 1;
+
+    private static final byte EXIT = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+
+    /**
+     * The id of the call tree node for samples, the index in {@link #entries} for method entries and exits.
+     */
+    private int[] references = new int[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    private final List<MethodEntryEvent> entries = new ArrayList<>();
+
+    /**
+     * Appends a stack trace sample.
+     *
+     * @param nodeId    the id of the {@link CallTree.Node} representing the sampled stack trace
+     * @param timestamp the time at which the sample was taken
+     */
+    void addSample(int nodeId, long timestamp) {
+        add(SAMPLE, timestamp, nodeId);
+    }
+
+    /**
+     * Appends the entry of an instrumented method.
+     *
+     * @param entryEvent the entry event
+     *
+     * @return the index of the entry, which has to be passed to {@link #addExit(int, long)}
+     */
+    int addEntry(MethodEntryEvent entryEvent) {
+        int index = entries.size();
+        entries.add(entryEvent);
+        add(ENTRY, entryEvent.getTimestamp(), index);
+        return index;
+    }
+
+    /**
+     * Appends the exit of an instrumented method.
+     *
+     * @param entryIndex the index of the corresponding entry as returned by {@link #addEntry(MethodEntryEvent)}
+     * @param timestamp  the time at which the method was exited
+     */
+    void addExit(int entryIndex, long timestamp) {
+        add(EXIT, timestamp, entryIndex);
+    }
+
+    /**
+     * @return the number of events
+     */
+    int size() {
+        return size;
+    }
+
+    private void add(byte type, long timestamp, int reference) {
+        if (size == types.length) {
+            int newCapacity = size * 2;
+            types = Arrays.copyOf(types, newCapacity);
+            timestamps = Arrays.copyOf(timestamps, newCapacity);
+            references = Arrays.copyOf(references, newCapacity);
+        }
+        types[size] = type;
+        timestamps[size] = timestamp;
+        references[size] = reference;
+        size++;
+    }
+
+    /**
+     * Creates the events stored in this log in the order they have been recorded.
+     * Samples referencing the same call tree node share the same {@link StackTrace}.
+     *
+     * @param callTree the call tree referenced by the samples
+     *
+     * @return the list of events
+     */
+    List<TraceEvent> toEvents(CallTree callTree) {
+        List<TraceEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            switch (types[i]) {
+                case SAMPLE:
+                    events.add(new StackTraceSampledEvent(callTree.getNode(references[i]).getStackTrace(), timestamps[i]));
+                    break;
+                case ENTRY:
+                    events.add(entries.get(references[i]));
+                    break;
+                default:
+                    events.add(new MethodExitEvent(entries.get(references[i]), timestamps[i]));
+                    break;
+            }
+        }
+        return events;
+    }
+}
@@ -0,0 +1,54 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes profiles in the collapsed stack format, which can be directly processed by flame graph tools.
+ * Each sample is written as a line consisting of the frames separated by semicolons followed by the number of samples.
+ * The endpoint of the sample is added as the bottom frame, so the stacks of different endpoints can be told apart.
+ */
+public class CollapsedStackWriter {
+
+    private CollapsedStackWriter() {
+    }
+
+    /**
+     * Writes the given profile.
+     *
+     * @param profile the profile to write
+     * @param out     the stream to write to, which is not closed by this method
+     *
+     * @throws IOException if writing to the stream fails
+     */
+    public static void write(Profile profile, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        StringBuilder line = new StringBuilder();
+        for (Profile.Sample sample : profile.getSamples()) {
+            line.setLength(0);
+            appendEscaped(line, sample.getEndpoint());
+            for (StackTraceElement frame : sample.getFrames()) {
+                line.append(';');
+                appendEscaped(line, frame.getClassName());
+                line.append('.');
+                appendEscaped(line, frame.getMethodName());
+            }
+            line.append(' ').append(sample.getCount()).append('\n');
+            writer.write(line.toString());
+        }
+        writer.flush();
+    }
+
+    /**
+     * Appends the given name, replacing all characters which have a special meaning in the collapsed stack format.
+     */
+    private static void appendEscaped(StringBuilder line, String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            line.append(c == ';' || c == '\n' || c == '\r' ? '_' : c);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.config.model.tracing.ProfileFormat;
+import rocks.inspectit.ocelot.config.model.tracing.ProfilingSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes each profile into a separate file in the configured directory.
+ * Only the most recent profiles are kept, older files are deleted.
+ */
+@Component
+@Slf4j
+public class FileProfileExporter implements ProfileExporter {
+
+    private static final String FILE_PREFIX = "profile-";
+
+    /**
+     * Matches exactly the names of the files generated by {@link #getFileName(Profile, ProfileFormat)}, so that no other
+     * files of the directory are deleted.
+     */
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile(FILE_PREFIX + "[A-Za-z0-9._-]+-\\d{8}-\\d{6}-\\d{3}-\\d+(\\.pb\\.gz|\\.collapsed)");
+
+    /**
+     * Appended to the file names, so that profiles starting in the same millisecond do not overwrite each other.
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Override
+    public void export(Profile profile) {
+        ProfilingSettings settings = env.getCurrentConfig().getTracing().getAutoTracing().getProfiling();
+        if (StringUtils.isBlank(settings.getDirectory())) {
+            return;
+        }
+        try {
+            Path directory = Paths.get(settings.getDirectory());
+            Files.createDirectories(directory);
+            Path file = directory.resolve(getFileName(profile, settings.getFormat()));
+            try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                if (settings.getFormat() == ProfileFormat.PPROF) {
+                    PprofWriter.write(profile, out);
+                } else {
+                    CollapsedStackWriter.write(profile, out);
+                }
+            }
+            deleteOldProfiles(directory, settings.getMaxFiles());
+        } catch (IOException e) {
+            log.error("Could not write profile to directory '{}'", settings.getDirectory(), e);
+        }
+    }
+
+    String getFileName(Profile profile, ProfileFormat format) {
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date(TimeUnit.NANOSECONDS.toMillis(profile.getStartEpochNanos())));
+        String service = profile.getServiceName().replaceAll("[^A-Za-z0-9._-]", "_");
+        String extension = format == ProfileFormat.PPROF ? ".pb.gz" : ".collapsed";
+        return FILE_PREFIX + service + "-" + timestamp + "-" + sequence.getAndIncrement() + extension;
+    }
+
+    /**
+     * Deletes the oldest profiles, so that at most the given number of profiles remain in the directory.
+     * Only files named like the generated profiles are taken into account.
+     */
+    void deleteOldProfiles(Path directory, int maxFiles) throws IOException {
+        List<Path> profiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            profiles = files.filter(file -> FILE_NAME_PATTERN.matcher(file.getFileName().toString()).matches())
+                    .sorted((first, second) -> Long.compare(first.toFile().lastModified(), second.toFile()
+                            .lastModified()))
+                    .collect(Collectors.toList());
+        }
+        for (int i = 0; i < profiles.size() - maxFiles; i++) {
+            Files.deleteIfExists(profiles.get(i));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes profiles in the gzip compressed protobuf format of pprof.
+ * The messages are directly encoded in the protobuf wire format, so no protobuf library is required at runtime.
+ * <p>
+ * Each sample has the values "samples" (the number of samples) and "wall" (the estimated time in nanoseconds), the
+ * endpoint of a sample is written as the label "endpoint".
+ *
+ * @see <a href="https://github.com/google/pprof/blob/main/proto/profile.proto">profile.proto</a>
+ */
+public class PprofWriter {
+
+    // field numbers of the Profile message
+    private static final int PROFILE_SAMPLE_TYPE = 1;
+
+    private static final int PROFILE_SAMPLE = 2;
+
+    private static final int PROFILE_LOCATION = 4;
+
+    private static final int PROFILE_FUNCTION = 5;
+
+    private static final int PROFILE_STRING_TABLE = 6;
+
+    private static final int PROFILE_TIME_NANOS = 9;
+
+    private static final int PROFILE_DURATION_NANOS = 10;
+
+    private static final int PROFILE_PERIOD_TYPE = 11;
+
+    private static final int PROFILE_PERIOD = 12;
+
+    // field numbers of the nested messages
+    private static final int VALUE_TYPE_TYPE = 1;
+
+    private static final int VALUE_TYPE_UNIT = 2;
+
+    private static final int SAMPLE_LOCATION_ID = 1;
+
+    private static final int SAMPLE_VALUE = 2;
+
+    private static final int SAMPLE_LABEL = 3;
+
+    private static final int LABEL_KEY = 1;
+
+    private static final int LABEL_STR = 2;
+
+    private static final int LOCATION_ID = 1;
+
+    private static final int LOCATION_LINE = 4;
+
+    private static final int LINE_FUNCTION_ID = 1;
+
+    private static final int LINE_LINE = 2;
+
+    private static final int FUNCTION_ID = 1;
+
+    private static final int FUNCTION_NAME = 2;
+
+    private static final int FUNCTION_SYSTEM_NAME = 3;
+
+    private static final int FUNCTION_FILENAME = 4;
+
+    private static final int WIRE_TYPE_VARINT = 0;
+
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+    private final Map<String, Integer> strings = new LinkedHashMap<>();
+
+    private final Map<String, Integer> functionIds = new HashMap<>();
+
+    private final Map<StackTraceElement, Integer> locationIds = new HashMap<>();
+
+    private final ProtoBuffer functions = new ProtoBuffer();
+
+    private final ProtoBuffer locations = new ProtoBuffer();
+
+    private PprofWriter() {
+        // the string table has to start with the empty string
+        stringIndex("");
+    }
+
+    /**
+     * Writes the given profile.
+     *
+     * @param profile the profile to write
+     * @param out     the stream to write to, which is not closed by this method
+     *
+     * @throws IOException if writing to the stream fails
+     */
+    public static void write(Profile profile, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        new PprofWriter().encode(profile).writeTo(gzip);
+        gzip.finish();
+    }
+
+    private ProtoBuffer encode(Profile profile) {
+        ProtoBuffer result = new ProtoBuffer();
+        result.writeMessage(PROFILE_SAMPLE_TYPE, valueType("samples", "count"));
+        result.writeMessage(PROFILE_SAMPLE_TYPE, valueType("wall", "nanoseconds"));
+
+        int endpointKey = stringIndex("endpoint");
+        for (Profile.Sample sample : profile.getSamples()) {
+            ProtoBuffer stack = new ProtoBuffer();
+            // pprof expects the leaf of the stack first
+            for (int i = sample.getFrames().size() - 1; i >= 0; i--) {
+                stack.writeVarint(locationId(sample.getFrames().get(i)));
+            }
+            ProtoBuffer values = new ProtoBuffer();
+            values.writeVarint(sample.getCount());
+            values.writeVarint(sample.getCount() * profile.getSamplingPeriodNanos());
+            ProtoBuffer label = new ProtoBuffer();
+            label.writeVarintField(LABEL_KEY, endpointKey);
+            label.writeVarintField(LABEL_STR, stringIndex(sample.getEndpoint()));
+
+            ProtoBuffer encodedSample = new ProtoBuffer();
+            encodedSample.writeMessage(SAMPLE_LOCATION_ID, stack);
+            encodedSample.writeMessage(SAMPLE_VALUE, values);
+            encodedSample.writeMessage(SAMPLE_LABEL, label);
+            result.writeMessage(PROFILE_SAMPLE, encodedSample);
+        }
+
+        result.writeBytes(locations);
+        result.writeBytes(functions);
+        result.writeVarintField(PROFILE_TIME_NANOS, profile.getStartEpochNanos());
+        result.writeVarintField(PROFILE_DURATION_NANOS, profile.getDurationNanos());
+        result.writeMessage(PROFILE_PERIOD_TYPE, valueType("wall", "nanoseconds"));
+        result.writeVarintField(PROFILE_PERIOD, profile.getSamplingPeriodNanos());
+
+        // the string table has to be written last, as it is filled while encoding the other messages
+        for (String string : strings.keySet()) {
+            result.writeString(PROFILE_STRING_TABLE, string);
+        }
+        return result;
+    }
+
+    private ProtoBuffer valueType(String type, String unit) {
+        ProtoBuffer valueType = new ProtoBuffer();
+        valueType.writeVarintField(VALUE_TYPE_TYPE, stringIndex(type));
+        valueType.writeVarintField(VALUE_TYPE_UNIT, stringIndex(unit));
+        return valueType;
+    }
+
+    private int stringIndex(String string) {
+        return strings.computeIfAbsent(string, s -> strings.size());
+    }
+
+    /**
+     * Returns the id of the location of the given frame, which is written on the first invocation for a frame.
+     */
+    private int locationId(StackTraceElement frame) {
+        Integer id = locationIds.get(frame);
+        if (id == null) {
+            id = locationIds.size() + 1;
+            locationIds.put(frame, id);
+
+            ProtoBuffer line = new ProtoBuffer();
+            line.writeVarintField(LINE_FUNCTION_ID, functionId(frame));
+            line.writeVarintField(LINE_LINE, Math.max(frame.getLineNumber(), 0));
+            ProtoBuffer location = new ProtoBuffer();
+            location.writeVarintField(LOCATION_ID, id);
+            location.writeMessage(LOCATION_LINE, line);
+            locations.writeMessage(PROFILE_LOCATION, location);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of the function of the given frame, which is written on the first invocation for a function.
+     */
+    private int functionId(StackTraceElement frame) {
+        String name = frame.getClassName() + "." + frame.getMethodName();
+        Integer id = functionIds.get(name);
+        if (id == null) {
+            id = functionIds.size() + 1;
+            functionIds.put(name, id);
+
+            ProtoBuffer function = new ProtoBuffer();
+            function.writeVarintField(FUNCTION_ID, id);
+            function.writeVarintField(FUNCTION_NAME, stringIndex(name));
+            function.writeVarintField(FUNCTION_SYSTEM_NAME, stringIndex(name));
+            if (frame.getFileName() != null) {
+                function.writeVarintField(FUNCTION_FILENAME, stringIndex(frame.getFileName()));
+            }
+            functions.writeMessage(PROFILE_FUNCTION, function);
+        }
+        return id;
+    }
+
+    /**
+     * Minimal encoder for the protobuf wire format.
+     */
+    private static class ProtoBuffer extends ByteArrayOutputStream {
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private void writeTag(int fieldNumber, int wireType) {
+            writeVarint(((long) fieldNumber << 3) | wireType);
+        }
+
+        private void writeVarintField(int fieldNumber, long value) {
+            writeTag(fieldNumber, WIRE_TYPE_VARINT);
+            writeVarint(value);
+        }
+
+        private void writeMessage(int fieldNumber, ProtoBuffer message) {
+            writeTag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED);
+            writeVarint(message.size());
+            writeBytes(message);
+        }
+
+        private void writeString(int fieldNumber, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeTag(fieldNumber, WIRE_TYPE_LENGTH_DELIMITED);
+            writeVarint(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        private void writeBytes(ProtoBuffer other) {
+            write(other.buf, 0, other.count);
+        }
+    }
+}
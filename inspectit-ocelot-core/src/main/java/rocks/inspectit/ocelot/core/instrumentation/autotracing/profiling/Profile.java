@@ -0,0 +1,64 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A profile aggregated from the stack trace samples taken during a certain time window.
+ */
+@Value
+public class Profile {
+
+    /**
+     * The name of the service which has been profiled.
+     */
+    String serviceName;
+
+    /**
+     * The start of the time window as nanoseconds since the epoch.
+     */
+    long startEpochNanos;
+
+    /**
+     * The length of the time window in nanoseconds.
+     */
+    long durationNanos;
+
+    /**
+     * The interval at which the stack trace samples have been taken in nanoseconds.
+     */
+    long samplingPeriodNanos;
+
+    /**
+     * The aggregated samples, one per endpoint and distinct stack trace.
+     */
+    List<Sample> samples;
+
+    /**
+     * The number of samples which have been dropped because the profile reached its maximum size.
+     */
+    long droppedSamples;
+
+    /**
+     * The number of times a distinct stack trace has been sampled for an endpoint.
+     */
+    @Value
+    public static class Sample {
+
+        /**
+         * The name of the root span under which the stack trace has been sampled.
+         */
+        String endpoint;
+
+        /**
+         * The frames of the stack trace, starting with the bottom of the stack.
+         */
+        List<StackTraceElement> frames;
+
+        /**
+         * The number of times this stack trace has been sampled.
+         */
+        long count;
+    }
+}
@@ -0,0 +1,16 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+/**
+ * Exporter for the profiles aggregated by the {@link rocks.inspectit.ocelot.core.instrumentation.autotracing.ContinuousProfiler}.
+ * All Spring beans implementing this interface receive the profiles.
+ */
+public interface ProfileExporter {
+
+    /**
+     * Exports the given profile. This method is invoked periodically from a background thread and should not block
+     * for a long time.
+     *
+     * @param profile the profile to export
+     */
+    void export(Profile profile);
+}
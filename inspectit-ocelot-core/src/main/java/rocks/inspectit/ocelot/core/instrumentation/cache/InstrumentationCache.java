@@ -0,0 +1,607 @@
+package rocks.inspectit.ocelot.core.instrumentation.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.bootstrap.AgentManager;
+import rocks.inspectit.ocelot.config.model.instrumentation.InstrumentationCacheSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationConfiguration;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationRule;
+import rocks.inspectit.ocelot.core.instrumentation.special.SpecialSensor;
+import rocks.inspectit.ocelot.core.service.scheduling.MonitoredScheduledExecutor;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * An on-disk cache for instrumented bytecode, so that classes do not have to be instrumented again after a restart
+ * of the JVM.
+ * <p>
+ * The entries are keyed by a hash of the original bytecode of the class, the active rules and special sensors for the
+ * class, the instrumentation settings and the agent version. Thus, an entry is only used if the instrumentation would
+ * produce exactly the same bytecode. Each entry contains an HMAC of its content, entries which are corrupted are
+ * ignored and deleted. Each entry also stores the time it took to instrument the class, which is credited as saved time
+ * whenever the entry is used, also after a restart of the JVM. New entries are written asynchronously. If the cache exceeds its maximum size, the least
+ * recently used entries are evicted.
+ * <p>
+ * As the cached bytecode is loaded into the application, the cache directory must only be writable by the user running
+ * the JVM. On file systems with POSIX permissions, directories owned by other users or writable by the group or others
+ * are refused. The HMAC is computed with a secret which is generated on the first use of the directory and which is
+ * only readable by its owner, so that entries can not be forged without access to the secret.
+ * <p>
+ * The cache is configured via {@link InstrumentationCacheSettings}, which are only read on startup.
+ */
+@Component
+@Slf4j
+public class InstrumentationCache {
+
+    /**
+     * Marks a file as entry of this cache.
+     */
+    @VisibleForTesting
+    static final int MAGIC = 0x69744943;
+
+    /**
+     * The version of the entry format, entries with a different version are ignored.
+     */
+    @VisibleForTesting
+    static final int VERSION = 3;
+
+    @VisibleForTesting
+    static final String ENTRY_SUFFIX = ".bin";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * The file within the cache directory containing the secret used for the HMAC of the entries.
+     */
+    @VisibleForTesting
+    static final String SECRET_FILE = "secret.key";
+
+    private static final int SECRET_LENGTH = 32;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+
+    private static final int DIGEST_LENGTH = 32;
+
+    private static final int HEADER_LENGTH = 3 * Integer.BYTES + Long.BYTES + DIGEST_LENGTH;
+
+    /**
+     * When evicting entries, the cache is shrunk to this fraction of its maximum size, so that not every write
+     * triggers an eviction.
+     */
+    private static final double EVICTION_TARGET = 0.9;
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Autowired
+    @Qualifier(TaskGroups.INSTRUMENTATION)
+    private ScheduledExecutorService executor;
+
+    /**
+     * The directory of the cache, null if the cache is disabled.
+     */
+    private volatile Path directory;
+
+    private long maxSizeBytes;
+
+    /**
+     * The secret used for the HMAC of the entries.
+     */
+    private byte[] secret;
+
+    /**
+     * The estimated total size of all entries.
+     */
+    private final AtomicLong size = new AtomicLong();
+
+    /**
+     * The fingerprint of the most recently used instrumentation configuration. Configuration and fingerprint are kept
+     * in a single immutable holder, so that concurrent transformations can never pair a configuration with the
+     * fingerprint of another one.
+     */
+    private volatile ConfigurationFingerprint configurationFingerprint;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder invalidEntries = new LongAdder();
+
+    private final LongAdder savedNanos = new LongAdder();
+
+    @PostConstruct
+    void init() {
+        InstrumentationCacheSettings settings = env.getCurrentConfig().getInstrumentation().getInternal().getCache();
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (StringUtils.isBlank(settings.getDirectory())) {
+            log.warn("The instrumentation cache is enabled but no directory is configured, the cache is disabled");
+            return;
+        }
+        try {
+            Path cacheDirectory = Paths.get(settings.getDirectory()).toAbsolutePath();
+            Files.createDirectories(cacheDirectory);
+            UserPrincipal jvmUser = getJvmUser(cacheDirectory);
+            checkAccess(cacheDirectory, jvmUser, PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_WRITE);
+            secret = loadOrCreateSecret(cacheDirectory, jvmUser);
+            maxSizeBytes = settings.getMaxSize().toBytes();
+            directory = cacheDirectory;
+            log.info("Using instrumentation cache in {}", cacheDirectory);
+            executor.execute(MonitoredScheduledExecutor.named("instrumentation-cache-scan", this::scan));
+        } catch (Exception e) {
+            log.error("Could not use the instrumentation cache directory, the cache is disabled", e);
+        }
+    }
+
+    /**
+     * Determines the user running the JVM as owner of a newly created file.
+     */
+    private static UserPrincipal getJvmUser(Path directory) throws IOException {
+        Path probe = Files.createTempFile(directory, "owner", TEMP_SUFFIX);
+        try {
+            return Files.getOwner(probe);
+        } finally {
+            Files.deleteIfExists(probe);
+        }
+    }
+
+    /**
+     * Ensures that the given file is owned by the user running the JVM and has none of the given permissions.
+     * The check is skipped on file systems without POSIX permissions.
+     *
+     * @throws IOException if the file is owned by another user or has one of the forbidden permissions
+     */
+    private static void checkAccess(Path file, UserPrincipal jvmUser, PosixFilePermission... forbiddenPermissions) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(file, PosixFileAttributeView.class, LinkOption.NOFOLLOW_LINKS);
+        if (view == null) {
+            return;
+        }
+        PosixFileAttributes attributes = view.readAttributes();
+        if (!attributes.owner().equals(jvmUser)) {
+            throw new IOException(file + " is not owned by " + jvmUser.getName());
+        }
+        Set<PosixFilePermission> permissions = attributes.permissions();
+        for (PosixFilePermission permission : forbiddenPermissions) {
+            if (permissions.contains(permission)) {
+                throw new IOException(file + " must not have the permission " + permission);
+            }
+        }
+    }
+
+    /**
+     * Reads the secret for the HMAC of the entries from the given directory. If no secret exists yet, a random one is
+     * generated and stored in a file only accessible by the user running the JVM.
+     *
+     * @throws IOException if the secret can not be read or is accessible by other users
+     */
+    private static byte[] loadOrCreateSecret(Path directory, UserPrincipal jvmUser) throws IOException {
+        Path secretFile = directory.resolve(SECRET_FILE);
+        if (!Files.exists(secretFile, LinkOption.NOFOLLOW_LINKS)) {
+            byte[] secret = new byte[SECRET_LENGTH];
+            new SecureRandom().nextBytes(secret);
+            // temporary files are created with owner only permissions
+            Path temp = Files.createTempFile(directory, "secret", TEMP_SUFFIX);
+            try {
+                Files.write(temp, secret);
+                Files.move(temp, secretFile);
+            } catch (FileAlreadyExistsException e) {
+                // another JVM created the secret concurrently
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        checkAccess(secretFile, jvmUser, PosixFilePermission.GROUP_READ, PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_READ, PosixFilePermission.OTHERS_WRITE);
+        byte[] secret = Files.readAllBytes(secretFile);
+        if (secret.length != SECRET_LENGTH) {
+            throw new IOException(secretFile + " does not contain a valid secret");
+        }
+        return secret;
+    }
+
+    /**
+     * @return true, if the cache is enabled
+     */
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * Computes the key of the cache entry for the given class.
+     *
+     * @param type          the class
+     * @param bytecode      the original bytecode of the class
+     * @param classConf     the instrumentation to apply
+     * @param methodMatcher the matcher of the methods to which the hook is applied, null if no hook is applied
+     *
+     * @return the key or null, if the cache is disabled or the instrumentation of the class can not be cached
+     */
+    public String getKey(TypeDescription type, byte[] bytecode, ClassInstrumentationConfiguration classConf, ElementMatcher<? super MethodDescription> methodMatcher) {
+        if (directory == null) {
+            return null;
+        }
+        for (SpecialSensor sensor : classConf.getActiveSpecialSensors()) {
+            if (!sensor.isCacheable()) {
+                return null;
+            }
+        }
+        MessageDigest digest = createDigest();
+        digest.update(getConfigurationFingerprint(classConf.getActiveConfiguration()));
+        update(digest, type.getName());
+        classConf.getActiveRules().stream().map(InstrumentationRule::getName).sorted().forEach(name -> update(digest, name));
+        // the rules of the same name might match different methods after a configuration change
+        if (methodMatcher != null) {
+            for (MethodDescription.InDefinedShape method : type.getDeclaredMethods().filter(methodMatcher)) {
+                update(digest, method.getInternalName() + method.getDescriptor());
+            }
+        }
+        classConf.getActiveSpecialSensors()
+                .stream()
+                .map(sensor -> sensor.getClass().getName())
+                .sorted()
+                .forEach(name -> update(digest, name));
+        digest.update(bytecode);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Returns the cached instrumented bytecode.
+     *
+     * @param key the key computed via {@link #getKey(TypeDescription, byte[], ClassInstrumentationConfiguration, ElementMatcher)}
+     *
+     * @return the instrumented bytecode or null, if no valid entry exists
+     */
+    public byte[] get(String key) {
+        long start = System.nanoTime();
+        Path file = getEntryFile(key);
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return null;
+        } catch (IOException e) {
+            log.debug("Could not read instrumentation cache entry {}", file, e);
+            misses.increment();
+            return null;
+        }
+
+        Entry entry = decode(secret, key, content);
+        if (entry == null) {
+            log.debug("Deleting invalid instrumentation cache entry {}", file);
+            invalidEntries.increment();
+            delete(file);
+            return null;
+        }
+        try {
+            // the modification time is used for evicting the least recently used entries
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Could not update the modification time of instrumentation cache entry {}", file, e);
+        }
+        hits.increment();
+        savedNanos.add(Math.max(0, entry.getInstrumentationNanos() - (System.nanoTime() - start)));
+        return entry.getBytecode();
+    }
+
+    /**
+     * Stores the given instrumented bytecode asynchronously.
+     *
+     * @param key                  the key computed via {@link #getKey(TypeDescription, byte[], ClassInstrumentationConfiguration, ElementMatcher)}
+     * @param instrumentedBytecode the instrumented bytecode
+     * @param instrumentationNanos the time it took to instrument the class, stored with the entry to estimate the time
+     *                             saved whenever the entry is used
+     */
+    public void put(String key, byte[] instrumentedBytecode, long instrumentationNanos) {
+        executor.execute(MonitoredScheduledExecutor.named("instrumentation-cache-write", () -> write(key, instrumentedBytecode, instrumentationNanos)));
+    }
+
+    /**
+     * @return the number of classes which have been loaded from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of classes for which no cache entry existed
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of corrupted or outdated entries which have been deleted
+     */
+    public long getInvalidEntries() {
+        return invalidEntries.sum();
+    }
+
+    /**
+     * @return the estimated time saved by loading classes from the cache instead of instrumenting them
+     */
+    public long getSavedNanos() {
+        return savedNanos.sum();
+    }
+
+    /**
+     * @return the estimated total size of all cache entries in bytes
+     */
+    public long getSize() {
+        return size.get();
+    }
+
+    @VisibleForTesting
+    void write(String key, byte[] instrumentedBytecode, long instrumentationNanos) {
+        Path file = getEntryFile(key);
+        if (Files.exists(file)) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            byte[] content = encode(secret, key, instrumentedBytecode, instrumentationNanos);
+            temp = Files.createTempFile(file.getParent(), key, TEMP_SUFFIX);
+            Files.write(temp, content);
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (size.addAndGet(content.length) > maxSizeBytes) {
+                evict();
+            }
+        } catch (IOException e) {
+            log.debug("Could not write instrumentation cache entry {}", file, e);
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    /**
+     * Computes the size of the cache and removes left over temporary files.
+     * Evicts entries if the cache exceeds its maximum size, e.g. because the maximum size has been reduced.
+     */
+    @VisibleForTesting
+    synchronized void scan() {
+        long totalSize = 0;
+        for (EntryFile entry : listEntries()) {
+            totalSize += entry.getSize();
+        }
+        size.set(totalSize);
+        if (totalSize > maxSizeBytes) {
+            evict();
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries until the cache is shrunk to {@link #EVICTION_TARGET} of its maximum size.
+     */
+    private synchronized void evict() {
+        List<EntryFile> entries = listEntries();
+        long totalSize = entries.stream().mapToLong(EntryFile::getSize).sum();
+        long targetSize = (long) (maxSizeBytes * EVICTION_TARGET);
+        entries.sort(Comparator.comparingLong(EntryFile::getLastModified));
+
+        int evicted = 0;
+        for (EntryFile entry : entries) {
+            if (totalSize <= targetSize) {
+                break;
+            }
+            if (delete(entry.getPath())) {
+                totalSize -= entry.getSize();
+                evicted++;
+            }
+        }
+        size.set(totalSize);
+        log.debug("Evicted {} entries from the instrumentation cache", evicted);
+    }
+
+    private List<EntryFile> listEntries() {
+        List<EntryFile> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory, 2)) {
+            files.forEach(path -> {
+                String fileName = path.getFileName().toString();
+                try {
+                    if (fileName.endsWith(TEMP_SUFFIX)) {
+                        delete(path);
+                    } else if (fileName.endsWith(ENTRY_SUFFIX)) {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        entries.add(new EntryFile(path, attributes.size(), attributes.lastModifiedTime().toMillis()));
+                    }
+                } catch (IOException e) {
+                    log.debug("Could not read attributes of instrumentation cache entry {}", path, e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not list the entries of the instrumentation cache", e);
+        }
+        return entries;
+    }
+
+    private boolean delete(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Could not delete instrumentation cache file {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Entries are stored in sub-directories named by the first two characters of their key, so that no single
+     * directory contains all entries.
+     */
+    private Path getEntryFile(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    /**
+     * Returns a hash of all settings which influence the instrumented bytecode of all classes. The hash is computed
+     * only once per configuration.
+     */
+    private byte[] getConfigurationFingerprint(InstrumentationConfiguration configuration) {
+        ConfigurationFingerprint fingerprint = configurationFingerprint;
+        if (fingerprint == null || fingerprint.getConfiguration() != configuration) {
+            MessageDigest digest = createDigest();
+            update(digest, AgentManager.getAgentVersion());
+            update(digest, AgentManager.getAgentBuildDate());
+            if (configuration != null) {
+                update(digest, String.valueOf(configuration.isMetricsEnabled()));
+                update(digest, String.valueOf(configuration.isTracingEnabled()));
+                update(digest, String.valueOf(configuration.getSource()));
+                update(digest, String.valueOf(configuration.getTracingSettings()));
+            }
+            fingerprint = new ConfigurationFingerprint(configuration, digest.digest());
+            configurationFingerprint = fingerprint;
+        }
+        return fingerprint.getFingerprint();
+    }
+
+    /**
+     * Creates the content of an entry, which consists of a header ({@link #MAGIC}, {@link #VERSION}, the length of the
+     * bytecode, the instrumentation time and an HMAC of the key, the instrumentation time and the bytecode) followed by
+     * the bytecode.
+     */
+    @VisibleForTesting
+    static byte[] encode(byte[] secret, String key, byte[] bytecode, long instrumentationNanos) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + bytecode.length);
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putInt(bytecode.length);
+        buffer.putLong(instrumentationNanos);
+        buffer.put(mac(secret, key, instrumentationNanos, bytecode, 0, bytecode.length));
+        buffer.put(bytecode);
+        return buffer.array();
+    }
+
+    /**
+     * Extracts the bytecode and instrumentation time of an entry created via {@link #encode(byte[], String, byte[], long)}.
+     *
+     * @return the entry or null, if the entry is corrupted, has been created with another secret or has a different version
+     */
+    @VisibleForTesting
+    static Entry decode(byte[] secret, String key, byte[] content) {
+        if (content.length < HEADER_LENGTH) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != content.length - HEADER_LENGTH) {
+            return null;
+        }
+        long instrumentationNanos = buffer.getLong();
+        byte[] checksum = new byte[DIGEST_LENGTH];
+        buffer.get(checksum);
+        if (!MessageDigest.isEqual(checksum, mac(secret, key, instrumentationNanos, content, HEADER_LENGTH, content.length - HEADER_LENGTH))) {
+            return null;
+        }
+        byte[] bytecode = new byte[content.length - HEADER_LENGTH];
+        buffer.get(bytecode);
+        return new Entry(bytecode, instrumentationNanos);
+    }
+
+    private static byte[] mac(byte[] secret, String key, long instrumentationNanos, byte[] data, int offset, int length) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret, MAC_ALGORITHM));
+            mac.update(key.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(ByteBuffer.allocate(Long.BYTES).putLong(instrumentationNanos).array());
+            mac.update(data, offset, length);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(MAC_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported", e);
+        }
+    }
+
+    /**
+     * Adds the given string followed by a separator to the digest, so that subsequent strings can not be confused.
+     */
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    /**
+     * The content of a cache entry.
+     */
+    @Value
+    @VisibleForTesting
+    static class Entry {
+
+        byte[] bytecode;
+
+        /**
+         * The time it took to instrument the class when the entry has been created.
+         */
+        long instrumentationNanos;
+    }
+
+    @Value
+    private static class ConfigurationFingerprint {
+
+        InstrumentationConfiguration configuration;
+
+        byte[] fingerprint;
+    }
+
+    @Value
+    private static class EntryFile {
+
+        Path path;
+
+        long size;
+
+        long lastModified;
+    }
+}
@@ -167,6 +167,7 @@ public class InstrumentationRuleResolver {
         return ActionCallConfig.builder()
                 .dataKey(dataKey)
                 .actionTracing(actionTracing)
+                .intrinsicAllowed(environment.getCurrentConfig().getInstrumentation().getInternal().isIntrinsicActions())
                 .sourceRuleName(ruleName)
                 .action(actions.get(call.getAction()))
                 .callSettings(call)
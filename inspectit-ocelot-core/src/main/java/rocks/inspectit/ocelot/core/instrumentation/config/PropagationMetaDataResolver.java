@@ -1,10 +1,12 @@
 package rocks.inspectit.ocelot.core.instrumentation.config;
 
 import com.google.common.annotations.VisibleForTesting;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.DataSettings;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.propagation.PropagationMetaData;
@@ -16,6 +18,7 @@ import java.util.Map;
  * Constructs a {@link PropagationMetaData} instance based on the configuration ({@link InspectitConfig}).
  */
 @Component
+@Slf4j
 public class PropagationMetaDataResolver {
 
     @Autowired
@@ -34,7 +37,18 @@ public class PropagationMetaDataResolver {
         collectTagsFromMetricDefinitions(config.getMetrics().getDefinitions(), builder);
         collectUserSettings(config.getInstrumentation().getData(), builder);
 
-        return builder.build();
+        PropagationMetaData result = builder.build();
+        warnAboutIgnoredTypes(config.getInstrumentation().getData(), result);
+        return result;
+    }
+
+    private void warnAboutIgnoredTypes(Map<String, DataSettings> dataSettings, PropagationMetaData propagation) {
+        dataSettings.forEach((key, settings) -> {
+            DataType type = settings.getType();
+            if ((type == DataType.LONG || type == DataType.DOUBLE) && propagation.getPrimitiveSlot(key) == null) {
+                log.warn("The values of data '{}' are stored as objects instead of {}, because the data is propagated, stored for sessions, used as tag or too many primitive data keys are defined", key, type);
+            }
+        });
     }
 
     @VisibleForTesting
@@ -78,6 +92,9 @@ public class PropagationMetaDataResolver {
             if (settings.getSessionStorage() != null) {
                 builder.setSessionStorage(key, settings.getSessionStorage());
             }
+            if (settings.getType() != null) {
+                builder.setType(key, settings.getType());
+            }
         });
     }
 }
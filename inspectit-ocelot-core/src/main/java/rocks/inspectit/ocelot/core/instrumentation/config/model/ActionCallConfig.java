@@ -31,6 +31,12 @@ public class ActionCallConfig {
      */
     private boolean actionTracing;
 
+    /**
+     * Whether a built-in implementation may be used instead of the generic action, in case one exists.
+     * See {@link rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic.IntrinsicActions}.
+     */
+    private boolean intrinsicAllowed;
+
     /**
      * The input assignments to use for calling the action.
      * It is guaranteed that the action name specified {@link #callSettings} is the name of the action defined by {@link #action}.
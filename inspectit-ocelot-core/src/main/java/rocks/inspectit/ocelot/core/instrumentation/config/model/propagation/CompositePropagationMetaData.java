@@ -1,5 +1,6 @@
 package rocks.inspectit.ocelot.core.instrumentation.config.model.propagation;
 
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 
 import java.util.HashMap;
@@ -39,6 +40,11 @@ class CompositePropagationMetaData implements PropagationMetaData {
      */
     private Map<String, Boolean> tagOverrides;
 
+    /**
+     * Maps data keys to overrides for their type.
+     */
+    private Map<String, DataType> typeOverrides;
+
     private CompositePropagationMetaData() {}
 
     /**
@@ -105,6 +111,34 @@ class CompositePropagationMetaData implements PropagationMetaData {
         return isActive != null ? isActive : parent.isStoredForSession(dataKey);
     }
 
+    /**
+     * The slots are defined by the parent, as contexts keep their slot values when their settings are overridden.
+     * If a data key is overridden to be propagated, to be used as tag or to have a type other than the one of its slot,
+     * its values are stored as objects instead.
+     */
+    @Override
+    public PrimitiveDataSlot getPrimitiveSlot(String dataKey) {
+        PrimitiveDataSlot slot = parent.getPrimitiveSlot(dataKey);
+        DataType type = typeOverrides.get(dataKey);
+        if (slot != null && type != null && type != slot.getType()) {
+            return null;
+        }
+        if (slot != null && (isTag(dataKey) || isPropagatedDownWithinJVM(dataKey) || isPropagatedUpWithinJVM(dataKey) || isStoredForSession(dataKey))) {
+            return null;
+        }
+        return slot;
+    }
+
+    @Override
+    public PrimitiveDataSlot[] getPrimitiveSlots() {
+        return parent.getPrimitiveSlots();
+    }
+
+    @Override
+    public boolean hasPrimitiveSlots() {
+        return parent.hasPrimitiveSlots();
+    }
+
     @Override
     public PropagationMetaData.Builder copy() {
         return new CompositePropagationMetaDataBuilder(this);
@@ -123,12 +157,14 @@ class CompositePropagationMetaData implements PropagationMetaData {
                 result.upPropagationOverrides = new HashMap<>(cParent.upPropagationOverrides);
                 result.sessionStorageOverrides = new HashMap<>(cParent.sessionStorageOverrides);
                 result.tagOverrides = new HashMap<>(cParent.tagOverrides);
+                result.typeOverrides = new HashMap<>(cParent.typeOverrides);
             } else {
                 result.parent = parent;
                 result.downPropagationOverrides = new HashMap<>();
                 result.upPropagationOverrides = new HashMap<>();
                 result.sessionStorageOverrides = new HashMap<>();
                 result.tagOverrides = new HashMap<>();
+                result.typeOverrides = new HashMap<>();
             }
         }
 
@@ -156,6 +192,12 @@ class CompositePropagationMetaData implements PropagationMetaData {
             return this;
         }
 
+        @Override
+        public Builder setType(String dataKey, DataType type) {
+            result.typeOverrides.put(dataKey, type);
+            return this;
+        }
+
         @Override
         public PropagationMetaData build() {
             return result;
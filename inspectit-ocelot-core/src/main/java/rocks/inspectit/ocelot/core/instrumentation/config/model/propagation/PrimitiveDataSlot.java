@@ -0,0 +1,38 @@
+package rocks.inspectit.ocelot.core.instrumentation.config.model.propagation;
+
+import lombok.Value;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
+
+/**
+ * Describes where the values of a data key with a primitive {@link DataType} are stored within an
+ * {@link rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl}.
+ */
+@Value
+public class PrimitiveDataSlot {
+
+    /**
+     * The data key stored in this slot.
+     */
+    String dataKey;
+
+    /**
+     * The index of the slot, which is unique for the {@link PropagationMetaData} defining it.
+     */
+    int index;
+
+    /**
+     * The type of the stored values, either {@link DataType#LONG} or {@link DataType#DOUBLE}.
+     */
+    DataType type;
+
+    /**
+     * Converts a raw value stored in this slot to a boxed value.
+     *
+     * @param rawValue the stored value, doubles are stored via {@link Double#doubleToRawLongBits(double)}
+     *
+     * @return the value as {@link Long} or {@link Double}
+     */
+    public Number box(long rawValue) {
+        return type == DataType.LONG ? (Number) rawValue : (Number) Double.longBitsToDouble(rawValue);
+    }
+}
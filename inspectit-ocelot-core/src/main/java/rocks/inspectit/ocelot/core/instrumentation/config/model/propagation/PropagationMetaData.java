@@ -1,5 +1,6 @@
 package rocks.inspectit.ocelot.core.instrumentation.config.model.propagation;
 
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 
 /**
@@ -46,6 +47,25 @@ public interface PropagationMetaData {
      */
     boolean isStoredForSession(String dataKey);
 
+    /**
+     * Data keys with a primitive type are stored without boxing, if they are neither propagated, stored for
+     * sessions nor used as tag.
+     *
+     * @param dataKey the data key to check
+     * @return the slot used for storing the values of the data key or null, if its values are stored as objects
+     */
+    PrimitiveDataSlot getPrimitiveSlot(String dataKey);
+
+    /**
+     * @return all slots for primitive data, the position of each slot corresponds to its index
+     */
+    PrimitiveDataSlot[] getPrimitiveSlots();
+
+    /**
+     * @return true, if at least one data key is stored without boxing
+     */
+    boolean hasPrimitiveSlots();
+
     /**
      * Copies the currently active settings to a new Builder.
      * This builder can then be altered as required and used to generate a new PropagationMetaData instance.
@@ -78,6 +98,8 @@ public interface PropagationMetaData {
 
         Builder setSessionStorage(String dataKey, Boolean isActive);
 
+        Builder setType(String dataKey, DataType type);
+
         PropagationMetaData build();
     }
 }
@@ -1,9 +1,9 @@
 package rocks.inspectit.ocelot.core.instrumentation.config.model.propagation;
 
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 /**
  * Standard implementation for {@link PropagationMetaData}.
@@ -14,6 +14,13 @@ import java.util.Set;
  */
 class RootPropagationMetaData implements PropagationMetaData {
 
+    /**
+     * The maximum number of primitive slots, as the contexts track the assigned slots in a single long bit mask.
+     */
+    static final int MAX_PRIMITIVE_SLOTS = 64;
+
+    private static final PrimitiveDataSlot[] NO_SLOTS = new PrimitiveDataSlot[0];
+
     /**
      * Contains all data keys which have been defined to be used as tags.
      */
@@ -46,6 +53,13 @@ class RootPropagationMetaData implements PropagationMetaData {
      */
     private final Set<String> sessionStorageKeys = new HashSet<>();
 
+    /**
+     * Maps the data keys which are stored without boxing to their slots.
+     */
+    private final Map<String, PrimitiveDataSlot> primitiveSlots = new HashMap<>();
+
+    private PrimitiveDataSlot[] primitiveSlotArray = NO_SLOTS;
+
     private RootPropagationMetaData() {}
 
     public static Builder builder() {
@@ -82,6 +96,21 @@ class RootPropagationMetaData implements PropagationMetaData {
         return sessionStorageKeys.contains(dataKey);
     }
 
+    @Override
+    public PrimitiveDataSlot getPrimitiveSlot(String dataKey) {
+        return primitiveSlots.get(dataKey);
+    }
+
+    @Override
+    public PrimitiveDataSlot[] getPrimitiveSlots() {
+        return primitiveSlotArray;
+    }
+
+    @Override
+    public boolean hasPrimitiveSlots() {
+        return primitiveSlotArray.length > 0;
+    }
+
     @Override
     public Builder copy() {
         return CompositePropagationMetaData.builder(this);
@@ -91,6 +120,11 @@ class RootPropagationMetaData implements PropagationMetaData {
 
         private RootPropagationMetaData result = new RootPropagationMetaData();
 
+        /**
+         * The types of the data keys, the slots are only assigned on {@link #build()} as they depend on the other settings.
+         */
+        private final Map<String, DataType> types = new LinkedHashMap<>();
+
         @Override
         public Builder setTag(String dataKey, boolean isTag) {
             if (isTag) {
@@ -150,9 +184,30 @@ class RootPropagationMetaData implements PropagationMetaData {
             return this;
         }
 
+        @Override
+        public Builder setType(String dataKey, DataType type) {
+            types.put(dataKey, type);
+            return this;
+        }
+
         @Override
         public PropagationMetaData build() {
+            List<PrimitiveDataSlot> slots = new ArrayList<>();
+            types.forEach((dataKey, type) -> {
+                boolean isPrimitive = type == DataType.LONG || type == DataType.DOUBLE;
+                if (isPrimitive && isLocalOnly(dataKey) && slots.size() < MAX_PRIMITIVE_SLOTS) {
+                    PrimitiveDataSlot slot = new PrimitiveDataSlot(dataKey, slots.size(), type);
+                    slots.add(slot);
+                    result.primitiveSlots.put(dataKey, slot);
+                }
+            });
+            result.primitiveSlotArray = slots.toArray(NO_SLOTS);
             return result;
         }
+
+        private boolean isLocalOnly(String dataKey) {
+            return !result.isTag(dataKey) && !result.isPropagatedDownWithinJVM(dataKey) && !result.isPropagatedUpWithinJVM(dataKey) && !result
+                    .isStoredForSession(dataKey);
+        }
     }
 }
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
 import rocks.inspectit.ocelot.bootstrap.Instances;
+import rocks.inspectit.ocelot.bootstrap.context.ContextCarrier;
 import rocks.inspectit.ocelot.bootstrap.context.ContextTuple;
 import rocks.inspectit.ocelot.bootstrap.context.IContextManager;
 import rocks.inspectit.ocelot.core.config.spring.BootstrapInitializerConfiguration;
@@ -18,6 +19,7 @@ import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
 
 import javax.validation.constraints.NotNull;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.lang.Boolean.TRUE;
 
@@ -47,10 +49,20 @@ public class ContextManager implements IContextManager {
     private InstrumentationConfigurationResolver configProvider;
 
     /**
-     * Cache for storing the context objects.
+     * Cache for storing the context objects of targets which are no {@link ContextCarrier}.
      */
     private final Cache<Object, InvalidationContext> contextCache = CacheBuilder.newBuilder().weakKeys().build();
 
+    /**
+     * The number of task handoffs for which the context has been captured.
+     */
+    private final LongAdder capturedHandoffs = new LongAdder();
+
+    /**
+     * The number of task handoffs for which capturing the context has been skipped as it was empty.
+     */
+    private final LongAdder skippedHandoffs = new LongAdder();
+
     /**
      * Flag for marking if a context correlation is in progress. See {@link rocks.inspectit.ocelot.core.instrumentation.special.ExecutorContextPropagationSensor}
      * for more details.
@@ -111,19 +123,78 @@ public class ContextManager implements IContextManager {
                 .getPropagationMetaData(), sessionStorage, IS_OPEN_CENSUS_ON_BOOTSTRAP);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The context is considered to be empty if both, the OpenTelemetry and the GRPC context, are the root contexts.
+     * The result is counted as captured or skipped handoff.
+     */
+    @Override
+    public boolean shouldCaptureContext() {
+        if (ContextUtil.current() == Context.root() && ContextUtil.currentGrpc() == io.grpc.Context.ROOT) {
+            skippedHandoffs.increment();
+            return false;
+        }
+        capturedHandoffs.increment();
+        return true;
+    }
+
+    /**
+     * @return the total number of task handoffs for which the context has been captured
+     */
+    public long getCapturedHandoffs() {
+        return capturedHandoffs.sum();
+    }
+
+    /**
+     * @return the total number of task handoffs for which capturing the context has been skipped
+     */
+    public long getSkippedHandoffs() {
+        return skippedHandoffs.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In case the target is a {@link ContextCarrier}, the context is stored in its injected field instead of the
+     * global cache.
+     */
     @Override
     public void storeContext(Object target, boolean invalidateAfterRestoring) {
         InvalidationContext invalidationContext = new InvalidationContext(invalidateAfterRestoring, ContextUtil.current(), ContextUtil.currentGrpc());
-        contextCache.put(target, invalidationContext);
+        if (target instanceof ContextCarrier) {
+            ((ContextCarrier) target).inspectit$setContext(invalidationContext);
+        } else {
+            contextCache.put(target, invalidationContext);
+        }
+    }
+
+    @Override
+    public void clearContext(Object target) {
+        if (target instanceof ContextCarrier) {
+            ((ContextCarrier) target).inspectit$setContext(null);
+        } else {
+            contextCache.invalidate(target);
+        }
     }
 
     @Override
     public ContextTuple attachContext(Object target) {
-        InvalidationContext invalidationContext = contextCache.getIfPresent(target);
-        if (invalidationContext != null) {
-            if (invalidationContext.invalidate) {
+        InvalidationContext invalidationContext;
+        if (target instanceof ContextCarrier) {
+            ContextCarrier carrier = (ContextCarrier) target;
+            invalidationContext = (InvalidationContext) carrier.inspectit$getContext();
+            if (invalidationContext != null && invalidationContext.invalidate) {
+                carrier.inspectit$setContext(null);
+            }
+        } else {
+            invalidationContext = contextCache.getIfPresent(target);
+            if (invalidationContext != null && invalidationContext.invalidate) {
                 contextCache.invalidate(target);
             }
+        }
+
+        if (invalidationContext != null) {
             // restore/attach context to current runtime/thread
             Pair<Scope, io.grpc.Context> previous = invalidationContext.attach();
 
@@ -10,10 +10,12 @@ import io.opentelemetry.sdk.trace.IdGenerator;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import rocks.inspectit.ocelot.bootstrap.context.InternalInspectitContext;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 import rocks.inspectit.ocelot.core.instrumentation.context.propagation.ContextPropagation;
 import rocks.inspectit.ocelot.core.instrumentation.context.session.PropagationDataStorage;
 import rocks.inspectit.ocelot.core.instrumentation.context.session.PropagationSessionStorage;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.propagation.PrimitiveDataSlot;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.propagation.PropagationMetaData;
 import rocks.inspectit.ocelot.core.tags.TagUtils;
 
@@ -72,6 +74,10 @@ import java.util.stream.Stream;
  * In addition, an {@link InspectitContextImpl} instance can be used for tracing. Hereby, one instance can record exactly one span.
  * To do this {@link #setSpanScope(AutoCloseable)} must be called BEFORE {@link #makeActive()}.
  * The span is automatically finished when {@link #close()} is called.
+ * <p>
+ * Data keys with a primitive type which are neither propagated nor used as tags are stored without boxing.
+ * Their values can be accessed via {@link #setLongData(String, long)}, {@link #getDoubleData(String)} etc.,
+ * {@link #getData(String)} and {@link #setData(String, Object)} box and unbox the values in this case.
  */
 @Slf4j
 public class InspectitContextImpl implements InternalInspectitContext {
@@ -190,6 +196,20 @@ public class InspectitContextImpl implements InternalInspectitContext {
      */
     private Map<String, Object> cachedActivePhaseDownPropagatedData = null;
 
+    /**
+     * Contains the values of all data keys which have a {@link PrimitiveDataSlot}, indexed by the slot.
+     * Doubles are stored via {@link Double#doubleToRawLongBits(double)}. The array is only allocated on the first write.
+     * <p>
+     * Values stored in this array are never propagated nor stored for sessions, which is guaranteed by the
+     * {@link PropagationMetaData} only assigning slots to data keys which are not shared.
+     */
+    private long[] primitiveData;
+
+    /**
+     * Bit mask of the slots in {@link #primitiveData} which currently hold a value.
+     */
+    private long primitiveDataMask;
+
     /**
      * This span context serves as a placeholder for a remote parent context.
      * This can be useful, if the local SpanContext is created before the actual remote context.
@@ -383,6 +403,12 @@ public class InspectitContextImpl implements InternalInspectitContext {
      */
     @Override
     public Object getData(String key) {
+        if (primitiveDataMask != 0) {
+            PrimitiveDataSlot slot = propagation.getPrimitiveSlot(key);
+            if (slot != null && hasPrimitiveValue(slot)) {
+                return slot.box(primitiveData[slot.getIndex()]);
+            }
+        }
         if (dataOverwrites.containsKey(key)) {
             return dataOverwrites.get(key);
         } else if (postEntryPhaseDownPropagatedData.containsKey(key)) {
@@ -404,9 +430,142 @@ public class InspectitContextImpl implements InternalInspectitContext {
      */
     @Override
     public void setData(String key, Object value) {
+        PrimitiveDataSlot slot = getPrimitiveSlot(key);
+        if (slot != null) {
+            // only values matching the type are unboxed, so that getData(key) returns the value as it was set
+            if (slot.getType() == DataType.LONG && value instanceof Long) {
+                setPrimitiveValue(slot, (Long) value);
+                return;
+            } else if (slot.getType() == DataType.DOUBLE && value instanceof Double) {
+                setPrimitiveValue(slot, Double.doubleToRawLongBits((Double) value));
+                return;
+            }
+            primitiveDataMask &= ~(1L << slot.getIndex());
+        }
         dataOverwrites.put(key, value);
     }
 
+    /**
+     * Sets the value for a given data key without boxing, if the data key has a primitive type.
+     * If the data key has the type DOUBLE, the value is converted. Otherwise, it is stored as {@link Long}.
+     *
+     * @param key   the key of the data to set
+     * @param value the value to set
+     */
+    public void setLongData(String key, long value) {
+        PrimitiveDataSlot slot = getPrimitiveSlot(key);
+        if (slot == null) {
+            setData(key, value);
+        } else if (slot.getType() == DataType.LONG) {
+            setPrimitiveValue(slot, value);
+        } else {
+            setPrimitiveValue(slot, Double.doubleToRawLongBits(value));
+        }
+    }
+
+    /**
+     * Sets the value for a given data key without boxing, if the data key has a primitive type.
+     * If the data key has the type LONG, the value is converted. Otherwise, it is stored as {@link Double}.
+     *
+     * @param key   the key of the data to set
+     * @param value the value to set
+     */
+    public void setDoubleData(String key, double value) {
+        PrimitiveDataSlot slot = getPrimitiveSlot(key);
+        if (slot == null) {
+            setData(key, value);
+        } else if (slot.getType() == DataType.DOUBLE) {
+            setPrimitiveValue(slot, Double.doubleToRawLongBits(value));
+        } else {
+            setPrimitiveValue(slot, (long) value);
+        }
+    }
+
+    /**
+     * Returns the value of the given data key as long, without boxing if the data key has a primitive type.
+     *
+     * @param key the name of the data to query
+     *
+     * @return the value of the data
+     *
+     * @throws NullPointerException if no value is present for the data key
+     * @throws ClassCastException   if the value is not a {@link Number}
+     */
+    public long getLongData(String key) {
+        if (primitiveDataMask != 0) {
+            PrimitiveDataSlot slot = propagation.getPrimitiveSlot(key);
+            if (slot != null && hasPrimitiveValue(slot)) {
+                long rawValue = primitiveData[slot.getIndex()];
+                return slot.getType() == DataType.LONG ? rawValue : (long) Double.longBitsToDouble(rawValue);
+            }
+        }
+        return ((Number) getData(key)).longValue();
+    }
+
+    /**
+     * Returns the value of the given data key as double, without boxing if the data key has a primitive type.
+     *
+     * @param key the name of the data to query
+     *
+     * @return the value of the data or {@link Double#NaN} if no value is present or the value is not a {@link Number}
+     */
+    public double getDoubleData(String key) {
+        if (primitiveDataMask != 0) {
+            PrimitiveDataSlot slot = propagation.getPrimitiveSlot(key);
+            if (slot != null && hasPrimitiveValue(slot)) {
+                long rawValue = primitiveData[slot.getIndex()];
+                return slot.getType() == DataType.DOUBLE ? Double.longBitsToDouble(rawValue) : (double) rawValue;
+            }
+        }
+        Object value = getData(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Copies the value of a data key to another data key without boxing, if the source holds a primitive value.
+     *
+     * @param sourceKey the data key to copy the value from
+     * @param targetKey the data key to copy the value to
+     *
+     * @return true, if the value has been copied, false if the source does not hold a primitive value
+     */
+    public boolean copyPrimitiveData(String sourceKey, String targetKey) {
+        if (primitiveDataMask != 0) {
+            PrimitiveDataSlot slot = propagation.getPrimitiveSlot(sourceKey);
+            if (slot != null && hasPrimitiveValue(slot)) {
+                long rawValue = primitiveData[slot.getIndex()];
+                if (slot.getType() == DataType.LONG) {
+                    setLongData(targetKey, rawValue);
+                } else {
+                    setDoubleData(targetKey, Double.longBitsToDouble(rawValue));
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PrimitiveDataSlot getPrimitiveSlot(String key) {
+        if (!propagation.hasPrimitiveSlots()) {
+            return null;
+        }
+        return propagation.getPrimitiveSlot(key);
+    }
+
+    private boolean hasPrimitiveValue(PrimitiveDataSlot slot) {
+        return (primitiveDataMask & (1L << slot.getIndex())) != 0;
+    }
+
+    private void setPrimitiveValue(PrimitiveDataSlot slot, long rawValue) {
+        if (primitiveData == null) {
+            primitiveData = new long[propagation.getPrimitiveSlots().length];
+        }
+        primitiveData[slot.getIndex()] = rawValue;
+        primitiveDataMask |= 1L << slot.getIndex();
+        if (!dataOverwrites.isEmpty()) {
+            dataOverwrites.remove(slot.getDataKey());
+        }
+    }
 
     /**
      * Returns all the most recent data as a stream, which either was inherited from the parent context,
@@ -415,12 +574,18 @@ public class InspectitContextImpl implements InternalInspectitContext {
      * @return the recent data as stream
      */
     private Stream<Map.Entry<String, Object>> getDataAsStream() {
-        val dataStream = Stream.concat(postEntryPhaseDownPropagatedData.entrySet()
+        Stream<Map.Entry<String, Object>> dataStream = Stream.concat(postEntryPhaseDownPropagatedData.entrySet()
                 .stream()
                 .filter(e -> !dataOverwrites.containsKey(e.getKey())), dataOverwrites.entrySet()
                 .stream()
                 .filter(e -> e.getValue() != null));
 
+        if (primitiveDataMask != 0) {
+            dataStream = Stream.concat(dataStream, Arrays.stream(propagation.getPrimitiveSlots())
+                    .filter(this::hasPrimitiveValue)
+                    .map(slot -> new AbstractMap.SimpleImmutableEntry<String, Object>(slot.getDataKey(), slot.box(primitiveData[slot.getIndex()]))));
+        }
+
         PropagationDataStorage dataStorage = getDataStorage();
         if (dataStorage != null) {
             return Stream.concat(dataStorage.readData().entrySet().stream()
@@ -605,7 +770,7 @@ public class InspectitContextImpl implements InternalInspectitContext {
                 }
             }
             if (alteredPropagation != null) {
-                propagation = alteredPropagation.build();
+                updatePropagation(alteredPropagation.build());
             }
         }
     }
@@ -637,6 +802,25 @@ public class InspectitContextImpl implements InternalInspectitContext {
         return result;
     }
 
+    /**
+     * Replaces the {@link #propagation} settings of this context.
+     * Values of data keys which are no longer stored in a {@link PrimitiveDataSlot}, e.g. because they are now used
+     * as tag, are moved to the boxed data beforehand, so that they are neither lost nor hidden.
+     *
+     * @param newPropagation the new propagation settings, which must use the same slots as the current ones
+     */
+    private void updatePropagation(PropagationMetaData newPropagation) {
+        if (primitiveDataMask != 0) {
+            for (PrimitiveDataSlot slot : propagation.getPrimitiveSlots()) {
+                if (hasPrimitiveValue(slot) && newPropagation.getPrimitiveSlot(slot.getDataKey()) == null) {
+                    dataOverwrites.put(slot.getDataKey(), slot.box(primitiveData[slot.getIndex()]));
+                    primitiveDataMask &= ~(1L << slot.getIndex());
+                }
+            }
+        }
+        propagation = newPropagation;
+    }
+
     private Map<String, Object> getOrComputeActivePhaseDownPropagatedData() {
         if (cachedActivePhaseDownPropagatedData == null) {
             cachedActivePhaseDownPropagatedData = getDownPropagatedDataAsNewMap();
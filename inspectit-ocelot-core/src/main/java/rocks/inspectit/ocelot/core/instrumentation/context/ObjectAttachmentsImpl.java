@@ -19,9 +19,21 @@ public class ObjectAttachmentsImpl implements ObjectAttachments {
      */
     public static final String BEAN_NAME = "objectAttachments";
 
-    private final Cache<Object, ConcurrentHashMap<String, Object>> attachments = CacheBuilder.newBuilder()
-            .weakKeys()
-            .build();
+    private final Cache<Object, ConcurrentHashMap<String, Object>> attachments;
+
+    public ObjectAttachmentsImpl() {
+        attachments = CacheBuilder.newBuilder().weakKeys().build();
+    }
+
+    /**
+     * Creates attachments which are only kept for a limited number of target objects.
+     * If this limit is exceeded, the attachments of the least recently used targets are removed.
+     *
+     * @param maximumTargets the maximum number of objects which can have attachments
+     */
+    public ObjectAttachmentsImpl(long maximumTargets) {
+        attachments = CacheBuilder.newBuilder().weakKeys().maximumSize(maximumTargets).build();
+    }
 
     @Override
     public Object attach(Object target, String key, Object value) {
@@ -1,5 +1,6 @@
 package rocks.inspectit.ocelot.core.instrumentation.hook;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -7,18 +8,20 @@ import rocks.inspectit.ocelot.config.model.instrumentation.actions.ActionCallSet
 import rocks.inspectit.ocelot.config.utils.ConfigUtils;
 import rocks.inspectit.ocelot.core.instrumentation.actions.GenericActionGenerator;
 import rocks.inspectit.ocelot.core.instrumentation.actions.bound.BoundGenericAction;
+import rocks.inspectit.ocelot.core.instrumentation.actions.cache.ActionResultCache;
+import rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic.IntrinsicActions;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.ActionCallConfig;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.GenericActionConfig;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.CachingHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.ConditionalHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.TracingHookAction;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
-import java.util.SortedMap;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Component
+@Slf4j
 public class ActionCallGenerator {
 
     @Autowired
@@ -27,6 +30,9 @@ public class ActionCallGenerator {
     @Autowired
     private VariableAccessorFactory variableAccessorFactory;
 
+    @Autowired
+    private ActionResultCache actionResultCache;
+
     /**
      * Generates a action and binds its arguments.
      *
@@ -38,12 +44,30 @@ public class ActionCallGenerator {
     public IHookAction generateAndBindGenericAction(MethodReflectionInformation methodInfo, ActionCallConfig actionCallConfig) {
         GenericActionConfig actionConfig = actionCallConfig.getAction();
         val callSettings = actionCallConfig.getCallSettings();
-        val injectedActionClass = genericActionGenerator.getOrGenerateGenericAction(actionConfig, methodInfo.getDeclaringClass());
 
         val dynamicAssignments = getDynamicInputAssignments(methodInfo, actionCallConfig);
         val constantAssignments = getConstantInputAssignments(methodInfo, actionCallConfig);
 
-        IHookAction actionCall = BoundGenericAction.bind(actionCallConfig.getDataKey(), actionConfig, injectedActionClass, constantAssignments, dynamicAssignments);
+        IHookAction actionCall = null;
+        if (actionCallConfig.isIntrinsicAllowed() && !actionCallConfig.isActionTracing()) {
+            actionCall = IntrinsicActions.create(actionConfig, actionCallConfig.getDataKey(), constantAssignments, dynamicAssignments, callSettings
+                    .getDataInput())
+                    .orElse(null);
+        }
+        if (actionCall == null) {
+            val injectedActionClass = genericActionGenerator.getOrGenerateGenericAction(actionConfig, methodInfo.getDeclaringClass());
+            actionCall = BoundGenericAction.bind(actionCallConfig.getDataKey(), actionConfig, injectedActionClass, constantAssignments, dynamicAssignments);
+        }
+
+        String cacheBy = callSettings.getCacheBy();
+        if (cacheBy != null) {
+            if (dynamicAssignments.containsKey(cacheBy)) {
+                actionCall = createCachingAction(actionCall, actionCallConfig, cacheBy, constantAssignments, dynamicAssignments);
+            } else {
+                log.warn("The result of action '{}' for data key '{}' is not cached, because its cache key '{}' is not a dynamic input", actionConfig
+                        .getName(), actionCallConfig.getDataKey(), cacheBy);
+            }
+        }
 
         if (actionCallConfig.isActionTracing()) {
             actionCall = TracingHookAction.wrap(actionCall, actionConfig, actionCallConfig.getSourceRuleName());
@@ -52,6 +76,30 @@ public class ActionCallGenerator {
         return ConditionalHookAction.wrapWithConditionChecks(callSettings, actionCall, variableAccessorFactory);
     }
 
+    /**
+     * Wraps the given action so that its result is cached per identity of the given input.
+     * The cached results are distinguished by the action, its data key and its constant inputs, and are only reused
+     * if all other dynamic inputs have the same values.
+     *
+     * @param actionCall          the action to cache
+     * @param actionCallConfig    the specification of the call to the action
+     * @param cacheBy             the name of the input whose value is used as cache key
+     * @param constantAssignments the constant inputs of the action
+     * @param dynamicAssignments  the dynamic inputs of the action
+     *
+     * @return the caching action
+     */
+    private IHookAction createCachingAction(IHookAction actionCall, ActionCallConfig actionCallConfig, String cacheBy, Map<String, Object> constantAssignments, Map<String, VariableAccessor> dynamicAssignments) {
+        String actionName = actionCallConfig.getAction().getName();
+        String callName = actionName + "|" + actionCallConfig.getDataKey() + "|" + new TreeMap<>(constantAssignments);
+        List<VariableAccessor> inputAccessors = new TreeMap<>(dynamicAssignments).entrySet()
+                .stream()
+                .filter(entry -> !entry.getKey().equals(cacheBy))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
+        return new CachingHookAction(actionCall, actionName, callName, actionCallConfig.getDataKey(), dynamicAssignments.get(cacheBy), inputAccessors, actionResultCache);
+    }
+
     /**
      * Reads the constant assignments performed by the given action call into a map.
      * The data is immediately converted to the expected input type using a conversion service.
@@ -0,0 +1,19 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook;
+
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+
+/**
+ * A {@link VariableAccessor} for numeric variables, which reads data with a primitive type without boxing.
+ */
+@FunctionalInterface
+public interface DoubleVariableAccessor {
+
+    /**
+     * Reads a fixed variable as double.
+     *
+     * @param context the context within the variable is queried
+     *
+     * @return the value of the variable or {@link Double#NaN} if the variable has no value or is not a {@link Number}
+     */
+    double get(IHookAction.ExecutionContext context);
+}
@@ -15,6 +15,7 @@ import rocks.inspectit.ocelot.bootstrap.instrumentation.noop.NoopMethodHook;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.instrumentation.config.InstrumentationConfigurationResolver;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.MethodHookConfiguration;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringMeasure;
 import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
 import rocks.inspectit.ocelot.core.utils.CoreUtils;
 
@@ -35,9 +36,13 @@ import java.util.stream.Stream;
 public class HookManager {
 
     /**
-     * Component named used for self monitoring metrics
+     * Self monitoring duration of the lazy generation of hooks.
      */
-    private static final String LAZY_LOADING_HOOK_COMPONENT_NAME = "hookmanager-lazy-hooking";
+    private static final SelfMonitoringMeasure LAZY_HOOKING_DURATION = SelfMonitoringMeasure.duration("hookmanager-lazy-hooking");
+
+    private static final SelfMonitoringMeasure COPY_HOOKS_DURATION = SelfMonitoringMeasure.duration("hookmanager-copy-existing-hooks");
+
+    private static final SelfMonitoringMeasure UPDATE_CLASS_DURATION = SelfMonitoringMeasure.duration("hookmanager-update-class");
 
     /**
      * Thread local flag for marking the current thread that it is currently in the execution/scope of agent actions.
@@ -142,7 +147,7 @@ public class HookManager {
             return lazyLoadedHooks.get(clazz);
         }
         synchronized (clazz) {
-            try (Scope sm = selfMonitoring.withDurationSelfMonitoring(LAZY_LOADING_HOOK_COMPONENT_NAME)) {
+            try (Scope sm = selfMonitoring.withDurationSelfMonitoring(LAZY_HOOKING_DURATION)) {
                 Map<MethodDescription, MethodHookConfiguration> hookConfigs = configResolver.getHookConfigurations(clazz);
 
                 HashMap<String, MethodHook> lazyHooks = Maps.newHashMap();
@@ -225,7 +230,7 @@ public class HookManager {
          * The hooks are reset when copied to re-enable actions which have been deactivated due to runtime errors.
          */
         private HookUpdate() {
-            try (Scope sm = selfMonitoring.withDurationSelfMonitoring("hookmanager-copy-existing-hooks")) {
+            try (Scope sm = selfMonitoring.withDurationSelfMonitoring(COPY_HOOKS_DURATION)) {
 
                 // Merge regular and lazy loaded hooks. Regular hooks take precedence
                 WeakHashMap<Class<?>, Map<String, MethodHook>> mergedHooks = Stream.of(hooks, lazyLoadedHooks)
@@ -249,7 +254,7 @@ public class HookManager {
          */
         public void updateHooksForClass(Class<?> clazz) {
             ensureNotCommitted();
-            try (Scope sm = selfMonitoring.withDurationSelfMonitoring("hookmanager-update-class")) {
+            try (Scope sm = selfMonitoring.withDurationSelfMonitoring(UPDATE_CLASS_DURATION)) {
                 Map<MethodDescription, MethodHookConfiguration> hookConfigs = configResolver.getHookConfigurations(clazz);
                 removeObsoleteHooks(clazz, hookConfigs.keySet());
                 addOrReplaceHooks(clazz, hookConfigs);
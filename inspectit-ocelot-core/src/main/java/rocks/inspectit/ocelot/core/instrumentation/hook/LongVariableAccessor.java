@@ -0,0 +1,22 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook;
+
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+
+/**
+ * A {@link VariableAccessor} for numeric variables, which reads data with a primitive type without boxing.
+ */
+@FunctionalInterface
+public interface LongVariableAccessor {
+
+    /**
+     * Reads a fixed variable as long.
+     *
+     * @param context the context within the variable is queried
+     *
+     * @return the value of the variable
+     *
+     * @throws NullPointerException if the variable has no value
+     * @throws ClassCastException   if the value of the variable is not a {@link Number}
+     */
+    long get(IHookAction.ExecutionContext context);
+}
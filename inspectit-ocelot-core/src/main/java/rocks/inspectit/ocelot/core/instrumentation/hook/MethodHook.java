@@ -12,6 +12,7 @@ import rocks.inspectit.ocelot.core.instrumentation.config.model.MethodHookConfig
 import rocks.inspectit.ocelot.core.instrumentation.context.ContextManager;
 import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.RecordingSpanHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.TracingHookAction;
 import rocks.inspectit.ocelot.core.selfmonitoring.ActionScopeFactory;
 import rocks.inspectit.ocelot.core.selfmonitoring.IActionScope;
@@ -21,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 /**
  * Each {@link MethodHook} instances defines for a single method which actions are performed.
@@ -172,7 +174,20 @@ public class MethodHook implements IMethodHook {
      * @return An exact copy of this method hook but with all deactivated actions reactivated.
      */
     public MethodHook getResetCopy() {
-        return new MethodHook(sourceConfiguration, inspectitContextManager, entryActions, exitActions, methodInformation, actionScopeFactory);
+        return new MethodHook(sourceConfiguration, inspectitContextManager, resetActions(entryActions), resetActions(exitActions), methodInformation, actionScopeFactory);
+    }
+
+    /**
+     * Reactivates the actions deactivated within {@link RecordingSpanHookAction}s of the given list.
+     *
+     * @param actions the actions to reset
+     *
+     * @return the actions, where each {@link RecordingSpanHookAction} is replaced by its reset copy
+     */
+    private static List<IHookAction> resetActions(List<IHookAction> actions) {
+        return actions.stream()
+                .map(action -> action instanceof RecordingSpanHookAction ? ((RecordingSpanHookAction) action).getResetCopy() : action)
+                .collect(Collectors.toList());
     }
 
     /**
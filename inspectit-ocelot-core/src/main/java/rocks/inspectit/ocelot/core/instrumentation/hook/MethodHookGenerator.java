@@ -8,6 +8,8 @@ import net.bytebuddy.description.method.MethodDescription;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataSettings;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.rules.ConcurrentInvocationSettings;
 import rocks.inspectit.ocelot.config.model.instrumentation.rules.MetricRecordingSettings;
 import rocks.inspectit.ocelot.config.model.instrumentation.rules.RuleTracingSettings;
@@ -19,6 +21,7 @@ import rocks.inspectit.ocelot.core.instrumentation.config.model.MethodHookConfig
 import rocks.inspectit.ocelot.core.instrumentation.context.ContextManager;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.ConditionalHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.RecordingSpanHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.metrics.EndInvocationAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.metrics.MetricsRecorder;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.TracingHookAction;
@@ -124,7 +127,7 @@ public class MethodHookGenerator {
             if (isTracingInternalActions() && config.isTraceExitHook()) {
                 actions = wrapActionsWithTracing(actions);
             }
-            builder.exitActions(actions);
+            builder.exitActions(RecordingSpanHookAction.groupRecordingSpanOnly(actions));
         }
 
         buildEndInvocationAction(config).ifPresent(builder::exitAction);
@@ -338,7 +341,20 @@ public class MethodHookGenerator {
                 .stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, entry -> variableAccessorFactory.getVariableAccessor(entry.getValue())));
 
-        return new MetricAccessor(metricSettings.getMetric(), valueAccessor, metricSettings.getConstantTags(), tagAccessors);
+        DoubleVariableAccessor doubleValueAccessor = null;
+        if (isPrimitiveData(value)) {
+            doubleValueAccessor = variableAccessorFactory.getDoubleVariableAccessor(value);
+        }
+
+        return new MetricAccessor(metricSettings.getMetric(), valueAccessor, metricSettings.getConstantTags(), tagAccessors, doubleValueAccessor);
+    }
+
+    /**
+     * @return true, if the given data key is configured with a primitive type
+     */
+    private boolean isPrimitiveData(String dataKey) {
+        DataSettings settings = environment.getCurrentConfig().getInstrumentation().getData().get(dataKey);
+        return settings != null && (settings.getType() == DataType.LONG || settings.getType() == DataType.DOUBLE);
     }
 
     private List<IHookAction> buildActionCalls(List<ActionCallConfig> calls, MethodReflectionInformation methodInfo) {
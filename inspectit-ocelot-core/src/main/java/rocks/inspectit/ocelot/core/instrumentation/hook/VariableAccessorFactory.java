@@ -58,6 +58,43 @@ public class VariableAccessorFactory {
         }
     }
 
+    /**
+     * Creates a {@link LongVariableAccessor} for a given fixed variable.
+     * In contrast to {@link #getVariableAccessor(String)}, data with a primitive type is read without boxing.
+     *
+     * @param variable the name of the variable to create an accessor for
+     *
+     * @return the {@link LongVariableAccessor} for the given variable, never null
+     */
+    public LongVariableAccessor getLongVariableAccessor(String variable) {
+        if (variable.charAt(0) == '_') {
+            VariableAccessor accessor = getVariableAccessor(variable);
+            return (context) -> ((Number) accessor.get(context)).longValue();
+        } else {
+            return (context) -> context.getInspectitContext().getLongData(variable);
+        }
+    }
+
+    /**
+     * Creates a {@link DoubleVariableAccessor} for a given fixed variable.
+     * In contrast to {@link #getVariableAccessor(String)}, data with a primitive type is read without boxing.
+     *
+     * @param variable the name of the variable to create an accessor for
+     *
+     * @return the {@link DoubleVariableAccessor} for the given variable, never null
+     */
+    public DoubleVariableAccessor getDoubleVariableAccessor(String variable) {
+        if (variable.charAt(0) == '_') {
+            VariableAccessor accessor = getVariableAccessor(variable);
+            return (context) -> {
+                Object value = accessor.get(context);
+                return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+            };
+        } else {
+            return (context) -> context.getInspectitContext().getDoubleData(variable);
+        }
+    }
+
     /**
      * Creates a {@link VariableAccessor} which always returns the given value.
      *
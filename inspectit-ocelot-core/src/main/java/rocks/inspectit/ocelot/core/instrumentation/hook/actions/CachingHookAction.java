@@ -0,0 +1,106 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook.actions;
+
+import rocks.inspectit.ocelot.core.instrumentation.actions.bound.BoundGenericAction;
+import rocks.inspectit.ocelot.core.instrumentation.actions.cache.ActionResultCache;
+import rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic.IntrinsicHookAction;
+import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Executes an action only once per identity of a given input value and reuses its result for subsequent invocations.
+ * A cached result is only reused if all other inputs of the action have the same values as when it was computed.
+ * The result is written to the data key of the action.
+ */
+public class CachingHookAction implements IHookAction {
+
+    private static final Object[] NO_INPUTS = new Object[0];
+
+    /**
+     * The action whose result is cached.
+     */
+    private final IHookAction action;
+
+    /**
+     * Executes the action and returns its result.
+     */
+    private final Function<ExecutionContext, Object> resultFunction;
+
+    /**
+     * The identifier of this action call, used as key within the {@link ActionResultCache}.
+     */
+    private final String callName;
+
+    /**
+     * The data key to which the action writes its result.
+     */
+    private final String dataKey;
+
+    /**
+     * Accessor for the input value which is used as cache key.
+     */
+    private final VariableAccessor cacheKeyAccessor;
+
+    /**
+     * Accessors for all other dynamic inputs of the action.
+     */
+    private final VariableAccessor[] inputAccessors;
+
+    private final ActionResultCache cache;
+
+    private final ActionResultCache.Statistics statistics;
+
+    /**
+     * @param action           the action to cache, either a {@link BoundGenericAction} or an {@link IntrinsicHookAction}
+     * @param actionName       the name of the action, used for the statistics
+     * @param callName         the identifier of the action call, see {@link ActionResultCache#put(Object, String, Object[], Object)}
+     * @param dataKey          the data key to which the action writes its result
+     * @param cacheKeyAccessor the accessor for the input value which is used as cache key
+     * @param inputAccessors   the accessors for all other dynamic inputs of the action
+     * @param cache            the cache to use
+     */
+    public CachingHookAction(IHookAction action, String actionName, String callName, String dataKey, VariableAccessor cacheKeyAccessor, List<VariableAccessor> inputAccessors, ActionResultCache cache) {
+        if (action instanceof BoundGenericAction) {
+            resultFunction = ((BoundGenericAction) action)::executeImpl;
+        } else if (action instanceof IntrinsicHookAction) {
+            resultFunction = ((IntrinsicHookAction) action)::executeImpl;
+        } else {
+            throw new IllegalArgumentException("The result of action '" + action.getName() + "' cannot be cached");
+        }
+        this.action = action;
+        this.callName = callName;
+        this.dataKey = dataKey;
+        this.cacheKeyAccessor = cacheKeyAccessor;
+        this.inputAccessors = inputAccessors.toArray(new VariableAccessor[0]);
+        this.cache = cache;
+        statistics = cache.getStatistics(actionName);
+    }
+
+    @Override
+    public void execute(ExecutionContext context) {
+        Object cacheKey = cacheKeyAccessor.get(context);
+        if (cacheKey == null) {
+            action.execute(context);
+            return;
+        }
+        Object[] inputs = NO_INPUTS;
+        if (inputAccessors.length > 0) {
+            inputs = new Object[inputAccessors.length];
+            for (int i = 0; i < inputs.length; i++) {
+                inputs[i] = inputAccessors[i].get(context);
+            }
+        }
+        Object result = cache.get(cacheKey, callName, inputs, statistics);
+        if (result == ActionResultCache.MISS) {
+            cache.put(cacheKey, callName, inputs, resultFunction.apply(context));
+        } else {
+            context.getInspectitContext().setData(dataKey, result);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return action.getName();
+    }
+}
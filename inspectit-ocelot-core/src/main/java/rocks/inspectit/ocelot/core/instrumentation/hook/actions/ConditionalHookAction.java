@@ -30,6 +30,11 @@ public class ConditionalHookAction implements IHookAction {
         return action.getName();
     }
 
+    @Override
+    public boolean isRecordingSpanOnly() {
+        return action.isRecordingSpanOnly();
+    }
+
     /**
      * If an action contains values for the "only-if-..." settings the provider is meant to be only executed conditionally.
      * Therefore, in this method we wrap the call in {@link ConditionalHookAction} which check the corresponding preconditions.
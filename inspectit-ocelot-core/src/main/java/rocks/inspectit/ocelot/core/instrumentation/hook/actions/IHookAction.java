@@ -27,6 +27,17 @@ public interface IHookAction {
      */
     String getName();
 
+    /**
+     * Actions which only have an effect on a recording span entered by the hook, e.g. writing span attributes, can
+     * return true here. These actions are grouped in a {@link RecordingSpanHookAction} and are skipped as a whole for
+     * non-recording spans, e.g. unsampled spans.
+     *
+     * @return true, if this action does not need to be executed if no recording span has been entered by the hook
+     */
+    default boolean isRecordingSpanOnly() {
+        return false;
+    }
+
     /**
      * Simple container object storing all possible context information which may be
      * accessed by the hook action.
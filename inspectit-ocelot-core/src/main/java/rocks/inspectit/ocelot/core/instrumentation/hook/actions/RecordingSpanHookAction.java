@@ -0,0 +1,110 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook.actions;
+
+import io.opentelemetry.api.trace.Span;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Executes a group of actions only if the hook has entered a span which is recording.
+ * Actions which only affect the entered span, e.g. writing attributes, are pointless for non-recording spans. With
+ * low sample rates this is the case for most spans, therefore the actions of this group, including the evaluation of
+ * their variables and the obfuscation, are skipped by a single check.
+ * <p>
+ * If one of the grouped actions throws an exception, only this action is disabled, just as the
+ * {@link rocks.inspectit.ocelot.core.instrumentation.hook.MethodHook} does for ungrouped actions.
+ */
+@Slf4j
+public class RecordingSpanHookAction implements IHookAction {
+
+    /**
+     * The actions to execute, all of them are {@link IHookAction#isRecordingSpanOnly()}.
+     */
+    @Getter
+    private final IHookAction[] actions;
+
+    /**
+     * The subset of {@link #actions}, which are actually active.
+     * Initially, this list contains the same elements as {@link #actions}.
+     */
+    private final CopyOnWriteArrayList<IHookAction> activeActions;
+
+    public RecordingSpanHookAction(IHookAction[] actions) {
+        this.actions = actions;
+        activeActions = new CopyOnWriteArrayList<>(actions);
+    }
+
+    @Override
+    public void execute(ExecutionContext context) {
+        if (context.getInspectitContext().hasEnteredSpan() && Span.current().isRecording()) {
+            for (IHookAction action : activeActions) {
+                try {
+                    action.execute(context);
+                } catch (Throwable t) {
+                    log.error("Action {} executed for method {} threw an exception and from now on is disabled!", action, context
+                            .getHook()
+                            .getMethodInformation()
+                            .getMethodFQN(), t);
+                    activeActions.remove(action);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return An exact copy of this group but with all deactivated actions reactivated.
+     */
+    public RecordingSpanHookAction getResetCopy() {
+        return new RecordingSpanHookAction(actions);
+    }
+
+    @Override
+    public String getName() {
+        StringBuilder name = new StringBuilder("Recording span actions[");
+        for (int i = 0; i < actions.length; i++) {
+            if (i > 0) {
+                name.append(", ");
+            }
+            name.append(actions[i].getName());
+        }
+        return name.append("]").toString();
+    }
+
+    @Override
+    public boolean isRecordingSpanOnly() {
+        return true;
+    }
+
+    /**
+     * Groups all consecutive actions of the given list which are {@link IHookAction#isRecordingSpanOnly()} in a
+     * {@link RecordingSpanHookAction}. The order of the actions is preserved.
+     *
+     * @param actions the actions to group
+     *
+     * @return the actions, where the recording span only actions are replaced by their groups
+     */
+    public static List<IHookAction> groupRecordingSpanOnly(List<IHookAction> actions) {
+        List<IHookAction> result = new ArrayList<>();
+        List<IHookAction> group = new ArrayList<>();
+        for (IHookAction action : actions) {
+            if (action.isRecordingSpanOnly()) {
+                group.add(action);
+            } else {
+                addGroup(result, group);
+                result.add(action);
+            }
+        }
+        addGroup(result, group);
+        return result;
+    }
+
+    private static void addGroup(List<IHookAction> result, List<IHookAction> group) {
+        if (!group.isEmpty()) {
+            result.add(new RecordingSpanHookAction(group.toArray(new IHookAction[0])));
+            group.clear();
+        }
+    }
+}
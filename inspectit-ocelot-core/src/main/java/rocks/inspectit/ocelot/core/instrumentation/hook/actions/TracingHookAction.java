@@ -126,6 +126,11 @@ public class TracingHookAction implements IHookAction {
         return action.getName();
     }
 
+    @Override
+    public boolean isRecordingSpanOnly() {
+        return action.isRecordingSpanOnly();
+    }
+
     private void recordAttribute(Span span, String name, Object value) {
         span.setAttribute(AttributeKey.stringKey(SPAN_ATTRIBUTE_PREFIX + name), value != null ? value.toString() : NULL_STRING_ATTRIBUTE);
     }
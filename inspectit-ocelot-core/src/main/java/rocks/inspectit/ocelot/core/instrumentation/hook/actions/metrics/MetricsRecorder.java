@@ -3,6 +3,7 @@ package rocks.inspectit.ocelot.core.instrumentation.hook.actions.metrics;
 import io.opencensus.tags.TagContext;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import rocks.inspectit.ocelot.core.instrumentation.hook.DoubleVariableAccessor;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.model.MetricAccessor;
 import rocks.inspectit.ocelot.core.metrics.MeasureTagValueGuard;
@@ -42,6 +43,15 @@ public class MetricsRecorder implements IHookAction {
     public void execute(ExecutionContext context) {
         // then iterate all metrics and enter new scope for metric collection
         for (MetricAccessor metricAccessor : metrics) {
+            DoubleVariableAccessor doubleAccessor = metricAccessor.getDoubleVariableAccessor();
+            if (doubleAccessor != null) {
+                double value = doubleAccessor.get(context);
+                if (!Double.isNaN(value)) {
+                    TagContext tagContext = tagValueGuard.getTagContext(context, metricAccessor);
+                    metricsManager.tryRecordingDoubleMeasurement(metricAccessor.getName(), value, tagContext);
+                }
+                continue;
+            }
             Object value = metricAccessor.getVariableAccessor().get(context);
             // only record metrics where a value is present
             // this allows to disable the recording of a metric depending on the results of action executions
@@ -1,6 +1,7 @@
 package rocks.inspectit.ocelot.core.instrumentation.hook.actions.model;
 
 import lombok.Value;
+import rocks.inspectit.ocelot.core.instrumentation.hook.DoubleVariableAccessor;
 import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
 
 import java.util.Map;
@@ -34,4 +35,21 @@ public class MetricAccessor {
      */
     private final Map<String, VariableAccessor> dataTagAccessors;
 
+    /**
+     * Accessor reading the metric value without boxing, used instead of {@link #variableAccessor} if it is not null.
+     * Only present if the value is taken from data with a primitive type.
+     */
+    private final DoubleVariableAccessor doubleVariableAccessor;
+
+    public MetricAccessor(String name, VariableAccessor variableAccessor, Map<String, String> constantTags, Map<String, VariableAccessor> dataTagAccessors) {
+        this(name, variableAccessor, constantTags, dataTagAccessors, null);
+    }
+
+    public MetricAccessor(String name, VariableAccessor variableAccessor, Map<String, String> constantTags, Map<String, VariableAccessor> dataTagAccessors, DoubleVariableAccessor doubleVariableAccessor) {
+        this.name = name;
+        this.variableAccessor = variableAccessor;
+        this.constantTags = constantTags;
+        this.dataTagAccessors = dataTagAccessors;
+        this.doubleVariableAccessor = doubleVariableAccessor;
+    }
 }
@@ -144,7 +144,11 @@ public class ContinueOrStartSpanAction implements IHookAction {
             Sampler sampler = getSampler(context);
             AutoCloseable spanCtx = Instances.logTraceCorrelator.startCorrelatedSpanScope(() -> stackTraceSampler.createAndEnterSpan(spanName, finalRemoteParent, sampler, spanKind, methodInfo, autoTrace));
             ctx.setSpanScope(spanCtx);
-            commonTagsToAttributesManager.writeCommonTags(Span.current(), remoteParent != null, hasLocalParent);
+            Span span = Span.current();
+            // attributes of non-recording spans are discarded anyway
+            if (span.isRecording()) {
+                commonTagsToAttributesManager.writeCommonTags(span, remoteParent != null, hasLocalParent);
+            }
         }
     }
 
@@ -36,4 +36,9 @@ public class SetSpanStatusAction implements IHookAction {
     public String getName() {
         return "Span status definition";
     }
+
+    @Override
+    public boolean isRecordingSpanOnly() {
+        return true;
+    }
 }
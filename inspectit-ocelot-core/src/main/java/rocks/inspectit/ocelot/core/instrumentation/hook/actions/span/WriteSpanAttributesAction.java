@@ -39,4 +39,9 @@ public class WriteSpanAttributesAction implements IHookAction {
     public String getName() {
         return "Span attribute writing";
     }
+
+    @Override
+    public boolean isRecordingSpanOnly() {
+        return true;
+    }
 }
@@ -79,6 +79,14 @@ public class ClassLoaderDelegation implements SpecialSensor, IClassDiscoveryList
         return builder.visit(Advice.to(ClassloaderDelegationAdvice.class).on(LOAD_CLASS_MATCHER));
     }
 
+    /**
+     * The instrumented class loaders are remembered when being instrumented, therefore the instrumentation can not be cached.
+     */
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
     public LinkedHashSet<Class<?>> getClassLoaderClassesRequiringRetransformation(ClassLoader classLoader, InstrumentationConfiguration config) {
         if (!config.getSource().getSpecial().isClassLoaderDelegation()) {
             return new LinkedHashSet<>(); //class loader delegation is disabled, nothing to instrument
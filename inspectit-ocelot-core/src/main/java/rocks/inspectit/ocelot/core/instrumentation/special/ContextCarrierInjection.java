@@ -0,0 +1,159 @@
+package rocks.inspectit.ocelot.core.instrumentation.special;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.jar.asm.*;
+import net.bytebuddy.utility.OpenedClassReader;
+import rocks.inspectit.ocelot.bootstrap.context.ContextCarrier;
+import rocks.inspectit.ocelot.core.instrumentation.TypeDescriptionWithClassLoader;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Injects the {@link ContextCarrier} interface together with a synthetic field into task classes, so the
+ * {@link rocks.inspectit.ocelot.bootstrap.context.IContextManager} can hand over contexts with a plain field access.
+ * <p>
+ * As fields and interfaces can not be added to already loaded classes, the injection is only possible when the class
+ * is initially loaded. Once injected, the carrier has to be added again on every retransformation of the class, because
+ * the JVM always provides the original bytecode and does not allow to remove fields or interfaces. For this reason,
+ * the injection is done on the raw bytecode and not as part of the ByteBuddy based instrumentation, which might be
+ * skipped for a class.
+ */
+public class ContextCarrierInjection {
+
+    /**
+     * The name of the injected field.
+     */
+    public static final String FIELD_NAME = "inspectit$context";
+
+    private static final String CARRIER_INTERNAL_NAME = Type.getInternalName(ContextCarrier.class);
+
+    private static final String CARRIER_RESOURCE = CARRIER_INTERNAL_NAME + ".class";
+
+    private static final String OBJECT_DESCRIPTOR = Type.getDescriptor(Object.class);
+
+    private ContextCarrierInjection() {
+    }
+
+    /**
+     * Checks whether the given class has been loaded with an injected carrier field.
+     *
+     * @param clazz the class to check, can be null
+     *
+     * @return true if the class itself implements {@link ContextCarrier}
+     */
+    public static boolean isCarrier(Class<?> clazz) {
+        return clazz != null && Arrays.asList(clazz.getInterfaces()).contains(ContextCarrier.class);
+    }
+
+    /**
+     * Checks whether a carrier should be injected into the given, not yet loaded type. This is the case if the
+     * injection is enabled and one of the context attaching sensors is active for the type. Types which can not safely
+     * be changed are excluded.
+     *
+     * @param typeWithLoader the type which is going to be loaded
+     * @param classConf      the instrumentation configuration of the type
+     *
+     * @return true if the carrier should be injected
+     */
+    public static boolean shouldInject(TypeDescriptionWithClassLoader typeWithLoader, ClassInstrumentationConfiguration classConf) {
+        if (classConf.isNoInstrumentation() || !classConf.getActiveConfiguration()
+                .getSource()
+                .getSpecial()
+                .isContextFieldInjection()) {
+            return false;
+        }
+        boolean attachSensorActive = classConf.getActiveSpecialSensors()
+                .stream()
+                .anyMatch(sensor -> sensor instanceof RunnableContextAttachSensor || sensor instanceof CallableContextAttachSensor);
+        return attachSensorActive && canInject(typeWithLoader);
+    }
+
+    /**
+     * Checks whether the given type can be changed. Interfaces can not hold instance fields. Serializable classes
+     * without an explicit serialVersionUID are excluded, as the added members would change their computed one.
+     * Furthermore, the {@link ContextCarrier} interface has to be visible for the type's class loader, otherwise
+     * the class could not be defined at all.
+     */
+    private static boolean canInject(TypeDescriptionWithClassLoader typeWithLoader) {
+        TypeDescription type = typeWithLoader.getType();
+        if (type.isInterface() || type.isAnnotation()) {
+            return false;
+        }
+        if (type.isAssignableTo(Serializable.class) && type.getDeclaredFields()
+                .filter(field -> field.getName().equals("serialVersionUID"))
+                .isEmpty()) {
+            return false;
+        }
+        ClassLoader loader = typeWithLoader.getLoader();
+        return loader == null || loader.getResource(CARRIER_RESOURCE) != null;
+    }
+
+    /**
+     * Adds the {@link ContextCarrier} interface, the backing field and the accessor methods to the given class. In case
+     * the class already implements the interface directly, it is returned unchanged.
+     *
+     * @param bytecode the bytecode of the class
+     *
+     * @return the bytecode including the carrier
+     */
+    public static byte[] inject(byte[] bytecode) {
+        ClassReader reader = OpenedClassReader.of(bytecode);
+        ClassWriter writer = new ClassWriter(reader, 0);
+        reader.accept(new CarrierClassVisitor(writer), 0);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Visitor adding the carrier members to the visited class.
+     */
+    private static class CarrierClassVisitor extends ClassVisitor {
+
+        private String owner;
+
+        private boolean inject;
+
+        private CarrierClassVisitor(ClassVisitor classVisitor) {
+            super(OpenedClassReader.ASM_API, classVisitor);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            owner = name;
+            String[] actualInterfaces = interfaces == null ? new String[0] : interfaces;
+            inject = !Arrays.asList(actualInterfaces).contains(CARRIER_INTERNAL_NAME);
+            if (inject) {
+                actualInterfaces = Arrays.copyOf(actualInterfaces, actualInterfaces.length + 1);
+                actualInterfaces[actualInterfaces.length - 1] = CARRIER_INTERNAL_NAME;
+            }
+            super.visit(version, access, name, signature, superName, actualInterfaces);
+        }
+
+        @Override
+        public void visitEnd() {
+            if (inject) {
+                super.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_TRANSIENT | Opcodes.ACC_SYNTHETIC, FIELD_NAME, OBJECT_DESCRIPTOR, null, null)
+                        .visitEnd();
+
+                MethodVisitor getter = super.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_SYNTHETIC, "inspectit$getContext", "()" + OBJECT_DESCRIPTOR, null, null);
+                getter.visitCode();
+                getter.visitVarInsn(Opcodes.ALOAD, 0);
+                getter.visitFieldInsn(Opcodes.GETFIELD, owner, FIELD_NAME, OBJECT_DESCRIPTOR);
+                getter.visitInsn(Opcodes.ARETURN);
+                getter.visitMaxs(1, 1);
+                getter.visitEnd();
+
+                MethodVisitor setter = super.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_SYNTHETIC, "inspectit$setContext", "(" + OBJECT_DESCRIPTOR + ")V", null, null);
+                setter.visitCode();
+                setter.visitVarInsn(Opcodes.ALOAD, 0);
+                setter.visitVarInsn(Opcodes.ALOAD, 1);
+                setter.visitFieldInsn(Opcodes.PUTFIELD, owner, FIELD_NAME, OBJECT_DESCRIPTOR);
+                setter.visitInsn(Opcodes.RETURN);
+                setter.visitMaxs(2, 2);
+                setter.visitEnd();
+            }
+            super.visitEnd();
+        }
+    }
+}
@@ -7,11 +7,15 @@ import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.matcher.ElementMatcher;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.bootstrap.Instances;
+import rocks.inspectit.ocelot.config.model.instrumentation.SpecialSensorSettings;
 import rocks.inspectit.ocelot.core.instrumentation.TypeDescriptionWithClassLoader;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationConfiguration;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -27,8 +31,37 @@ public class ExecutorContextPropagationSensor implements SpecialSensor {
     @Override
     public boolean shouldInstrument(TypeDescriptionWithClassLoader typeWithLoader, InstrumentationConfiguration settings) {
         TypeDescription type = typeWithLoader.getType();
-        return settings.getSource().getSpecial().isExecutorContextPropagation() &&
-                EXECUTER_CLASSES_MATCHER.matches(type);
+        SpecialSensorSettings sensorSettings = settings.getSource().getSpecial();
+        return sensorSettings.isExecutorContextPropagation() &&
+                EXECUTER_CLASSES_MATCHER.matches(type) &&
+                isExecutorIncluded(type, sensorSettings);
+    }
+
+    /**
+     * Checks whether the given executor type takes part in the context propagation based on the configured includes
+     * and excludes.
+     *
+     * @param type     the executor type
+     * @param settings the special sensor settings
+     *
+     * @return true if the context should be propagated by the given executor
+     */
+    static boolean isExecutorIncluded(TypeDescription type, SpecialSensorSettings settings) {
+        String name = type.getName();
+        boolean excluded = settings.getExecutorContextPropagationExcludes()
+                .entrySet()
+                .stream()
+                .anyMatch(entry -> Boolean.TRUE.equals(entry.getValue()) && name.startsWith(entry.getKey()));
+        if (excluded) {
+            return false;
+        }
+        List<String> includes = settings.getExecutorContextPropagationIncludes()
+                .entrySet()
+                .stream()
+                .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        return includes.isEmpty() || includes.stream().anyMatch(name::startsWith);
     }
 
     @Override
@@ -52,13 +85,19 @@ public class ExecutorContextPropagationSensor implements SpecialSensor {
         @Advice.OnMethodEnter
         public static void enter(@Advice.Argument(value = 0, readOnly = false) Runnable runnable) {
             if (Instances.contextManager.enterCorrelation()) {
+                boolean captureContext = Instances.contextManager.shouldCaptureContext();
                 if (runnable.getClass().getName().contains("$$Lambda")) {
-                    // order is important because the log-correlator requires the restored context, thus, have to be
-                    // called after the context wrapper (needs to be nested by it)
-                    runnable = Instances.logTraceCorrelator.wrap(runnable);
-                    runnable = Instances.contextManager.wrap(runnable);
-                } else {
+                    if (captureContext) {
+                        // order is important because the log-correlator requires the restored context, thus, have to be
+                        // called after the context wrapper (needs to be nested by it)
+                        runnable = Instances.logTraceCorrelator.wrap(runnable);
+                        runnable = Instances.contextManager.wrap(runnable);
+                    }
+                } else if (captureContext) {
                     Instances.contextManager.storeContext(runnable, true);
+                } else {
+                    // the task might have been handed over before, it must not restore the context of that handover
+                    Instances.contextManager.clearContext(runnable);
                 }
             }
         }
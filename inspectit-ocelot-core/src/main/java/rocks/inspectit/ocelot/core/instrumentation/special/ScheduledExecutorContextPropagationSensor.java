@@ -9,6 +9,7 @@ import net.bytebuddy.matcher.ElementMatcher;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.bootstrap.Instances;
 import rocks.inspectit.ocelot.bootstrap.context.IContextManager;
+import rocks.inspectit.ocelot.config.model.instrumentation.SpecialSensorSettings;
 import rocks.inspectit.ocelot.core.instrumentation.TypeDescriptionWithClassLoader;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationConfiguration;
 
@@ -45,6 +46,13 @@ import static net.bytebuddy.matcher.ElementMatchers.*;
  * {@link IContextManager#enterCorrelation()} is called. This is done to set a flag on the current thread in order to
  * mark that a correlation has been done (wrapping or storing the context) and following executors should not doing
  * a correlation as well. This flag is cleaned once the executor's method finishes.
+ * <p>
+ * In case the current context is empty, there is nothing to pass, so neither wrapping nor storing is done. See
+ * {@link IContextManager#shouldCaptureContext()}. Instead, a context which has been stored for the same task object
+ * by a previous handover is removed, so that the task does not run with an outdated context.
+ * <p>
+ * The executors taking part in the context propagation can be restricted using the
+ * <code>executor-context-propagation-includes</code> and <code>executor-context-propagation-excludes</code> settings.
  */
 
 @Component
@@ -60,7 +68,8 @@ public class ScheduledExecutorContextPropagationSensor implements SpecialSensor
     @Override
     public boolean shouldInstrument(TypeDescriptionWithClassLoader typeWithLoader, InstrumentationConfiguration settings) {
         val type = typeWithLoader.getType();
-        return settings.getSource().getSpecial().isScheduledExecutorContextPropagation() && CLASSES_MATCHER.matches(type);
+        SpecialSensorSettings sensorSettings = settings.getSource().getSpecial();
+        return sensorSettings.isScheduledExecutorContextPropagation() && CLASSES_MATCHER.matches(type) && ExecutorContextPropagationSensor.isExecutorIncluded(type, sensorSettings);
     }
 
     @Override
@@ -87,13 +96,19 @@ public class ScheduledExecutorContextPropagationSensor implements SpecialSensor
         @Advice.OnMethodEnter
         public static void onMethodEnter(@Advice.Argument(value = 0, readOnly = false) Runnable runnable) {
             if (Instances.contextManager.enterCorrelation()) {
+                boolean captureContext = Instances.contextManager.shouldCaptureContext();
                 if (runnable.getClass().getName().contains(LAMBDA)) {
-                    // order is important because the log-correlator requires the restored context, thus, have to be
-                    // called after the context wrapper (needs to be nested by it)
-                    runnable = Instances.logTraceCorrelator.wrap(runnable);
-                    runnable = Instances.contextManager.wrap(runnable);
-                } else {
+                    if (captureContext) {
+                        // order is important because the log-correlator requires the restored context, thus, have to be
+                        // called after the context wrapper (needs to be nested by it)
+                        runnable = Instances.logTraceCorrelator.wrap(runnable);
+                        runnable = Instances.contextManager.wrap(runnable);
+                    }
+                } else if (captureContext) {
                     Instances.contextManager.storeContext(runnable, true);
+                } else {
+                    // the task might have been handed over before, it must not restore the context of that handover
+                    Instances.contextManager.clearContext(runnable);
                 }
             }
         }
@@ -116,13 +131,19 @@ public class ScheduledExecutorContextPropagationSensor implements SpecialSensor
         @Advice.OnMethodEnter
         public static void onMethodEnter(@Advice.Argument(value = 0, readOnly = false) Runnable runnable) {
             if (Instances.contextManager.enterCorrelation()) {
+                boolean captureContext = Instances.contextManager.shouldCaptureContext();
                 if (runnable.getClass().getName().contains(LAMBDA)) {
-                    // order is important because the log-correlator requires the restored context, thus, have to be
-                    // called after the context wrapper (needs to be nested by it)
-                    runnable = Instances.logTraceCorrelator.wrap(runnable);
-                    runnable = Instances.contextManager.wrap(runnable);
-                } else {
+                    if (captureContext) {
+                        // order is important because the log-correlator requires the restored context, thus, have to be
+                        // called after the context wrapper (needs to be nested by it)
+                        runnable = Instances.logTraceCorrelator.wrap(runnable);
+                        runnable = Instances.contextManager.wrap(runnable);
+                    }
+                } else if (captureContext) {
                     Instances.contextManager.storeContext(runnable, false);
+                } else {
+                    // the task might have been handed over before, it must not restore the context of that handover
+                    Instances.contextManager.clearContext(runnable);
                 }
             }
         }
@@ -144,13 +165,19 @@ public class ScheduledExecutorContextPropagationSensor implements SpecialSensor
         @Advice.OnMethodEnter
         public static void onMethodEnter(@Advice.Argument(value = 0, readOnly = false) Callable callable) {
             if (Instances.contextManager.enterCorrelation()) {
+                boolean captureContext = Instances.contextManager.shouldCaptureContext();
                 if (callable.getClass().getName().contains(LAMBDA)) {
-                    // order is important because the log-correlator requires the restored context, thus, have to be
-                    // called after the context wrapper (needs to be nested by it)
-                    callable = Instances.logTraceCorrelator.wrap(callable);
-                    callable = Instances.contextManager.wrap(callable);
-                } else {
+                    if (captureContext) {
+                        // order is important because the log-correlator requires the restored context, thus, have to be
+                        // called after the context wrapper (needs to be nested by it)
+                        callable = Instances.logTraceCorrelator.wrap(callable);
+                        callable = Instances.contextManager.wrap(callable);
+                    }
+                } else if (captureContext) {
                     Instances.contextManager.storeContext(callable, true);
+                } else {
+                    // the task might have been handed over before, it must not restore the context of that handover
+                    Instances.contextManager.clearContext(callable);
                 }
             }
         }
@@ -45,4 +45,16 @@ public interface SpecialSensor {
      */
     DynamicType.Builder instrument(TypeDescriptionWithClassLoader typeWithLoader, InstrumentationConfiguration settings, DynamicType.Builder builder);
 
+    /**
+     * Defines whether the bytecode produced by this sensor may be reused from the
+     * {@link rocks.inspectit.ocelot.core.instrumentation.cache.InstrumentationCache} after a restart. This requires that
+     * the bytecode only depends on the original bytecode and the configuration and that
+     * {@link #instrument(TypeDescriptionWithClassLoader, InstrumentationConfiguration, DynamicType.Builder)} has no side effects.
+     *
+     * @return true, if the instrumentation of this sensor can be cached
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
 }
@@ -55,7 +55,7 @@ public class ThreadStartContextPropagationSensor implements SpecialSensor {
 
         @Advice.OnMethodEnter
         public static void onMethodEnter(@Advice.This Thread thiz) {
-            if (!Instances.contextManager.insideCorrelation()) {
+            if (!Instances.contextManager.insideCorrelation() && Instances.contextManager.shouldCaptureContext()) {
                 Instances.contextManager.storeContext(thiz, true);
             }
         }
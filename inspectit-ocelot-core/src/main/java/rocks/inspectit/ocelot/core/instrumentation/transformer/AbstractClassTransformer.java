@@ -17,6 +17,7 @@ import org.springframework.context.event.EventListener;
 import rocks.inspectit.ocelot.core.config.InspectitConfigChangedEvent;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.instrumentation.TypeDescriptionWithClassLoader;
+import rocks.inspectit.ocelot.core.instrumentation.cache.InstrumentationCache;
 import rocks.inspectit.ocelot.core.instrumentation.config.InstrumentationConfigurationResolver;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationRule;
@@ -25,6 +26,7 @@ import rocks.inspectit.ocelot.core.instrumentation.event.ClassInstrumentedEvent;
 import rocks.inspectit.ocelot.core.instrumentation.event.TransformerShutdownEvent;
 import rocks.inspectit.ocelot.core.instrumentation.hook.DispatchHookAdvices;
 import rocks.inspectit.ocelot.core.instrumentation.injection.JigsawModuleInstrumenter;
+import rocks.inspectit.ocelot.core.instrumentation.special.ContextCarrierInjection;
 import rocks.inspectit.ocelot.core.instrumentation.special.SpecialSensor;
 import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
 import rocks.inspectit.ocelot.core.utils.CoreUtils;
@@ -41,6 +43,13 @@ import java.util.*;
 @Slf4j
 public abstract class AbstractClassTransformer implements ClassTransformer {
 
+    /**
+     * The configured {@link ByteBuddy} instance, which is immutable and therefore shared by all transformations.
+     * See https://github.com/raphw/byte-buddy/issues/1095 and https://github.com/raphw/byte-buddy/issues/1040
+     * why we are using the different method graph here.
+     */
+    private static final ByteBuddy BYTE_BUDDY = new ByteBuddy().with(MethodGraph.Compiler.ForDeclaredMethods.INSTANCE);
+
     /**
      * A lock for safely accessing {@link #shuttingDown} in combination with {@link #instrumentedClasses}.
      */
@@ -64,6 +73,9 @@ public abstract class AbstractClassTransformer implements ClassTransformer {
     @Autowired
     private JigsawModuleInstrumenter moduleManager;
 
+    @Autowired
+    private InstrumentationCache instrumentationCache;
+
     /**
      * Detects if the instrumenter is in the process of shutting down.
      * When it is shutting down, no new instrumentations are added anymore, instead all existing instrumentations are removed.
@@ -94,14 +106,22 @@ public abstract class AbstractClassTransformer implements ClassTransformer {
     @Override
     public byte[] transform(Object module, ClassLoader loader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws IllegalClassFormatException {
         String classNameInDotNotation = className.replace("/", ".");
+        byte[] result;
         if (InstrumentationConfigurationResolver.isClassFromIgnoredPackage(env.getCurrentConfig()
                 .getInstrumentation(), classNameInDotNotation, loader)) {
-            return classfileBuffer;
+            result = classfileBuffer;
+        } else {
+            if (module != null) {
+                moduleManager.openModule(module);
+            }
+            result = doTransform(loader, className, classBeingRedefined, protectionDomain, classfileBuffer);
         }
-        if (module != null) {
-            moduleManager.openModule(module);
+
+        // a context carrier injected on the initial class load can never be removed again
+        if (ContextCarrierInjection.isCarrier(classBeingRedefined)) {
+            result = ContextCarrierInjection.inject(result);
         }
-        return doTransform(loader, className, classBeingRedefined, protectionDomain, classfileBuffer);
+        return result;
     }
 
     /**
@@ -129,12 +149,24 @@ public abstract class AbstractClassTransformer implements ClassTransformer {
                 log.debug("Redefining class: {}", typeWithLoader.getName());
             }
 
+            ElementMatcher.Junction<MethodDescription> methodMatcher = getCombinedMethodMatcher(typeWithLoader.getType(), classConf);
+
+            // reuse the bytecode instrumented before a restart, if the class and its instrumentation did not change
+            String cacheKey = instrumentationCache.getKey(typeWithLoader.getType(), bytecode, classConf, methodMatcher);
+            byte[] cachedBytecode = cacheKey == null ? null : instrumentationCache.get(cacheKey);
+            if (cachedBytecode != null) {
+                if (classBeingRedefined != null) {
+                    dispatchClassInstrumentedEvent(classBeingRedefined, typeWithLoader.getType(), classConf);
+                }
+                return cachedBytecode;
+            }
+            long instrumentationStart = System.nanoTime();
+
             // Make a ByteBuddy builder based on the input bytecode
             ClassFileLocator bytecodeClassFileLocator = ClassFileLocator.Simple.of(typeWithLoader.getName(), bytecode);
             // See https://github.com/raphw/byte-buddy/issues/1095 and https://github.com/raphw/byte-buddy/issues/1040
-            // why we are using the different method graph and decorate function here
-            DynamicType.Builder<?> builder = new ByteBuddy().with(MethodGraph.Compiler.ForDeclaredMethods.INSTANCE)
-                    .decorate(typeWithLoader.getType(), bytecodeClassFileLocator);
+            // why we are using the decorate function here
+            DynamicType.Builder<?> builder = BYTE_BUDDY.decorate(typeWithLoader.getType(), bytecodeClassFileLocator);
 
             // Apply the actual instrumentation onto the builders
             for (SpecialSensor specialSensor : classConf.getActiveSpecialSensors()) {
@@ -142,7 +174,6 @@ public abstract class AbstractClassTransformer implements ClassTransformer {
             }
 
             // Apply the instrumentation hook
-            ElementMatcher.Junction<MethodDescription> methodMatcher = getCombinedMethodMatcher(typeWithLoader.getType(), classConf);
             if (methodMatcher != null) {
                 builder = DispatchHookAdvices.adviceOn(builder, methodMatcher);
             }
@@ -150,11 +181,16 @@ public abstract class AbstractClassTransformer implements ClassTransformer {
             // "Compile" the builder to bytecode
             DynamicType.Unloaded<?> instrumentedClass = builder.make();
 
+            byte[] instrumentedBytecode = instrumentedClass.getBytes();
+            if (cacheKey != null) {
+                instrumentationCache.put(cacheKey, instrumentedBytecode, System.nanoTime() - instrumentationStart);
+            }
+
             if (classBeingRedefined != null) {
                 dispatchClassInstrumentedEvent(classBeingRedefined, typeWithLoader.getType(), classConf);
             }
 
-            return instrumentedClass.getBytes();
+            return instrumentedBytecode;
         } catch (Throwable throwable) {
             log.warn("Could not instrument class '{}' due to an error during bytecode generation", typeWithLoader.getName(), throwable);
             return bytecode;
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.core.instrumentation.TypeDescriptionWithClassLoader;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
 import rocks.inspectit.ocelot.core.instrumentation.event.IClassDefinitionListener;
+import rocks.inspectit.ocelot.core.instrumentation.special.ContextCarrierInjection;
 
 import java.lang.instrument.IllegalClassFormatException;
 import java.security.ProtectionDomain;
@@ -76,6 +77,7 @@ public class SyncClassTransformer extends AbstractClassTransformer {
             typeWithLoader = TypeDescriptionWithClassLoader.of(classNameInDotNotation, loader);
             classConf = configResolver.getClassInstrumentationConfiguration(typeWithLoader);
             instrumentedBytecode = instrumentByteCode(typeWithLoader, null, bytecode, classConf);
+            instrumentedBytecode = injectContextCarrier(typeWithLoader, classConf, instrumentedBytecode);
             temporaryInstrumentationConfigCache.put(cacheKey, new CacheEntry(classConf, instrumentedBytecode));
             classDefinitionListeners.forEach(lis -> lis.onNewClassDefined(className, loader));
         } else {
@@ -102,6 +104,27 @@ public class SyncClassTransformer extends AbstractClassTransformer {
         return instrumentedBytecode;
     }
 
+    /**
+     * Injects a {@link rocks.inspectit.ocelot.bootstrap.context.ContextCarrier} into the given class if required.
+     * This is only possible on the initial class load.
+     *
+     * @param typeWithLoader the type being loaded
+     * @param classConf      the instrumentation configuration of the type
+     * @param bytecode       the bytecode of the type
+     *
+     * @return the bytecode including the carrier or the given bytecode in case no carrier is injected
+     */
+    private byte[] injectContextCarrier(TypeDescriptionWithClassLoader typeWithLoader, ClassInstrumentationConfiguration classConf, byte[] bytecode) {
+        try {
+            if (ContextCarrierInjection.shouldInject(typeWithLoader, classConf)) {
+                return ContextCarrierInjection.inject(bytecode);
+            }
+        } catch (Throwable t) {
+            log.warn("Could not inject context carrier into class '{}'", typeWithLoader.getName(), t);
+        }
+        return bytecode;
+    }
+
     /**
      * Simple value object used as key for {@link #temporaryInstrumentationConfigCache} since class names are only
      * unique in combination with the corresponding classloader.
@@ -16,10 +16,10 @@ import rocks.inspectit.ocelot.core.config.propertysources.EnvironmentInformation
 import rocks.inspectit.ocelot.core.instrumentation.InstrumentationManager;
 import rocks.inspectit.ocelot.core.instrumentation.config.event.InstrumentationConfigurationChangedEvent;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Logback appender that forwards the events to observers for internal processing.
@@ -33,7 +33,10 @@ public class InternalProcessingAppender extends AppenderBase<ILoggingEvent> {
      */
     private static final NavigableMap<String, Class<?>> INVALIDATORS = new TreeMap<>();
 
-    private static final Map<Class<? extends LogEventConsumer>, LogEventConsumer> consumers = new HashMap<>();
+    /**
+     * Consumers may (un)register while log events are appended, e.g. when log preloading is enabled or disabled.
+     */
+    private static final Map<Class<? extends LogEventConsumer>, LogEventConsumer> consumers = new ConcurrentHashMap<>();
 
     static {
         INVALIDATORS.put(InstrumentationManager.class.getPackage()
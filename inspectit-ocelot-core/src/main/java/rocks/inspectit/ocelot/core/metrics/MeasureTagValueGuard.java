@@ -12,6 +12,7 @@ import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.commons.models.health.AgentHealth;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
@@ -23,6 +24,7 @@ import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.model.MetricAccessor;
 import rocks.inspectit.ocelot.core.metrics.tagGuard.PersistedTagsReaderWriter;
 import rocks.inspectit.ocelot.core.selfmonitoring.AgentHealthManager;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
 import rocks.inspectit.ocelot.core.tags.TagUtils;
 
@@ -53,6 +55,7 @@ public class MeasureTagValueGuard {
     private CommonTagsManager commonTagsManager;
 
     @Autowired
+    @Qualifier(TaskGroups.METRICS)
     private ScheduledExecutorService executor;
 
     private PersistedTagsReaderWriter fileReaderWriter;
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.config.model.metrics.MetricsRecordingBackend;
 import rocks.inspectit.ocelot.config.model.metrics.MetricsSettings;
 import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings;
 import rocks.inspectit.ocelot.config.model.metrics.definition.ViewDefinitionSettings;
@@ -27,6 +28,8 @@ import java.util.stream.Collectors;
 /**
  * This class is responsible for creating and caching OpenCensus views and measures
  * based on what is defined in inspectit.metrics.definitions.
+ * If the OPEN_TELEMETRY recording backend is selected, the views are not registered at OpenCensus
+ * but at the {@link OpenTelemetryMeasureRecorder}, which also receives all measurements.
  */
 @Component
 @Slf4j
@@ -47,6 +50,19 @@ public class MeasuresAndViewsManager {
     @Autowired
     private InspectitEnvironment env;
 
+    @Autowired
+    private OpenTelemetryMeasureRecorder openTelemetryRecorder;
+
+    /**
+     * The backend used for recording, which is selected with the first update of the metric definitions.
+     */
+    private MetricsRecordingBackend recordingBackend;
+
+    /**
+     * True, if the measurements are recorded via the {@link #openTelemetryRecorder} instead of OpenCensus.
+     */
+    private volatile boolean openTelemetryRecording = false;
+
     /**
      * Caches all created measures.
      */
@@ -118,31 +134,53 @@ public class MeasuresAndViewsManager {
     }
 
     public void tryRecordingMeasurement(String measureName, Number value, TagContext tags) {
+        tryRecordingMeasurement(measureName, value.longValue(), value.doubleValue(), tags);
+    }
+
+    /**
+     * Records a measurement for the given measure without boxing the value, if the measure exists.
+     * In case of a measure of type LONG, the value is truncated.
+     *
+     * @param measureName the name of the measure
+     * @param value       the measurement value for this measure
+     * @param tags        the tags of the measurement
+     */
+    public void tryRecordingDoubleMeasurement(String measureName, double value, TagContext tags) {
+        tryRecordingMeasurement(measureName, (long) value, value, tags);
+    }
+
+    private void tryRecordingMeasurement(String measureName, long longValue, double doubleValue, TagContext tags) {
+        if (openTelemetryRecording) {
+            openTelemetryRecorder.record(measureName, longValue, doubleValue, tags);
+            percentileViewManager.recordMeasurement(measureName, doubleValue, tags);
+            return;
+        }
         val measure = getMeasure(measureName);
         if (measure.isPresent()) {
             val m = measure.get();
             if (m instanceof Measure.MeasureLong) {
                 MeasureMap result = statsRecorder.newMeasureMap();
-                result.put((Measure.MeasureLong) m, value.longValue());
+                result.put((Measure.MeasureLong) m, longValue);
                 result.record(tags);
             } else if (m instanceof Measure.MeasureDouble) {
                 MeasureMap result = statsRecorder.newMeasureMap();
-                result.put((Measure.MeasureDouble) m, value.doubleValue());
+                result.put((Measure.MeasureDouble) m, doubleValue);
                 result.record(tags);
             }
         }
-        percentileViewManager.recordMeasurement(measureName, value.doubleValue(), tags);
+        percentileViewManager.recordMeasurement(measureName, doubleValue, tags);
     }
 
     /**
      * Creates the measures and views defined via {@link MetricsSettings#getDefinitions()}.
      * OpenCensus does currently not allow the removal of views, therefore updating metrics is not possible.
      */
-    @EventListener(InspectitConfigChangedEvent.class)
+    @EventListener(classes = InspectitConfigChangedEvent.class, condition = "#root.event.isAffected('inspectit.metrics')")
     @Order(CommonTagsManager.CONFIG_EVENT_LISTENER_ORDER_PRIORITY + 1) //to ensure common tags are updated first
     @PostConstruct
     public void updateMetricDefinitions() {
         MetricsSettings metricsSettings = env.getCurrentConfig().getMetrics();
+        updateRecordingBackend(metricsSettings.getRecordingBackend());
         if (metricsSettings.isEnabled()) {
             val newMetricDefinitions = metricsSettings.getDefinitions();
 
@@ -157,6 +195,23 @@ public class MeasuresAndViewsManager {
         //TODO: delete removed measures and views as soon as this is possible in Open-Census
     }
 
+    /**
+     * Selects the recording backend on the first call. As views can not be removed from OpenCensus,
+     * switching the backend afterwards is not possible and only results in a warning.
+     *
+     * @param backend the configured backend, null is treated as {@link MetricsRecordingBackend#OPEN_CENSUS}
+     */
+    private void updateRecordingBackend(MetricsRecordingBackend backend) {
+        MetricsRecordingBackend newBackend = backend == null ? MetricsRecordingBackend.OPEN_CENSUS : backend;
+        if (recordingBackend == null) {
+            recordingBackend = newBackend;
+            openTelemetryRecording = newBackend == MetricsRecordingBackend.OPEN_TELEMETRY;
+            log.info("Using the {} backend for recording metrics", newBackend);
+        } else if (recordingBackend != newBackend) {
+            log.warn("Cannot switch the metrics recording backend from {} to {} at runtime! A restart is required.", recordingBackend, newBackend);
+        }
+    }
+
     /**
      * Tries to create a measure based on the given definition, with checking measures and views reported by {@link #viewManager}.
      * <p>
@@ -265,6 +320,8 @@ public class MeasuresAndViewsManager {
         } else {
             if (percentileViewManager.isViewRegistered(measure.getName(), viewName) || def.getAggregation() == ViewDefinitionSettings.Aggregation.QUANTILES) {
                 addOrUpdatePercentileView(measure, viewName, def);
+            } else if (openTelemetryRecording) {
+                registerOpenTelemetryView(viewName, measure, def);
             } else {
                 registerNewView(viewName, measure, def);
             }
@@ -301,6 +358,12 @@ public class MeasuresAndViewsManager {
         viewManager.registerView(view);
     }
 
+    private void registerOpenTelemetryView(String viewName, Measure measure, ViewDefinitionSettings def) {
+        MetricDefinitionSettings.MeasureType type = measure instanceof Measure.MeasureLong ? MetricDefinitionSettings.MeasureType.LONG : MetricDefinitionSettings.MeasureType.DOUBLE;
+        Set<String> tagKeys = getTagKeysForView(def).stream().map(TagKey::getName).collect(Collectors.toSet());
+        openTelemetryRecorder.registerView(measure.getName(), type, measure.getUnit(), viewName, def, tagKeys);
+    }
+
     private void updateOpenCensusView(String viewName, ViewDefinitionSettings def, View view) {
         if (!def.getDescription().equals(view.getDescription())) {
             log.warn("Cannot update description of view '{}' because it has been already registered in OpenCensus!", viewName);
@@ -0,0 +1,304 @@
+package rocks.inspectit.ocelot.core.metrics;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.opencensus.tags.InternalUtils;
+import io.opencensus.tags.Tag;
+import io.opencensus.tags.TagContext;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.*;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings;
+import rocks.inspectit.ocelot.config.model.metrics.definition.ViewDefinitionSettings;
+
+import java.util.*;
+
+/**
+ * Records measurements directly via OpenTelemetry instruments, bypassing the OpenCensus stats API.
+ * This recorder is used by the {@link MeasuresAndViewsManager} if the OPEN_TELEMETRY recording backend is selected.
+ * <p>
+ * Every view of a measure is mapped to its own instrument, which is named after the view and only receives the tags
+ * of the view as attributes. This way the aggregation is done once by the OpenTelemetry SDK and no translation of
+ * OpenCensus views is required on export. Views with QUANTILES aggregation are not handled by this recorder, they are
+ * still computed by the {@link rocks.inspectit.ocelot.core.metrics.percentiles.PercentileViewManager}.
+ * <p>
+ * The instruments are created for the {@link MeterProvider} passed to {@link #bind(MeterProvider)}. As the meter
+ * provider is replaced whenever the metric exporters change, all instruments are re-created in this case.
+ */
+@Component
+@Slf4j
+public class OpenTelemetryMeasureRecorder {
+
+    /**
+     * The name of the instrumentation scope used for all instruments.
+     */
+    @VisibleForTesting
+    static final String INSTRUMENTATION_SCOPE_NAME = "rocks.inspectit.ocelot";
+
+    /**
+     * All registered views, grouped by the name of their measure. Used to (re-) create the instruments.
+     */
+    private final Map<String, Map<String, ViewRegistration>> registeredViews = new HashMap<>();
+
+    /**
+     * The views bound to instruments of the current meter provider, grouped by the name of their measure.
+     * This map is never modified but replaced as a whole, so it can be read without synchronization.
+     */
+    private volatile Map<String, BoundViews[]> boundViews = Collections.emptyMap();
+
+    /**
+     * The meter used for creating instruments, null as long as no meter provider has been bound.
+     */
+    private Meter meter;
+
+    /**
+     * Binds this recorder to the given meter provider. The instruments of all registered views are created anew,
+     * values recorded to the previous meter provider are not carried over.
+     *
+     * @param meterProvider the meter provider to create the instruments with
+     */
+    public synchronized void bind(MeterProvider meterProvider) {
+        meter = meterProvider.meterBuilder(INSTRUMENTATION_SCOPE_NAME).build();
+        Map<String, BoundViews[]> newBoundViews = new HashMap<>();
+        registeredViews.forEach((measureName, views) -> newBoundViews.put(measureName, bindViews(views.values())));
+        boundViews = newBoundViews;
+    }
+
+    /**
+     * Registers a view for the given measure. In case a view with the same name has already been registered, it is not
+     * changed, as its instrument may have already been exported.
+     *
+     * @param measureName the name of the measure
+     * @param measureType the type of the measure
+     * @param unit        the unit of the measure
+     * @param viewName    the name of the view
+     * @param view        the definition of the view, on which the defaults are already populated
+     * @param tagKeys     the tags of the view, including the common tags if requested
+     */
+    public synchronized void registerView(String measureName, MetricDefinitionSettings.MeasureType measureType, String unit, String viewName, ViewDefinitionSettings view, Collection<String> tagKeys) {
+        ViewRegistration registration = new ViewRegistration(viewName, view.getDescription(), unit, measureType, view.getAggregation(), view
+                .getBucketBoundaries(), new HashSet<>(tagKeys));
+
+        boolean alreadyRegistered = registeredViews.values()
+                .stream()
+                .anyMatch(views -> views.containsKey(viewName));
+        if (alreadyRegistered) {
+            ViewRegistration present = registeredViews.getOrDefault(measureName, Collections.emptyMap()).get(viewName);
+            if (!registration.equals(present)) {
+                log.warn("Cannot update view '{}' because it has been already registered in OpenTelemetry!", viewName);
+            }
+            return;
+        }
+
+        Map<String, ViewRegistration> views = registeredViews.computeIfAbsent(measureName, name -> new LinkedHashMap<>());
+        views.put(viewName, registration);
+        if (meter != null) {
+            Map<String, BoundViews[]> newBoundViews = new HashMap<>(boundViews);
+            newBoundViews.put(measureName, bindViews(views.values()));
+            boundViews = newBoundViews;
+        }
+    }
+
+    /**
+     * @param viewName the name of the view
+     *
+     * @return true, if a view with the given name has been registered
+     */
+    public synchronized boolean isViewRegistered(String viewName) {
+        return registeredViews.values().stream().anyMatch(views -> views.containsKey(viewName));
+    }
+
+    /**
+     * Records the given value for all views of the given measure.
+     * Depending on the measure type either {@link Number#doubleValue()} or {@link Number#longValue()} is used.
+     *
+     * @param measureName the name of the measure
+     * @param value       the measurement value
+     * @param tags        the tags of the measurement
+     */
+    public void record(String measureName, Number value, TagContext tags) {
+        record(measureName, value.longValue(), value.doubleValue(), tags);
+    }
+
+    /**
+     * Records the given value for all views of the given measure without boxing.
+     * Depending on the measure type either the long or the double value is used.
+     *
+     * @param measureName the name of the measure
+     * @param longValue   the measurement value used for LONG measures
+     * @param doubleValue the measurement value used for DOUBLE measures
+     * @param tags        the tags of the measurement
+     */
+    public void record(String measureName, long longValue, double doubleValue, TagContext tags) {
+        BoundViews[] views = boundViews.get(measureName);
+        if (views != null) {
+            for (BoundViews viewsWithSameTags : views) {
+                viewsWithSameTags.record(longValue, doubleValue, tags);
+            }
+        }
+    }
+
+    /**
+     * Creates the instruments for the given views. Views with the same tags are grouped, so that the attributes
+     * only have to be built once per measurement.
+     */
+    private BoundViews[] bindViews(Collection<ViewRegistration> views) {
+        Map<Set<String>, List<Instrument>> instrumentsByTags = new LinkedHashMap<>();
+        for (ViewRegistration view : views) {
+            instrumentsByTags.computeIfAbsent(view.getTagKeys(), tags -> new ArrayList<>()).add(createInstrument(view));
+        }
+        return instrumentsByTags.entrySet()
+                .stream()
+                .map(entry -> new BoundViews(entry.getKey(), entry.getValue().toArray(new Instrument[0])))
+                .toArray(BoundViews[]::new);
+    }
+
+    private Instrument createInstrument(ViewRegistration view) {
+        boolean isLong = view.getMeasureType() == MetricDefinitionSettings.MeasureType.LONG;
+        switch (view.getAggregation()) {
+            case SUM:
+                if (isLong) {
+                    LongUpDownCounter counter = meter.upDownCounterBuilder(view.getName())
+                            .setDescription(view.getDescription())
+                            .setUnit(view.getUnit())
+                            .build();
+                    return (longValue, doubleValue, attributes) -> counter.add(longValue, attributes);
+                } else {
+                    DoubleUpDownCounter counter = meter.upDownCounterBuilder(view.getName())
+                            .ofDoubles()
+                            .setDescription(view.getDescription())
+                            .setUnit(view.getUnit())
+                            .build();
+                    return (longValue, doubleValue, attributes) -> counter.add(doubleValue, attributes);
+                }
+            case COUNT:
+                LongCounter counter = meter.counterBuilder(view.getName())
+                        .setDescription(view.getDescription())
+                        .setUnit(view.getUnit())
+                        .build();
+                return (longValue, doubleValue, attributes) -> counter.add(1, attributes);
+            case HISTOGRAM:
+                DoubleHistogram histogram = meter.histogramBuilder(view.getName())
+                        .setDescription(view.getDescription())
+                        .setUnit(view.getUnit())
+                        .setExplicitBucketBoundariesAdvice(view.getBucketBoundaries())
+                        .build();
+                return (longValue, doubleValue, attributes) -> histogram.record(doubleValue, attributes);
+            case LAST_VALUE:
+                if (isLong) {
+                    LongGauge gauge = meter.gaugeBuilder(view.getName())
+                            .ofLongs()
+                            .setDescription(view.getDescription())
+                            .setUnit(view.getUnit())
+                            .build();
+                    return (longValue, doubleValue, attributes) -> gauge.set(longValue, attributes);
+                } else {
+                    DoubleGauge gauge = meter.gaugeBuilder(view.getName())
+                            .setDescription(view.getDescription())
+                            .setUnit(view.getUnit())
+                            .build();
+                    return (longValue, doubleValue, attributes) -> gauge.set(doubleValue, attributes);
+                }
+            default:
+                throw new RuntimeException("Unhandled aggregation type: " + view.getAggregation());
+        }
+    }
+
+    /**
+     * The definition of a registered view.
+     */
+    @Value
+    private static class ViewRegistration {
+
+        String name;
+
+        String description;
+
+        String unit;
+
+        MetricDefinitionSettings.MeasureType measureType;
+
+        ViewDefinitionSettings.Aggregation aggregation;
+
+        List<Double> bucketBoundaries;
+
+        Set<String> tagKeys;
+    }
+
+    /**
+     * Records a value with the given attributes to an OpenTelemetry instrument.
+     * The value is passed as long and as double, so that no boxing is required.
+     */
+    @FunctionalInterface
+    private interface Instrument {
+
+        void record(long longValue, double doubleValue, Attributes attributes);
+    }
+
+    /**
+     * The instruments of all views of a measure which have the same tags.
+     * The attribute keys are created upfront. Additionally, the attributes of the most recently recorded tag context
+     * are kept, so that recording repeatedly with the same tag context, e.g. the common tag context, does not require
+     * to build the attributes again.
+     */
+    private static class BoundViews {
+
+        private final Map<String, AttributeKey<String>> attributeKeys;
+
+        private final Instrument[] instruments;
+
+        private volatile BoundAttributes lastAttributes;
+
+        private BoundViews(Set<String> tagKeys, Instrument[] instruments) {
+            attributeKeys = new HashMap<>();
+            tagKeys.forEach(tagKey -> attributeKeys.put(tagKey, AttributeKey.stringKey(tagKey)));
+            this.instruments = instruments;
+        }
+
+        private void record(long longValue, double doubleValue, TagContext tags) {
+            Attributes attributes = getAttributes(tags);
+            for (Instrument instrument : instruments) {
+                instrument.record(longValue, doubleValue, attributes);
+            }
+        }
+
+        private Attributes getAttributes(TagContext tags) {
+            BoundAttributes last = lastAttributes;
+            if (last != null && last.tags == tags) {
+                return last.attributes;
+            }
+            if (attributeKeys.isEmpty()) {
+                return Attributes.empty();
+            }
+            AttributesBuilder builder = Attributes.builder();
+            for (Iterator<Tag> it = InternalUtils.getTags(tags); it.hasNext(); ) {
+                Tag tag = it.next();
+                AttributeKey<String> key = attributeKeys.get(tag.getKey().getName());
+                if (key != null) {
+                    builder.put(key, tag.getValue().asString());
+                }
+            }
+            Attributes attributes = builder.build();
+            lastAttributes = new BoundAttributes(tags, attributes);
+            return attributes;
+        }
+    }
+
+    /**
+     * The attributes built for a certain tag context.
+     */
+    private static class BoundAttributes {
+
+        private final TagContext tags;
+
+        private final Attributes attributes;
+
+        private BoundAttributes(TagContext tags, Attributes attributes) {
+            this.tags = tags;
+            this.attributes = attributes;
+        }
+    }
+}
@@ -3,9 +3,13 @@ package rocks.inspectit.ocelot.core.metrics.system;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.metrics.MetricsSettings;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringMeasure;
 import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+import rocks.inspectit.ocelot.core.service.scheduling.MonitoredScheduledExecutor;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
@@ -19,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 public abstract class AbstractPollingMetricsRecorder extends AbstractMetricsRecorder {
 
     @Autowired
+    @Qualifier(TaskGroups.METRICS)
     protected ScheduledExecutorService executor;
 
     @Autowired
@@ -26,6 +31,11 @@ public abstract class AbstractPollingMetricsRecorder extends AbstractMetricsReco
 
     private ScheduledFuture<?> pollingTask;
 
+    /**
+     * Self monitoring duration of taking a measurement.
+     */
+    private final SelfMonitoringMeasure pollingDuration = SelfMonitoringMeasure.duration(getClass().getSimpleName());
+
     public AbstractPollingMetricsRecorder(String configDependency) {
         super(configDependency);
     }
@@ -51,15 +61,15 @@ public abstract class AbstractPollingMetricsRecorder extends AbstractMetricsReco
     protected boolean doEnable(InspectitConfig configuration) {
         log.info("Enabling {}", getClass().getSimpleName());
         val conf = configuration.getMetrics();
-        pollingTask = executor.scheduleWithFixedDelay(() -> {
-            try (val scope = selfMonitoringService.withDurationSelfMonitoring(getClass().getSimpleName())) {
+        pollingTask = executor.scheduleWithFixedDelay(MonitoredScheduledExecutor.named(getClass().getSimpleName(), () -> {
+            try (val scope = selfMonitoringService.withDurationSelfMonitoring(pollingDuration)) {
                 try (val tags = commonTags.withCommonTagScope()) {
                     takeMeasurement(conf);
                 }
             } catch (Exception e) {
                 log.error("Error taking measurement", e);
             }
-        }, 0, getFrequency(conf).toMillis(), TimeUnit.MILLISECONDS);
+        }), 0, getFrequency(conf).toMillis(), TimeUnit.MILLISECONDS);
         return true;
     }
 
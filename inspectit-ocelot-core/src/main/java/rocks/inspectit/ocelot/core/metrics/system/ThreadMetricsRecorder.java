@@ -13,8 +13,6 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.Objects;
 
 @Service
 public class ThreadMetricsRecorder extends AbstractPollingMetricsRecorder {
@@ -71,18 +69,25 @@ public class ThreadMetricsRecorder extends AbstractPollingMetricsRecorder {
         return ms.getThreads().getEnabled().containsValue(true);
     }
 
+    /**
+     * Records the number of threads for each state. All states are counted based on a single snapshot of the threads,
+     * as each snapshot requires a safepoint.
+     */
     private void recordStateMetric() {
+        long[] counts = new long[Thread.State.values().length];
+        for (ThreadInfo info : threadBean.getThreadInfo(threadBean.getAllThreadIds())) {
+            // the thread info is null if the thread has terminated in the meantime
+            if (info != null) {
+                counts[info.getThreadState().ordinal()]++;
+            }
+        }
+
         String stateMeasureName = METRIC_NAME_PREFIX + STATE_METRIC_NAME;
         for (Thread.State state : Thread.State.values()) {
             TagContext tags = tagger.currentBuilder()
                     .putLocal(stateTag, TagUtils.createTagValue(stateTag.getName(), state.name()))
                     .build();
-            long count = Arrays.stream(threadBean.getThreadInfo(threadBean.getAllThreadIds()))
-                    .filter(Objects::nonNull)
-                    .map(ThreadInfo::getThreadState)
-                    .filter(s -> s == state)
-                    .count();
-            measureManager.tryRecordingMeasurement(stateMeasureName, count, tags);
+            measureManager.tryRecordingMeasurement(stateMeasureName, counts[state.ordinal()], tags);
         }
     }
 }
@@ -0,0 +1,130 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.Tagger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+import rocks.inspectit.ocelot.config.model.metrics.MetricsSettings;
+import rocks.inspectit.ocelot.core.metrics.system.AbstractMetricsRecorder;
+import rocks.inspectit.ocelot.core.tags.TagUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Base class for metrics recorders based on JDK Flight Recorder events.
+ * In contrast to the MXBean based recorders, the events are pushed by the JVM, so no polling is required and no
+ * additional safepoints are caused. Each recorder is activated via its key in {@link JfrMetricsSettings#getEnabled()}.
+ */
+@Slf4j
+public abstract class AbstractJfrMetricsRecorder extends AbstractMetricsRecorder {
+
+    @Autowired
+    protected Tagger tagger;
+
+    @Autowired
+    private JfrEventStream eventStream;
+
+    /**
+     * The key of this recorder in {@link JfrMetricsSettings#getEnabled()}.
+     */
+    private final String metricName;
+
+    private final List<JfrEventStream.Subscription> subscriptions = new ArrayList<>();
+
+    /**
+     * @param metricName the key of this recorder in {@link JfrMetricsSettings#getEnabled()}
+     */
+    protected AbstractJfrMetricsRecorder(String metricName) {
+        super("metrics.jfr");
+        this.metricName = metricName;
+    }
+
+    @Override
+    protected boolean checkEnabledForConfig(MetricsSettings ms) {
+        return ms.getJfr().getEnabled().getOrDefault(metricName, false) && eventStream.isAvailable();
+    }
+
+    @Override
+    protected boolean doEnable(InspectitConfig configuration) {
+        log.info("Enabling JFR {} metrics recorder", metricName);
+        subscribe(configuration.getMetrics().getJfr());
+        return true;
+    }
+
+    @Override
+    protected boolean doDisable() {
+        log.info("Disabling JFR {} metrics recorder", metricName);
+        subscriptions.forEach(JfrEventStream.Subscription::close);
+        subscriptions.clear();
+        return true;
+    }
+
+    /**
+     * Subscribes to the events required by this recorder via {@link #subscribe(String, Map, Consumer)}.
+     *
+     * @param settings the current JFR metrics settings
+     */
+    protected abstract void subscribe(JfrMetricsSettings settings);
+
+    /**
+     * Subscribes to the given event, the subscription is closed when the recorder is disabled.
+     *
+     * @param eventName the name of the event
+     * @param settings  the event settings
+     * @param handler   the handler of the events
+     */
+    protected void subscribe(String eventName, Map<String, String> settings, Consumer<JfrEvent> handler) {
+        subscriptions.add(eventStream.subscribe(eventName, settings, handler));
+    }
+
+    /**
+     * Creates event settings which only enable events with at least the given duration.
+     * Stack traces are never recorded, as they are not required for metrics.
+     *
+     * @param threshold the minimum duration of the events
+     *
+     * @return the event settings
+     */
+    protected static Map<String, String> withThreshold(Duration threshold) {
+        Map<String, String> settings = withoutStackTrace();
+        settings.put("threshold", threshold.toNanos() + " ns");
+        return settings;
+    }
+
+    /**
+     * @return event settings which disable the recording of stack traces
+     */
+    protected static Map<String, String> withoutStackTrace() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("stackTrace", "false");
+        return settings;
+    }
+
+    /**
+     * Records the given duration in milliseconds.
+     *
+     * @param measureName the name of the measure
+     * @param duration    the duration to record
+     * @param tags        the tags
+     */
+    protected void recordMillis(String measureName, Duration duration, TagContext tags) {
+        measureManager.tryRecordingDoubleMeasurement(measureName, duration.toNanos() / 1e6, tags);
+    }
+
+    /**
+     * @return the common tags extended by the given tag
+     */
+    protected TagContext tagsWith(TagKey key, String value) {
+        return tagger.toBuilder(commonTags.getCommonTagContext())
+                .putLocal(key, TagUtils.createTagValue(key.getName(), value))
+                .build();
+    }
+}
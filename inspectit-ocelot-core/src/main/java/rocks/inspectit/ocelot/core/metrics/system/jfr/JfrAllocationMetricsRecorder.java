@@ -0,0 +1,37 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import org.springframework.stereotype.Service;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+
+import java.util.Map;
+
+/**
+ * Records the allocated heap memory based on the "jdk.ObjectAllocationSample" event (Java 16+).
+ * The event is throttled by the JVM, each sample is weighted with the bytes allocated since the previous sample of the
+ * same thread, so that the sum of the weights approximates the allocation rate at a low overhead.
+ */
+@Service
+public class JfrAllocationMetricsRecorder extends AbstractJfrMetricsRecorder {
+
+    private static final String ALLOCATION_METRIC_NAME = "allocation";
+
+    private static final String ALLOCATION_METRIC_FULL_NAME = "jvm/jfr/allocation";
+
+    private static final String ALLOCATION_EVENT = "jdk.ObjectAllocationSample";
+
+    /**
+     * The maximum rate of allocation samples, this is the default of the "profile" settings of the JDK.
+     */
+    private static final String THROTTLE = "300/s";
+
+    public JfrAllocationMetricsRecorder() {
+        super(ALLOCATION_METRIC_NAME);
+    }
+
+    @Override
+    protected void subscribe(JfrMetricsSettings settings) {
+        Map<String, String> eventSettings = withoutStackTrace();
+        eventSettings.put("throttle", THROTTLE);
+        subscribe(ALLOCATION_EVENT, eventSettings, event -> measureManager.tryRecordingMeasurement(ALLOCATION_METRIC_FULL_NAME, event.getLong("weight"), commonTags.getCommonTagContext()));
+    }
+}
@@ -0,0 +1,155 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Provides access to the JDK Flight Recorder event streaming API, which is available starting with Java 14.
+ * As the agent is compiled for Java 8, the API is accessed via reflection.
+ */
+@Slf4j
+class JfrApi {
+
+    /**
+     * The API of the current JVM, null if event streaming is not supported.
+     */
+    static final JfrApi INSTANCE = load();
+
+    private final Constructor<?> newRecordingStream;
+
+    private final Method enable;
+
+    private final Method disable;
+
+    private final Method onEvent;
+
+    private final Method remove;
+
+    private final Method setOrdered;
+
+    private final Method startAsync;
+
+    private final Method close;
+
+    private final Method withSetting;
+
+    private final Method getEventDuration;
+
+    private final Method getDuration;
+
+    private final Method getLong;
+
+    private final Method getString;
+
+    private JfrApi() throws ReflectiveOperationException {
+        Class<?> recordingStream = Class.forName("jdk.jfr.consumer.RecordingStream");
+        Class<?> eventSettings = Class.forName("jdk.jfr.EventSettings");
+        Class<?> recordedObject = Class.forName("jdk.jfr.consumer.RecordedObject");
+        Class<?> recordedEvent = Class.forName("jdk.jfr.consumer.RecordedEvent");
+
+        newRecordingStream = recordingStream.getConstructor();
+        enable = recordingStream.getMethod("enable", String.class);
+        disable = recordingStream.getMethod("disable", String.class);
+        onEvent = recordingStream.getMethod("onEvent", String.class, Consumer.class);
+        remove = recordingStream.getMethod("remove", Object.class);
+        setOrdered = recordingStream.getMethod("setOrdered", boolean.class);
+        startAsync = recordingStream.getMethod("startAsync");
+        close = recordingStream.getMethod("close");
+        withSetting = eventSettings.getMethod("with", String.class, String.class);
+        getEventDuration = recordedEvent.getMethod("getDuration");
+        getDuration = recordedObject.getMethod("getDuration", String.class);
+        getLong = recordedObject.getMethod("getLong", String.class);
+        getString = recordedObject.getMethod("getString", String.class);
+
+        boolean available = (Boolean) Class.forName("jdk.jfr.FlightRecorder").getMethod("isAvailable").invoke(null);
+        if (!available) {
+            throw new IllegalStateException("The Flight Recorder is not available");
+        }
+    }
+
+    private static JfrApi load() {
+        try {
+            return new JfrApi();
+        } catch (Throwable t) {
+            log.debug("JFR event streaming is not available", t);
+            return null;
+        }
+    }
+
+    Object newRecordingStream() {
+        return invoke(() -> newRecordingStream.newInstance());
+    }
+
+    /**
+     * Enables the given event with the given settings, e.g. "threshold" with the value "10 ms".
+     */
+    void enable(Object recordingStream, String eventName, Map<String, String> settings) {
+        Object eventSettings = invoke(() -> enable.invoke(recordingStream, eventName));
+        settings.forEach((name, value) -> invoke(() -> withSetting.invoke(eventSettings, name, value)));
+    }
+
+    void disable(Object recordingStream, String eventName) {
+        invoke(() -> disable.invoke(recordingStream, eventName));
+    }
+
+    void onEvent(Object recordingStream, String eventName, Consumer<Object> action) {
+        invoke(() -> onEvent.invoke(recordingStream, eventName, action));
+    }
+
+    void remove(Object recordingStream, Consumer<Object> action) {
+        invoke(() -> remove.invoke(recordingStream, action));
+    }
+
+    void startAsync(Object recordingStream) {
+        invoke(() -> {
+            setOrdered.invoke(recordingStream, false);
+            return startAsync.invoke(recordingStream);
+        });
+    }
+
+    void close(Object recordingStream) {
+        invoke(() -> close.invoke(recordingStream));
+    }
+
+    Duration getEventDuration(Object event) {
+        return (Duration) invoke(() -> getEventDuration.invoke(event));
+    }
+
+    Duration getDuration(Object event, String field) {
+        return (Duration) invoke(() -> getDuration.invoke(event, field));
+    }
+
+    long getLong(Object event, String field) {
+        return (Long) invoke(() -> getLong.invoke(event, field));
+    }
+
+    String getString(Object event, String field) {
+        return (String) invoke(() -> getString.invoke(event, field));
+    }
+
+    private static Object invoke(ReflectiveCall call) {
+        try {
+            return call.invoke();
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReflectiveCall {
+
+        Object invoke() throws ReflectiveOperationException;
+    }
+}
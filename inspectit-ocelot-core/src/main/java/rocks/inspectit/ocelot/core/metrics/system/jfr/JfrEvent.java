@@ -0,0 +1,53 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import java.time.Duration;
+
+/**
+ * A Flight Recorder event received via a {@link JfrEventStream}.
+ * The event is only valid during the invocation of the handler it has been passed to.
+ */
+public class JfrEvent {
+
+    private final JfrApi api;
+
+    private final Object event;
+
+    JfrEvent(JfrApi api, Object event) {
+        this.api = api;
+        this.event = event;
+    }
+
+    /**
+     * @return the duration of the event, zero for instant events
+     */
+    public Duration getDuration() {
+        return api.getEventDuration(event);
+    }
+
+    /**
+     * @param field the name of the field
+     *
+     * @return the value of the given duration field
+     */
+    public Duration getDuration(String field) {
+        return api.getDuration(event, field);
+    }
+
+    /**
+     * @param field the name of the field
+     *
+     * @return the value of the given integral field
+     */
+    public long getLong(String field) {
+        return api.getLong(event, field);
+    }
+
+    /**
+     * @param field the name of the field
+     *
+     * @return the value of the given string field
+     */
+    public String getString(String field) {
+        return api.getString(event, field);
+    }
+}
@@ -0,0 +1,135 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Shares a single JDK Flight Recorder recording stream between all JFR based metrics recorders.
+ * The stream is started with the first subscription and closed as soon as no subscriptions are left, so that the
+ * Flight Recorder is only active if any JFR metric is enabled.
+ * <p>
+ * Event streaming is available starting with Java 14, see {@link #isAvailable()}.
+ */
+@Component
+@Slf4j
+public class JfrEventStream {
+
+    /**
+     * The current recording stream, null if there are no subscriptions.
+     */
+    private Object recordingStream;
+
+    /**
+     * The number of subscriptions for each event, events are disabled when their last subscription is closed.
+     */
+    private final Map<String, Integer> subscriptionCounts = new HashMap<>();
+
+    /**
+     * @return true, if the current JVM supports Flight Recorder event streaming
+     */
+    public boolean isAvailable() {
+        return JfrApi.INSTANCE != null;
+    }
+
+    @PostConstruct
+    void logAvailability() {
+        if (!isAvailable()) {
+            log.info("JFR event streaming is not available on this JVM, JFR metrics are unavailable");
+        }
+    }
+
+    @PreDestroy
+    synchronized void destroy() {
+        if (recordingStream != null) {
+            JfrApi.INSTANCE.close(recordingStream);
+            recordingStream = null;
+            subscriptionCounts.clear();
+        }
+    }
+
+    /**
+     * Enables the given event and passes all of its occurrences to the given handler.
+     * The handler is invoked on the thread of the recording stream, it must not retain the passed events.
+     *
+     * @param eventName the name of the event, e.g. "jdk.GarbageCollection"
+     * @param settings  the settings of the event, e.g. "threshold" with value "10 ms"
+     * @param handler   the handler for the events
+     *
+     * @return the subscription, which has to be closed to stop receiving the events
+     */
+    public synchronized Subscription subscribe(String eventName, Map<String, String> settings, Consumer<JfrEvent> handler) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("JFR event streaming is not available");
+        }
+        JfrApi api = JfrApi.INSTANCE;
+        boolean start = recordingStream == null;
+        if (start) {
+            recordingStream = api.newRecordingStream();
+        }
+
+        api.enable(recordingStream, eventName, settings);
+        subscriptionCounts.merge(eventName, 1, Integer::sum);
+        Consumer<Object> action = event -> {
+            try {
+                handler.accept(new JfrEvent(api, event));
+            } catch (Exception e) {
+                log.error("Error handling JFR event {}", eventName, e);
+            }
+        };
+        api.onEvent(recordingStream, eventName, action);
+
+        if (start) {
+            api.startAsync(recordingStream);
+        }
+        return new Subscription(eventName, action);
+    }
+
+    private synchronized void unsubscribe(Subscription subscription) {
+        if (recordingStream == null) {
+            return;
+        }
+        JfrApi api = JfrApi.INSTANCE;
+        api.remove(recordingStream, subscription.action);
+        Integer remaining = subscriptionCounts.computeIfPresent(subscription.eventName, (name, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            api.disable(recordingStream, subscription.eventName);
+        }
+        if (subscriptionCounts.isEmpty()) {
+            api.close(recordingStream);
+            recordingStream = null;
+        }
+    }
+
+    /**
+     * A subscription to an event of the {@link JfrEventStream}.
+     */
+    public class Subscription implements AutoCloseable {
+
+        private final String eventName;
+
+        private final Consumer<Object> action;
+
+        private boolean closed;
+
+        private Subscription(String eventName, Consumer<Object> action) {
+            this.eventName = eventName;
+            this.action = action;
+        }
+
+        @Override
+        public void close() {
+            synchronized (JfrEventStream.this) {
+                if (!closed) {
+                    closed = true;
+                    unsubscribe(this);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import org.springframework.stereotype.Service;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+import rocks.inspectit.ocelot.core.tags.TagUtils;
+
+/**
+ * Records the pause times of garbage collections based on the "jdk.GarbageCollection" event.
+ * The event contains the sum of all pauses of a collection, so that pauses of concurrent collectors are covered, too.
+ */
+@Service
+public class JfrGCMetricsRecorder extends AbstractJfrMetricsRecorder {
+
+    private static final String PAUSE_METRIC_NAME = "gc.pause";
+
+    private static final String PAUSE_METRIC_FULL_NAME = "jvm/jfr/gc/pause";
+
+    private static final String GC_EVENT = "jdk.GarbageCollection";
+
+    private final TagKey gcTagKey = TagKey.create("gc");
+
+    private final TagKey causeTagKey = TagKey.create("cause");
+
+    public JfrGCMetricsRecorder() {
+        super(PAUSE_METRIC_NAME);
+    }
+
+    @Override
+    protected void subscribe(JfrMetricsSettings settings) {
+        subscribe(GC_EVENT, withoutStackTrace(), this::recordGarbageCollection);
+    }
+
+    private void recordGarbageCollection(JfrEvent event) {
+        TagContext tags = tagger.toBuilder(commonTags.getCommonTagContext())
+                .putLocal(gcTagKey, TagUtils.createTagValue(gcTagKey.getName(), event.getString("name")))
+                .putLocal(causeTagKey, TagUtils.createTagValue(causeTagKey.getName(), event.getString("cause")))
+                .build();
+        recordMillis(PAUSE_METRIC_FULL_NAME, event.getDuration("sumOfPauses"), tags);
+    }
+}
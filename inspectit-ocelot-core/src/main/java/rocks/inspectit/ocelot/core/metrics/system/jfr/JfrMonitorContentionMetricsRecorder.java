@@ -0,0 +1,27 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import org.springframework.stereotype.Service;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+
+/**
+ * Records the time threads are blocked on entering a contended monitor based on the "jdk.JavaMonitorEnter" event.
+ * Only contentions lasting at least the configured threshold are recorded.
+ */
+@Service
+public class JfrMonitorContentionMetricsRecorder extends AbstractJfrMetricsRecorder {
+
+    private static final String CONTENTION_METRIC_NAME = "monitor.contention";
+
+    private static final String CONTENTION_METRIC_FULL_NAME = "jvm/jfr/monitor/contention";
+
+    private static final String MONITOR_ENTER_EVENT = "jdk.JavaMonitorEnter";
+
+    public JfrMonitorContentionMetricsRecorder() {
+        super(CONTENTION_METRIC_NAME);
+    }
+
+    @Override
+    protected void subscribe(JfrMetricsSettings settings) {
+        subscribe(MONITOR_ENTER_EVENT, withThreshold(settings.getThreshold()), event -> recordMillis(CONTENTION_METRIC_FULL_NAME, event.getDuration(), commonTags.getCommonTagContext()));
+    }
+}
@@ -0,0 +1,30 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import org.springframework.stereotype.Service;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+
+import java.time.Duration;
+
+/**
+ * Records the time application threads are stopped at safepoints based on the "jdk.SafepointBegin" event, whose
+ * duration spans from the safepoint request until all threads have been stopped and the operation has completed.
+ */
+@Service
+public class JfrSafepointMetricsRecorder extends AbstractJfrMetricsRecorder {
+
+    private static final String SAFEPOINT_METRIC_NAME = "safepoint";
+
+    private static final String SAFEPOINT_METRIC_FULL_NAME = "jvm/jfr/safepoint/duration";
+
+    private static final String SAFEPOINT_EVENT = "jdk.SafepointBegin";
+
+    public JfrSafepointMetricsRecorder() {
+        super(SAFEPOINT_METRIC_NAME);
+    }
+
+    @Override
+    protected void subscribe(JfrMetricsSettings settings) {
+        // all safepoints are recorded, so that the count of the safepoints is correct
+        subscribe(SAFEPOINT_EVENT, withThreshold(Duration.ZERO), event -> recordMillis(SAFEPOINT_METRIC_FULL_NAME, event.getDuration(), commonTags.getCommonTagContext()));
+    }
+}
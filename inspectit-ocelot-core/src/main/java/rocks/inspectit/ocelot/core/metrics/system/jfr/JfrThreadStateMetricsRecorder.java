@@ -0,0 +1,37 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import io.opencensus.tags.TagKey;
+import org.springframework.stereotype.Service;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+
+/**
+ * Records the time threads spend waiting on monitors, parking and sleeping based on the "jdk.JavaMonitorWait",
+ * "jdk.ThreadPark" and "jdk.ThreadSleep" events. Only periods lasting at least the configured threshold are recorded.
+ * <p>
+ * In contrast to the thread state counts of the ThreadMetricsRecorder, which are sampled periodically, this metric
+ * covers the time spent in these states in between.
+ */
+@Service
+public class JfrThreadStateMetricsRecorder extends AbstractJfrMetricsRecorder {
+
+    private static final String STATE_METRIC_NAME = "thread.states";
+
+    private static final String STATE_METRIC_FULL_NAME = "jvm/jfr/threads/state/time";
+
+    private final TagKey stateTagKey = TagKey.create("state");
+
+    public JfrThreadStateMetricsRecorder() {
+        super(STATE_METRIC_NAME);
+    }
+
+    @Override
+    protected void subscribe(JfrMetricsSettings settings) {
+        subscribeState("jdk.JavaMonitorWait", "waiting", settings);
+        subscribeState("jdk.ThreadPark", "parked", settings);
+        subscribeState("jdk.ThreadSleep", "sleeping", settings);
+    }
+
+    private void subscribeState(String eventName, String state, JfrMetricsSettings settings) {
+        subscribe(eventName, withThreshold(settings.getThreshold()), event -> recordMillis(STATE_METRIC_FULL_NAME, event.getDuration(), tagsWith(stateTagKey, state)));
+    }
+}
@@ -31,6 +31,7 @@ import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.core.config.InspectitConfigChangedEvent;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.exporter.DynamicallyActivatableMetricsExporterService;
+import rocks.inspectit.ocelot.core.metrics.OpenTelemetryMeasureRecorder;
 import rocks.inspectit.ocelot.core.opentelemetry.resource.ResourceAttributesProvider;
 import rocks.inspectit.ocelot.core.opentelemetry.trace.CustomIdGenerator;
 import rocks.inspectit.ocelot.core.opentelemetry.trace.samplers.DynamicSampler;
@@ -129,6 +130,13 @@ public class OpenTelemetryControllerImpl implements IOpenTelemetryController {
     @Getter(AccessLevel.PACKAGE)
     CustomIdGenerator idGenerator;
 
+    /**
+     * The recorder of the OpenTelemetry metrics recording backend, which has to be bound to every new {@link SdkMeterProvider}.
+     */
+    @Autowired(required = false)
+    @VisibleForTesting
+    OpenTelemetryMeasureRecorder measureRecorder;
+
     /**
      * The {@link DynamicSampler} used for tracing
      */
@@ -219,6 +227,10 @@ public class OpenTelemetryControllerImpl implements IOpenTelemetryController {
                         .setMeterProvider(sdkMeterProvider)
                         .build();
                 openTelemetry.set(openTelemetrySdk, false, false);
+
+                if (null != measureRecorder && null != sdkMeterProvider) {
+                    measureRecorder.bind(sdkMeterProvider);
+                }
             }
             success = null != sdkMeterProvider && null != sdkTracerProvider;
             meterProvider = sdkMeterProvider;
@@ -43,7 +43,7 @@ public class ObfuscationManager {
     /**
      * Creates the new obfuscatory based on the event.
      */
-    @EventListener(InspectitConfigChangedEvent.class)
+    @EventListener(classes = InspectitConfigChangedEvent.class, condition = "#root.event.isAffected('inspectit.privacy')")
     @PostConstruct
     @VisibleForTesting
     void update() {
@@ -0,0 +1,388 @@
+package rocks.inspectit.ocelot.core.privacy.obfuscation.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Matches values against an ordered list of patterns and finds the first pattern matching the whole value.
+ * <p>
+ * For each pattern a literal is derived which is contained in every value matched by the pattern, e.g. <code>@</code>
+ * for a pattern matching e-mail addresses. Before any regular expression is evaluated, the value is scanned once for
+ * the literals of all patterns using an Aho-Corasick automaton. Afterwards, only the patterns whose literal is
+ * contained in the value and the patterns for which no literal could be derived are evaluated.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+class MultiPatternMatcher {
+
+    private final Pattern[] patterns;
+
+    /**
+     * True for all patterns for which no literal could be derived, these are always evaluated.
+     */
+    private final boolean[] unfiltered;
+
+    /**
+     * The automaton for finding the literals, null if no literal could be derived for any pattern.
+     */
+    private final LiteralAutomaton automaton;
+
+    MultiPatternMatcher(List<Pattern> patterns) {
+        this.patterns = patterns.toArray(new Pattern[0]);
+        unfiltered = new boolean[this.patterns.length];
+
+        String[] literals = new String[this.patterns.length];
+        boolean[] caseSensitive = new boolean[this.patterns.length];
+        boolean anyLiteral = false;
+        for (int i = 0; i < this.patterns.length; i++) {
+            Pattern pattern = this.patterns[i];
+            String literal = requiredLiteral(pattern);
+            if (literal == null) {
+                unfiltered[i] = true;
+            } else {
+                caseSensitive[i] = (pattern.flags() & Pattern.CASE_INSENSITIVE) == 0;
+                literals[i] = caseSensitive[i] ? literal : fold(literal);
+                anyLiteral = true;
+            }
+        }
+        automaton = anyLiteral ? new LiteralAutomaton(literals, caseSensitive) : null;
+    }
+
+    /**
+     * @return the number of patterns of this matcher
+     */
+    int size() {
+        return patterns.length;
+    }
+
+    /**
+     * Finds the first pattern which matches the whole given value.
+     *
+     * @param value the value to match
+     *
+     * @return the index of the first matching pattern or -1 if no pattern matches
+     */
+    int firstMatch(String value) {
+        long[] candidates = automaton == null ? null : automaton.findContainedLiterals(value);
+        for (int i = 0; i < patterns.length; i++) {
+            boolean candidate = unfiltered[i] || (candidates[i >>> 6] & (1L << i)) != 0;
+            if (candidate && patterns[i].matcher(value).matches()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Derives a literal which is contained in every value the given pattern matches.
+     * The analysis is conservative: only literals outside of groups and character classes are considered and no literal
+     * is derived for patterns using alternations on the top level, inline flags or flags other than
+     * {@link Pattern#CASE_INSENSITIVE}.
+     *
+     * @param pattern the pattern to analyze
+     *
+     * @return the longest literal found or null, if no literal could be derived
+     */
+    @VisibleForTesting
+    static String requiredLiteral(Pattern pattern) {
+        if ((pattern.flags() & ~Pattern.CASE_INSENSITIVE) != 0) {
+            return null;
+        }
+        String regex = pattern.pattern();
+        for (int i = regex.indexOf("(?"); i >= 0 && i + 2 < regex.length(); i = regex.indexOf("(?", i + 1)) {
+            if (isInlineFlag(regex.charAt(i + 2))) {
+                return null;
+            }
+        }
+        String longest = "";
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            char literal;
+            if (c == '\\') {
+                if (i + 1 >= regex.length()) {
+                    return null;
+                }
+                char escaped = regex.charAt(i + 1);
+                i += 2;
+                if (Character.isLetterOrDigit(escaped)) {
+                    // predefined classes, anchors and control characters, anything else is not analyzed
+                    if ("dDsSwWbBtnrfaeAGZzhHvVR".indexOf(escaped) < 0) {
+                        return null;
+                    }
+                    longest = longer(longest, current);
+                    continue;
+                }
+                literal = escaped;
+            } else if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+                longest = longer(longest, current);
+                continue;
+            } else if (c == '(') {
+                i = skipGroup(regex, i);
+                if (i < 0) {
+                    return null;
+                }
+                longest = longer(longest, current);
+                continue;
+            } else if (c == '|') {
+                return null;
+            } else if (c == '{') {
+                i = regex.indexOf('}', i);
+                if (i < 0) {
+                    return null;
+                }
+                i++;
+                longest = longer(longest, current);
+                continue;
+            } else if ("])}.*+?^$".indexOf(c) >= 0) {
+                i++;
+                longest = longer(longest, current);
+                continue;
+            } else {
+                literal = c;
+                i++;
+            }
+
+            char quantifier = i < regex.length() ? regex.charAt(i) : 0;
+            if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                // the literal is optional
+                longest = longer(longest, current);
+            } else if (quantifier == '+') {
+                current.append(literal);
+                longest = longer(longest, current);
+            } else {
+                current.append(literal);
+            }
+        }
+        longest = longer(longest, current);
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static boolean isInlineFlag(char c) {
+        return Character.isLetter(c) || c == '-';
+    }
+
+    /**
+     * Ends the current literal.
+     *
+     * @return the longer of the given longest and the current literal
+     */
+    private static String longer(String longest, StringBuilder current) {
+        String result = current.length() > longest.length() ? current.toString() : longest;
+        current.setLength(0);
+        return result;
+    }
+
+    /**
+     * @return the index after the character class starting at the given index or -1 if it is not terminated
+     */
+    private static int skipCharacterClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index after the group starting at the given index or -1 if it is not terminated
+     */
+    private static int skipGroup(String regex, int start) {
+        int i = start + 1;
+        int depth = 1;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipCharacterClass(regex, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Folds ASCII letters to lower case, which is equivalent to the case-insensitive matching of {@link Pattern}
+     * without {@link Pattern#UNICODE_CASE}.
+     */
+    private static char fold(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static String fold(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Aho-Corasick automaton finding the literals of all patterns in a single pass over the value.
+     * The automaton works on case-folded characters, occurrences of literals of case-sensitive patterns are verified
+     * afterwards.
+     */
+    private static class LiteralAutomaton {
+
+        private static final int[] NO_OUTPUTS = new int[0];
+
+        /**
+         * The literal of each pattern, null if the pattern has no literal.
+         */
+        private final String[] literals;
+
+        private final boolean[] caseSensitive;
+
+        /**
+         * The sorted characters of the transitions of each state.
+         */
+        private final char[][] transitionChars;
+
+        /**
+         * The target states of the transitions of each state, in the same order as {@link #transitionChars}.
+         */
+        private final int[][] transitionTargets;
+
+        private final int[] failure;
+
+        /**
+         * The indices of the patterns whose literal ends in each state.
+         */
+        private final int[][] outputs;
+
+        private LiteralAutomaton(String[] literals, boolean[] caseSensitive) {
+            this.literals = literals;
+            this.caseSensitive = caseSensitive;
+
+            List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+            List<Set<Integer>> outputSets = new ArrayList<>();
+            transitions.add(new TreeMap<>());
+            outputSets.add(new TreeSet<>());
+            for (int pattern = 0; pattern < literals.length; pattern++) {
+                if (literals[pattern] == null) {
+                    continue;
+                }
+                int state = 0;
+                for (char c : literals[pattern].toCharArray()) {
+                    Integer next = transitions.get(state).get(fold(c));
+                    if (next == null) {
+                        next = transitions.size();
+                        transitions.add(new TreeMap<>());
+                        outputSets.add(new TreeSet<>());
+                        transitions.get(state).put(fold(c), next);
+                    }
+                    state = next;
+                }
+                outputSets.get(state).add(pattern);
+            }
+
+            int stateCount = transitions.size();
+            transitionChars = new char[stateCount][];
+            transitionTargets = new int[stateCount][];
+            for (int state = 0; state < stateCount; state++) {
+                Map<Character, Integer> stateTransitions = transitions.get(state);
+                transitionChars[state] = new char[stateTransitions.size()];
+                transitionTargets[state] = new int[stateTransitions.size()];
+                int index = 0;
+                for (Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+                    transitionChars[state][index] = transition.getKey();
+                    transitionTargets[state][index] = transition.getValue();
+                    index++;
+                }
+            }
+
+            // breadth first, so that the failure state of the parent is always computed before its children
+            failure = new int[stateCount];
+            Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                    int child = transition.getValue();
+                    int fallback = failure[state];
+                    int target;
+                    while ((target = next(fallback, transition.getKey())) < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = target < 0 ? 0 : target;
+                    outputSets.get(child).addAll(outputSets.get(failure[child]));
+                    queue.add(child);
+                }
+            }
+
+            outputs = new int[stateCount][];
+            for (int state = 0; state < stateCount; state++) {
+                Set<Integer> stateOutputs = outputSets.get(state);
+                outputs[state] = stateOutputs.isEmpty() ? NO_OUTPUTS : stateOutputs.stream()
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+        }
+
+        private int next(int state, char c) {
+            int index = Arrays.binarySearch(transitionChars[state], c);
+            return index < 0 ? -1 : transitionTargets[state][index];
+        }
+
+        /**
+         * @param value the value to scan
+         *
+         * @return a bit set containing the indices of all patterns whose literal is contained in the value
+         */
+        private long[] findContainedLiterals(String value) {
+            long[] found = new long[(literals.length + 63) >>> 6];
+            int state = 0;
+            for (int position = 0; position < value.length(); position++) {
+                char c = fold(value.charAt(position));
+                int next;
+                while ((next = next(state, c)) < 0 && state != 0) {
+                    state = failure[state];
+                }
+                state = next < 0 ? 0 : next;
+                for (int pattern : outputs[state]) {
+                    String literal = literals[pattern];
+                    if (!caseSensitive[pattern] || value.regionMatches(position - literal.length() + 1, literal, 0, literal
+                            .length())) {
+                        found[pattern >>> 6] |= 1L << pattern;
+                    }
+                }
+            }
+            return found;
+        }
+    }
+}
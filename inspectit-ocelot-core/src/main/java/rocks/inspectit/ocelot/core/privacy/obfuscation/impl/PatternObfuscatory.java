@@ -3,34 +3,82 @@ package rocks.inspectit.ocelot.core.privacy.obfuscation.impl;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import io.opentelemetry.api.trace.Span;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Value;
 import rocks.inspectit.ocelot.config.model.privacy.obfuscation.ObfuscationPattern;
 import rocks.inspectit.ocelot.core.privacy.obfuscation.IObfuscatory;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
-
-@AllArgsConstructor
+import java.util.stream.Collectors;
+
+/**
+ * {@link IObfuscatory} obfuscating span attributes whose key or value matches any of the given patterns.
+ * <p>
+ * The key patterns and the data patterns are each combined into a {@link MultiPatternMatcher}, so that only the
+ * patterns which can possibly match are evaluated. The decisions for keys and for short values are cached.
+ */
 public class PatternObfuscatory implements IObfuscatory {
 
     private static final Function<String, Object> DEFAULT_OBFUSCATION_FUNCTION = (v) -> "***";
 
     /**
-     * Patterns that need to be checked
+     * The maximum number of cached decisions for keys and for values.
+     */
+    private static final int CACHE_SIZE = 1000;
+
+    /**
+     * Values longer than this are not cached, e.g. SQL statements are usually unique and would only pollute the cache.
+     */
+    private static final int MAX_CACHED_VALUE_LENGTH = 256;
+
+    /**
+     * Patterns that need to be checked against keys, in the order of their definition.
+     */
+    private final List<PatternEntry> keyPatternEntries;
+
+    private final MultiPatternMatcher keyMatcher;
+
+    /**
+     * Patterns that need to be checked against data, in the order of their definition.
      */
-    private final Collection<PatternEntry> patternEntries;
+    private final List<PatternEntry> dataPatternEntries;
+
+    private final MultiPatternMatcher dataMatcher;
 
     /**
      * Map holding already checked keys as key and info if the data should be obfuscated or not
      */
     private final Cache<String, CheckedKeyObfuscationValue> checkedKeysMap = CacheBuilder.newBuilder()
-            .maximumSize(1000)
+            .maximumSize(CACHE_SIZE)
             .build();
 
+    /**
+     * Map holding already checked values as key and the obfuscation function to apply, if any.
+     */
+    private final Cache<String, Optional<Function<String, Object>>> checkedValuesMap = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
+    public PatternObfuscatory(Collection<PatternEntry> patternEntries) {
+        keyPatternEntries = filter(patternEntries, PatternEntry::isCheckKey);
+        keyMatcher = createMatcher(keyPatternEntries);
+        dataPatternEntries = filter(patternEntries, PatternEntry::isCheckData);
+        dataMatcher = createMatcher(dataPatternEntries);
+    }
+
+    private static List<PatternEntry> filter(Collection<PatternEntry> patternEntries, Predicate<PatternEntry> filter) {
+        return patternEntries.stream().filter(filter).collect(Collectors.toList());
+    }
+
+    private static MultiPatternMatcher createMatcher(List<PatternEntry> patternEntries) {
+        return new MultiPatternMatcher(patternEntries.stream().map(PatternEntry::getPattern).collect(Collectors.toList()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -76,17 +124,28 @@ public class PatternObfuscatory implements IObfuscatory {
     }
 
     private Optional<Function<String, Object>> shouldObfuscateKey(String key) {
-        return patternEntries.stream()
-                .filter(p -> p.matchesKey(key))
-                .findFirst()
-                .map(PatternEntry::getObfuscationFunction);
+        int match = keyMatcher.firstMatch(key);
+        return match < 0 ? Optional.empty() : Optional.of(keyPatternEntries.get(match).getObfuscationFunction());
     }
 
     private Optional<Function<String, Object>> shouldObfuscateData(String data) {
-        return patternEntries.stream()
-                .filter(p -> p.matchesData(data))
-                .findFirst()
-                .map(PatternEntry::getObfuscationFunction);
+        if (dataMatcher.size() == 0) {
+            return Optional.empty();
+        }
+        if (data.length() > MAX_CACHED_VALUE_LENGTH) {
+            return matchData(data);
+        }
+        Optional<Function<String, Object>> cached = checkedValuesMap.getIfPresent(data);
+        if (cached == null) {
+            cached = matchData(data);
+            checkedValuesMap.put(data, cached);
+        }
+        return cached;
+    }
+
+    private Optional<Function<String, Object>> matchData(String data) {
+        int match = dataMatcher.firstMatch(data);
+        return match < 0 ? Optional.empty() : Optional.of(dataPatternEntries.get(match).getObfuscationFunction());
     }
 
     /**
@@ -128,26 +187,14 @@ public class PatternObfuscatory implements IObfuscatory {
 
         /**
          * If key check should be performed
-         *
-         * @see #matchesKey(String)
          */
         boolean checkKey;
 
         /**
          * If data check should be performed
-         *
-         * @see #matchesData(String)
          */
         boolean checkData;
 
-        boolean matchesKey(String key) {
-            return checkKey && pattern.matcher(key).matches();
-        }
-
-        boolean matchesData(String data) {
-            return checkData && pattern.matcher(data).matches();
-        }
-
         Function<String, Object> getObfuscationFunction() {
             if (replaceRegex == null) return DEFAULT_OBFUSCATION_FUNCTION;
             else return value -> replaceRegex.matcher(value).replaceAll("***");
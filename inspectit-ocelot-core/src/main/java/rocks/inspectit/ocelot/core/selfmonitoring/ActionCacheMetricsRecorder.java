@@ -0,0 +1,84 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import com.google.common.collect.ImmutableMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.actions.cache.ActionResultCache;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically exposes the number of cache hits and misses of actions called with "cache-by" to the
+ * {@link SelfMonitoringService}. The hits and misses are only counted on the hot path and recorded in batches.
+ */
+@Component
+public class ActionCacheMetricsRecorder {
+
+    private static final String MEASURE_NAME = "action-cache";
+
+    private static final String ACTION_TAG = "action_name";
+
+    private static final String RESULT_TAG = "result";
+
+    @Autowired
+    private ActionResultCache actionResultCache;
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Autowired
+    @Qualifier(TaskGroups.METRICS)
+    private ScheduledExecutorService executor;
+
+    private ScheduledFuture<?> recordingTask;
+
+    /**
+     * The hits and misses per action at the time of the last recording.
+     */
+    private final Map<String, long[]> lastRecorded = new HashMap<>();
+
+    @PostConstruct
+    private void start() {
+        Duration frequency = env.getCurrentConfig().getMetrics().getFrequency();
+        recordingTask = executor.scheduleWithFixedDelay(this::record, frequency.toMillis(), frequency.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        recordingTask.cancel(false);
+    }
+
+    /**
+     * Records the hits and misses which happened since the last invocation.
+     */
+    synchronized void record() {
+        actionResultCache.getAllStatistics().forEach((actionName, statistics) -> {
+            long hits = statistics.getHits();
+            long misses = statistics.getMisses();
+            long[] last = lastRecorded.computeIfAbsent(actionName, name -> new long[2]);
+
+            if (hits != last[0]) {
+                selfMonitoringService.recordMeasurement(MEASURE_NAME, hits - last[0], ImmutableMap.of(ACTION_TAG, actionName, RESULT_TAG, "hit"));
+            }
+            if (misses != last[1]) {
+                selfMonitoringService.recordMeasurement(MEASURE_NAME, misses - last[1], ImmutableMap.of(ACTION_TAG, actionName, RESULT_TAG, "miss"));
+            }
+
+            last[0] = hits;
+            last[1] = misses;
+        });
+    }
+}
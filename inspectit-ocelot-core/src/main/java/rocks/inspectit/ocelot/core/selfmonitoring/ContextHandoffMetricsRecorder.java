@@ -0,0 +1,73 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.context.ContextManager;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically exposes the number of task handoffs for which the {@link ContextManager} captured or skipped the
+ * context to the {@link SelfMonitoringService}. The handoffs are only counted on the hot path and recorded in batches,
+ * so the executors are not slowed down by recording a measurement for each submitted task.
+ */
+@Component
+public class ContextHandoffMetricsRecorder {
+
+    private static final String MEASURE_NAME = "context-handoffs";
+
+    private static final String RESULT_TAG = "result";
+
+    @Autowired
+    private ContextManager contextManager;
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Autowired
+    @Qualifier(TaskGroups.METRICS)
+    private ScheduledExecutorService executor;
+
+    private ScheduledFuture<?> recordingTask;
+
+    private long lastCaptured;
+
+    private long lastSkipped;
+
+    @PostConstruct
+    private void start() {
+        Duration frequency = env.getCurrentConfig().getMetrics().getFrequency();
+        recordingTask = executor.scheduleWithFixedDelay(this::record, frequency.toMillis(), frequency.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        recordingTask.cancel(false);
+    }
+
+    /**
+     * Records the handoffs which happened since the last invocation.
+     */
+    synchronized void record() {
+        long captured = contextManager.getCapturedHandoffs();
+        long skipped = contextManager.getSkippedHandoffs();
+
+        selfMonitoringService.recordMeasurement(MEASURE_NAME, captured - lastCaptured, Collections.singletonMap(RESULT_TAG, "captured"));
+        selfMonitoringService.recordMeasurement(MEASURE_NAME, skipped - lastSkipped, Collections.singletonMap(RESULT_TAG, "skipped"));
+
+        lastCaptured = captured;
+        lastSkipped = skipped;
+    }
+}
@@ -0,0 +1,91 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.cache.InstrumentationCache;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically exposes the hits and misses of the {@link InstrumentationCache}, the estimated time saved by it and its
+ * size to the {@link SelfMonitoringService}. Nothing is recorded if the cache is disabled.
+ */
+@Component
+public class InstrumentationCacheMetricsRecorder {
+
+    private static final String MEASURE_NAME = "instrumentation-cache";
+
+    private static final String TIME_SAVED_MEASURE_NAME = "instrumentation-cache/time-saved";
+
+    private static final String SIZE_MEASURE_NAME = "instrumentation-cache/size";
+
+    private static final String RESULT_TAG = "result";
+
+    @Autowired
+    private InstrumentationCache instrumentationCache;
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Autowired
+    @Qualifier(TaskGroups.METRICS)
+    private ScheduledExecutorService executor;
+
+    private ScheduledFuture<?> recordingTask;
+
+    private long lastHits;
+
+    private long lastMisses;
+
+    private long lastInvalidEntries;
+
+    private long lastSavedMillis;
+
+    @PostConstruct
+    private void start() {
+        if (instrumentationCache.isEnabled()) {
+            Duration frequency = env.getCurrentConfig().getMetrics().getFrequency();
+            recordingTask = executor.scheduleWithFixedDelay(this::record, frequency.toMillis(), frequency.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    private void stop() {
+        if (recordingTask != null) {
+            recordingTask.cancel(false);
+        }
+    }
+
+    /**
+     * Records the hits, misses and the saved time since the last invocation as well as the current size of the cache.
+     */
+    synchronized void record() {
+        long hits = instrumentationCache.getHits();
+        long misses = instrumentationCache.getMisses();
+        long invalidEntries = instrumentationCache.getInvalidEntries();
+        long savedMillis = TimeUnit.NANOSECONDS.toMillis(instrumentationCache.getSavedNanos());
+
+        selfMonitoringService.recordMeasurement(MEASURE_NAME, hits - lastHits, Collections.singletonMap(RESULT_TAG, "hit"));
+        selfMonitoringService.recordMeasurement(MEASURE_NAME, misses - lastMisses, Collections.singletonMap(RESULT_TAG, "miss"));
+        selfMonitoringService.recordMeasurement(MEASURE_NAME, invalidEntries - lastInvalidEntries, Collections.singletonMap(RESULT_TAG, "invalid"));
+        selfMonitoringService.recordMeasurement(TIME_SAVED_MEASURE_NAME, savedMillis - lastSavedMillis);
+        selfMonitoringService.recordMeasurement(SIZE_MEASURE_NAME, instrumentationCache.getSize());
+
+        lastHits = hits;
+        lastMisses = misses;
+        lastInvalidEntries = invalidEntries;
+        lastSavedMillis = savedMillis;
+    }
+}
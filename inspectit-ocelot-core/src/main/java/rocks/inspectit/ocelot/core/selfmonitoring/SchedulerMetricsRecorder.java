@@ -0,0 +1,96 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.service.scheduling.MonitoredScheduledExecutor;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskStatistics;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically exposes the execution statistics of the tasks of all {@link MonitoredScheduledExecutor}s to the
+ * {@link SelfMonitoringService}: the number of runs, their duration, the time they started later than scheduled and
+ * the number of periodic runs which took longer than their period. Each measurement is tagged with the task group and
+ * the name of the task.
+ */
+@Component
+public class SchedulerMetricsRecorder {
+
+    private static final String RUNS_MEASURE = "scheduler/runs";
+
+    private static final String DURATION_MEASURE = "scheduler/duration";
+
+    private static final String LAG_MEASURE = "scheduler/lag";
+
+    private static final String OVERRUNS_MEASURE = "scheduler/overruns";
+
+    private static final String GROUP_TAG = "group";
+
+    private static final String TASK_TAG = "task";
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    @Autowired
+    private InspectitEnvironment env;
+
+    @Autowired
+    private List<MonitoredScheduledExecutor> executors;
+
+    @Autowired
+    @Qualifier(TaskGroups.METRICS)
+    private ScheduledExecutorService executor;
+
+    private ScheduledFuture<?> recordingTask;
+
+    /**
+     * The statistics at the time of the last recording.
+     */
+    private final Map<TaskStatistics, long[]> lastValues = new HashMap<>();
+
+    @PostConstruct
+    private void start() {
+        Duration frequency = env.getCurrentConfig().getMetrics().getFrequency();
+        recordingTask = executor.scheduleWithFixedDelay(this::record, frequency.toMillis(), frequency.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stop() {
+        recordingTask.cancel(false);
+    }
+
+    /**
+     * Records the task executions which happened since the last invocation.
+     * Tasks without executions in between are skipped.
+     */
+    synchronized void record() {
+        for (MonitoredScheduledExecutor monitoredExecutor : executors) {
+            for (TaskStatistics statistics : monitoredExecutor.getStatistics()) {
+                long[] values = {statistics.getRuns(), statistics.getDurationNanos(), statistics.getLagNanos(), statistics.getOverruns()};
+                long[] last = lastValues.getOrDefault(statistics, new long[values.length]);
+                if (values[0] > last[0]) {
+                    Map<String, String> tags = new HashMap<>();
+                    tags.put(GROUP_TAG, monitoredExecutor.getGroup());
+                    tags.put(TASK_TAG, statistics.getName());
+
+                    selfMonitoringService.recordMeasurement(RUNS_MEASURE, values[0] - last[0], tags);
+                    selfMonitoringService.recordMeasurement(DURATION_MEASURE, TimeUnit.NANOSECONDS.toMicros(values[1] - last[1]), tags);
+                    selfMonitoringService.recordMeasurement(LAG_MEASURE, TimeUnit.NANOSECONDS.toMicros(values[2] - last[2]), tags);
+                    selfMonitoringService.recordMeasurement(OVERRUNS_MEASURE, values[3] - last[3], tags);
+                    lastValues.put(statistics, values);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import io.opencensus.common.Scope;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums up the values of multiple self-monitoring measurements and records the sum as a single measurement when being
+ * closed. This way, loops only pay for the accumulation of their values and record only once.
+ * A batch is not thread-safe and is meant to be used in a try-with-resource block:
+ * <code>
+ * try (SelfMonitoringBatch batch = selfMonitoring.startBatch(measure)) {
+ * for (...) {
+ * try (Scope timer = batch.time()) {
+ * ...
+ * }
+ * }
+ * }
+ * </code>
+ */
+public class SelfMonitoringBatch implements Scope {
+
+    /**
+     * The batch returned in case self monitoring is disabled, which ignores all values.
+     */
+    public static final SelfMonitoringBatch DISABLED = new SelfMonitoringBatch(null, null);
+
+    private final SelfMonitoringService selfMonitoring;
+
+    private final SelfMonitoringMeasure measure;
+
+    private double sum;
+
+    private long durationNanos;
+
+    private boolean empty = true;
+
+    private long timerStart;
+
+    /**
+     * Reused for all timings of this batch, as these can not overlap.
+     */
+    private final Scope timer = this::stopTimer;
+
+    SelfMonitoringBatch(SelfMonitoringService selfMonitoring, SelfMonitoringMeasure measure) {
+        this.selfMonitoring = selfMonitoring;
+        this.measure = measure;
+    }
+
+    /**
+     * Adds the given value to the sum of this batch.
+     *
+     * @param value the value to add
+     */
+    public void add(double value) {
+        if (selfMonitoring != null) {
+            sum += value;
+            empty = false;
+        }
+    }
+
+    /**
+     * Starts measuring a duration, which is added in microseconds to the sum of this batch when the returned scope is
+     * closed. Timings of the same batch must not overlap.
+     *
+     * @return the scope stopping the timing
+     */
+    public Scope time() {
+        if (selfMonitoring != null) {
+            timerStart = System.nanoTime();
+        }
+        return timer;
+    }
+
+    private void stopTimer() {
+        if (selfMonitoring != null) {
+            durationNanos += System.nanoTime() - timerStart;
+            empty = false;
+        }
+    }
+
+    /**
+     * Records the sum of this batch, if any value has been added.
+     */
+    @Override
+    public void close() {
+        if (!empty) {
+            selfMonitoring.recordMeasurement(measure, sum + TimeUnit.NANOSECONDS.toMicros(durationNanos));
+            sum = 0;
+            durationNanos = 0;
+            empty = true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import io.opencensus.tags.TagContext;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A handle for a self-monitoring measure together with the tags its measurements are recorded with.
+ * <p>
+ * Handles are meant to be created once, e.g. as constants, and to be passed to the {@link SelfMonitoringService} for
+ * every recording. On its first use after a configuration change, the handle resolves the measure and builds the tag
+ * context consisting of the common tags and its custom tags. All further recordings reuse this resolution, so that
+ * neither the measure has to be looked up nor the tag context has to be built again.
+ */
+public final class SelfMonitoringMeasure {
+
+    static final String METRICS_PREFIX = "inspectit/self/";
+
+    static final String DURATION_MEASURE_NAME = "duration";
+
+    static final String COMPONENT_TAG = "component-name";
+
+    /**
+     * The name of the measure, including the {@link #METRICS_PREFIX}.
+     */
+    @Getter
+    private final String measureName;
+
+    /**
+     * The tags which are added to the common tags.
+     */
+    @Getter
+    private final Map<String, String> customTags;
+
+    /**
+     * The resolution of the last configuration generation this handle has been used in.
+     */
+    private volatile Resolution resolution;
+
+    private SelfMonitoringMeasure(String measureName, Map<String, String> customTags) {
+        this.measureName = METRICS_PREFIX + measureName;
+        this.customTags = customTags;
+    }
+
+    /**
+     * Creates a handle for the given measure which records with the common tags only.
+     *
+     * @param measureName the name of the measure, excluding the {@link #METRICS_PREFIX}
+     *
+     * @return the handle
+     */
+    public static SelfMonitoringMeasure of(String measureName) {
+        return new SelfMonitoringMeasure(measureName, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a handle for the given measure which records with the common tags and the given custom tags.
+     *
+     * @param measureName the name of the measure, excluding the {@link #METRICS_PREFIX}
+     * @param customTags  additional tags, which are added to the measurements
+     *
+     * @return the handle
+     */
+    public static SelfMonitoringMeasure of(String measureName, Map<String, String> customTags) {
+        return new SelfMonitoringMeasure(measureName, Collections.unmodifiableMap(new LinkedHashMap<>(customTags)));
+    }
+
+    /**
+     * Creates a handle for the duration measure of the given component.
+     *
+     * @param componentName the human readable name of the component of which the time is measured, is used as tag value
+     *
+     * @return the handle
+     */
+    public static SelfMonitoringMeasure duration(String componentName) {
+        return new SelfMonitoringMeasure(DURATION_MEASURE_NAME, Collections.singletonMap(COMPONENT_TAG, componentName));
+    }
+
+    Resolution getResolution() {
+        return resolution;
+    }
+
+    void setResolution(Resolution resolution) {
+        this.resolution = resolution;
+    }
+
+    /**
+     * The measure and tags of a handle which are valid for a single configuration generation of the
+     * {@link SelfMonitoringService}.
+     */
+    @AllArgsConstructor
+    @Getter
+    static class Resolution {
+
+        private final long generation;
+
+        /**
+         * The tags to record with or null if the measure does not exist.
+         */
+        private final TagContext tags;
+    }
+}
@@ -1,14 +1,15 @@
 package rocks.inspectit.ocelot.core.selfmonitoring;
 
 import io.opencensus.common.Scope;
-import io.opencensus.stats.StatsRecorder;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagContextBuilder;
 import io.opencensus.tags.TagKey;
 import io.opencensus.tags.Tags;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
-import lombok.val;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import rocks.inspectit.ocelot.config.model.metrics.MetricsSettings;
 import rocks.inspectit.ocelot.config.model.selfmonitoring.SelfMonitoringSettings;
@@ -18,32 +19,65 @@ import rocks.inspectit.ocelot.core.metrics.MeasuresAndViewsManager;
 import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
 import rocks.inspectit.ocelot.core.tags.TagUtils;
 
-import java.util.Collections;
+import javax.annotation.PostConstruct;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @Slf4j
 public class SelfMonitoringService {
 
-    private static final String METRICS_PREFIX = "inspectit/self/";
-
-    private static final String DURATION_MEASURE_NAME = "duration";
-
-    private static final TagKey COMPONENT_TAG_KEY = TagKey.create("component-name");
+    /**
+     * Source of the configuration generations. The generations are unique across all instances of this service, so
+     * that {@link SelfMonitoringMeasure}s shared between multiple instances never reuse a foreign resolution.
+     */
+    private static final AtomicLong GENERATIONS = new AtomicLong();
 
     @Autowired
     private InspectitEnvironment env;
 
-    @Autowired
-    private StatsRecorder statsRecorder;
-
     @Autowired
     private MeasuresAndViewsManager measureManager;
 
     @Autowired
     private CommonTagsManager commonTags;
 
+    /**
+     * Whether self monitoring is enabled. Cached from the configuration, so that checking it when recording only
+     * costs a single volatile read.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * The generation of the current configuration. Resolutions of {@link SelfMonitoringMeasure}s of older
+     * generations are outdated, as the common tags or the defined measures might have changed.
+     */
+    private volatile long generation;
+
+    /**
+     * Handles for the measures recorded via their name.
+     */
+    private final Map<String, SelfMonitoringMeasure> measuresByName = new ConcurrentHashMap<>();
+
+    /**
+     * Handles for the durations recorded via their component name.
+     */
+    private final Map<String, SelfMonitoringMeasure> durationsByComponent = new ConcurrentHashMap<>();
+
+    /**
+     * Updates the enabled state and invalidates the resolutions of all {@link SelfMonitoringMeasure}s.
+     * This happens after the common tags and the measures have been updated.
+     */
+    @EventListener(InspectitConfigChangedEvent.class)
+    @Order(CommonTagsManager.CONFIG_EVENT_LISTENER_ORDER_PRIORITY + 2)
+    @PostConstruct
+    private void update() {
+        generation = GENERATIONS.incrementAndGet();
+        enabled = env.getCurrentConfig().getSelfMonitoring().isEnabled();
+    }
+
     /**
      * Provides an auto-closable that can be used in try-with-resource form.
      * <p>
@@ -55,19 +89,53 @@ public class SelfMonitoringService {
      * @return the scope performing the measurement
      */
     public Scope withDurationSelfMonitoring(String componentName) {
-        if (isSelfMonitoringEnabled()) {
-            return new SelfMonitoringScope(componentName, System.nanoTime());
+        if (enabled) {
+            return new SelfMonitoringScope(durationsByComponent.computeIfAbsent(componentName, SelfMonitoringMeasure::duration), System.nanoTime());
+        } else {
+            return () -> {
+            };
+        }
+    }
+
+    /**
+     * Same as {@link #withDurationSelfMonitoring(String)}, but uses a handle created via
+     * {@link SelfMonitoringMeasure#duration(String)}, which should be preferred for frequently measured components.
+     *
+     * @param durationMeasure the handle of the duration measure
+     *
+     * @return the scope performing the measurement
+     */
+    public Scope withDurationSelfMonitoring(SelfMonitoringMeasure durationMeasure) {
+        if (enabled) {
+            return new SelfMonitoringScope(durationMeasure, System.nanoTime());
         } else {
             return () -> {
             };
         }
     }
 
+    /**
+     * Starts a batch which sums up the values of multiple measurements, e.g. within a loop, and records the sum as a
+     * single measurement when being closed. This is only suitable for measures which are aggregated as sum.
+     * If self monitoring is disabled, returns a no-ops batch.
+     *
+     * @param measure the handle of the measure to record the sum for
+     *
+     * @return the batch
+     */
+    public SelfMonitoringBatch startBatch(SelfMonitoringMeasure measure) {
+        if (enabled) {
+            return new SelfMonitoringBatch(this, measure);
+        } else {
+            return SelfMonitoringBatch.DISABLED;
+        }
+    }
+
     /**
      * @return true, if the configuration states that self monitoring should be performed
      */
     public boolean isSelfMonitoringEnabled() {
-        return env.getCurrentConfig().getSelfMonitoring().isEnabled();
+        return enabled;
     }
 
     /**
@@ -91,19 +159,12 @@ public class SelfMonitoringService {
      * The measure has to be defined correctly in the {@link MetricsSettings#getDefinitions()}.
      * Only records a measurement if self monitoring is enabled.
      *
-     * @param measureName the name of the measure, excluding the {@link #METRICS_PREFIX}
+     * @param measureName the name of the measure, excluding the {@link SelfMonitoringMeasure#METRICS_PREFIX}
      * @param value       the actual value
      */
     public void recordMeasurement(String measureName, double value) {
-        SelfMonitoringSettings conf = env.getCurrentConfig().getSelfMonitoring();
-        if (conf.isEnabled()) {
-            String fullMeasureName = METRICS_PREFIX + measureName;
-            val measure = measureManager.getMeasureDouble(fullMeasureName);
-            measure.ifPresent(m -> {
-                try (val ct = commonTags.withCommonTagScope()) {
-                    statsRecorder.newMeasureMap().put(m, value).record();
-                }
-            });
+        if (enabled) {
+            recordMeasurement(measuresByName.computeIfAbsent(measureName, SelfMonitoringMeasure::of), value);
         }
     }
 
@@ -112,55 +173,108 @@ public class SelfMonitoringService {
      * The measure has to be defined correctly in the {@link MetricsSettings#getDefinitions()}.
      * Only records a measurement if self monitoring is enabled.
      *
-     * @param measureName the name of the measure, excluding the {@link #METRICS_PREFIX}
+     * @param measureName the name of the measure, excluding the {@link SelfMonitoringMeasure#METRICS_PREFIX}
      * @param value       the actual value
      */
     public void recordMeasurement(String measureName, long value) {
-        recordMeasurement(measureName, value, Collections.emptyMap());
+        if (enabled) {
+            recordMeasurement(measuresByName.computeIfAbsent(measureName, SelfMonitoringMeasure::of), value);
+        }
     }
 
     /**
      * Records a self-monitoring measurement with the common tags. Adds customTags to the tag context.
      * The measure has to be defined correctly in the {@link MetricsSettings#getDefinitions()}.
      * Only records a measurement if self monitoring is enabled.
+     * <p>
+     * Callers recording the same tags repeatedly should hold a handle created via
+     * {@link SelfMonitoringMeasure#of(String, Map)} instead.
      *
-     * @param measureName the name of the measure, excluding the {@link #METRICS_PREFIX}
+     * @param measureName the name of the measure, excluding the {@link SelfMonitoringMeasure#METRICS_PREFIX}
      * @param value       the actual value
      * @param customTags  additional tags, which are added to the measurement.
      */
     public void recordMeasurement(String measureName, long value, Map<String, String> customTags) {
-        SelfMonitoringSettings conf = env.getCurrentConfig().getSelfMonitoring();
-        if (conf.isEnabled()) {
-            String fullMeasureName = METRICS_PREFIX + measureName;
-            val measure = measureManager.getMeasureLong(fullMeasureName);
-            measure.ifPresent(m -> {
-                try (val ct = commonTags.withCommonTagScope(customTags)) {
-                    statsRecorder.newMeasureMap().put(m, value).record();
-                }
-            });
+        if (enabled) {
+            if (customTags.isEmpty()) {
+                recordMeasurement(measuresByName.computeIfAbsent(measureName, SelfMonitoringMeasure::of), value);
+            } else {
+                recordMeasurement(SelfMonitoringMeasure.of(measureName, customTags), value);
+            }
+        }
+    }
+
+    /**
+     * Records a measurement for the given handle with its tags.
+     * Only records a measurement if self monitoring is enabled and the measure is defined.
+     *
+     * @param measure the handle of the measure
+     * @param value   the actual value
+     */
+    public void recordMeasurement(SelfMonitoringMeasure measure, long value) {
+        if (enabled) {
+            TagContext tags = resolve(measure);
+            if (tags != null) {
+                measureManager.tryRecordingMeasurement(measure.getMeasureName(), value, tags);
+            }
+        }
+    }
+
+    /**
+     * Records a measurement for the given handle with its tags.
+     * Only records a measurement if self monitoring is enabled and the measure is defined.
+     *
+     * @param measure the handle of the measure
+     * @param value   the actual value
+     */
+    public void recordMeasurement(SelfMonitoringMeasure measure, double value) {
+        if (enabled) {
+            TagContext tags = resolve(measure);
+            if (tags != null) {
+                measureManager.tryRecordingDoubleMeasurement(measure.getMeasureName(), value, tags);
+            }
+        }
+    }
+
+    /**
+     * Returns the tags of the given handle for the current configuration, resolving them if the handle has not been
+     * used since the last configuration change.
+     *
+     * @param measure the handle of the measure
+     *
+     * @return the tags to record the measure with or null if the measure is not defined
+     */
+    private TagContext resolve(SelfMonitoringMeasure measure) {
+        long currentGeneration = generation;
+        SelfMonitoringMeasure.Resolution resolution = measure.getResolution();
+        if (resolution == null || resolution.getGeneration() != currentGeneration) {
+            TagContext tags = null;
+            if (measureManager.getMeasure(measure.getMeasureName()).isPresent()) {
+                TagContextBuilder builder = Tags.getTagger().toBuilder(commonTags.getCommonTagContext());
+                measure.getCustomTags().forEach((key, value) -> builder.putLocal(TagKey.create(key), TagUtils.createTagValue(key, value)));
+                tags = builder.build();
+            }
+            resolution = new SelfMonitoringMeasure.Resolution(currentGeneration, tags);
+            measure.setResolution(resolution);
         }
+        return resolution.getTags();
     }
 
     @Data
     public class SelfMonitoringScope implements Scope {
 
-        private final String componentName;
+        private final SelfMonitoringMeasure durationMeasure;
 
         private final long start;
 
         @Override
         public void close() {
             double durationInMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
-            val measure = measureManager.getMeasureDouble(METRICS_PREFIX + DURATION_MEASURE_NAME);
-            measure.ifPresent(m -> statsRecorder.newMeasureMap()
-                    .put(m, durationInMicros)
-                    .record(Tags.getTagger()
-                            .toBuilder(commonTags.getCommonTagContext())
-                            .putLocal(COMPONENT_TAG_KEY, TagUtils.createTagValue(COMPONENT_TAG_KEY.getName(), componentName))
-                            .build()));
+            recordMeasurement(durationMeasure, durationInMicros);
 
             if (log.isTraceEnabled()) {
-                log.trace(String.format("%s reported %.1f\u00B5s", componentName, durationInMicros));
+                log.trace(String.format("%s reported %.1f\u00B5s", durationMeasure.getCustomTags()
+                        .get(SelfMonitoringMeasure.COMPONENT_TAG), durationInMicros));
             }
         }
     }
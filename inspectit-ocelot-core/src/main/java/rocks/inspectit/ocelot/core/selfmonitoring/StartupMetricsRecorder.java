@@ -0,0 +1,63 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import rocks.inspectit.ocelot.core.instrumentation.event.ClassInstrumentedEvent;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exposes the durations of the agent's startup phases measured by the {@link StartupTimings} to the
+ * {@link SelfMonitoringService}. In addition, the time from the beginning of the startup until the first class has been
+ * instrumented is recorded as phase {@value #FIRST_INSTRUMENTATION_PHASE}.
+ */
+@Component
+@Slf4j
+public class StartupMetricsRecorder {
+
+    private static final String STARTUP_DURATION_MEASURE = "startup/duration";
+
+    private static final String PHASE_TAG = "phase";
+
+    static final String FIRST_INSTRUMENTATION_PHASE = "first-instrumentation";
+
+    @Autowired
+    private SelfMonitoringService selfMonitoringService;
+
+    /**
+     * Only registered if the context has been started by the agent.
+     */
+    @Autowired(required = false)
+    private StartupTimings startupTimings;
+
+    private final AtomicBoolean firstInstrumentationRecorded = new AtomicBoolean();
+
+    @EventListener(ContextRefreshedEvent.class)
+    void recordStartupPhases() {
+        if (startupTimings != null) {
+            startupTimings.phaseCompleted(StartupTimings.CONTEXT_PHASE);
+            startupTimings.getPhaseDurations().forEach((phase, durationNanos) -> {
+                log.debug("Startup phase '{}' took {} ms", phase, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+                record(phase, durationNanos);
+            });
+        }
+    }
+
+    @EventListener
+    void classInstrumented(ClassInstrumentedEvent event) {
+        if (startupTimings != null && !event.getAppliedConfiguration().isNoInstrumentation() && firstInstrumentationRecorded.compareAndSet(false, true)) {
+            long elapsedNanos = startupTimings.getElapsedNanos();
+            log.info("First class instrumented {} ms after the start of the agent", TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            record(FIRST_INSTRUMENTATION_PHASE, elapsedNanos);
+        }
+    }
+
+    private void record(String phase, long durationNanos) {
+        selfMonitoringService.recordMeasurement(STARTUP_DURATION_MEASURE, TimeUnit.NANOSECONDS.toMillis(durationNanos), Collections.singletonMap(PHASE_TAG, phase));
+    }
+}
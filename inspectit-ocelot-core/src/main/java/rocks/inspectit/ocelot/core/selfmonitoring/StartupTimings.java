@@ -0,0 +1,59 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures the duration of the phases of the agent's startup. Created by the {@link rocks.inspectit.ocelot.core.AgentImpl}
+ * when the startup begins and registered as bean, so that the durations can be exposed by the
+ * {@link StartupMetricsRecorder} once the self-monitoring is available.
+ */
+public class StartupTimings {
+
+    /**
+     * The phase in which the configuration is loaded and bound.
+     */
+    public static final String ENVIRONMENT_PHASE = "environment";
+
+    /**
+     * The phase in which all components are created.
+     */
+    public static final String CONTEXT_PHASE = "context";
+
+    private final long startNanos;
+
+    private long lastPhaseEndNanos;
+
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+
+    public StartupTimings() {
+        startNanos = System.nanoTime();
+        lastPhaseEndNanos = startNanos;
+    }
+
+    /**
+     * Ends the current phase, the next phase starts immediately.
+     *
+     * @param phase the name of the ended phase
+     */
+    public synchronized void phaseCompleted(String phase) {
+        long now = System.nanoTime();
+        phaseDurations.put(phase, now - lastPhaseEndNanos);
+        lastPhaseEndNanos = now;
+    }
+
+    /**
+     * @return the durations of all completed phases in nanoseconds, in the order of their completion
+     */
+    public synchronized Map<String, Long> getPhaseDurations() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phaseDurations));
+    }
+
+    /**
+     * @return the time elapsed since the startup of the agent began in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+}
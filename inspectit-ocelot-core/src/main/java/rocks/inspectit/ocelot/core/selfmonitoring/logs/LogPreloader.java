@@ -2,6 +2,7 @@ package rocks.inspectit.ocelot.core.selfmonitoring.logs;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.PatternLayout;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import lombok.extern.slf4j.Slf4j;
@@ -13,14 +14,18 @@ import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.logging.logback.InternalProcessingAppender;
 import rocks.inspectit.ocelot.core.service.DynamicallyActivatableService;
 
-import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.util.Iterator;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Collections;
 
 /**
  * Preloads log events to be used by, e.g., {@link rocks.inspectit.ocelot.core.command.handler.impl.LogsCommandExecutor}.
- * Events are stored in a ring buffer, meaning old events are overwritten when the buffer is full and new events arrive.
+ * <p>
+ * Events are converted into compact {@link PreloadedLogRecord}s and stored in a lock-free {@link LogRecordRing}, meaning
+ * old records are overwritten when the buffer is full and new events arrive. Additionally, the oldest records are
+ * dropped if the preloaded records exceed the configured memory limit.
+ * <p>
+ * Each record is numbered with a sequence number, which continues when the buffer is recreated. This allows consumers
+ * to fetch only the records which have been preloaded since their last request.
  */
 @Component
 @Slf4j
@@ -30,11 +35,24 @@ public class LogPreloader extends DynamicallyActivatableService implements Inter
 
     private final Logger invalidationLogger = (Logger) LoggerFactory.getLogger("### LOG-INVALIDATING EVENT ###");
 
-    private ILoggingEvent[] buffer;
+    /**
+     * Suffix appended to messages and stack traces which have been truncated to fit into the memory limit.
+     */
+    private static final String TRUNCATION_MARKER = "... [truncated]";
+
+    private volatile LogRecordRing ring;
+
+    /**
+     * The sequence number of the first record of the next buffer, in case no buffer exists.
+     */
+    private long nextSequence;
 
-    private final AtomicInteger currentIndex = new AtomicInteger(0);
+    /**
+     * Layout rendering the stack trace of an event the same way as the default format of the logs command.
+     */
+    private PatternLayout throwableLayout;
 
-    private Level minimumPreloadingLevel = Level.WARN;
+    private volatile Level minimumPreloadingLevel = Level.WARN;
 
     public LogPreloader() {
         super("logPreloading");
@@ -77,31 +95,82 @@ public class LogPreloader extends DynamicallyActivatableService implements Inter
     }
 
     private void recordLoggingEvent(ILoggingEvent event) {
-        if (buffer != null) {
-            int index = currentIndex.getAndIncrement() % buffer.length;
-            try {
-                buffer[index] = event;
-            } catch (ArrayIndexOutOfBoundsException e) {
-                // this may happen while the buffer gets recreated with a smaller size
-                // in this case, we just drop the event until everything is properly set again
+        LogRecordRing currentRing = ring;
+        if (currentRing != null) {
+            long sequence = currentRing.claimSequence();
+            currentRing.publish(createRecord(sequence, event, currentRing.getMaxBytes()));
+        }
+    }
+
+    /**
+     * Creates the record for the given event. The message and stack trace are truncated, in case the record would
+     * exceed the given size otherwise.
+     *
+     * @param sequence the sequence number of the record
+     * @param event    the log event
+     * @param maxBytes the maximum size of the record
+     *
+     * @return the created record
+     */
+    private PreloadedLogRecord createRecord(long sequence, ILoggingEvent event, long maxBytes) {
+        PatternLayout layout = throwableLayout;
+        String throwable = null;
+        if (event.getThrowableProxy() != null && layout != null) {
+            throwable = layout.doLayout(event);
+        }
+        PreloadedLogRecord record = new PreloadedLogRecord(sequence, event.getTimeStamp(), event.getLevel(), event.getLoggerName(), event.getThreadName(), event.getFormattedMessage(), throwable);
+
+        long excessChars = (record.getSize() - maxBytes + 1) / 2;
+        if (excessChars > 0) {
+            String message = record.getMessage();
+            if (throwable != null) {
+                int throwableChars = (int) Math.max(0, throwable.length() - excessChars);
+                excessChars -= throwable.length() - throwableChars;
+                throwable = truncate(throwable, throwableChars);
+            }
+            if (excessChars > 0 && message != null) {
+                message = truncate(message, (int) Math.max(0, message.length() - excessChars));
             }
+            record = new PreloadedLogRecord(sequence, record.getTimestamp(), record.getLevel(), record.getLoggerName(), record.getThreadName(), message, throwable);
+        }
+        return record;
+    }
+
+    private String truncate(String string, int length) {
+        if (length <= TRUNCATION_MARKER.length()) {
+            return TRUNCATION_MARKER;
         }
+        return string.substring(0, length - TRUNCATION_MARKER.length()) + TRUNCATION_MARKER;
     }
 
     /**
-     * Returns the preloaded logs as iterable.
+     * Returns the preloaded logs starting at the given sequence number.
      * Returns all logs that are preloaded at the time of calling this method,
      * i.e., logs inserted after that time will not be contained.
+     * If the given sequence number is ahead of the preloaded logs, e.g., because the agent has been restarted,
+     * all preloaded logs are returned.
      *
-     * @return An iterable of the preloaded logs
+     * @param fromSequence the sequence number of the first log to return
+     *
+     * @return the preloaded logs ordered by their sequence number and the sequence number of the subsequent logs
      */
-    public Iterable<ILoggingEvent> getPreloadedLogs() {
-        return () -> new BufferIterator(buffer, currentIndex.get() - 1);
+    public PreloadedLogs getPreloadedLogs(long fromSequence) {
+        LogRecordRing currentRing = ring;
+        if (currentRing == null) {
+            return new PreloadedLogs(Collections.emptyList(), nextSequence);
+        }
+        if (fromSequence > currentRing.getNextSequence()) {
+            fromSequence = 0;
+        }
+        return currentRing.getLogs(fromSequence);
     }
 
-    @PostConstruct
-    private void subscribe() {
-        InternalProcessingAppender.register(this);
+    /**
+     * @return the sequence number which will be assigned to the next preloaded log
+     */
+    public long getNextSequence() {
+        LogRecordRing currentRing = ring;
+        return currentRing == null ? nextSequence : currentRing.getNextSequence();
     }
 
     @PreDestroy
@@ -115,7 +184,7 @@ public class LogPreloader extends DynamicallyActivatableService implements Inter
     }
 
     /**
-     * Recreates the buffer array if the configured size changed.
+     * Applies the configured log level and recreates the buffer if the configured size changed.
      * Drops all previously collected logs.
      *
      * @param configuration the configuration used to start the service. Is the same configuration as {@link InspectitEnvironment#getCurrentConfig()}.
@@ -125,17 +194,24 @@ public class LogPreloader extends DynamicallyActivatableService implements Inter
     @Override
     protected boolean doEnable(InspectitConfig configuration) {
         LogPreloadingSettings settings = configuration.getLogPreloading();
+        if (settings != null && settings.getLogLevel() != null) {
+            minimumPreloadingLevel = settings.getLogLevel();
+        }
 
-        if (settings != null && (buffer == null || buffer.length != settings.getBufferSize())) {
+        if (settings != null && (ring == null || ring.getCapacity() != settings.getBufferSize() || ring.getMaxBytes() != settings.getMaxMemory()
+                .toBytes())) {
             if (settings.getBufferSize() < 1) {
                 log.error("Cannot enable LogPreloader with configured buffer size {}!", settings.getBufferSize());
                 return false;
             } else {
-                log.info("Enabling LogPreloader with buffer size {}", settings.getBufferSize());
-                buffer = new ILoggingEvent[settings.getBufferSize()];
-                // few log entries might be written to arbitrary indices between these two code lines,
-                // meaning they are lost as well
-                currentIndex.set(0);
+                log.info("Enabling LogPreloader with buffer size {} and a memory limit of {}", settings.getBufferSize(), settings.getMaxMemory());
+                if (throwableLayout == null) {
+                    throwableLayout = createThrowableLayout();
+                }
+                // sequence numbers continue, so that consumers can keep requesting the logs since their last request
+                ring = new LogRecordRing(settings.getBufferSize(), settings.getMaxMemory().toBytes(), getNextSequence());
+                // log events are only received while preloading is enabled
+                InternalProcessingAppender.register(this);
                 return true;
             }
         }
@@ -146,46 +222,17 @@ public class LogPreloader extends DynamicallyActivatableService implements Inter
     @Override
     protected boolean doDisable() {
         log.info("Disabling LogPreloader. All previously preloaded logs are dropped");
-        buffer = null;
+        InternalProcessingAppender.unregister(this);
+        nextSequence = getNextSequence();
+        ring = null;
         return true;
     }
 
-    private class BufferIterator implements Iterator<ILoggingEvent> {
-
-        private final ILoggingEvent[] buffer;
-
-        private final int targetIndex;
-
-        private int currentIndex;
-
-        /**
-         * Creates a new iterator.
-         *
-         * @param buffer      The buffer, which will be copied
-         * @param targetIndex The maximum index to be returned
-         */
-        private BufferIterator(ILoggingEvent[] buffer, int targetIndex) {
-            this.buffer = new ILoggingEvent[buffer != null ? buffer.length : 0];
-            this.targetIndex = targetIndex;
-
-            if (buffer != null) {
-                System.arraycopy(buffer, 0, this.buffer, 0, buffer.length);
-                currentIndex = targetIndex >= buffer.length ? targetIndex - buffer.length + 1 : 0;
-            }
-        }
-
-        @Override
-        public boolean hasNext() {
-            return currentIndex <= targetIndex;
-        }
-
-        @Override
-        public ILoggingEvent next() {
-            ILoggingEvent next = buffer[currentIndex % buffer.length];
-            currentIndex++;
-            return next;
-        }
-
+    private PatternLayout createThrowableLayout() {
+        PatternLayout layout = new PatternLayout();
+        layout.setPattern("%rEx");
+        layout.setContext(invalidationLogger.getLoggerContext());
+        layout.start();
+        return layout;
     }
-
 }
@@ -0,0 +1,176 @@
+package rocks.inspectit.ocelot.core.selfmonitoring.logs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed-size, lock-free ring of {@link PreloadedLogRecord}s which is bounded both in the number of records and in
+ * the memory used by them.
+ * <p>
+ * Writers claim a sequence number via {@link #claimSequence()} and afterwards publish their record into the slot of
+ * this sequence, overwriting the record which has been published {@code capacity} sequences before. In case the
+ * retained records exceed the memory limit, the oldest records are evicted until the limit is met again. Eviction
+ * stops at the first record which has been claimed but not yet published and continues once it has been published, so
+ * that records are never skipped before they could be read.
+ * <p>
+ * Readers never block writers: {@link #getLogs(long)} collects all published records of the requested sequence
+ * range and skips records which have been overwritten or evicted in the meantime. The collection stops at the first
+ * record which has been claimed but not yet published, so that it is returned by the subsequent request.
+ */
+class LogRecordRing {
+
+    private final AtomicReferenceArray<PreloadedLogRecord> slots;
+
+    private final int capacity;
+
+    private final long maxBytes;
+
+    /**
+     * The sequence number assigned to the next record.
+     */
+    private final AtomicLong nextSequence;
+
+    /**
+     * The sequence of the oldest record which can still be evicted. All records of older sequences have either been
+     * evicted, overwritten or are older than the last {@code capacity} records.
+     */
+    private final AtomicLong evictionSequence;
+
+    /**
+     * The estimated memory used by the currently retained records.
+     */
+    private final AtomicLong retainedBytes = new AtomicLong();
+
+    /**
+     * @param capacity      the maximum number of records, must be positive
+     * @param maxBytes      the maximum amount of memory used by the records
+     * @param firstSequence the sequence number of the first record
+     */
+    LogRecordRing(int capacity, long maxBytes, long firstSequence) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive but was " + capacity);
+        }
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        slots = new AtomicReferenceArray<>(capacity);
+        nextSequence = new AtomicLong(firstSequence);
+        evictionSequence = new AtomicLong(firstSequence);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the sequence number which will be assigned to the next record
+     */
+    long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * @return the estimated memory used by the currently retained records
+     */
+    long getRetainedBytes() {
+        return retainedBytes.get();
+    }
+
+    /**
+     * Reserves the sequence number for a new record. The record has to be published via {@link #publish(PreloadedLogRecord)}.
+     *
+     * @return the sequence number of the record
+     */
+    long claimSequence() {
+        return nextSequence.getAndIncrement();
+    }
+
+    /**
+     * Stores the given record in the slot of its sequence number. In case a newer record has already been published
+     * into this slot, the given record is dropped.
+     *
+     * @param record the record to publish, its size should not exceed the memory limit of this ring
+     */
+    void publish(PreloadedLogRecord record) {
+        int index = slotIndex(record.getSequence());
+        PreloadedLogRecord previous;
+        do {
+            previous = slots.get(index);
+            if (previous != null && previous.getSequence() > record.getSequence()) {
+                return;
+            }
+        } while (!slots.compareAndSet(index, previous, record));
+
+        long delta = record.getSize() - (previous == null ? 0 : previous.getSize());
+        if (retainedBytes.addAndGet(delta) > maxBytes) {
+            evict(record.getSequence());
+        }
+        // the eviction has stepped past this sequence as more than capacity newer records have been claimed since
+        if (record.getSequence() < evictionSequence.get() && slots.compareAndSet(index, record, null)) {
+            retainedBytes.addAndGet(-record.getSize());
+        }
+    }
+
+    /**
+     * Evicts the oldest records until the retained records do not exceed the memory limit anymore. The eviction stops
+     * at the first record which has not been published yet, it is continued when this record is published.
+     *
+     * @param newestSequence the sequence of the record which has just been published, is never evicted
+     */
+    private void evict(long newestSequence) {
+        // older sequences share their slot with one of the last capacity sequences and can not be read anymore
+        long oldestRetainedSequence = newestSequence - capacity + 1;
+        while (retainedBytes.get() > maxBytes) {
+            long current = evictionSequence.get();
+            long sequence = Math.max(current, oldestRetainedSequence);
+            if (sequence >= newestSequence) {
+                return;
+            }
+            int index = slotIndex(sequence);
+            PreloadedLogRecord record = slots.get(index);
+            if (record == null || record.getSequence() < sequence) {
+                // the record has not been published yet
+                return;
+            }
+            if (evictionSequence.compareAndSet(current, sequence + 1)) {
+                // the slot might have been overwritten by a newer record, whose size has already been accounted for
+                if (record.getSequence() == sequence && slots.compareAndSet(index, record, null)) {
+                    retainedBytes.addAndGet(-record.getSize());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the retained records starting at the given sequence number up to the first record which has been claimed
+     * but not yet published.
+     *
+     * @param fromSequence the sequence number of the first record to return
+     *
+     * @return the records ordered by their sequence number and the sequence number to request the subsequent records with
+     */
+    PreloadedLogs getLogs(long fromSequence) {
+        long end = nextSequence.get();
+        long start = Math.max(fromSequence, end - capacity);
+        List<PreloadedLogRecord> result = new ArrayList<>((int) Math.max(0, end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            PreloadedLogRecord record = slots.get(slotIndex(sequence));
+            if (record != null && record.getSequence() == sequence) {
+                result.add(record);
+            } else if (record == null ? sequence >= evictionSequence.get() : record.getSequence() < sequence) {
+                // the slot is empty or still holds an older record, so the record has not been published yet
+                return new PreloadedLogs(result, sequence);
+            }
+        }
+        return new PreloadedLogs(result, end);
+    }
+
+    private int slotIndex(long sequence) {
+        return (int) (sequence % capacity);
+    }
+}
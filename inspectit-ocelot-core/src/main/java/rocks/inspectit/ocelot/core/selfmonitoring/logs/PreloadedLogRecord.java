@@ -0,0 +1,54 @@
+package rocks.inspectit.ocelot.core.selfmonitoring.logs;
+
+import ch.qos.logback.classic.Level;
+import lombok.Value;
+
+/**
+ * A log event preloaded by the {@link LogPreloader}.
+ * <p>
+ * In contrast to the original logging event, the record only contains the already formatted message and stack trace,
+ * so that neither the arguments of the message, the MDC nor the throwable are kept alive by the preloader.
+ */
+@Value
+public class PreloadedLogRecord {
+
+    /**
+     * The estimated memory used by a record without its strings.
+     */
+    static final int RECORD_OVERHEAD_BYTES = 64;
+
+    /**
+     * The number of the record, assigned in the order in which the records are preloaded.
+     */
+    long sequence;
+
+    long timestamp;
+
+    Level level;
+
+    String loggerName;
+
+    String threadName;
+
+    /**
+     * The message with all of its arguments being resolved.
+     */
+    String message;
+
+    /**
+     * The formatted stack trace or null if no throwable was logged.
+     */
+    String throwable;
+
+    /**
+     * @return the estimated amount of memory in bytes used by this record
+     */
+    public long getSize() {
+        long chars = length(loggerName) + length(threadName) + length(message) + length(throwable);
+        return RECORD_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static int length(String string) {
+        return string == null ? 0 : string.length();
+    }
+}
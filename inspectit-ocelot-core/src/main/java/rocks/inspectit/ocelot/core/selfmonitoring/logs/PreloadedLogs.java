@@ -0,0 +1,23 @@
+package rocks.inspectit.ocelot.core.selfmonitoring.logs;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * The logs returned by the {@link LogPreloader} for a requested sequence number.
+ */
+@Value
+public class PreloadedLogs {
+
+    /**
+     * The preloaded records ordered by their sequence number.
+     */
+    List<PreloadedLogRecord> records;
+
+    /**
+     * The sequence number to request the subsequent logs with. This is the sequence number of the first record which
+     * has been reserved but not yet been preloaded, so that such records are not skipped by subsequent requests.
+     */
+    long nextSequence;
+}
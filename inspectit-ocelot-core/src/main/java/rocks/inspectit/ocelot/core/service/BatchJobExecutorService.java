@@ -4,7 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 
 import java.time.Duration;
 import java.util.concurrent.Future;
@@ -20,6 +22,7 @@ import java.util.function.Consumer;
 public class BatchJobExecutorService {
 
     @Autowired
+    @Qualifier(TaskGroups.INSTRUMENTATION)
     private ScheduledExecutorService executor;
 
     @FunctionalInterface
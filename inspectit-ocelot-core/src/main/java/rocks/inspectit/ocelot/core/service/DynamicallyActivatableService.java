@@ -40,6 +40,11 @@ public abstract class DynamicallyActivatableService {
 
     private List<Expression> configDependencies;
 
+    /**
+     * The paths of the configuration dependencies, used to skip configuration changes not affecting this service.
+     */
+    private List<String> configDependencyPaths;
+
     @Autowired
     private DynamicallyActivatableServiceObserver serviceObserver;
 
@@ -62,6 +67,9 @@ public abstract class DynamicallyActivatableService {
         this.configDependencies = Arrays.stream(configDependencies)
                 .map(parser::parseExpression)
                 .collect(Collectors.toList());
+        configDependencyPaths = Arrays.stream(configDependencies)
+                .map(dependency -> "inspectit." + dependency)
+                .collect(Collectors.toList());
     }
 
     @PostConstruct
@@ -116,6 +124,9 @@ public abstract class DynamicallyActivatableService {
     @EventListener(InspectitConfigChangedEvent.class)
     @Order(Ordered.HIGHEST_PRECEDENCE) // make sure this is called before OpenTelemetryController#configureOpenTelemetry
     synchronized void checkForUpdates(InspectitConfigChangedEvent ev) {
+        if (configDependencyPaths.stream().noneMatch(ev::isAffected)) {
+            return;
+        }
         boolean affected = false;
         for (Expression exp : configDependencies) {
             try {
@@ -0,0 +1,221 @@
+package rocks.inspectit.ocelot.core.service.scheduling;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ScheduledThreadPoolExecutor} executing the tasks of a single task group, see {@link TaskGroups}.
+ * <p>
+ * For each task, the executor records how much later than scheduled it has been started (lag), how long it ran and
+ * how often a fixed-rate task ran longer than its period (overrun). Fixed-delay tasks cannot overrun, as their next
+ * execution is only scheduled once the previous one has finished. The statistics are collected per task name, which is
+ * the simple name of the class which created the task or the name given via {@link #named(String, Runnable)}.
+ */
+public class MonitoredScheduledExecutor extends ScheduledThreadPoolExecutor {
+
+    /**
+     * The name of the task group of this executor.
+     */
+    @Getter
+    private final String group;
+
+    private final ConcurrentHashMap<String, TaskStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param group    the name of the task group
+     * @param poolSize the number of threads
+     * @param priority the priority of the threads
+     */
+    public MonitoredScheduledExecutor(String group, int poolSize, int priority) {
+        super(poolSize, createThreadFactory(group, priority));
+        this.group = group;
+    }
+
+    private static ThreadFactory createThreadFactory(String group, int priority) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread t = Executors.defaultThreadFactory().newThread(runnable);
+            t.setDaemon(true);
+            t.setPriority(priority);
+            t.setName("inspectit-" + group + "-thread-" + threadCount.getAndIncrement());
+            return t;
+        };
+    }
+
+    /**
+     * Assigns a name to the given task, under which its statistics are collected.
+     * Useful if tasks are created by a common base class.
+     *
+     * @param name the name of the task
+     * @param task the task
+     *
+     * @return the named task
+     */
+    public static Runnable named(String name, Runnable task) {
+        return new NamedRunnable(name, task);
+    }
+
+    /**
+     * @return the statistics of all tasks executed by this executor
+     */
+    public Collection<TaskStatistics> getStatistics() {
+        return statistics.values();
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return super.scheduleAtFixedRate(new PeriodicRunnable(command, unit.toNanos(period)), initialDelay, period, unit);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        long periodNanos = 0;
+        Runnable command = runnable;
+        if (runnable instanceof PeriodicRunnable) {
+            periodNanos = ((PeriodicRunnable) runnable).periodNanos;
+            command = ((PeriodicRunnable) runnable).command;
+        }
+        return new MonitoredTask<>(task, statisticsFor(command), periodNanos);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+        return new MonitoredTask<>(task, statisticsFor(callable), 0);
+    }
+
+    private TaskStatistics statisticsFor(Object task) {
+        String name = getTaskName(task);
+        return statistics.computeIfAbsent(name, TaskStatistics::new);
+    }
+
+    /**
+     * Derives the name of a task from its class. Lambdas and inner classes are named after their declaring class.
+     */
+    static String getTaskName(Object task) {
+        if (task instanceof NamedRunnable) {
+            return ((NamedRunnable) task).name;
+        }
+        String name = task.getClass().getName();
+        name = name.substring(name.lastIndexOf('.') + 1);
+        int nested = name.indexOf('$');
+        return nested > 0 ? name.substring(0, nested) : name;
+    }
+
+    private static class NamedRunnable implements Runnable {
+
+        private final String name;
+
+        private final Runnable task;
+
+        private NamedRunnable(String name, Runnable task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    /**
+     * Marks a fixed-rate task, so that its period is known when the task is decorated.
+     */
+    private static class PeriodicRunnable implements Runnable {
+
+        private final Runnable command;
+
+        private final long periodNanos;
+
+        private PeriodicRunnable(Runnable command, long periodNanos) {
+            this.command = command;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            command.run();
+        }
+    }
+
+    /**
+     * Wraps the tasks of the executor in order to measure their executions.
+     * Periodic tasks are re-queued by the executor using this wrapper, so that all executions are measured.
+     */
+    private static class MonitoredTask<V> implements RunnableScheduledFuture<V> {
+
+        private final RunnableScheduledFuture<V> delegate;
+
+        private final TaskStatistics statistics;
+
+        private final long periodNanos;
+
+        private MonitoredTask(RunnableScheduledFuture<V> delegate, TaskStatistics statistics, long periodNanos) {
+            this.delegate = delegate;
+            this.statistics = statistics;
+            this.periodNanos = periodNanos;
+        }
+
+        @Override
+        public void run() {
+            if (delegate.isDone()) {
+                delegate.run();
+                return;
+            }
+            // the remaining delay is negative if the task has been started late
+            long lag = -delegate.getDelay(TimeUnit.NANOSECONDS);
+            long start = System.nanoTime();
+            try {
+                delegate.run();
+            } finally {
+                statistics.recordRun(lag, System.nanoTime() - start, periodNanos);
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return delegate.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return delegate.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof MonitoredTask) {
+                return delegate.compareTo(((MonitoredTask<?>) other).delegate);
+            }
+            return delegate.compareTo(other);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return delegate.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return delegate.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.get(timeout, unit);
+        }
+    }
+}
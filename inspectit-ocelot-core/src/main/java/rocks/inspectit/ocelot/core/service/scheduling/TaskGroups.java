@@ -0,0 +1,41 @@
+package rocks.inspectit.ocelot.core.service.scheduling;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * The names of the task groups executing the background tasks of the agent.
+ * Each group is backed by its own {@link MonitoredScheduledExecutor}, which can be injected using the group name as
+ * {@link Qualifier}. Injecting a {@link java.util.concurrent.ScheduledExecutorService} without qualifier yields the
+ * executor of the {@link #DEFAULT} group.
+ */
+public final class TaskGroups {
+
+    /**
+     * Configuration polling, agent commands, health checks and other housekeeping tasks.
+     */
+    public static final String DEFAULT = "default";
+
+    /**
+     * Polling metrics recorders, JMX scraping, the tag guard and self-monitoring recorders.
+     */
+    public static final String METRICS = "metrics";
+
+    /**
+     * Periodic exports of collected data.
+     */
+    public static final String EXPORT = "export";
+
+    /**
+     * The discovery of new classes and batched instrumentation updates.
+     */
+    public static final String INSTRUMENTATION = "instrumentation";
+
+    /**
+     * The parallel retransformation of class batches. The size of this group is derived from
+     * {@code inspectit.instrumentation.internal.class-retransform-parallelism}.
+     */
+    public static final String RETRANSFORM = "retransform";
+
+    private TaskGroups() {
+    }
+}
@@ -0,0 +1,74 @@
+package rocks.inspectit.ocelot.core.service.scheduling;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The execution statistics of a single task of a {@link MonitoredScheduledExecutor}.
+ * All values are totals since the creation of the executor.
+ */
+public class TaskStatistics {
+
+    /**
+     * The name of the task.
+     */
+    @Getter
+    private final String name;
+
+    private final LongAdder runs = new LongAdder();
+
+    private final LongAdder durationNanos = new LongAdder();
+
+    private final LongAdder lagNanos = new LongAdder();
+
+    private final LongAdder overruns = new LongAdder();
+
+    TaskStatistics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a single execution of the task.
+     *
+     * @param lagNanos      the time the execution started later than scheduled
+     * @param durationNanos the duration of the execution
+     * @param periodNanos   the period of the task, zero if the task is not scheduled at a fixed rate
+     */
+    void recordRun(long lagNanos, long durationNanos, long periodNanos) {
+        runs.increment();
+        this.lagNanos.add(Math.max(0, lagNanos));
+        this.durationNanos.add(durationNanos);
+        if (periodNanos > 0 && durationNanos > periodNanos) {
+            overruns.increment();
+        }
+    }
+
+    /**
+     * @return the number of executions
+     */
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    /**
+     * @return the total duration of all executions
+     */
+    public long getDurationNanos() {
+        return durationNanos.sum();
+    }
+
+    /**
+     * @return the total time the executions started later than scheduled
+     */
+    public long getLagNanos() {
+        return lagNanos.sum();
+    }
+
+    /**
+     * @return the number of executions of a fixed-rate task which took longer than its period
+     */
+    public long getOverruns() {
+        return overruns.sum();
+    }
+}
@@ -0,0 +1,137 @@
+package rocks.inspectit.ocelot.core.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue for multiple producers and a single consumer.
+ * <p>
+ * Producers claim a slot by incrementing the producer index via CAS and afterwards publish their element into the slot.
+ * The consumer takes the element of the next slot as soon as it has been published and frees the slot again.
+ * Compared to a {@link java.util.concurrent.ArrayBlockingQueue}, producers never block each other on a lock, which
+ * matters if the queue is filled from application threads.
+ * <p>
+ * {@link #offer(Object)} may be called from any thread, {@link #poll()} and {@link #drain(Consumer, int)}
+ * must only be called from a single consumer thread at a time.
+ *
+ * @param <E> the type of the elements
+ */
+public class MpscArrayQueue<E> {
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final int mask;
+
+    private final int capacity;
+
+    /**
+     * The index of the next slot to be claimed by a producer.
+     */
+    private final AtomicLong producerIndex = new AtomicLong();
+
+    /**
+     * The index of the next slot to be consumed. Only written by the consumer.
+     */
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * @param capacity the maximum number of elements in the queue, must be positive
+     */
+    public MpscArrayQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive but was " + capacity);
+        }
+        this.capacity = capacity;
+        // the buffer size is a power of two, so that the slot can be computed with a mask
+        int bufferSize = Integer.highestOneBit(capacity);
+        if (bufferSize < capacity) {
+            bufferSize <<= 1;
+        }
+        buffer = new AtomicReferenceArray<>(bufferSize);
+        mask = bufferSize - 1;
+    }
+
+    /**
+     * Adds the given element to the queue, if the queue is not full.
+     *
+     * @param element the element to add, must not be null
+     *
+     * @return true, if the element has been added, false if the queue is full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException();
+        }
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        buffer.lazySet((int) index & mask, element);
+        return true;
+    }
+
+    /**
+     * Removes the oldest element from the queue. Must only be called by the consumer thread.
+     * <p>
+     * If a producer has claimed the next slot but not yet published its element, null is returned even though
+     * {@link #size()} may already account for the element.
+     *
+     * @return the oldest element or null, if no element is available
+     */
+    public E poll() {
+        long index = consumerIndex.get();
+        int slot = (int) index & mask;
+        E element = buffer.get(slot);
+        if (element == null) {
+            return null;
+        }
+        buffer.lazySet(slot, null);
+        consumerIndex.lazySet(index + 1);
+        return element;
+    }
+
+    /**
+     * Removes up to the given number of elements and passes them to the given consumer in the order in which they have
+     * been added. Must only be called by the consumer thread.
+     *
+     * @param consumer    the consumer of the elements
+     * @param maxElements the maximum number of elements to remove
+     *
+     * @return the number of removed elements
+     */
+    public int drain(Consumer<? super E> consumer, int maxElements) {
+        int count = 0;
+        E element;
+        while (count < maxElements && (element = poll()) != null) {
+            consumer.accept(element);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of elements in the queue, this is only an estimate if producers are active concurrently
+     */
+    public int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    /**
+     * @return true, if no element is in the queue
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the maximum number of elements in the queue
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -1,8 +1,6 @@
 package rocks.inspectit.ocelot.core.command.handler.impl;
 
 import ch.qos.logback.classic.Level;
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.LoggingEvent;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +8,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
@@ -19,11 +16,14 @@ import rocks.inspectit.ocelot.config.model.selfmonitoring.LogPreloadingSettings;
 import rocks.inspectit.ocelot.core.SpringTestBase;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.selfmonitoring.logs.LogPreloader;
+import rocks.inspectit.ocelot.core.selfmonitoring.logs.PreloadedLogRecord;
+import rocks.inspectit.ocelot.core.selfmonitoring.logs.PreloadedLogs;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -96,8 +96,10 @@ public class LogsCommandExecutorTest {
 
         @Test
         public void testLogFormat() {
-            Mockito.when(preloader.getPreloadedLogs())
-                    .thenReturn(Arrays.asList(new LoggingEvent("com.dummy.Method", (Logger) LoggerFactory.getLogger(LogsCommandExecutorTest.class), Level.ERROR, "Message", null, new String[]{}), new LoggingEvent("com.dummy.Method", (Logger) LoggerFactory.getLogger(LogsCommandExecutorTest.class), Level.WARN, "Message {}", null, new String[]{"Foo"}), new LoggingEvent("com.dummy.Method", (Logger) LoggerFactory.getLogger(LogsCommandExecutorTest.class), Level.ERROR, "Exception", new RuntimeException(), new String[]{})));
+            String loggerName = LogsCommandExecutorTest.class.getName();
+            long timestamp = System.currentTimeMillis();
+            Mockito.when(preloader.getPreloadedLogs(0))
+                    .thenReturn(new PreloadedLogs(Arrays.asList(new PreloadedLogRecord(0, timestamp, Level.ERROR, loggerName, "main", "Message", null), new PreloadedLogRecord(1, timestamp, Level.WARN, loggerName, "main", "Message Foo", null), new PreloadedLogRecord(2, timestamp, Level.ERROR, loggerName, "main", "Exception", "java.lang.RuntimeException: null\n\tat rocks.inspectit.Foo.bar(Foo.java:1)\n")), 3));
 
             LogsCommand command = new LogsCommand();
             command.setCommandId(UUID.randomUUID());
@@ -123,6 +125,37 @@ public class LogsCommandExecutorTest {
 
             // should contain timestamps
             assertThat(response.getLogs()).containsPattern("^\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}");
+
+            assertThat(response.getNextSequence()).isEqualTo(3);
+        }
+
+        @Test
+        public void logsSinceSequence() {
+            Mockito.when(preloader.getPreloadedLogs(7))
+                    .thenReturn(new PreloadedLogs(Collections.singletonList(new PreloadedLogRecord(7, System.currentTimeMillis(), Level.WARN, "logger", "main", "Latest", null)), 8));
+
+            LogsCommand command = new LogsCommand();
+            command.setCommandId(UUID.randomUUID());
+            command.setFromSequence(7);
+            LogsCommand.Response response = (LogsCommand.Response) executor.execute(command);
+
+            assertThat(response.getLogs()).contains("Latest").doesNotContain("Exception");
+            assertThat(response.getNextSequence()).isEqualTo(8);
+        }
+
+        @Test
+        public void unpublishedLog() {
+            // the log with sequence 7 has been reserved but not yet been preloaded, while subsequent logs already have
+            Mockito.lenient().when(preloader.getNextSequence()).thenReturn(10L);
+            Mockito.when(preloader.getPreloadedLogs(7)).thenReturn(new PreloadedLogs(Collections.emptyList(), 7));
+
+            LogsCommand command = new LogsCommand();
+            command.setCommandId(UUID.randomUUID());
+            command.setFromSequence(7);
+            LogsCommand.Response response = (LogsCommand.Response) executor.execute(command);
+
+            assertThat(response.getLogs()).isEmpty();
+            assertThat(response.getNextSequence()).isEqualTo(7);
         }
 
     }
@@ -1,13 +1,26 @@
 package rocks.inspectit.ocelot.core.config;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.PropertiesPropertySource;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
 
 /**
  *
@@ -40,4 +53,113 @@ public class InspectitEnvironmentTest {
         System.clearProperty("inspectit.service-name");
         Assertions.assertThat(env.getCurrentConfig().getServiceName()).isEqualTo("abc");
     }
+
+    @Nested
+    class UpdatePropertySources {
+
+        private InspectitEnvironment env;
+
+        private void update(String... keysAndValues) {
+            Properties properties = new Properties();
+            for (int i = 0; i < keysAndValues.length; i += 2) {
+                properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+            }
+            env.updatePropertySources(sources -> {
+                sources.remove("test");
+                sources.addFirst(new PropertiesPropertySource("test", properties));
+            });
+        }
+
+        private List<InspectitConfigChangedEvent> getChangeEvents() {
+            ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+            verify(ctx, atLeastOnce()).publishEvent(events.capture());
+            return events.getAllValues()
+                    .stream()
+                    .filter(InspectitConfigChangedEvent.class::isInstance)
+                    .map(InspectitConfigChangedEvent.class::cast)
+                    .collect(Collectors.toList());
+        }
+
+        private InspectitConfig loadCompletely() {
+            return env.loadAndValidateFromProperties("inspectit", InspectitConfig.class).get();
+        }
+
+        @Test
+        void onlyChangedSectionsReloaded() {
+            env = new InspectitEnvironment(ctx, Optional.empty());
+            InspectitConfig oldConfig = env.getCurrentConfig();
+
+            update("inspectit.logging.debug", "true", "inspectit.self-monitoring.agent-health.validity-period", "2h");
+
+            InspectitConfig newConfig = env.getCurrentConfig();
+            assertThat(newConfig.getLogging().isDebug()).isTrue();
+            assertThat(newConfig.getSelfMonitoring().getAgentHealth().getValidityPeriod()).isEqualTo(Duration.ofHours(2));
+            assertThat(newConfig.getMetrics()).isSameAs(oldConfig.getMetrics());
+            assertThat(newConfig.getInstrumentation()).isSameAs(oldConfig.getInstrumentation());
+            assertThat(newConfig).isEqualTo(loadCompletely());
+
+            List<InspectitConfigChangedEvent> events = getChangeEvents();
+            assertThat(events).hasSize(1);
+            InspectitConfigChangedEvent event = events.get(0);
+            assertThat(event.getOldConfig()).isSameAs(oldConfig);
+            assertThat(event.isAffected("inspectit.logging")).isTrue();
+            assertThat(event.isAffected("inspectit.selfMonitoring")).isTrue();
+            assertThat(event.isAffected("inspectit.self-monitoring.agent-health.validity-period")).isTrue();
+            assertThat(event.isAffected("inspectit.self-monitoring.enabled")).isFalse();
+            assertThat(event.isAffected("inspectit.metrics")).isFalse();
+        }
+
+        @Test
+        void referencingSectionsReloaded() {
+            env = new InspectitEnvironment(ctx, Optional.empty());
+
+            update("inspectit.service-name", "changed");
+
+            InspectitConfig newConfig = env.getCurrentConfig();
+            assertThat(newConfig.getServiceName()).isEqualTo("changed");
+            assertThat(newConfig.getMetrics().getTagGuard().getDatabaseFile()).contains("changed");
+            assertThat(newConfig).isEqualTo(loadCompletely());
+            assertThat(getChangeEvents().get(0).isAffected("inspectit.metrics.tag-guard")).isTrue();
+        }
+
+        @Test
+        void placeholderChangesDetected() {
+            env = new InspectitEnvironment(ctx, Optional.empty());
+
+            update("inspectit.metrics.disk.enabled.free", "false");
+
+            InspectitConfig newConfig = env.getCurrentConfig();
+            assertThat(newConfig.getMetrics().getDefinitions().get("disk/free").isEnabled()).isFalse();
+            assertThat(newConfig).isEqualTo(loadCompletely());
+            assertThat(getChangeEvents().get(0).isAffected("inspectit.metrics.definitions[disk/free]")).isTrue();
+        }
+
+        @Test
+        void invalidChangeRejected() {
+            env = new InspectitEnvironment(ctx, Optional.empty());
+            InspectitConfig oldConfig = env.getCurrentConfig();
+
+            update("inspectit.self-monitoring.agent-health.validity-period", "-1s");
+
+            assertThat(env.getCurrentConfig()).isSameAs(oldConfig);
+            assertThat(getChangeEvents()).isEmpty();
+
+            update("inspectit.self-monitoring.enabled", "false");
+
+            InspectitConfig newConfig = env.getCurrentConfig();
+            assertThat(newConfig.getSelfMonitoring().isEnabled()).isFalse();
+            assertThat(newConfig).isEqualTo(loadCompletely());
+        }
+
+        @Test
+        void unchangedPropertiesPublishNoEvent() {
+            env = new InspectitEnvironment(ctx, Optional.empty());
+            InspectitConfig oldConfig = env.getCurrentConfig();
+
+            update();
+
+            assertThat(env.getCurrentConfig()).isSameAs(oldConfig);
+            assertThat(getChangeEvents()).isEmpty();
+        }
+    }
 }
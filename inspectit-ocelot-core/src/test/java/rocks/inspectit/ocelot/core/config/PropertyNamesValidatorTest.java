@@ -3,6 +3,10 @@ package rocks.inspectit.ocelot.core.config;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import rocks.inspectit.ocelot.config.loaders.DefaultConfigSnapshot;
+
+import java.io.IOException;
+import java.util.Properties;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -51,5 +55,12 @@ public class PropertyNamesValidatorTest {
 
             assertThat(validator.isInvalidPropertyName("inspectit.instrumentation.actions.string_replace_all.input.regex")).isFalse();
         }
+
+        @Test
+        void defaultConfigurationValid() throws IOException {
+            Properties defaults = DefaultConfigSnapshot.readDefaultConfigFiles();
+
+            assertThat(defaults.stringPropertyNames()).noneMatch(validator::isInvalidPropertyName);
+        }
     }
 }
\ No newline at end of file
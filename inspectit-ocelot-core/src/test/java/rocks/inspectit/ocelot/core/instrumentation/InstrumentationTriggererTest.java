@@ -1,5 +1,6 @@
 package rocks.inspectit.ocelot.core.instrumentation;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,7 +12,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import rocks.inspectit.ocelot.core.instrumentation.config.InstrumentationConfigurationResolver;
 import rocks.inspectit.ocelot.core.instrumentation.hook.HookManager;
 import rocks.inspectit.ocelot.core.instrumentation.special.ClassLoaderDelegation;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringBatch;
 import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+import rocks.inspectit.ocelot.core.service.scheduling.MonitoredScheduledExecutor;
+import rocks.inspectit.ocelot.core.service.scheduling.TaskGroups;
 
 import java.lang.instrument.Instrumentation;
 import java.net.URLClassLoader;
@@ -20,6 +24,7 @@ import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -54,6 +59,11 @@ public class InstrumentationTriggererTest {
     @InjectMocks
     InstrumentationTriggerer triggerer;
 
+    @BeforeEach
+    void setupSelfMonitoring() {
+        lenient().when(selfMonitoring.startBatch(any())).thenReturn(SelfMonitoringBatch.DISABLED);
+    }
+
     @Nested
     public class CheckClassesForConfigurationUpdates {
 
@@ -137,6 +147,52 @@ public class InstrumentationTriggererTest {
             ordered.verify(instrumentation).retransformClasses(URLClassLoader.class);
             ordered.verify(instrumentation).retransformClasses(Integer.class);
         }
+
+        @Test
+        void ensureSubBatchesRetransformedInParallel() throws Exception {
+            TESTING_CLASSES.stream().forEach(cl -> triggerer.pendingClasses.put(cl, true));
+            when(classLoaderDelegation.getClassLoaderClassesRequiringRetransformation(any(), any())).thenReturn(new LinkedHashSet<>());
+            when(hookManager.startUpdate()).thenReturn(mock(HookManager.HookUpdate.class));
+            doReturn(true).when(instrumentationManager).doesClassRequireRetransformation(any());
+            triggerer.retransformParallelism = 2;
+            triggerer.retransformExecutor = new MonitoredScheduledExecutor(TaskGroups.RETRANSFORM, 1, Thread.NORM_PRIORITY);
+
+            Set<Class<?>> retransformedClasses = ConcurrentHashMap.newKeySet();
+            Set<Thread> retransformingThreads = ConcurrentHashMap.newKeySet();
+            doAnswer(invocation -> {
+                for (Object clazz : invocation.getArguments()) {
+                    retransformedClasses.add((Class<?>) clazz);
+                }
+                retransformingThreads.add(Thread.currentThread());
+                return null;
+            }).when(instrumentation).retransformClasses(any());
+
+            triggerer.checkClassesForConfigurationUpdates(new InstrumentationTriggerer.BatchSize(100, 100));
+
+            verify(instrumentation, times(2)).retransformClasses(any());
+            assertThat(retransformedClasses).containsExactlyInAnyOrderElementsOf(TESTING_CLASSES);
+            assertThat(retransformingThreads).hasSize(2).contains(Thread.currentThread());
+        }
+
+        @Test
+        void ensureTransformationExceptionsHandledInParallel() throws Exception {
+            TESTING_CLASSES.stream().forEach(cl -> triggerer.pendingClasses.put(cl, true));
+            when(classLoaderDelegation.getClassLoaderClassesRequiringRetransformation(any(), any())).thenReturn(new LinkedHashSet<>());
+            when(hookManager.startUpdate()).thenReturn(mock(HookManager.HookUpdate.class));
+            doReturn(true).when(instrumentationManager).doesClassRequireRetransformation(any());
+            triggerer.retransformParallelism = 2;
+            triggerer.retransformExecutor = new MonitoredScheduledExecutor(TaskGroups.RETRANSFORM, 1, Thread.NORM_PRIORITY);
+
+            doThrow(new RuntimeException()).when(instrumentation).retransformClasses(any());
+
+            triggerer.checkClassesForConfigurationUpdates(new InstrumentationTriggerer.BatchSize(100, 100));
+
+            //each sub-batch is retransformed once and afterwards its classes are retransformed one by one
+            verify(instrumentation, times(2 + TESTING_CLASSES.size())).retransformClasses(any());
+            for (Class<?> clazz : TESTING_CLASSES) {
+                verify(instrumentation, times(1)).retransformClasses(same(clazz));
+            }
+        }
     }
 
     @Nested
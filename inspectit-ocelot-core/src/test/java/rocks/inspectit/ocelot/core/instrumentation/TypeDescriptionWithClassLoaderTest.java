@@ -0,0 +1,62 @@
+package rocks.inspectit.ocelot.core.instrumentation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rocks.inspectit.ocelot.core.testutils.GcUtils;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TypeDescriptionWithClassLoaderTest {
+
+    @Nested
+    class OfClassName {
+
+        @Test
+        void typeResolved() {
+            ClassLoader loader = TypeDescriptionWithClassLoaderTest.class.getClassLoader();
+
+            TypeDescriptionWithClassLoader result = TypeDescriptionWithClassLoader.of(TypeDescriptionWithClassLoaderTest.class.getName(), loader);
+
+            assertThat(result.getName()).isEqualTo(TypeDescriptionWithClassLoaderTest.class.getName());
+            assertThat(result.getLoader()).isSameAs(loader);
+            assertThat(result.getRelatedClass()).isNull();
+        }
+
+        @Test
+        void bootstrapTypeResolved() {
+            TypeDescriptionWithClassLoader result = TypeDescriptionWithClassLoader.of(String.class.getName(), null);
+
+            assertThat(result.getName()).isEqualTo(String.class.getName());
+            assertThat(result.getLoader()).isNull();
+        }
+    }
+
+    @Nested
+    class GetTypePool {
+
+        @Test
+        void poolSharedPerClassLoader() {
+            ClassLoader loader = TypeDescriptionWithClassLoaderTest.class.getClassLoader();
+            URLClassLoader otherLoader = new URLClassLoader(new URL[0], loader);
+
+            assertThat(TypeDescriptionWithClassLoader.getTypePool(loader)).isSameAs(TypeDescriptionWithClassLoader.getTypePool(loader));
+            assertThat(TypeDescriptionWithClassLoader.getTypePool(otherLoader)).isNotSameAs(TypeDescriptionWithClassLoader.getTypePool(loader));
+            assertThat(TypeDescriptionWithClassLoader.getTypePool(null)).isSameAs(TypeDescriptionWithClassLoader.getTypePool(null));
+        }
+
+        @Test
+        void classLoaderCollectable() {
+            URLClassLoader loader = new URLClassLoader(new URL[0], TypeDescriptionWithClassLoaderTest.class.getClassLoader());
+            TypeDescriptionWithClassLoader.of(TypeDescriptionWithClassLoaderTest.class.getName(), loader);
+            WeakReference<ClassLoader> loaderReference = new WeakReference<>(loader);
+
+            loader = null;
+
+            GcUtils.waitUntilCleared(loaderReference);
+        }
+    }
+}
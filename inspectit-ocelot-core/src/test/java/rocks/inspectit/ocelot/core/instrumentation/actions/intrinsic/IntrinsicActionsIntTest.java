@@ -0,0 +1,39 @@
+package rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.core.SpringTestBase;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.config.GenericActionConfigurationResolver;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.GenericActionConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ensures that the intrinsic implementations are used for the default action definitions.
+ */
+public class IntrinsicActionsIntTest extends SpringTestBase {
+
+    @Autowired
+    InspectitEnvironment env;
+
+    @Autowired
+    GenericActionConfigurationResolver resolver;
+
+    @Test
+    void allDefaultActionsMatched() {
+        Map<String, GenericActionConfig> actions = ReflectionTestUtils.invokeMethod(resolver, "resolveActions", env.getCurrentConfig()
+                .getInstrumentation());
+
+        for (String name : Arrays.asList("a_timing_nanos", "a_timing_elapsedMillis", "a_assign_value", "a_assign_null", "a_assign_true", "a_assign_false", "a_logic_isNull", "a_logic_isNotNull", "a_logic_and", "a_logic_or", "a_logic_isTrueOrNotNull", "a_string_concat", "a_string_concat_3")) {
+            assertThat(IntrinsicActions.create(actions.get(name), "key", Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap()))
+                    .describedAs(name)
+                    .isPresent();
+        }
+    }
+}
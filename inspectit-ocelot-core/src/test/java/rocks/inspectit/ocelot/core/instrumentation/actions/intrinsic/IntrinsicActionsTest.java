@@ -0,0 +1,206 @@
+package rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.GenericActionConfig;
+import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
+import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IntrinsicActionsTest {
+
+    private static final String DATA_KEY = "result";
+
+    @Mock
+    IHookAction.ExecutionContext ctx;
+
+    @Mock
+    InspectitContextImpl inspectitContext;
+
+    Map<String, Object> data = new HashMap<>();
+
+    @BeforeEach
+    void setup() {
+        lenient().when(ctx.getInspectitContext()).thenReturn(inspectitContext);
+        lenient().doAnswer(invocation -> data.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(inspectitContext)
+                .setData(anyString(), any());
+    }
+
+    private GenericActionConfig.GenericActionConfigBuilder action(String name, String valueBody, String... inputs) {
+        GenericActionConfig.GenericActionConfigBuilder builder = GenericActionConfig.builder()
+                .name(name)
+                .valueBody(valueBody);
+        for (String input : inputs) {
+            builder.actionArgumentType(input, "Object");
+        }
+        return builder;
+    }
+
+    private Object execute(GenericActionConfig config, Map<String, Object> constants, Map<String, VariableAccessor> dynamics) {
+        Optional<IHookAction> action = IntrinsicActions.create(config, DATA_KEY, constants, dynamics, Collections.emptyMap());
+        assertThat(action).isPresent();
+        action.get().execute(ctx);
+        return data.get(DATA_KEY);
+    }
+
+    @Nested
+    class Create {
+
+        @Test
+        void unknownAction() {
+            GenericActionConfig config = action("a_custom", "return Boolean.TRUE;").build();
+
+            assertThat(IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())).isEmpty();
+        }
+
+        @Test
+        void modifiedBody() {
+            GenericActionConfig config = action("a_assign_true", "return Boolean.FALSE;").build();
+
+            assertThat(IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())).isEmpty();
+        }
+
+        @Test
+        void modifiedInputs() {
+            GenericActionConfig config = action("a_assign_value", "return value;", "value", "other").build();
+
+            assertThat(IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())).isEmpty();
+        }
+
+        @Test
+        void voidAction() {
+            GenericActionConfig config = action("a_assign_true", "return Boolean.TRUE;").isVoid(true).build();
+
+            assertThat(IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())).isEmpty();
+        }
+
+        @Test
+        void differentFormatting() {
+            GenericActionConfig config = action("a_logic_isNull", "return  Boolean.valueOf( value==null );\n", "value").build();
+
+            assertThat(IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())).isPresent();
+        }
+    }
+
+    @Nested
+    class Execute {
+
+        @Test
+        void elapsedMillis() {
+            GenericActionConfig config = action("a_timing_elapsedMillis", "return new Double( (System.nanoTime() - since_nanos) * 1E-6);", "since_nanos")
+                    .build();
+            long start = System.nanoTime() - 5_000_000L;
+
+            Object result = execute(config, Collections.emptyMap(), Collections.singletonMap("since_nanos", context -> start));
+
+            assertThat(result).isInstanceOf(Double.class);
+            assertThat((Double) result).isGreaterThanOrEqualTo(5.0);
+        }
+
+        @Test
+        void nanosStoredAsLong() {
+            GenericActionConfig config = action("a_timing_nanos", "return new Long(System.nanoTime());").build();
+
+            IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap())
+                    .get()
+                    .execute(ctx);
+
+            verify(inspectitContext).setLongData(eq(DATA_KEY), anyLong());
+            verify(inspectitContext, never()).setData(anyString(), any());
+        }
+
+        @Test
+        void elapsedMillisFromPrimitiveData() {
+            GenericActionConfig config = action("a_timing_elapsedMillis", "return new Double( (System.nanoTime() - since_nanos) * 1E-6);", "since_nanos")
+                    .build();
+            long start = System.nanoTime() - 5_000_000L;
+            when(inspectitContext.getLongData("entry_time")).thenReturn(start);
+
+            IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.singletonMap("since_nanos", context -> null), Collections
+                    .singletonMap("since_nanos", "entry_time")).get().execute(ctx);
+
+            verify(inspectitContext).setDoubleData(eq(DATA_KEY), doubleThat(millis -> millis >= 5.0));
+            verify(inspectitContext, never()).setData(anyString(), any());
+        }
+
+        @Test
+        void assignValueCopiesPrimitiveData() {
+            GenericActionConfig config = action("a_assign_value", "return value;", "value").build();
+            when(inspectitContext.copyPrimitiveData("source", DATA_KEY)).thenReturn(true);
+
+            IntrinsicActions.create(config, DATA_KEY, Collections.emptyMap(), Collections.singletonMap("value", context -> null), Collections
+                    .singletonMap("value", "source")).get().execute(ctx);
+
+            verify(inspectitContext, never()).setData(anyString(), any());
+        }
+
+        @Test
+        void assignConstantInput() {
+            GenericActionConfig config = action("a_assign_value", "return value;", "value").build();
+
+            Object result = execute(config, Collections.singletonMap("value", "constant"), Collections.emptyMap());
+
+            assertThat(result).isEqualTo("constant");
+        }
+
+        @Test
+        void logicAndWithNull() {
+            GenericActionConfig config = action("a_logic_and", "return Boolean.valueOf((a != null && a.booleanValue()) && (b != null && b.booleanValue()));", "a", "b")
+                    .build();
+            Map<String, VariableAccessor> inputs = new HashMap<>();
+            inputs.put("a", context -> true);
+            inputs.put("b", context -> null);
+
+            assertThat(execute(config, Collections.emptyMap(), inputs)).isEqualTo(false);
+        }
+
+        @Test
+        void logicOr() {
+            GenericActionConfig config = action("a_logic_or", "return Boolean.valueOf((a != null && a.booleanValue()) || (b != null && b.booleanValue()));", "a", "b")
+                    .build();
+            Map<String, VariableAccessor> inputs = new HashMap<>();
+            inputs.put("a", context -> false);
+            inputs.put("b", context -> true);
+
+            assertThat(execute(config, Collections.emptyMap(), inputs)).isEqualTo(true);
+        }
+
+        @Test
+        void isTrueOrNotNull() {
+            GenericActionConfig config = action("a_logic_isTrueOrNotNull", "if (value instanceof Boolean) { return (Boolean) value; } if (value instanceof String) { return Boolean.valueOf(Boolean.parseBoolean((String) value)); } return Boolean.valueOf(value != null);", "value")
+                    .build();
+
+            assertThat(execute(config, Collections.emptyMap(), Collections.singletonMap("value", context -> "false"))).isEqualTo(false);
+            assertThat(execute(config, Collections.emptyMap(), Collections.singletonMap("value", context -> Boolean.TRUE))).isEqualTo(true);
+            assertThat(execute(config, Collections.emptyMap(), Collections.singletonMap("value", context -> 42))).isEqualTo(true);
+            assertThat(execute(config, Collections.emptyMap(), Collections.singletonMap("value", context -> null))).isEqualTo(false);
+        }
+
+        @Test
+        void concatInInputOrder() {
+            GenericActionConfig config = action("a_string_concat_3", "return new StringBuilder().append(a).append(b).append(c).toString();;", "c", "b", "a")
+                    .build();
+            Map<String, VariableAccessor> inputs = new HashMap<>();
+            inputs.put("a", context -> "x");
+            inputs.put("b", context -> null);
+            inputs.put("c", context -> 3);
+
+            assertThat(execute(config, Collections.emptyMap(), inputs)).isEqualTo("xnull3");
+        }
+    }
+}
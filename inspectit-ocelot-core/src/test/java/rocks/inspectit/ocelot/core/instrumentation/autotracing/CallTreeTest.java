@@ -0,0 +1,83 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallTreeTest {
+
+    private static StackTrace createStackTrace(String... classMethods) {
+        StackTraceElement[] elements = Arrays.stream(classMethods)
+                .map(fqn -> new StackTraceElement(fqn.substring(0, fqn.lastIndexOf('.')), fqn.substring(fqn.lastIndexOf('.') + 1), "File.java", 1))
+                .toArray(StackTraceElement[]::new);
+        ArrayUtils.reverse(elements);
+        return new StackTrace(elements);
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void sharedPrefix() {
+            CallTree tree = new CallTree();
+
+            int first = tree.add(createStackTrace("Root.run", "Service.call", "Dao.query"));
+            int second = tree.add(createStackTrace("Root.run", "Service.call", "Dao.query"));
+            int third = tree.add(createStackTrace("Root.run", "Service.call", "Cache.get"));
+
+            assertThat(second).isEqualTo(first);
+            assertThat(third).isNotEqualTo(first);
+            // the root node, the shared frames Root.run and Service.call as well as Dao.query and Cache.get
+            assertThat(tree.getNodeCount()).isEqualTo(5);
+            assertThat(tree.getNode(first).getParent()).isSameAs(tree.getNode(third).getParent());
+            assertThat(tree.getNode(first).getDepth()).isEqualTo(3);
+        }
+
+        @Test
+        void framesInternedAcrossTrees() {
+            CallTree first = new CallTree();
+            CallTree second = new CallTree();
+
+            int firstId = first.add(createStackTrace("Root.run", "Service.call"));
+            int secondId = second.add(createStackTrace("Root.run", "Service.call"));
+
+            assertThat(first.getNode(firstId).getFrame()).isSameAs(second.getNode(secondId).getFrame());
+        }
+    }
+
+    @Nested
+    class Find {
+
+        @Test
+        void treeNotModified() {
+            CallTree tree = new CallTree();
+            int id = tree.add(createStackTrace("Root.run", "Service.call"));
+
+            assertThat(tree.find(createStackTrace("Root.run", "Service.call"))).isEqualTo(id);
+            assertThat(tree.find(createStackTrace("Root.run", "Other.call"))).isEqualTo(-1);
+            assertThat(tree.getNodeCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    class GetStackTrace {
+
+        @Test
+        void framesFromRoot() {
+            CallTree tree = new CallTree();
+
+            int id = tree.add(createStackTrace("Root.run", "Service.call", "Dao.query"));
+            StackTrace stackTrace = tree.getNode(id).getStackTrace();
+
+            assertThat(stackTrace.size()).isEqualTo(3);
+            assertThat(stackTrace.get(0).getClassName()).isEqualTo("Root");
+            assertThat(stackTrace.get(1).getClassName()).isEqualTo("Service");
+            assertThat(stackTrace.getStackTop().getMethodName()).isEqualTo("query");
+            assertThat(tree.getNode(id).getStackTrace()).isSameAs(stackTrace);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.tracing.ProfilingSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling.Profile;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling.ProfileExporter;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ContinuousProfilerTest {
+
+    @InjectMocks
+    private ContinuousProfiler profiler;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private InspectitEnvironment env;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    @Mock
+    private SelfMonitoringService selfMonitoringService;
+
+    @Mock
+    private ProfileExporter exporter;
+
+    private InspectitConfig config;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(profiler, "exporters", Collections.singletonList(exporter));
+
+        config = mock(InspectitConfig.class, Answers.RETURNS_DEEP_STUBS);
+        ProfilingSettings settings = new ProfilingSettings();
+        settings.setEnabled(true);
+        settings.setExportInterval(Duration.ofSeconds(10));
+        settings.setMaxThreads(1);
+        settings.setMaxFrames(100);
+        lenient().when(config.getTracing().getAutoTracing().getProfiling()).thenReturn(settings);
+        lenient().when(config.getTracing().getAutoTracing().getFrequency()).thenReturn(Duration.ofMillis(50));
+        lenient().when(config.getServiceName()).thenReturn("my-service");
+        lenient().when(env.getCurrentConfig()).thenReturn(config);
+        lenient().doReturn(mock(ScheduledFuture.class))
+                .when(executor)
+                .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+    }
+
+    private static StackTrace createStackTrace(String... classMethods) {
+        StackTraceElement[] elements = Arrays.stream(classMethods)
+                .map(fqn -> new StackTraceElement(fqn.substring(0, fqn.lastIndexOf('.')), fqn.substring(fqn.lastIndexOf('.') + 1), "File.java", 1))
+                .toArray(StackTraceElement[]::new);
+        ArrayUtils.reverse(elements);
+        return new StackTrace(elements);
+    }
+
+    @Nested
+    class Export {
+
+        @Test
+        void profileExportedAndReset() {
+            profiler.doEnable(config);
+            profiler.addSample("GET /a", createStackTrace("Root.run", "Service.call"));
+            profiler.addSample("GET /a", createStackTrace("Root.run", "Service.call"));
+            profiler.addSamplingTime(5000);
+
+            profiler.export();
+            profiler.export();
+
+            ArgumentCaptor<Profile> profiles = ArgumentCaptor.forClass(Profile.class);
+            verify(exporter, times(2)).export(profiles.capture());
+            Profile first = profiles.getAllValues().get(0);
+            assertThat(first.getServiceName()).isEqualTo("my-service");
+            assertThat(first.getSamplingPeriodNanos()).isEqualTo(50_000_000L);
+            assertThat(first.getSamples()).hasSize(1);
+            assertThat(first.getSamples().get(0).getCount()).isEqualTo(2);
+            assertThat(profiles.getAllValues().get(1).getSamples()).isEmpty();
+
+            verify(selfMonitoringService).recordMeasurement("profiling/samples", 2L, Collections.singletonMap("result", "recorded"));
+            verify(selfMonitoringService).recordMeasurement("profiling/sampling-duration", 5L);
+        }
+
+        @Test
+        void noExportWhenDisabled() {
+            profiler.doEnable(config);
+            profiler.doDisable();
+            profiler.addSample("GET /a", createStackTrace("Root.run", "Service.call"));
+
+            profiler.export();
+
+            verifyNoInteractions(exporter);
+        }
+    }
+
+    @Nested
+    class TryAcquireThread {
+
+        @Test
+        void limitedByMaxThreads() {
+            profiler.doEnable(config);
+
+            assertThat(profiler.tryAcquireThread()).isTrue();
+            assertThat(profiler.tryAcquireThread()).isFalse();
+            profiler.releaseThread();
+            assertThat(profiler.tryAcquireThread()).isTrue();
+        }
+    }
+}
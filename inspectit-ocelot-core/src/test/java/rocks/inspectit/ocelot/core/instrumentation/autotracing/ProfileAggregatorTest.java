@@ -0,0 +1,77 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling.Profile;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProfileAggregatorTest {
+
+    private static StackTrace createStackTrace(String... classMethods) {
+        StackTraceElement[] elements = Arrays.stream(classMethods)
+                .map(fqn -> new StackTraceElement(fqn.substring(0, fqn.lastIndexOf('.')), fqn.substring(fqn.lastIndexOf('.') + 1), "File.java", 1))
+                .toArray(StackTraceElement[]::new);
+        ArrayUtils.reverse(elements);
+        return new StackTrace(elements);
+    }
+
+    private static String toString(Profile.Sample sample) {
+        return sample.getEndpoint() + ":" + sample.getFrames()
+                .stream()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName())
+                .collect(Collectors.joining(";")) + "=" + sample.getCount();
+    }
+
+    @Nested
+    class Add {
+
+        @Test
+        void countsPerEndpointAndStack() {
+            ProfileAggregator aggregator = new ProfileAggregator(100);
+
+            aggregator.add("GET /a", createStackTrace("Root.run", "Service.call"));
+            aggregator.add("GET /a", createStackTrace("Root.run", "Service.call"));
+            aggregator.add("GET /a", createStackTrace("Root.run", "Service.call", "Dao.query"));
+            aggregator.add("GET /b", createStackTrace("Root.run", "Service.call"));
+
+            Profile profile = aggregator.toProfile("service", 1000, 2000, 50);
+
+            assertThat(profile.getServiceName()).isEqualTo("service");
+            assertThat(profile.getStartEpochNanos()).isEqualTo(1000);
+            assertThat(profile.getDurationNanos()).isEqualTo(2000);
+            assertThat(profile.getSamplingPeriodNanos()).isEqualTo(50);
+            List<String> samples = profile.getSamples()
+                    .stream()
+                    .map(ProfileAggregatorTest::toString)
+                    .collect(Collectors.toList());
+            assertThat(samples).containsExactlyInAnyOrder("GET /a:Root.run;Service.call=2", "GET /a:Root.run;Service.call;Dao.query=1", "GET /b:Root.run;Service.call=1");
+            assertThat(aggregator.getRecordedSamples()).isEqualTo(4);
+            assertThat(aggregator.getDroppedSamples()).isZero();
+            // two endpoints, three frames for GET /a and two frames for GET /b
+            assertThat(aggregator.getFrameCount()).isEqualTo(7);
+        }
+
+        @Test
+        void newStacksDroppedWhenFull() {
+            ProfileAggregator aggregator = new ProfileAggregator(3);
+
+            aggregator.add("GET /a", createStackTrace("Root.run", "Service.call"));
+            aggregator.add("GET /a", createStackTrace("Root.run", "Other.call"));
+            aggregator.add("GET /a", createStackTrace("Root.run", "Service.call"));
+            aggregator.add("GET /b", createStackTrace("Root.run", "Service.call"));
+
+            Profile profile = aggregator.toProfile("service", 0, 0, 50);
+
+            assertThat(profile.getSamples()).extracting(ProfileAggregatorTest::toString)
+                    .containsExactly("GET /a:Root.run;Service.call=2");
+            assertThat(profile.getDroppedSamples()).isEqualTo(2);
+            assertThat(aggregator.getRecordedSamples()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.selfmonitoring.SelfMonitoringService;
+import rocks.inspectit.ocelot.core.utils.MpscArrayQueue;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SampledTraceExporterTest {
+
+    @InjectMocks
+    private SampledTraceExporter exporter;
+
+    @Mock
+    private InspectitEnvironment env;
+
+    @Mock
+    private SelfMonitoringService selfMonitoringService;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(exporter, "tracesToExport", new MpscArrayQueue<>(2));
+        // prevents the worker from being started, the batches are exported by the tests
+        ReflectionTestUtils.setField(exporter, "state", SampledTraceExporter.State.RUNNING);
+    }
+
+    @Nested
+    class ExportBatch {
+
+        @Test
+        void tracesExportedInOrder() {
+            SampledTrace first = mock(SampledTrace.class);
+            SampledTrace second = mock(SampledTrace.class);
+            exporter.offer(first);
+            exporter.offer(second);
+
+            int exported = exporter.exportBatch();
+
+            assertThat(exported).isEqualTo(2);
+            verify(first).export();
+            verify(second).export();
+            assertThat(exporter.exportBatch()).isZero();
+        }
+
+        @Test
+        void tracesDroppedIfQueueIsFull() {
+            SampledTrace dropped = mock(SampledTrace.class);
+
+            assertThat(exporter.offer(mock(SampledTrace.class))).isTrue();
+            assertThat(exporter.offer(mock(SampledTrace.class))).isTrue();
+            assertThat(exporter.offer(dropped)).isFalse();
+
+            exporter.exportBatch();
+
+            verifyNoInteractions(dropped);
+        }
+
+        @Test
+        void failingTraceSkipped() {
+            SampledTrace failing = mock(SampledTrace.class);
+            SampledTrace second = mock(SampledTrace.class);
+            doThrow(new RuntimeException("boom")).when(failing).export();
+            exporter.offer(failing);
+            exporter.offer(second);
+
+            assertThat(exporter.exportBatch()).isEqualTo(2);
+            verify(second).export();
+        }
+
+        @Test
+        void batchSizeLimited() {
+            ReflectionTestUtils.setField(exporter, "tracesToExport", new MpscArrayQueue<>(SampledTraceExporter.MAX_BATCH_SIZE + 1));
+            for (int i = 0; i <= SampledTraceExporter.MAX_BATCH_SIZE; i++) {
+                exporter.offer(mock(SampledTrace.class));
+            }
+
+            assertThat(exporter.exportBatch()).isEqualTo(SampledTraceExporter.MAX_BATCH_SIZE);
+            assertThat(exporter.exportBatch()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class Worker {
+
+        @Test
+        void startedByFirstTrace() {
+            InspectitConfig config = new InspectitConfig();
+            config.getMetrics().setFrequency(Duration.ofSeconds(15));
+            lenient().when(env.getCurrentConfig()).thenReturn(config);
+            ReflectionTestUtils.setField(exporter, "state", SampledTraceExporter.State.NEW);
+            assertThat(ReflectionTestUtils.getField(exporter, "worker")).isNull();
+
+            exporter.offer(mock(SampledTrace.class));
+            Thread worker = (Thread) ReflectionTestUtils.getField(exporter, "worker");
+            exporter.shutdown();
+
+            assertThat(worker).isNotNull();
+            assertThat(worker.getName()).isEqualTo("inspectit-auto-tracing-export");
+        }
+
+        @Test
+        void notStartedAfterShutdown() {
+            ReflectionTestUtils.setField(exporter, "state", SampledTraceExporter.State.NEW);
+            exporter.shutdown();
+
+            exporter.offer(mock(SampledTrace.class));
+
+            assertThat(ReflectionTestUtils.getField(exporter, "worker")).isNull();
+            assertThat(ReflectionTestUtils.getField(exporter, "state")).isEqualTo(SampledTraceExporter.State.SHUTDOWN);
+        }
+    }
+
+    @Nested
+    class RecordMetrics {
+
+        @Test
+        void countsRecordedAsDelta() {
+            SampledTrace failing = mock(SampledTrace.class);
+            doThrow(new RuntimeException("boom")).when(failing).export();
+            exporter.offer(mock(SampledTrace.class));
+            exporter.offer(failing);
+            exporter.offer(mock(SampledTrace.class));
+            exporter.exportBatch();
+
+            exporter.recordMetrics();
+
+            verify(selfMonitoringService).recordMeasurement("auto-tracing/traces", 2, Collections.singletonMap("result", "enqueued"));
+            verify(selfMonitoringService).recordMeasurement("auto-tracing/traces", 1, Collections.singletonMap("result", "dropped"));
+            verify(selfMonitoringService).recordMeasurement("auto-tracing/traces", 1, Collections.singletonMap("result", "exported"));
+            verify(selfMonitoringService).recordMeasurement(eq("auto-tracing/resolution-duration"), anyLong());
+
+            exporter.offer(mock(SampledTrace.class));
+            exporter.recordMetrics();
+
+            verify(selfMonitoringService).recordMeasurement("auto-tracing/traces", 1, Collections.singletonMap("result", "enqueued"));
+            verify(selfMonitoringService).recordMeasurement("auto-tracing/traces", 0, Collections.singletonMap("result", "dropped"));
+            verify(selfMonitoringService).recordMeasurement("auto-tracing/traces", 0, Collections.singletonMap("result", "exported"));
+        }
+    }
+}
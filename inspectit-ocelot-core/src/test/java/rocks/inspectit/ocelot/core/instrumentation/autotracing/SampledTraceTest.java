@@ -1,5 +1,6 @@
 package rocks.inspectit.ocelot.core.instrumentation.autotracing;
 
+import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.trace.Span;
 import org.apache.commons.lang3.ArrayUtils;
 import org.assertj.core.util.IterableUtil;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.*;
 
 public class SampledTraceTest {
 
@@ -317,4 +318,27 @@ public class SampledTraceTest {
 
     }
 
+    @Nested
+    class AddStackTrace {
+
+        @Test
+        void samplesDroppedWhenMemoryExceeded() {
+            Span rootSpan = Mockito.mock(Span.class);
+            StackTrace rootTrace = createStackTrace("Root.root");
+            SampledTrace trace = new SampledTrace(rootSpan, () -> rootTrace, CallTree.NODE_SIZE_ESTIMATE * 5);
+
+            trace.addStackTrace(createStackTrace("Root.root", "Top.first", "Child.a"), 0);
+            trace.addStackTrace(createStackTrace("Root.root", "Top.first", "Child.a"), 1);
+            verify(rootSpan, never()).setAttribute(any(AttributeKey.class), any());
+
+            trace.addStackTrace(createStackTrace("Root.root", "Top.first", "Child.b"), 2);
+            trace.addStackTrace(createStackTrace("Root.root", "Top.first", "Child.b"), 3);
+            verify(rootSpan).setAttribute(AttributeKey.booleanKey("java.sampling.truncated"), true);
+
+            Iterable<Invocation> invocations = trace.generateInvocations();
+            assertThat(invocations).hasSize(1);
+            assertThat(invocations).first()
+                    .satisfies(new InvocationCheck("Top.first", 0, 2, new InvocationCheck("Child.a", 0, 1)));
+        }
+    }
 }
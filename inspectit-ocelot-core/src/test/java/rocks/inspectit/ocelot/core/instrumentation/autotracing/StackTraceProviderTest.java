@@ -0,0 +1,92 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing;
+
+import org.apache.commons.lang3.JavaVersion;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rocks.inspectit.ocelot.config.model.tracing.StackTraceBackend;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StackTraceProviderTest {
+
+    @Nested
+    class Create {
+
+        @Test
+        void explicitBackends() {
+            assertThat(StackTraceProvider.create(StackTraceBackend.THREAD_MX_BEAN)).isInstanceOf(ThreadMXBeanStackTraceProvider.class);
+            assertThat(StackTraceProvider.create(StackTraceBackend.THREAD_HANDSHAKE)).isInstanceOf(ThreadHandshakeStackTraceProvider.class);
+        }
+
+        @Test
+        void autoBackend() {
+            Class<?> expected = SystemUtils.isJavaVersionAtLeast(JavaVersion.JAVA_19) ? ThreadHandshakeStackTraceProvider.class : ThreadMXBeanStackTraceProvider.class;
+
+            assertThat(StackTraceProvider.create(StackTraceBackend.AUTO)).isInstanceOf(expected);
+        }
+    }
+
+    @Nested
+    class Capture {
+
+        private void waitInMethod(CountDownLatch started, CountDownLatch release) throws InterruptedException {
+            started.countDown();
+            release.await();
+        }
+
+        @Test
+        void threadMXBean() throws Exception {
+            verifyStackTracesCaptured(StackTraceBackend.THREAD_MX_BEAN);
+        }
+
+        @Test
+        void threadHandshake() throws Exception {
+            verifyStackTracesCaptured(StackTraceBackend.THREAD_HANDSHAKE);
+        }
+
+        private void verifyStackTracesCaptured(StackTraceBackend backend) throws Exception {
+            CountDownLatch started = new CountDownLatch(2);
+            CountDownLatch release = new CountDownLatch(1);
+            Runnable task = () -> {
+                try {
+                    waitInMethod(started, release);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            Thread first = new Thread(task);
+            Thread second = new Thread(task);
+            Thread terminated = new Thread(() -> {
+            });
+            first.start();
+            second.start();
+            terminated.start();
+            terminated.join();
+            started.await();
+
+            try {
+                Map<Thread, StackTrace> result = StackTraceProvider.create(backend)
+                        .capture(Arrays.asList(first, second, terminated));
+
+                assertThat(result).containsOnlyKeys(first, second);
+                for (StackTrace stackTrace : result.values()) {
+                    assertThat(stackTrace.get(0).getMethodName()).isEqualTo("run");
+                    boolean containsWaitingMethod = false;
+                    for (int i = 0; i < stackTrace.size(); i++) {
+                        containsWaitingMethod |= stackTrace.get(i).getMethodName().equals("waitInMethod");
+                    }
+                    assertThat(containsWaitingMethod).isTrue();
+                }
+            } finally {
+                release.countDown();
+                first.join();
+                second.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CollapsedStackWriterTest {
+
+    private static StackTraceElement frame(String className, String methodName) {
+        return new StackTraceElement(className, methodName, "File.java", 1);
+    }
+
+    @Test
+    void writeSamples() throws Exception {
+        Profile profile = new Profile("service", 0, 0, 50, Arrays.asList(new Profile.Sample("GET /a", Arrays.asList(frame("Root", "run"), frame("Service", "call")), 3), new Profile.Sample("GET;b", Arrays.asList(frame("Root", "run")), 1)), 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        CollapsedStackWriter.write(profile, out);
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("GET /a;Root.run;Service.call 3\nGET_b;Root.run 1\n");
+    }
+}
@@ -0,0 +1,78 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rocks.inspectit.ocelot.config.model.tracing.ProfileFormat;
+import rocks.inspectit.ocelot.config.model.tracing.ProfilingSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FileProfileExporterTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private InspectitEnvironment env;
+
+    @InjectMocks
+    private FileProfileExporter exporter;
+
+    @TempDir
+    Path directory;
+
+    private final ProfilingSettings settings = new ProfilingSettings();
+
+    @BeforeEach
+    void setup() {
+        settings.setDirectory(directory.toString());
+        settings.setFormat(ProfileFormat.COLLAPSED);
+        settings.setMaxFiles(2);
+        when(env.getCurrentConfig().getTracing().getAutoTracing().getProfiling()).thenReturn(settings);
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    void profilesOfSameMillisecondKept() throws IOException {
+        Profile profile = new Profile("my service", 0, 0, 50, Collections.emptyList(), 0);
+
+        exporter.export(profile);
+        exporter.export(profile);
+
+        assertThat(listFiles()).hasSize(2).allMatch(name -> name.matches("profile-my_service-\\d{8}-\\d{6}-\\d{3}-\\d+\\.collapsed"));
+    }
+
+    @Test
+    void otherFilesNotDeleted() throws IOException {
+        Files.createFile(directory.resolve("profile-notes.txt"));
+        Files.createFile(directory.resolve("profile-service-20240101-120000-000-0.pb.gz.bak"));
+        Profile profile = new Profile("service", 0, 0, 50, Collections.emptyList(), 0);
+
+        exporter.export(profile);
+        exporter.export(profile);
+        exporter.export(profile);
+
+        List<String> files = listFiles();
+        assertThat(files).hasSize(4).contains("profile-notes.txt", "profile-service-20240101-120000-000-0.pb.gz.bak");
+        assertThat(files).filteredOn(name -> name.endsWith(".collapsed")).hasSize(2);
+    }
+}
@@ -0,0 +1,106 @@
+package rocks.inspectit.ocelot.core.instrumentation.autotracing.profiling;
+
+import com.google.protobuf.CodedInputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PprofWriterTest {
+
+    private static StackTraceElement frame(String className, String methodName, int line) {
+        return new StackTraceElement(className, methodName, className + ".java", line);
+    }
+
+    /**
+     * Decodes the fields of a protobuf message, mapping each field number to the list of its values.
+     * Varints are returned as {@link Long}, length delimited fields as byte arrays.
+     */
+    private static Map<Integer, List<Object>> decode(byte[] message) throws Exception {
+        Map<Integer, List<Object>> fields = new HashMap<>();
+        CodedInputStream in = CodedInputStream.newInstance(message);
+        while (!in.isAtEnd()) {
+            int tag = in.readTag();
+            Object value = (tag & 7) == 0 ? (Object) in.readInt64() : in.readByteArray();
+            fields.computeIfAbsent(tag >>> 3, field -> new ArrayList<>()).add(value);
+        }
+        return fields;
+    }
+
+    private static List<Long> decodePacked(byte[] packed) throws Exception {
+        List<Long> values = new ArrayList<>();
+        CodedInputStream in = CodedInputStream.newInstance(packed);
+        while (!in.isAtEnd()) {
+            values.add(in.readInt64());
+        }
+        return values;
+    }
+
+    private static String string(List<String> strings, Map<Integer, List<Object>> message, int field) {
+        return strings.get(((Long) message.get(field).get(0)).intValue());
+    }
+
+    @Test
+    void writeProfile() throws Exception {
+        Profile profile = new Profile("service", 1000, 2000, 50, Arrays.asList(new Profile.Sample("GET /a", Arrays.asList(frame("Root", "run", 10), frame("Service", "call", 20)), 3), new Profile.Sample("GET /b", Arrays.asList(frame("Root", "run", 10)), 1)), 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        PprofWriter.write(profile, out);
+
+        byte[] unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[1024];
+            for (int read = in.read(chunk); read > 0; read = in.read(chunk)) {
+                buffer.write(chunk, 0, read);
+            }
+            unzipped = buffer.toByteArray();
+        }
+        Map<Integer, List<Object>> decoded = decode(unzipped);
+
+        List<String> strings = new ArrayList<>();
+        for (Object string : decoded.get(6)) {
+            strings.add(new String((byte[]) string));
+        }
+        assertThat(strings.get(0)).isEmpty();
+        assertThat(decoded.get(9)).containsExactly(1000L);
+        assertThat(decoded.get(10)).containsExactly(2000L);
+        assertThat(decoded.get(12)).containsExactly(50L);
+
+        Map<Long, String> functionNames = new HashMap<>();
+        for (Object function : decoded.get(5)) {
+            Map<Integer, List<Object>> decodedFunction = decode((byte[]) function);
+            functionNames.put((Long) decodedFunction.get(1).get(0), string(strings, decodedFunction, 2));
+        }
+        Map<Long, String> locationNames = new HashMap<>();
+        for (Object location : decoded.get(4)) {
+            Map<Integer, List<Object>> decodedLocation = decode((byte[]) location);
+            Map<Integer, List<Object>> line = decode((byte[]) decodedLocation.get(4).get(0));
+            locationNames.put((Long) decodedLocation.get(1).get(0), functionNames.get(line.get(1).get(0)) + ":" + line.get(2)
+                    .get(0));
+        }
+        assertThat(locationNames).hasSize(2);
+
+        List<String> samples = new ArrayList<>();
+        for (Object sample : decoded.get(2)) {
+            Map<Integer, List<Object>> decodedSample = decode((byte[]) sample);
+            List<String> stack = new ArrayList<>();
+            for (Long locationId : decodePacked((byte[]) decodedSample.get(1).get(0))) {
+                stack.add(locationNames.get(locationId));
+            }
+            Map<Integer, List<Object>> label = decode((byte[]) decodedSample.get(3).get(0));
+            samples.add(string(strings, label, 1) + "=" + string(strings, label, 2) + " " + stack + " " + decodePacked((byte[]) decodedSample
+                    .get(2)
+                    .get(0)));
+        }
+        assertThat(samples).containsExactly("endpoint=GET /a [Service.call:20, Root.run:10] [3, 150]", "endpoint=GET /b [Root.run:10] [1, 50]");
+    }
+}
@@ -0,0 +1,409 @@
+package rocks.inspectit.ocelot.core.instrumentation.cache;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.instrumentation.InstrumentationCacheSettings;
+import rocks.inspectit.ocelot.config.model.instrumentation.InstrumentationSettings;
+import rocks.inspectit.ocelot.config.model.instrumentation.InternalSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationConfiguration;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationRule;
+import rocks.inspectit.ocelot.core.instrumentation.special.SpecialSensor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InstrumentationCacheTest {
+
+    @InjectMocks
+    private InstrumentationCache cache;
+
+    @Mock
+    private InspectitEnvironment env;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    @TempDir
+    Path directory;
+
+    private final InstrumentationCacheSettings settings = new InstrumentationCacheSettings();
+
+    private final InstrumentationConfiguration configuration = InstrumentationConfiguration.builder()
+            .source(new InstrumentationSettings())
+            .build();
+
+    private final ClassInstrumentationConfiguration classConf = new ClassInstrumentationConfiguration(Collections.emptySet(), Collections.singleton(InstrumentationRule.builder()
+            .name("r_rule")
+            .build()), configuration);
+
+    private final byte[] bytecode = new byte[]{1, 2, 3};
+
+    private final byte[] secret = new byte[32];
+
+    private final TypeDescription fooType = TypeDescription.ForLoadedType.of(Foo.class);
+
+    private final TypeDescription barType = TypeDescription.ForLoadedType.of(Bar.class);
+
+    static class Foo {
+
+        void first() {
+        }
+
+        void second() {
+        }
+    }
+
+    static class Bar {
+    }
+
+    @BeforeEach
+    void setup() {
+        settings.setEnabled(true);
+        settings.setDirectory(directory.toString());
+        InternalSettings internal = new InternalSettings();
+        internal.setCache(settings);
+        InstrumentationSettings instrumentation = new InstrumentationSettings();
+        instrumentation.setInternal(internal);
+        InspectitConfig config = new InspectitConfig();
+        config.setInstrumentation(instrumentation);
+        lenient().when(env.getCurrentConfig()).thenReturn(config);
+        // tasks are executed synchronously
+        lenient().doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any());
+    }
+
+    private boolean isPosix() {
+        return directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private long countEntries() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(file -> file.toString().endsWith(InstrumentationCache.ENTRY_SUFFIX)).count();
+        }
+    }
+
+    @Nested
+    class GetKey {
+
+        @Test
+        void disabled() {
+            settings.setEnabled(false);
+            cache.init();
+
+            assertThat(cache.isEnabled()).isFalse();
+            assertThat(cache.getKey(fooType, bytecode, classConf, null)).isNull();
+        }
+
+        @Test
+        void sameKeyForSameInput() {
+            cache.init();
+
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+
+            assertThat(key).hasSize(64);
+            assertThat(cache.getKey(fooType, new byte[]{1, 2, 3}, classConf, null)).isEqualTo(key);
+        }
+
+        @Test
+        void keyChangesWithInput() {
+            cache.init();
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+
+            InstrumentationSettings otherSettings = new InstrumentationSettings();
+            otherSettings.setIgnoredPackages(Collections.singletonMap("com.example", true));
+            InstrumentationConfiguration otherConfiguration = InstrumentationConfiguration.builder()
+                    .source(otherSettings)
+                    .build();
+            ClassInstrumentationConfiguration otherRules = new ClassInstrumentationConfiguration(Collections.emptySet(), Collections.singleton(InstrumentationRule.builder()
+                    .name("r_other")
+                    .build()), configuration);
+
+            assertThat(cache.getKey(fooType, new byte[]{1, 2, 4}, classConf, null)).isNotEqualTo(key);
+            assertThat(cache.getKey(barType, bytecode, classConf, null)).isNotEqualTo(key);
+            assertThat(cache.getKey(fooType, bytecode, otherRules, null)).isNotEqualTo(key);
+            assertThat(cache.getKey(fooType, bytecode, new ClassInstrumentationConfiguration(Collections.emptySet(), classConf.getActiveRules(), otherConfiguration), null))
+                    .isNotEqualTo(key);
+        }
+
+        @Test
+        void keyChangesWithMatchedMethods() {
+            cache.init();
+            String key = cache.getKey(fooType, bytecode, classConf, named("first"));
+
+            assertThat(cache.getKey(fooType, bytecode, classConf, named("first"))).isEqualTo(key);
+            assertThat(cache.getKey(fooType, bytecode, classConf, named("second"))).isNotEqualTo(key);
+            assertThat(cache.getKey(fooType, bytecode, classConf, named("first").or(named("second")))).isNotEqualTo(key);
+            assertThat(cache.getKey(fooType, bytecode, classConf, null)).isNotEqualTo(key);
+        }
+
+        @Test
+        void concurrentConfigurations() throws Exception {
+            cache.init();
+            InstrumentationSettings otherSettings = new InstrumentationSettings();
+            otherSettings.setIgnoredPackages(Collections.singletonMap("com.example", true));
+            ClassInstrumentationConfiguration otherConf = new ClassInstrumentationConfiguration(Collections.emptySet(), classConf.getActiveRules(), InstrumentationConfiguration.builder()
+                    .source(otherSettings)
+                    .build());
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+            String otherKey = cache.getKey(fooType, bytecode, otherConf, null);
+            ExecutorService threads = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<Boolean> first = threads.submit(() -> IntStream.range(0, 5000)
+                        .allMatch(i -> key.equals(cache.getKey(fooType, bytecode, classConf, null))));
+                Future<Boolean> second = threads.submit(() -> IntStream.range(0, 5000)
+                        .allMatch(i -> otherKey.equals(cache.getKey(fooType, bytecode, otherConf, null))));
+
+                assertThat(first.get()).isTrue();
+                assertThat(second.get()).isTrue();
+            } finally {
+                threads.shutdownNow();
+            }
+        }
+
+        @Test
+        void notCacheableSensor() {
+            cache.init();
+            SpecialSensor sensor = mock(SpecialSensor.class);
+            when(sensor.isCacheable()).thenReturn(false);
+            ClassInstrumentationConfiguration conf = new ClassInstrumentationConfiguration(Collections.singleton(sensor), Collections.emptySet(), configuration);
+
+            assertThat(cache.getKey(fooType, bytecode, conf, null)).isNull();
+        }
+    }
+
+    @Nested
+    class Init {
+
+        @Test
+        void secretReused() throws Exception {
+            cache.init();
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+            cache.put(key, new byte[]{4, 5, 6, 7}, 1000);
+
+            InstrumentationCache otherCache = new InstrumentationCache();
+            ReflectionTestUtils.setField(otherCache, "env", env);
+            ReflectionTestUtils.setField(otherCache, "executor", executor);
+            otherCache.init();
+
+            assertThat(otherCache.get(key)).containsExactly(4, 5, 6, 7);
+        }
+
+        @Test
+        void secretOnlyAccessibleByOwner() throws Exception {
+            assumeTrue(isPosix());
+            cache.init();
+
+            assertThat(Files.getPosixFilePermissions(directory.resolve(InstrumentationCache.SECRET_FILE))).isEqualTo(PosixFilePermissions.fromString("rw-------"));
+        }
+
+        @Test
+        void writableDirectoryRefused() throws Exception {
+            assumeTrue(isPosix());
+            Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwxrwx"));
+
+            cache.init();
+
+            assertThat(cache.isEnabled()).isFalse();
+            assertThat(cache.getKey(fooType, bytecode, classConf, null)).isNull();
+        }
+
+        @Test
+        void readableSecretRefused() throws Exception {
+            assumeTrue(isPosix());
+            Path secretFile = directory.resolve(InstrumentationCache.SECRET_FILE);
+            Files.write(secretFile, secret);
+            Files.setPosixFilePermissions(secretFile, PosixFilePermissions.fromString("rw-r--r--"));
+
+            cache.init();
+
+            assertThat(cache.isEnabled()).isFalse();
+        }
+    }
+
+    @Nested
+    class GetAndPut {
+
+        @Test
+        void cachedBytecodeReturned() throws Exception {
+            cache.init();
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+            byte[] instrumented = new byte[]{4, 5, 6, 7};
+
+            assertThat(cache.get(key)).isNull();
+            cache.put(key, instrumented, 1000);
+
+            assertThat(cache.get(key)).containsExactly(4, 5, 6, 7);
+            assertThat(cache.getHits()).isEqualTo(1);
+            assertThat(cache.getMisses()).isEqualTo(1);
+            assertThat(cache.getSize()).isPositive();
+            assertThat(countEntries()).isEqualTo(1);
+        }
+
+        @Test
+        void corruptedEntryDeleted() throws Exception {
+            cache.init();
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+            cache.put(key, new byte[]{4, 5, 6, 7}, 1000);
+            Path entry;
+            try (Stream<Path> files = Files.walk(directory)) {
+                entry = files.filter(file -> file.toString().endsWith(InstrumentationCache.ENTRY_SUFFIX)).findFirst().get();
+            }
+            byte[] content = Files.readAllBytes(entry);
+            content[content.length - 1]++;
+            Files.write(entry, content);
+
+            assertThat(cache.get(key)).isNull();
+            assertThat(cache.getInvalidEntries()).isEqualTo(1);
+            assertThat(cache.getHits()).isZero();
+            assertThat(entry).doesNotExist();
+        }
+
+        @Test
+        void savedTimeCreditedAfterRestart() {
+            cache.init();
+            String key = cache.getKey(fooType, bytecode, classConf, null);
+            long instrumentationNanos = TimeUnit.SECONDS.toNanos(10);
+            cache.put(key, new byte[]{4, 5, 6, 7}, instrumentationNanos);
+            assertThat(cache.getSavedNanos()).isZero();
+
+            // a new instance has not instrumented any class itself
+            InstrumentationCache restartedCache = new InstrumentationCache();
+            ReflectionTestUtils.setField(restartedCache, "env", env);
+            ReflectionTestUtils.setField(restartedCache, "executor", executor);
+            restartedCache.init();
+            restartedCache.get(key);
+            restartedCache.get(key);
+
+            assertThat(restartedCache.getHits()).isEqualTo(2);
+            assertThat(restartedCache.getSavedNanos()).isPositive().isLessThanOrEqualTo(2 * instrumentationNanos);
+        }
+
+        @Test
+        void noSavedTimeForMisses() {
+            cache.init();
+
+            cache.get(cache.getKey(fooType, bytecode, classConf, null));
+
+            assertThat(cache.getSavedNanos()).isZero();
+        }
+    }
+
+    @Nested
+    class Encode {
+
+        @Test
+        void roundTrip() {
+            byte[] content = InstrumentationCache.encode(secret, "key", bytecode, 1000);
+
+            InstrumentationCache.Entry entry = InstrumentationCache.decode(secret, "key", content);
+
+            assertThat(entry.getBytecode()).containsExactly(bytecode);
+            assertThat(entry.getInstrumentationNanos()).isEqualTo(1000);
+        }
+
+        @Test
+        void modifiedInstrumentationTime() {
+            byte[] content = InstrumentationCache.encode(secret, "key", bytecode, 1000);
+            // the instrumentation time directly follows magic, version and length
+            content[3 * Integer.BYTES + Long.BYTES - 1]++;
+
+            assertThat(InstrumentationCache.decode(secret, "key", content)).isNull();
+        }
+
+        @Test
+        void differentSecret() {
+            byte[] content = InstrumentationCache.encode(secret, "key", bytecode, 1000);
+            byte[] otherSecret = new byte[32];
+            otherSecret[0] = 1;
+
+            assertThat(InstrumentationCache.decode(otherSecret, "key", content)).isNull();
+        }
+
+        @Test
+        void differentKey() {
+            byte[] content = InstrumentationCache.encode(secret, "key", bytecode, 1000);
+
+            assertThat(InstrumentationCache.decode(secret, "other", content)).isNull();
+        }
+
+        @Test
+        void truncated() {
+            byte[] content = InstrumentationCache.encode(secret, "key", bytecode, 1000);
+            byte[] truncated = new byte[content.length - 1];
+            System.arraycopy(content, 0, truncated, 0, truncated.length);
+
+            assertThat(InstrumentationCache.decode(secret, "key", truncated)).isNull();
+            assertThat(InstrumentationCache.decode(secret, "key", new byte[0])).isNull();
+        }
+    }
+
+    @Nested
+    class Evict {
+
+        @Test
+        void leastRecentlyUsedEntriesEvicted() throws Exception {
+            int entrySize = InstrumentationCache.encode(secret, "key", new byte[100], 1000).length;
+            settings.setMaxSize(DataSize.ofBytes(entrySize * 3L));
+            cache.init();
+
+            String[] keys = new String[4];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = cache.getKey(fooType, new byte[]{(byte) i}, classConf, null);
+                cache.put(keys[i], new byte[100], 1000);
+                // ensure distinct modification times, the first entry has been used most recently
+                Path entry = directory.resolve(keys[i].substring(0, 2)).resolve(keys[i] + InstrumentationCache.ENTRY_SUFFIX);
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(i == 0 ? 10_000 : i * 1000));
+            }
+            cache.scan();
+
+            assertThat(countEntries()).isEqualTo(2);
+            assertThat(cache.getSize()).isEqualTo(entrySize * 2L);
+            assertThat(cache.get(keys[0])).isNotNull();
+            assertThat(cache.get(keys[3])).isNotNull();
+        }
+
+        @Test
+        void temporaryFilesDeleted() throws Exception {
+            cache.init();
+            Path temp = Files.createFile(directory.resolve("left-over.tmp"));
+
+            cache.scan();
+
+            assertThat(temp).doesNotExist();
+            assertThat(cache.getSize()).isZero();
+        }
+    }
+}
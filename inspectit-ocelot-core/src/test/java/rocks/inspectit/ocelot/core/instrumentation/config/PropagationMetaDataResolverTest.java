@@ -11,6 +11,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.instrumentation.InstrumentationSettings;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.DataSettings;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 import rocks.inspectit.ocelot.config.model.metrics.MetricsSettings;
 import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings;
@@ -163,6 +164,17 @@ public class PropagationMetaDataResolverTest {
             verify(mockBuilder).setUpPropagation(eq("my_key"), eq(PropagationMode.NONE));
             verifyNoMoreInteractions(mockBuilder);
         }
+
+        @Test
+        void typeConfigured() {
+            DataSettings settings = new DataSettings();
+            settings.setType(DataType.LONG);
+
+            resolver.collectUserSettings(Collections.singletonMap("my_key", settings), mockBuilder);
+
+            verify(mockBuilder).setType(eq("my_key"), eq(DataType.LONG));
+            verifyNoMoreInteractions(mockBuilder);
+        }
     }
 
     @Nested
@@ -276,5 +288,28 @@ public class PropagationMetaDataResolverTest {
             assertThat(result.isPropagatedDownGlobally("common_key")).isFalse();
         }
 
+        @Test
+        void ensurePrimitiveSlotsOnlyForLocalData() {
+            InspectitConfig config = new InspectitConfig();
+            InstrumentationSettings instr = new InstrumentationSettings();
+            MetricsSettings metricsSettings = new MetricsSettings();
+            config.setInstrumentation(instr);
+            config.setMetrics(metricsSettings);
+
+            DataSettings local = new DataSettings();
+            local.setType(DataType.DOUBLE);
+            DataSettings tag = new DataSettings();
+            tag.setType(DataType.LONG);
+            tag.setIsTag(true);
+            instr.setData(ImmutableMap.of("local_key", local, "tag_key", tag));
+
+            doReturn(Collections.emptyMap()).when(commonTags).getCommonTagValueMap();
+
+            PropagationMetaData result = resolver.resolve(config);
+
+            assertThat(result.getPrimitiveSlot("local_key").getType()).isEqualTo(DataType.DOUBLE);
+            assertThat(result.getPrimitiveSlot("tag_key")).isNull();
+            assertThat(result.getPrimitiveSlots()).hasSize(1);
+        }
     }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -228,4 +229,46 @@ public class CompositePropagationMetaDataTest {
             verifyNoMoreInteractions(parent);
         }
     }
+
+    @Nested
+    class SetType {
+
+        private final PropagationMetaData root = PropagationMetaData.builder()
+                .setType("my_key", DataType.LONG)
+                .build();
+
+        @Test
+        void inheritedSlot() {
+            PropagationMetaData result = root.copy().build();
+
+            assertThat(result.getPrimitiveSlot("my_key")).isSameAs(root.getPrimitiveSlot("my_key"));
+        }
+
+        @Test
+        void sameType() {
+            PropagationMetaData result = root.copy().setType("my_key", DataType.LONG).build();
+
+            assertThat(result.getPrimitiveSlot("my_key")).isSameAs(root.getPrimitiveSlot("my_key"));
+        }
+
+        @Test
+        void differentType() {
+            PropagationMetaData result = root.copy().setType("my_key", DataType.DOUBLE).build();
+
+            assertThat(result.getPrimitiveSlot("my_key")).isNull();
+            assertThat(result.getPrimitiveSlots()).isSameAs(root.getPrimitiveSlots());
+        }
+
+        @Test
+        void overridesRespected() {
+            PropagationMetaData result = root.copy()
+                    .setType("my_key", DataType.DOUBLE)
+                    .build()
+                    .copy()
+                    .setType("my_key", DataType.LONG)
+                    .build();
+
+            assertThat(result.getPrimitiveSlot("my_key")).isSameAs(root.getPrimitiveSlot("my_key"));
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package rocks.inspectit.ocelot.core.instrumentation.context;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContextManagerTest {
+
+    private ContextManager contextManager;
+
+    @BeforeEach
+    void init() {
+        contextManager = new ContextManager(null, null, null);
+    }
+
+    @Nested
+    class ShouldCaptureContext {
+
+        @Test
+        public void emptyContext() {
+            boolean result = contextManager.shouldCaptureContext();
+
+            assertThat(result).isFalse();
+            assertThat(contextManager.getSkippedHandoffs()).isOne();
+            assertThat(contextManager.getCapturedHandoffs()).isZero();
+        }
+
+        @Test
+        public void otelContext() {
+            boolean result;
+            try (Scope ignored = Context.root().with(ContextKey.named("key"), "value").makeCurrent()) {
+                result = contextManager.shouldCaptureContext();
+            }
+
+            assertThat(result).isTrue();
+            assertThat(contextManager.getCapturedHandoffs()).isOne();
+            assertThat(contextManager.getSkippedHandoffs()).isZero();
+        }
+
+        @Test
+        public void grpcContext() {
+            boolean result;
+            io.grpc.Context previous = io.grpc.Context.ROOT.withValue(io.grpc.Context.key("key"), "value").attach();
+            try {
+                result = contextManager.shouldCaptureContext();
+            } finally {
+                io.grpc.Context.current().detach(previous);
+            }
+
+            assertThat(result).isTrue();
+            assertThat(contextManager.getCapturedHandoffs()).isOne();
+        }
+    }
+}
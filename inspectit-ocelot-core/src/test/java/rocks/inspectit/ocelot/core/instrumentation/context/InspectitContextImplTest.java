@@ -13,8 +13,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import rocks.inspectit.ocelot.bootstrap.Instances;
 import rocks.inspectit.ocelot.bootstrap.correlation.noop.NoopLogTraceCorrelator;
+import rocks.inspectit.ocelot.config.model.instrumentation.data.DataType;
 import rocks.inspectit.ocelot.config.model.instrumentation.data.PropagationMode;
 import rocks.inspectit.ocelot.core.SpringTestBase;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.propagation.PropagationMetaData;
@@ -904,4 +906,109 @@ public class InspectitContextImplTest extends SpringTestBase {
             verifyNoInteractions(dataStorage);
         }
     }
+    @Nested
+    public class PrimitiveData {
+
+        private PropagationMetaData primitivePropagation = PropagationMetaData.builder()
+                .setType("entry", DataType.LONG)
+                .setType("duration", DataType.DOUBLE)
+                .setType("propagated", DataType.LONG)
+                .setDownPropagation("propagated", PropagationMode.JVM_LOCAL)
+                .build();
+
+        @Test
+        void verifyPrimitiveValuesReadableAsObjects() {
+            InspectitContextImpl ctx = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            ctx.makeActive();
+
+            ctx.setLongData("entry", 42L);
+            ctx.setDoubleData("duration", 1.5);
+
+            assertThat(ctx.getLongData("entry")).isEqualTo(42L);
+            assertThat(ctx.getDoubleData("duration")).isEqualTo(1.5);
+            assertThat(ctx.getData("entry")).isEqualTo(42L);
+            assertThat(ctx.getData("duration")).isEqualTo(1.5);
+            assertThat(ctx.getData()).extracting(Map.Entry::getKey).contains("entry", "duration");
+
+            ctx.close();
+        }
+
+        @Test
+        void verifyObjectValuesOverwritePrimitiveValues() {
+            InspectitContextImpl ctx = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            ctx.makeActive();
+
+            ctx.setData("entry", 7);
+            assertThat(ctx.getData("entry")).isEqualTo(7);
+            assertThat(ctx.getLongData("entry")).isEqualTo(7L);
+
+            ctx.setData("entry", "text");
+            assertThat(ctx.getData("entry")).isEqualTo("text");
+            assertThat(ctx.getDoubleData("entry")).isNaN();
+
+            ctx.setLongData("entry", 3L);
+            assertThat(ctx.getData("entry")).isEqualTo(3L);
+
+            ctx.setData("entry", null);
+            assertThat(ctx.getData("entry")).isNull();
+            assertThat(ctx.getDoubleData("entry")).isNaN();
+
+            ctx.close();
+        }
+
+        @Test
+        void verifyCopyPrimitiveData() {
+            InspectitContextImpl ctx = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            ctx.makeActive();
+
+            assertThat(ctx.copyPrimitiveData("duration", "copy")).isFalse();
+            ctx.setDoubleData("duration", 2.5);
+            assertThat(ctx.copyPrimitiveData("duration", "copy")).isTrue();
+
+            assertThat(ctx.getData("copy")).isEqualTo(2.5);
+
+            ctx.close();
+        }
+
+        @Test
+        void verifyPropagatedDataStoredAsObject() {
+            InspectitContextImpl root = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            root.setLongData("propagated", 42L);
+            root.makeActive();
+
+            InspectitContextImpl child = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            child.makeActive();
+
+            assertThat(child.getLongData("propagated")).isEqualTo(42L);
+            assertThat(child.getData("entry")).isNull();
+
+            child.close();
+            root.close();
+        }
+
+        @Test
+        void verifyPrimitiveValuesKeptWhenUsedAsTag() {
+            InspectitContextImpl ctx = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            ctx.setLongData("entry", 42L);
+            PropagationMetaData tagPropagation = primitivePropagation.copy()
+                    .setTag("entry", true)
+                    .setDownPropagation("entry", PropagationMode.JVM_LOCAL)
+                    .build();
+
+            ReflectionTestUtils.invokeMethod(ctx, "updatePropagation", tagPropagation);
+            ctx.makeActive();
+
+            assertThat(ctx.getData("entry")).isEqualTo(42L);
+            assertThat(ctx.getLongData("entry")).isEqualTo(42L);
+            assertThat(ctx.getData()).extracting(Map.Entry::getKey).contains("entry");
+
+            InspectitContextImpl child = InspectitContextImpl.createFromCurrent(Collections.emptyMap(), primitivePropagation, sessionStorage, false);
+            child.makeActive();
+
+            assertThat(child.getData("entry")).isEqualTo(42L);
+
+            child.close();
+            ctx.close();
+        }
+    }
 }
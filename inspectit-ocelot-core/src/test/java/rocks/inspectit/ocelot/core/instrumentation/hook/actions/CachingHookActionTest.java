@@ -0,0 +1,180 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.instrumentation.actions.cache.ActionResultCache;
+import rocks.inspectit.ocelot.core.instrumentation.actions.intrinsic.IntrinsicHookAction;
+import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingHookActionTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    InspectitEnvironment env;
+
+    @InjectMocks
+    ActionResultCache cache;
+
+    CountingAction actualAction = new CountingAction();
+
+    @Mock
+    IHookAction.ExecutionContext ctx;
+
+    @Mock
+    InspectitContextImpl inspectitContext;
+
+    Map<String, Object> data = new HashMap<>();
+
+    Object key = new Object();
+
+    @BeforeEach
+    void setup() {
+        when(env.getCurrentConfig().getInstrumentation().getInternal().getActionCacheSize()).thenReturn(100L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        lenient().when(ctx.getInspectitContext()).thenReturn(inspectitContext);
+        lenient().doAnswer(invocation -> data.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(inspectitContext)
+                .setData(anyString(), any());
+        lenient().when(inspectitContext.getData(anyString()))
+                .thenAnswer(invocation -> data.get(invocation.<String>getArgument(0)));
+    }
+
+    /**
+     * Returns the configured result and counts its executions.
+     */
+    static class CountingAction extends IntrinsicHookAction {
+
+        Object result;
+
+        int executions;
+
+        CountingAction() {
+            super("my_action", "my_data");
+        }
+
+        @Override
+        protected Object compute(ExecutionContext context) {
+            executions++;
+            return result;
+        }
+    }
+
+    private CachingHookAction createAction(VariableAccessor cacheKeyAccessor, VariableAccessor... inputAccessors) {
+        return new CachingHookAction(actualAction, "my_action", "my_action|my_data", "my_data", cacheKeyAccessor, Arrays.asList(inputAccessors), cache);
+    }
+
+    @Nested
+    class Execute {
+
+        @Test
+        void resultReused() {
+            actualAction.result = "result";
+            CachingHookAction action = createAction(context -> key);
+
+            action.execute(ctx);
+            data.clear();
+            action.execute(ctx);
+
+            assertThat(actualAction.executions).isEqualTo(1);
+            assertThat(data).containsEntry("my_data", "result");
+            assertThat(cache.getStatistics("my_action").getHits()).isEqualTo(1);
+            assertThat(cache.getStatistics("my_action").getMisses()).isEqualTo(1);
+        }
+
+        @Test
+        void nullResultReused() {
+            CachingHookAction action = createAction(context -> key);
+
+            action.execute(ctx);
+            action.execute(ctx);
+
+            assertThat(actualAction.executions).isEqualTo(1);
+            assertThat(data).containsEntry("my_data", null);
+        }
+
+        @Test
+        void returnValueCached() {
+            data.put("my_data", "stale");
+            actualAction.result = "result";
+            CachingHookAction action = createAction(context -> key);
+
+            action.execute(ctx);
+            action.execute(ctx);
+
+            assertThat(data).containsEntry("my_data", "result");
+            verify(inspectitContext, never()).getData(anyString());
+        }
+
+        @Test
+        void differentKeys() {
+            actualAction.result = "result";
+            CachingHookAction first = createAction(context -> key);
+            CachingHookAction second = createAction(context -> new Object());
+
+            first.execute(ctx);
+            second.execute(ctx);
+
+            assertThat(actualAction.executions).isEqualTo(2);
+        }
+
+        @Test
+        void differentInputsNotReused() {
+            AtomicReference<Object> input = new AtomicReference<>("first");
+            CachingHookAction action = createAction(context -> key, context -> input.get());
+
+            actualAction.result = "first-result";
+            action.execute(ctx);
+            input.set("second");
+            actualAction.result = "second-result";
+            action.execute(ctx);
+
+            assertThat(actualAction.executions).isEqualTo(2);
+            assertThat(data).containsEntry("my_data", "second-result");
+
+            action.execute(ctx);
+
+            assertThat(actualAction.executions).isEqualTo(2);
+            assertThat(cache.getStatistics("my_action").getHits()).isEqualTo(1);
+        }
+
+        @Test
+        void nullKeyNotCached() {
+            CachingHookAction action = createAction(context -> null);
+
+            action.execute(ctx);
+            action.execute(ctx);
+
+            assertThat(actualAction.executions).isEqualTo(2);
+            assertThat(cache.getStatistics("my_action").getMisses()).isZero();
+        }
+
+        @Test
+        void unsupportedAction() {
+            IHookAction action = mock(IHookAction.class);
+
+            assertThatThrownBy(() -> new CachingHookAction(action, "my_action", "my_action|my_data", "my_data", context -> key, Collections.emptyList(), cache))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package rocks.inspectit.ocelot.core.instrumentation.hook.actions;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.hook.MethodHook;
+import rocks.inspectit.ocelot.core.instrumentation.hook.MethodReflectionInformation;
+import rocks.inspectit.ocelot.core.selfmonitoring.ActionScopeFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RecordingSpanHookActionTest {
+
+    @Mock
+    IHookAction first;
+
+    @Mock
+    IHookAction second;
+
+    @Mock
+    IHookAction.ExecutionContext executionContext;
+
+    @Mock
+    InspectitContextImpl ctx;
+
+    MethodHook hook = MethodHook.builder()
+            .methodInformation(mock(MethodReflectionInformation.class))
+            .actionScopeFactory(mock(ActionScopeFactory.class))
+            .build();
+
+    @Nested
+    class Execute {
+
+        @Test
+        void recordingSpan() {
+            RecordingSpanHookAction action = new RecordingSpanHookAction(new IHookAction[]{first, second});
+            doReturn(ctx).when(executionContext).getInspectitContext();
+            doReturn(true).when(ctx).hasEnteredSpan();
+            Span span = SdkTracerProvider.builder().build().get("test").spanBuilder("span").startSpan();
+
+            try (Scope scope = span.makeCurrent()) {
+                action.execute(executionContext);
+            }
+
+            InOrder inOrder = inOrder(first, second);
+            inOrder.verify(first).execute(same(executionContext));
+            inOrder.verify(second).execute(same(executionContext));
+        }
+
+        @Test
+        void nonRecordingSpan() {
+            RecordingSpanHookAction action = new RecordingSpanHookAction(new IHookAction[]{first, second});
+            doReturn(ctx).when(executionContext).getInspectitContext();
+            doReturn(true).when(ctx).hasEnteredSpan();
+            SpanContext spanContext = SpanContext.create("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", TraceFlags.getDefault(), TraceState.getDefault());
+
+            try (Scope scope = Span.wrap(spanContext).makeCurrent()) {
+                action.execute(executionContext);
+            }
+
+            verifyNoInteractions(first, second);
+        }
+
+        @Test
+        void noSpanEntered() {
+            RecordingSpanHookAction action = new RecordingSpanHookAction(new IHookAction[]{first, second});
+            doReturn(ctx).when(executionContext).getInspectitContext();
+            doReturn(false).when(ctx).hasEnteredSpan();
+
+            action.execute(executionContext);
+
+            verifyNoInteractions(first, second);
+        }
+
+        @Test
+        void failingActionDisabled() {
+            RecordingSpanHookAction action = new RecordingSpanHookAction(new IHookAction[]{first, second});
+            doReturn(ctx).when(executionContext).getInspectitContext();
+            doReturn(true).when(ctx).hasEnteredSpan();
+            doReturn(hook).when(executionContext).getHook();
+            doThrow(Error.class).when(first).execute(any());
+            Span span = SdkTracerProvider.builder().build().get("test").spanBuilder("span").startSpan();
+
+            try (Scope scope = span.makeCurrent()) {
+                action.execute(executionContext);
+                action.execute(executionContext);
+            }
+
+            verify(first, times(1)).execute(any());
+            verify(second, times(2)).execute(any());
+        }
+
+        @Test
+        void failingActionReactivatedOnCopy() {
+            RecordingSpanHookAction action = new RecordingSpanHookAction(new IHookAction[]{first, second});
+            doReturn(ctx).when(executionContext).getInspectitContext();
+            doReturn(true).when(ctx).hasEnteredSpan();
+            doReturn(hook).when(executionContext).getHook();
+            doThrow(Error.class).when(first).execute(any());
+            Span span = SdkTracerProvider.builder().build().get("test").spanBuilder("span").startSpan();
+
+            try (Scope scope = span.makeCurrent()) {
+                action.execute(executionContext);
+                action.getResetCopy().execute(executionContext);
+            }
+
+            verify(first, times(2)).execute(any());
+            verify(second, times(2)).execute(any());
+        }
+    }
+
+    @Nested
+    class GroupRecordingSpanOnly {
+
+        @Mock
+        IHookAction always;
+
+        @Mock
+        IHookAction last;
+
+        @Test
+        void consecutiveActionsGrouped() {
+            doReturn(true).when(first).isRecordingSpanOnly();
+            doReturn(true).when(second).isRecordingSpanOnly();
+            doReturn(false).when(always).isRecordingSpanOnly();
+
+            List<IHookAction> result = RecordingSpanHookAction.groupRecordingSpanOnly(Arrays.asList(first, second, always));
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0)).isInstanceOf(RecordingSpanHookAction.class);
+            assertThat(((RecordingSpanHookAction) result.get(0)).getActions()).containsExactly(first, second);
+            assertThat(result.get(1)).isSameAs(always);
+        }
+
+        @Test
+        void orderPreserved() {
+            doReturn(true).when(first).isRecordingSpanOnly();
+            doReturn(false).when(always).isRecordingSpanOnly();
+            doReturn(true).when(last).isRecordingSpanOnly();
+
+            List<IHookAction> result = RecordingSpanHookAction.groupRecordingSpanOnly(Arrays.asList(first, always, last));
+
+            assertThat(result).hasSize(3);
+            assertThat(((RecordingSpanHookAction) result.get(0)).getActions()).containsExactly(first);
+            assertThat(result.get(1)).isSameAs(always);
+            assertThat(((RecordingSpanHookAction) result.get(2)).getActions()).containsExactly(last);
+        }
+
+        @Test
+        void noRecordingSpanOnlyActions() {
+            doReturn(false).when(always).isRecordingSpanOnly();
+
+            List<IHookAction> result = RecordingSpanHookAction.groupRecordingSpanOnly(Arrays.asList(always));
+
+            assertThat(result).containsExactly(always);
+        }
+    }
+}
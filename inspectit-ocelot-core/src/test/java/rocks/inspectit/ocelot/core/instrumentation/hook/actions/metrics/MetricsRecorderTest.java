@@ -13,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import rocks.inspectit.ocelot.core.SpringTestBase;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.instrumentation.context.InspectitContextImpl;
+import rocks.inspectit.ocelot.core.instrumentation.hook.DoubleVariableAccessor;
 import rocks.inspectit.ocelot.core.instrumentation.hook.VariableAccessor;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.IHookAction;
 import rocks.inspectit.ocelot.core.instrumentation.hook.actions.model.MetricAccessor;
@@ -108,6 +109,25 @@ public class MetricsRecorderTest extends SpringTestBase {
                     .empty()));
         }
 
+        @Test
+        void verifyPrimitiveValueRecordedWithoutBoxing() {
+            VariableAccessor variableAccess = Mockito.mock(VariableAccessor.class);
+            DoubleVariableAccessor doubleAccess = Mockito.mock(DoubleVariableAccessor.class);
+            when(doubleAccess.get(any())).thenReturn(Double.NaN, 42.5);
+            MetricAccessor metricAccessor = new MetricAccessor("my_metric", variableAccess, Collections.emptyMap(), Collections.emptyMap(), doubleAccess);
+            MetricsRecorder rec = new MetricsRecorder(Collections.singletonList(metricAccessor), commonTagsManager, metricsManager, tagValueGuard);
+
+            rec.execute(executionContext);
+
+            verifyNoInteractions(metricsManager);
+
+            rec.execute(executionContext);
+
+            verify(metricsManager).tryRecordingDoubleMeasurement(eq("my_metric"), eq(42.5), eq(Tags.getTagger().empty()));
+            verifyNoMoreInteractions(metricsManager);
+            verifyNoInteractions(variableAccess);
+        }
+
         @Test
         void commonTagsIncluded() {
             when(inspectitContext.getData("common")).thenReturn("overwrite");
@@ -0,0 +1,88 @@
+package rocks.inspectit.ocelot.core.instrumentation.special;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rocks.inspectit.ocelot.bootstrap.context.ContextCarrier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ContextCarrierInjectionTest {
+
+    public static class SampleTask implements Runnable {
+
+        @Override
+        public void run() {
+        }
+    }
+
+    private static byte[] readBytecode(Class<?> clazz) throws IOException {
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        try (InputStream stream = clazz.getClassLoader().getResourceAsStream(resource)) {
+            return IOUtils.toByteArray(stream);
+        }
+    }
+
+    private static Class<?> define(String name, byte[] bytecode) {
+        return new ClassLoader(ContextCarrierInjectionTest.class.getClassLoader()) {
+            Class<?> define() {
+                return defineClass(name, bytecode, 0, bytecode.length);
+            }
+        }.define();
+    }
+
+    @Nested
+    class Inject {
+
+        @Test
+        public void storeContextInField() throws Exception {
+            byte[] bytecode = ContextCarrierInjection.inject(readBytecode(SampleTask.class));
+
+            Class<?> injected = define(SampleTask.class.getName(), bytecode);
+            Object task = injected.getDeclaredConstructor().newInstance();
+
+            assertThat(task).isInstanceOf(ContextCarrier.class).isInstanceOf(Runnable.class);
+            assertThat(ContextCarrierInjection.isCarrier(injected)).isTrue();
+
+            ContextCarrier carrier = (ContextCarrier) task;
+            assertThat(carrier.inspectit$getContext()).isNull();
+            carrier.inspectit$setContext("context");
+            assertThat(carrier.inspectit$getContext()).isEqualTo("context");
+
+            Field field = injected.getDeclaredField(ContextCarrierInjection.FIELD_NAME);
+            assertThat(field.isSynthetic()).isTrue();
+            assertThat(Modifier.isTransient(field.getModifiers())).isTrue();
+        }
+
+        @Test
+        public void injectOnlyOnce() throws Exception {
+            byte[] bytecode = ContextCarrierInjection.inject(ContextCarrierInjection.inject(readBytecode(SampleTask.class)));
+
+            Class<?> injected = define(SampleTask.class.getName(), bytecode);
+
+            assertThat(injected.getInterfaces()).containsExactly(Runnable.class, ContextCarrier.class);
+            assertThat(Arrays.stream(injected.getDeclaredFields())
+                    .filter(field -> field.getName().equals(ContextCarrierInjection.FIELD_NAME))).hasSize(1);
+        }
+    }
+
+    @Nested
+    class IsCarrier {
+
+        @Test
+        public void notInjected() {
+            assertThat(ContextCarrierInjection.isCarrier(SampleTask.class)).isFalse();
+        }
+
+        @Test
+        public void nullClass() {
+            assertThat(ContextCarrierInjection.isCarrier(null)).isFalse();
+        }
+    }
+}
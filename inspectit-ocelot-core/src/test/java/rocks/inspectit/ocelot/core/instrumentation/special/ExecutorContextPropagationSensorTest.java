@@ -1,6 +1,11 @@
 package rocks.inspectit.ocelot.core.instrumentation.special;
 
+import com.google.common.collect.ImmutableMap;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
 import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,8 +16,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import rocks.inspectit.ocelot.bootstrap.Instances;
 import rocks.inspectit.ocelot.bootstrap.context.IContextManager;
 import rocks.inspectit.ocelot.bootstrap.correlation.LogTraceCorrelator;
+import rocks.inspectit.ocelot.config.model.instrumentation.SpecialSensorSettings;
+import rocks.inspectit.ocelot.core.instrumentation.context.ContextManager;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.Mockito.*;
 
@@ -53,9 +63,38 @@ public class ExecutorContextPropagationSensorTest {
             verifyNoMoreInteractions(contextManager, logTraceCorrelator);
         }
 
+        @Test
+        public void emptyContext() throws Exception {
+            when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(false);
+
+            invokeTestMethod(mockRunnable);
+
+            verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
+            verify(contextManager).clearContext(mockRunnable);
+            verifyNoMoreInteractions(contextManager, logTraceCorrelator);
+        }
+
+        @Test
+        public void emptyContextWithLambda() throws Exception {
+            when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(false);
+
+            mockRunnable = () -> {
+            };
+
+            invokeTestMethod(mockRunnable);
+
+            verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
+            verifyNoMoreInteractions(contextManager, logTraceCorrelator);
+        }
+
         @Test
         public void startCorrelationWithLambda() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
             Runnable wrapLog = mock(Runnable.class);
             when(logTraceCorrelator.wrap(any(Runnable.class))).thenReturn(wrapLog);
 
@@ -65,6 +104,7 @@ public class ExecutorContextPropagationSensorTest {
             invokeTestMethod(mockRunnable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).wrap(wrapLog);
             verify(logTraceCorrelator).wrap(mockRunnable);
             verifyNoMoreInteractions(contextManager, logTraceCorrelator);
@@ -73,6 +113,7 @@ public class ExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithNamed() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
 
             mockRunnable = new Runnable() {
                 @Override
@@ -83,8 +124,76 @@ public class ExecutorContextPropagationSensorTest {
             invokeTestMethod(mockRunnable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).storeContext(mockRunnable, true);
             verifyNoMoreInteractions(contextManager, logTraceCorrelator);
         }
     }
+
+    @Nested
+    public class Resubmission {
+
+        private final ContextManager realContextManager = new ContextManager(null, null, null);
+
+        private void submit(Runnable runnable) throws Exception {
+            Class<?> adviceClazz = Class.forName("rocks.inspectit.ocelot.core.instrumentation.special.ExecutorContextPropagationSensor$ExecutorAdvice");
+            MethodUtils.getMethodsWithAnnotation(adviceClazz, Advice.OnMethodEnter.class)[0].invoke(null, runnable);
+            MethodUtils.getMethodsWithAnnotation(adviceClazz, Advice.OnMethodExit.class)[0].invoke(null);
+        }
+
+        @Test
+        public void resubmittedFromEmptyContext() throws Exception {
+            Instances.contextManager = realContextManager;
+            Runnable runnable = new Runnable() {
+                @Override
+                public void run() {
+                }
+            };
+
+            try (Scope ignored = Context.root().with(ContextKey.named("key"), "value").makeCurrent()) {
+                submit(runnable);
+            }
+            submit(runnable);
+
+            assertThat(realContextManager.attachContext(runnable)).isNull();
+        }
+    }
+
+    @Nested
+    public class IsExecutorIncluded {
+
+        private final TypeDescription type = TypeDescription.ForLoadedType.of(ThreadPoolExecutor.class);
+
+        @Test
+        public void noFilter() {
+            SpecialSensorSettings settings = new SpecialSensorSettings();
+
+            assertThat(ExecutorContextPropagationSensor.isExecutorIncluded(type, settings)).isTrue();
+        }
+
+        @Test
+        public void notIncluded() {
+            SpecialSensorSettings settings = new SpecialSensorSettings();
+            settings.setExecutorContextPropagationIncludes(ImmutableMap.of("com.example", true, "java.util", false));
+
+            assertThat(ExecutorContextPropagationSensor.isExecutorIncluded(type, settings)).isFalse();
+        }
+
+        @Test
+        public void included() {
+            SpecialSensorSettings settings = new SpecialSensorSettings();
+            settings.setExecutorContextPropagationIncludes(ImmutableMap.of("java.util.concurrent", true));
+
+            assertThat(ExecutorContextPropagationSensor.isExecutorIncluded(type, settings)).isTrue();
+        }
+
+        @Test
+        public void excluded() {
+            SpecialSensorSettings settings = new SpecialSensorSettings();
+            settings.setExecutorContextPropagationIncludes(ImmutableMap.of("java.util.concurrent", true));
+            settings.setExecutorContextPropagationExcludes(ImmutableMap.of("java.util.concurrent.ThreadPool", true));
+
+            assertThat(ExecutorContextPropagationSensor.isExecutorIncluded(type, settings)).isFalse();
+        }
+    }
 }
@@ -58,6 +58,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithLambda() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
             Runnable wrapLog = mock(Runnable.class);
             when(logTraceCorrelator.wrap(any(Runnable.class))).thenReturn(wrapLog);
 
@@ -67,6 +68,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
             invokeTestMethod(mockRunnable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).wrap(wrapLog);
             verify(logTraceCorrelator).wrap(mockRunnable);
             verifyNoMoreInteractions(contextManager, logTraceCorrelator);
@@ -75,6 +77,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithNamed() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
 
             mockRunnable = new Runnable() {
                 @Override
@@ -85,6 +88,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
             invokeTestMethod(mockRunnable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).storeContext(mockRunnable, true);
             verifyNoMoreInteractions(contextManager);
             verifyNoMoreInteractions(logTraceCorrelator);
@@ -117,6 +121,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithLambda() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
             Runnable wrapLog = mock(Runnable.class);
             when(logTraceCorrelator.wrap(any(Runnable.class))).thenReturn(wrapLog);
 
@@ -126,6 +131,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
             invokeTestMethod(mockRunnable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).wrap(wrapLog);
             verify(logTraceCorrelator).wrap(mockRunnable);
             verifyNoMoreInteractions(contextManager, logTraceCorrelator);
@@ -134,6 +140,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithNamed() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
 
             mockRunnable = new Runnable() {
                 @Override
@@ -144,6 +151,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
             invokeTestMethod(mockRunnable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).storeContext(mockRunnable, false);
             verifyNoMoreInteractions(contextManager);
             verifyNoMoreInteractions(logTraceCorrelator);
@@ -176,6 +184,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithLambda() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
             Callable<?> wrapLog = mock(Callable.class);
             when(logTraceCorrelator.wrap(any(Callable.class))).thenReturn(wrapLog);
 
@@ -184,6 +193,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
             invokeTestMethod(mockCallable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).wrap(wrapLog);
             verify(logTraceCorrelator).wrap(mockCallable);
             verifyNoMoreInteractions(contextManager, logTraceCorrelator);
@@ -192,6 +202,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
         @Test
         public void startCorrelationWithNamed() throws Exception {
             when(contextManager.enterCorrelation()).thenReturn(true);
+            when(contextManager.shouldCaptureContext()).thenReturn(true);
 
             mockCallable = new Callable<Object>() {
                 @Override
@@ -203,6 +214,7 @@ public class ScheduledExecutorContextPropagationSensorTest {
             invokeTestMethod(mockCallable);
 
             verify(contextManager).enterCorrelation();
+            verify(contextManager).shouldCaptureContext();
             verify(contextManager).storeContext(mockCallable, true);
             verifyNoMoreInteractions(contextManager);
             verifyNoMoreInteractions(logTraceCorrelator);
@@ -14,6 +14,7 @@ import rocks.inspectit.ocelot.config.model.instrumentation.InstrumentationSettin
 import rocks.inspectit.ocelot.config.model.instrumentation.InternalSettings;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.instrumentation.FakeExecutor;
+import rocks.inspectit.ocelot.core.instrumentation.cache.InstrumentationCache;
 import rocks.inspectit.ocelot.core.instrumentation.config.InstrumentationConfigurationResolver;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationRule;
@@ -30,6 +31,7 @@ import java.lang.instrument.Instrumentation;
 import java.net.URLClassLoader;
 import java.util.*;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +59,9 @@ public class AsyncClassTransformerTest {
     @Mock
     JigsawModuleInstrumenter moduleManager;
 
+    @Mock
+    InstrumentationCache instrumentationCache;
+
     @InjectMocks
     AsyncClassTransformer transformer = new AsyncClassTransformer();
 
@@ -239,6 +244,47 @@ public class AsyncClassTransformerTest {
 
         }
 
+        @Test
+        void cachedBytecodeUsed() throws Exception {
+            prepareConfig();
+            when(classLoaderDelegation.getClassLoaderClassesRequiringRetransformation(any(), any())).thenReturn(new LinkedHashSet<>());
+
+            SpecialSensor mockSensor = Mockito.mock(SpecialSensor.class);
+            ClassInstrumentationConfiguration mockedConfig = new ClassInstrumentationConfiguration(Collections.singleton(mockSensor), Collections.emptySet(), null);
+            when(configResolver.getClassInstrumentationConfiguration(any(Class.class))).thenReturn(mockedConfig);
+            byte[] cachedBytecode = new byte[]{1, 2, 3};
+            when(instrumentationCache.getKey(any(), same(bytecodeOfTest), same(mockedConfig), any())).thenReturn("key");
+            when(instrumentationCache.get("key")).thenReturn(cachedBytecode);
+
+            Class<AsyncClassTransformerTest> clazz = AsyncClassTransformerTest.class;
+            String className = clazz.getName().replace('.', '/');
+            byte[] result = transformer.transform(clazz.getClassLoader(), className, getClass(), null, bytecodeOfTest);
+
+            assertThat(result).isSameAs(cachedBytecode);
+            verify(mockSensor, never()).instrument(any(), any(), any());
+            verify(instrumentationCache, never()).put(any(), any(), anyLong());
+            verify(ctx).publishEvent(isA(ClassInstrumentedEvent.class));
+        }
+
+        @Test
+        void instrumentedBytecodeCached() throws Exception {
+            prepareConfig();
+            when(classLoaderDelegation.getClassLoaderClassesRequiringRetransformation(any(), any())).thenReturn(new LinkedHashSet<>());
+
+            SpecialSensor mockSensor = Mockito.mock(SpecialSensor.class);
+            when(mockSensor.instrument(any(), any(), any())).then(invocation -> invocation.getArgument(2));
+            ClassInstrumentationConfiguration mockedConfig = new ClassInstrumentationConfiguration(Collections.singleton(mockSensor), Collections.emptySet(), null);
+            when(configResolver.getClassInstrumentationConfiguration(any(Class.class))).thenReturn(mockedConfig);
+            when(instrumentationCache.getKey(any(), any(), any(), any())).thenReturn("key");
+
+            Class<AsyncClassTransformerTest> clazz = AsyncClassTransformerTest.class;
+            String className = clazz.getName().replace('.', '/');
+            byte[] result = transformer.transform(clazz.getClassLoader(), className, getClass(), null, bytecodeOfTest);
+
+            verify(mockSensor).instrument(any(), any(), any());
+            verify(instrumentationCache).put(eq("key"), same(result), anyLong());
+        }
+
         @Test
         void testDefinitionListenersInvokedForNewClasses() throws Exception {
 
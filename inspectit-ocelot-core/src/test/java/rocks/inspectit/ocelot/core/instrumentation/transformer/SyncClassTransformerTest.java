@@ -15,6 +15,7 @@ import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.instrumentation.InstrumentationSettings;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
 import rocks.inspectit.ocelot.core.instrumentation.TypeDescriptionWithClassLoader;
+import rocks.inspectit.ocelot.core.instrumentation.cache.InstrumentationCache;
 import rocks.inspectit.ocelot.core.instrumentation.config.InstrumentationConfigurationResolver;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
 import rocks.inspectit.ocelot.core.instrumentation.config.model.InstrumentationRule;
@@ -51,6 +52,9 @@ public class SyncClassTransformerTest {
     @Mock
     InstrumentationConfigurationResolver configResolver;
 
+    @Mock
+    InstrumentationCache instrumentationCache;
+
     @InjectMocks
     SyncClassTransformer transformer = new SyncClassTransformer();
 
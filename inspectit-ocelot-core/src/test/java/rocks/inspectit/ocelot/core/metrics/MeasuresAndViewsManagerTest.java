@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import rocks.inspectit.ocelot.config.model.metrics.MetricsRecordingBackend;
 import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings;
 import rocks.inspectit.ocelot.config.model.metrics.definition.ViewDefinitionSettings;
 import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
@@ -43,6 +44,9 @@ public class MeasuresAndViewsManagerTest {
     @Mock
     PercentileViewManager percentileViewManager;
 
+    @Mock
+    OpenTelemetryMeasureRecorder openTelemetryRecorder;
+
     private final TagKey[] commonTags = {TagKey.create("common-A"), TagKey.create("common-B")};
 
     @InjectMocks
@@ -72,6 +76,32 @@ public class MeasuresAndViewsManagerTest {
             View view = viewArg.getValue();
             assertThat(view.getName().asString()).isEqualTo(metricName);
         }
+
+        @Test
+        void openTelemetryBackend() {
+            String metricName = "my-metric";
+            MetricDefinitionSettings metricDefinition = MetricDefinitionSettings.builder()
+                    .unit("my-unit")
+                    .type(MetricDefinitionSettings.MeasureType.LONG)
+                    .build();
+            when(environment.getCurrentConfig().getMetrics().isEnabled()).thenReturn(true);
+            when(environment.getCurrentConfig()
+                    .getMetrics()
+                    .getRecordingBackend()).thenReturn(MetricsRecordingBackend.OPEN_TELEMETRY);
+            when(environment.getCurrentConfig()
+                    .getMetrics()
+                    .getDefinitions()).thenReturn(Maps.newHashMap(metricName, metricDefinition));
+            when(viewManager.getAllExportedViews()).thenReturn(Collections.emptySet());
+
+            manager.updateMetricDefinitions();
+            manager.tryRecordingMeasurement(metricName, 42L, Tags.getTagger().empty());
+
+            assertThat(manager.getMeasure(metricName)).isNotEmpty();
+            verify(viewManager, never()).registerView(any());
+            verify(openTelemetryRecorder).registerView(eq(metricName), eq(MetricDefinitionSettings.MeasureType.LONG), eq("my-unit"), eq(metricName), any(), any());
+            verify(openTelemetryRecorder).record(metricName, 42L, 42.0, Tags.getTagger().empty());
+            verifyNoInteractions(recorder);
+        }
     }
 
     @Nested
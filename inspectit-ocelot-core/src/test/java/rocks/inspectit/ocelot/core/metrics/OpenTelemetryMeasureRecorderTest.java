@@ -0,0 +1,256 @@
+package rocks.inspectit.ocelot.core.metrics;
+
+import io.opencensus.stats.*;
+import io.opencensus.tags.TagContext;
+import io.opencensus.tags.TagKey;
+import io.opencensus.tags.Tags;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.opencensusshim.OpenCensusMetricProducer;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.*;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import rocks.inspectit.ocelot.config.model.metrics.definition.MetricDefinitionSettings.MeasureType;
+import rocks.inspectit.ocelot.config.model.metrics.definition.ViewDefinitionSettings;
+import rocks.inspectit.ocelot.config.model.metrics.definition.ViewDefinitionSettings.Aggregation;
+import rocks.inspectit.ocelot.core.tags.TagUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class OpenTelemetryMeasureRecorderTest {
+
+    private static final String TAG = "my-tag";
+
+    private OpenTelemetryMeasureRecorder recorder;
+
+    private InMemoryMetricReader reader;
+
+    private SdkMeterProvider meterProvider;
+
+    @BeforeEach
+    void setup() {
+        recorder = new OpenTelemetryMeasureRecorder();
+        reader = InMemoryMetricReader.create();
+        meterProvider = SdkMeterProvider.builder().registerMetricReader(reader).build();
+        recorder.bind(meterProvider);
+    }
+
+    @AfterEach
+    void shutdown() {
+        meterProvider.close();
+    }
+
+    private static ViewDefinitionSettings view(Aggregation aggregation) {
+        return ViewDefinitionSettings.builder()
+                .description("description")
+                .aggregation(aggregation)
+                .bucketBoundaries(Arrays.asList(10.0, 20.0))
+                .build();
+    }
+
+    private static TagContext tags(String value) {
+        return Tags.getTagger()
+                .emptyBuilder()
+                .putLocal(TagKey.create(TAG), TagUtils.createTagValue(TAG, value))
+                .putLocal(TagKey.create("other"), TagUtils.createTagValue("other", "ignored"))
+                .build();
+    }
+
+    private MetricData getMetric(String name) {
+        return reader.collectAllMetrics()
+                .stream()
+                .filter(metric -> metric.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No metric named " + name));
+    }
+
+    @Nested
+    class Record {
+
+        @Test
+        void longSum() {
+            recorder.registerView("measure", MeasureType.LONG, "ms", "sum", view(Aggregation.SUM), Collections.singleton(TAG));
+
+            recorder.record("measure", 5L, tags("a"));
+            recorder.record("measure", 7L, tags("a"));
+            recorder.record("measure", -2L, tags("b"));
+
+            MetricData metric = getMetric("sum");
+            assertThat(metric.getUnit()).isEqualTo("ms");
+            assertThat(metric.getDescription()).isEqualTo("description");
+            Map<Attributes, Long> points = metric.getLongSumData()
+                    .getPoints()
+                    .stream()
+                    .collect(Collectors.toMap(PointData::getAttributes, LongPointData::getValue));
+            assertThat(points).containsOnly(entry("a", 12L), entry("b", -2L));
+        }
+
+        @Test
+        void doubleLastValue() {
+            recorder.registerView("measure", MeasureType.DOUBLE, "ms", "last", view(Aggregation.LAST_VALUE), Collections.singleton(TAG));
+
+            recorder.record("measure", 5.5, tags("a"));
+            recorder.record("measure", 3.5, tags("a"));
+
+            assertThat(getMetric("last").getDoubleGaugeData().getPoints()).hasSize(1)
+                    .allSatisfy(point -> assertThat(point.getValue()).isEqualTo(3.5));
+        }
+
+        @Test
+        void countAndHistogramOfSameMeasure() {
+            recorder.registerView("measure", MeasureType.DOUBLE, "ms", "count", view(Aggregation.COUNT), Collections.emptySet());
+            recorder.registerView("measure", MeasureType.DOUBLE, "ms", "histo", view(Aggregation.HISTOGRAM), Collections.emptySet());
+
+            recorder.record("measure", 5, tags("a"));
+            recorder.record("measure", 15, tags("b"));
+            recorder.record("measure", 25, tags("c"));
+
+            assertThat(getMetric("count").getLongSumData().getPoints()).hasSize(1)
+                    .allSatisfy(point -> {
+                        assertThat(point.getValue()).isEqualTo(3);
+                        assertThat(point.getAttributes()).isEqualTo(Attributes.empty());
+                    });
+            HistogramPointData histogram = getMetric("histo").getHistogramData().getPoints().iterator().next();
+            assertThat(histogram.getBoundaries()).containsExactly(10.0, 20.0);
+            assertThat(histogram.getCounts()).containsExactly(1L, 1L, 1L);
+            assertThat(histogram.getSum()).isEqualTo(45);
+        }
+
+        @Test
+        void unknownMeasure() {
+            recorder.record("unknown", 5, tags("a"));
+
+            assertThat(reader.collectAllMetrics()).isEmpty();
+        }
+
+        @Test
+        void viewNotUpdated() {
+            recorder.registerView("measure", MeasureType.LONG, "ms", "sum", view(Aggregation.SUM), Collections.singleton(TAG));
+            recorder.registerView("measure", MeasureType.LONG, "ms", "sum", view(Aggregation.LAST_VALUE), Collections.singleton(TAG));
+
+            recorder.record("measure", 5L, tags("a"));
+            recorder.record("measure", 5L, tags("a"));
+
+            assertThat(getMetric("sum").getLongSumData().getPoints()).hasSize(1)
+                    .allSatisfy(point -> assertThat(point.getValue()).isEqualTo(10));
+        }
+    }
+
+    @Nested
+    class Bind {
+
+        @Test
+        void instrumentsRecreated() {
+            recorder.registerView("measure", MeasureType.LONG, "ms", "sum", view(Aggregation.SUM), Collections.singleton(TAG));
+            recorder.record("measure", 5L, tags("a"));
+
+            InMemoryMetricReader newReader = InMemoryMetricReader.create();
+            try (SdkMeterProvider newProvider = SdkMeterProvider.builder().registerMetricReader(newReader).build()) {
+                recorder.bind(newProvider);
+                recorder.record("measure", 7L, tags("a"));
+
+                assertThat(newReader.collectAllMetrics()).hasSize(1)
+                        .allSatisfy(metric -> assertThat(metric.getLongSumData().getPoints()).hasSize(1)
+                                .allSatisfy(point -> assertThat(point.getValue()).isEqualTo(7)));
+            }
+        }
+    }
+
+    /**
+     * Verifies that the same measurements recorded via OpenCensus and exported via the {@link OpenCensusMetricProducer}
+     * result in the same data as when recorded with the {@link OpenTelemetryMeasureRecorder}.
+     */
+    @Nested
+    class SameResultAsOpenCensus {
+
+        @Test
+        void allAggregations() {
+            String prefix = "oc-comparison/" + UUID.randomUUID() + "/";
+            Measure.MeasureLong measure = Measure.MeasureLong.create(prefix + "measure", "description", "ms");
+            List<Aggregation> aggregations = Arrays.asList(Aggregation.SUM, Aggregation.COUNT, Aggregation.LAST_VALUE, Aggregation.HISTOGRAM);
+            ViewManager viewManager = Stats.getViewManager();
+            for (Aggregation aggregation : aggregations) {
+                String viewName = prefix + aggregation;
+                viewManager.registerView(View.create(View.Name.create(viewName), "description", measure, toOpenCensus(aggregation), Collections
+                        .singletonList(TagKey.create(TAG))));
+                recorder.registerView(measure.getName(), MeasureType.LONG, "ms", viewName, view(aggregation), Collections.singleton(TAG));
+            }
+
+            long[] values = {3, 12, 17, 25, 8};
+            String[] tagValues = {"a", "b", "a", "a", "b"};
+            StatsRecorder statsRecorder = Stats.getStatsRecorder();
+            for (int i = 0; i < values.length; i++) {
+                statsRecorder.newMeasureMap().put(measure, values[i]).record(tags(tagValues[i]));
+                recorder.record(measure.getName(), values[i], tags(tagValues[i]));
+            }
+
+            InMemoryMetricReader openCensusReader = InMemoryMetricReader.create();
+            try (SdkMeterProvider openCensusProvider = SdkMeterProvider.builder()
+                    .registerMetricReader(openCensusReader)
+                    .registerMetricProducer(OpenCensusMetricProducer.create())
+                    .build()) {
+                await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                    Map<String, Map<Attributes, Object>> expected = toComparableValues(openCensusReader.collectAllMetrics(), prefix);
+                    Map<String, Map<Attributes, Object>> actual = toComparableValues(reader.collectAllMetrics(), prefix);
+
+                    assertThat(actual).hasSize(aggregations.size());
+                    assertThat(actual).isEqualTo(expected);
+                });
+            }
+        }
+
+        private io.opencensus.stats.Aggregation toOpenCensus(Aggregation aggregation) {
+            switch (aggregation) {
+                case SUM:
+                    return io.opencensus.stats.Aggregation.Sum.create();
+                case COUNT:
+                    return io.opencensus.stats.Aggregation.Count.create();
+                case LAST_VALUE:
+                    return io.opencensus.stats.Aggregation.LastValue.create();
+                default:
+                    return io.opencensus.stats.Aggregation.Distribution.create(BucketBoundaries.create(Arrays.asList(0.0, 10.0, 20.0)));
+            }
+        }
+
+        /**
+         * Extracts the values per metric and attributes. Histograms are compared by their count and sum, as
+         * OpenCensus adds an explicit bucket for the lower bound 0.
+         */
+        private Map<String, Map<Attributes, Object>> toComparableValues(Collection<MetricData> metrics, String prefix) {
+            Map<String, Map<Attributes, Object>> result = new HashMap<>();
+            for (MetricData metric : metrics) {
+                if (!metric.getName().startsWith(prefix)) {
+                    continue;
+                }
+                Map<Attributes, Object> values = new HashMap<>();
+                for (PointData point : metric.getData().getPoints()) {
+                    Object value;
+                    if (point instanceof LongPointData) {
+                        value = ((LongPointData) point).getValue();
+                    } else if (point instanceof DoublePointData) {
+                        value = ((DoublePointData) point).getValue();
+                    } else {
+                        HistogramPointData histogram = (HistogramPointData) point;
+                        value = Arrays.asList(histogram.getCount(), histogram.getSum());
+                    }
+                    values.put(point.getAttributes(), value);
+                }
+                result.put(metric.getName(), values);
+            }
+            return result;
+        }
+    }
+
+    private static Map.Entry<Attributes, Long> entry(String tagValue, long value) {
+        return new AbstractMap.SimpleEntry<>(Attributes.of(AttributeKey.stringKey(TAG), tagValue), value);
+    }
+}
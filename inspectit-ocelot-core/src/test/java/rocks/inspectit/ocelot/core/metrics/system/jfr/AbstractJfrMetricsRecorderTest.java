@@ -0,0 +1,102 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.metrics.MeasuresAndViewsManager;
+import rocks.inspectit.ocelot.core.selfmonitoring.service.DynamicallyActivatableServiceObserver;
+import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AbstractJfrMetricsRecorderTest {
+
+    /**
+     * Any JFR recorder can be used to test the common behaviour.
+     */
+    @InjectMocks
+    private JfrMonitorContentionMetricsRecorder recorder;
+
+    @Mock
+    private JfrEventStream eventStream;
+
+    @Mock
+    private InspectitEnvironment env;
+
+    @Mock
+    private DynamicallyActivatableServiceObserver serviceObserver;
+
+    @Mock
+    private MeasuresAndViewsManager measureManager;
+
+    @Mock
+    private CommonTagsManager commonTags;
+
+    private final JfrMetricsSettings jfrSettings = new JfrMetricsSettings();
+
+    @BeforeEach
+    void setup() {
+        jfrSettings.setThreshold(Duration.ofMillis(10));
+        jfrSettings.setEnabled(new HashMap<>());
+        InspectitConfig config = new InspectitConfig();
+        config.getMetrics().setEnabled(true);
+        config.getMetrics().setJfr(jfrSettings);
+        when(env.getCurrentConfig()).thenReturn(config);
+    }
+
+    private void start() {
+        ReflectionTestUtils.invokeMethod(recorder, "startIfEnabled");
+    }
+
+    @Test
+    void inactiveIfStreamingUnavailable() {
+        jfrSettings.getEnabled().put("monitor.contention", true);
+        when(eventStream.isAvailable()).thenReturn(false);
+
+        start();
+
+        assertThat(recorder.isEnabled()).isFalse();
+        verify(eventStream, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    void inactiveIfNotEnabled() {
+        jfrSettings.getEnabled().put("monitor.contention", false);
+
+        start();
+
+        assertThat(recorder.isEnabled()).isFalse();
+        verify(eventStream, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    void subscriptionsClosedOnDisable() {
+        jfrSettings.getEnabled().put("monitor.contention", true);
+        when(eventStream.isAvailable()).thenReturn(true);
+        JfrEventStream.Subscription subscription = mock(JfrEventStream.Subscription.class);
+        when(eventStream.subscribe(eq("jdk.JavaMonitorEnter"), any(), any())).thenReturn(subscription);
+
+        start();
+
+        assertThat(recorder.isEnabled()).isTrue();
+        verify(subscription, never()).close();
+
+        ReflectionTestUtils.invokeMethod(recorder, "disable");
+
+        assertThat(recorder.isEnabled()).isFalse();
+        verify(subscription).close();
+    }
+}
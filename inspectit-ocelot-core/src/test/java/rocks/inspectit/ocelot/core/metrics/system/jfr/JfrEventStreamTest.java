@@ -0,0 +1,68 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.awaitility.Awaitility.await;
+
+public class JfrEventStreamTest {
+
+    private JfrEventStream eventStream;
+
+    @BeforeEach
+    void setup() {
+        eventStream = new JfrEventStream();
+        assumeThat(eventStream.isAvailable()).isTrue();
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (eventStream != null) {
+            eventStream.destroy();
+        }
+    }
+
+    @Nested
+    class Subscribe {
+
+        @Test
+        void eventsReceived() throws Exception {
+            List<Duration> durations = new CopyOnWriteArrayList<>();
+            Map<String, String> settings = AbstractJfrMetricsRecorder.withThreshold(Duration.ofMillis(5));
+
+            JfrEventStream.Subscription subscription = eventStream.subscribe("jdk.ThreadSleep", settings, event -> durations.add(event.getDuration()));
+
+            await().atMost(Duration.ofSeconds(30)).untilAsserted(() -> {
+                Thread.sleep(10);
+                assertThat(durations).isNotEmpty();
+            });
+            assertThat(durations).allSatisfy(duration -> assertThat(duration).isGreaterThanOrEqualTo(Duration.ofMillis(5)));
+            subscription.close();
+        }
+
+        @Test
+        void streamClosedWithLastSubscription() {
+            JfrEventStream.Subscription first = eventStream.subscribe("jdk.ThreadSleep", AbstractJfrMetricsRecorder.withoutStackTrace(), event -> {
+            });
+            JfrEventStream.Subscription second = eventStream.subscribe("jdk.JavaMonitorWait", AbstractJfrMetricsRecorder.withoutStackTrace(), event -> {
+            });
+
+            first.close();
+            assertThat(ReflectionTestUtils.getField(eventStream, "recordingStream")).isNotNull();
+
+            second.close();
+            second.close();
+            assertThat(ReflectionTestUtils.getField(eventStream, "recordingStream")).isNull();
+        }
+    }
+}
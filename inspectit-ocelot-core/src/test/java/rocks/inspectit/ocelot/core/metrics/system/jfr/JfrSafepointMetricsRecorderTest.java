@@ -0,0 +1,82 @@
+package rocks.inspectit.ocelot.core.metrics.system.jfr;
+
+import io.opencensus.tags.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.metrics.JfrMetricsSettings;
+import rocks.inspectit.ocelot.core.metrics.MeasuresAndViewsManager;
+import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JfrSafepointMetricsRecorderTest {
+
+    @InjectMocks
+    private JfrSafepointMetricsRecorder recorder;
+
+    @Mock
+    private JfrEventStream eventStream;
+
+    @Mock
+    private MeasuresAndViewsManager measureManager;
+
+    @Mock
+    private CommonTagsManager commonTags;
+
+    @Captor
+    private ArgumentCaptor<Map<String, String>> settings;
+
+    @Captor
+    private ArgumentCaptor<Consumer<JfrEvent>> handler;
+
+    private final TagContext commonTagContext = Tags.getTagger()
+            .emptyBuilder()
+            .putLocal(TagKey.create("service"), TagValue.create("test"))
+            .build();
+
+    @BeforeEach
+    void setup() {
+        recorder.tagger = Tags.getTagger();
+        lenient().when(commonTags.getCommonTagContext()).thenReturn(commonTagContext);
+
+        JfrMetricsSettings jfrSettings = new JfrMetricsSettings();
+        jfrSettings.setThreshold(Duration.ofMillis(10));
+        InspectitConfig config = new InspectitConfig();
+        config.getMetrics().setJfr(jfrSettings);
+        recorder.doEnable(config);
+    }
+
+    private static Map<String, String> toMap(TagContext tags) {
+        Map<String, String> result = new HashMap<>();
+        InternalUtils.getTags(tags).forEachRemaining(tag -> result.put(tag.getKey().getName(), tag.getValue().asString()));
+        return result;
+    }
+
+    @Test
+    void allSafepointsRecorded() {
+        verify(eventStream).subscribe(eq("jdk.SafepointBegin"), settings.capture(), handler.capture());
+        JfrEvent event = mock(JfrEvent.class);
+        when(event.getDuration()).thenReturn(Duration.ofNanos(500_000));
+
+        handler.getValue().accept(event);
+
+        // the configured threshold is ignored, so that short safepoints are counted as well
+        assertThat(settings.getValue()).containsEntry("stackTrace", "false").containsEntry("threshold", "0 ns");
+        verify(measureManager).tryRecordingDoubleMeasurement("jvm/jfr/safepoint/duration", 0.5, commonTagContext);
+    }
+}
@@ -195,7 +195,7 @@ class ObfuscationManagerTest {
             obfuscationPattern2.setCheckData(true);
 
             when(selfMonitoringService.isSelfMonitoringEnabled()).thenReturn(true);
-            when(selfMonitoringService.withDurationSelfMonitoring(any())).thenReturn(NoopScope.getInstance());
+            when(selfMonitoringService.withDurationSelfMonitoring(anyString())).thenReturn(NoopScope.getInstance());
             when(obfuscationSettings.isEnabled()).thenReturn(true);
             when(obfuscationSettings.getPatterns()).thenReturn(Arrays.asList(obfuscationPattern1, obfuscationPattern2));
 
@@ -0,0 +1,195 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import io.opencensus.common.Scope;
+import io.opencensus.stats.Measure;
+import io.opencensus.tags.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.config.model.InspectitConfig;
+import rocks.inspectit.ocelot.config.model.selfmonitoring.SelfMonitoringSettings;
+import rocks.inspectit.ocelot.core.config.InspectitEnvironment;
+import rocks.inspectit.ocelot.core.metrics.MeasuresAndViewsManager;
+import rocks.inspectit.ocelot.core.tags.CommonTagsManager;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SelfMonitoringServiceTest {
+
+    @InjectMocks
+    private SelfMonitoringService service;
+
+    @Mock
+    private InspectitEnvironment env;
+
+    @Mock
+    private MeasuresAndViewsManager measureManager;
+
+    @Mock
+    private CommonTagsManager commonTags;
+
+    private final SelfMonitoringSettings settings = new SelfMonitoringSettings();
+
+    private final TagContext commonTagContext = Tags.getTagger()
+            .emptyBuilder()
+            .putLocal(TagKey.create("service"), TagValue.create("test"))
+            .build();
+
+    @BeforeEach
+    void setup() {
+        settings.setEnabled(true);
+        InspectitConfig config = new InspectitConfig();
+        config.setSelfMonitoring(settings);
+        lenient().when(env.getCurrentConfig()).thenReturn(config);
+        lenient().when(commonTags.getCommonTagContext()).thenReturn(commonTagContext);
+        lenient().when(measureManager.getMeasure(anyString()))
+                .thenReturn(Optional.of(mock(Measure.MeasureDouble.class)));
+    }
+
+    private void updateConfiguration() {
+        ReflectionTestUtils.invokeMethod(service, "update");
+    }
+
+    private TagContext captureRecordedTags(String measureName, double value) {
+        ArgumentCaptor<TagContext> tags = ArgumentCaptor.forClass(TagContext.class);
+        verify(measureManager).tryRecordingDoubleMeasurement(eq(measureName), eq(value), tags.capture());
+        return tags.getValue();
+    }
+
+    @Nested
+    class RecordMeasurement {
+
+        @Test
+        void disabled() {
+            settings.setEnabled(false);
+            updateConfiguration();
+
+            service.recordMeasurement(SelfMonitoringMeasure.of("my-measure"), 42L);
+            service.recordMeasurement("my-measure", 42d);
+
+            assertThat(service.isSelfMonitoringEnabled()).isFalse();
+            verifyNoInteractions(measureManager, commonTags);
+        }
+
+        @Test
+        void commonAndCustomTags() {
+            updateConfiguration();
+            SelfMonitoringMeasure measure = SelfMonitoringMeasure.of("my-measure", Collections.singletonMap("custom", "value"));
+
+            service.recordMeasurement(measure, 42d);
+
+            TagContext tags = captureRecordedTags("inspectit/self/my-measure", 42d);
+            assertThat(InternalUtils.getTags(tags)).toIterable()
+                    .hasSize(2)
+                    .anySatisfy(tag -> {
+                        assertThat(tag.getKey().getName()).isEqualTo("service");
+                        assertThat(tag.getValue().asString()).isEqualTo("test");
+                    })
+                    .anySatisfy(tag -> {
+                        assertThat(tag.getKey().getName()).isEqualTo("custom");
+                        assertThat(tag.getValue().asString()).isEqualTo("value");
+                    });
+        }
+
+        @Test
+        void resolvedOncePerConfiguration() {
+            updateConfiguration();
+            SelfMonitoringMeasure measure = SelfMonitoringMeasure.of("my-measure");
+
+            service.recordMeasurement(measure, 1L);
+            service.recordMeasurement(measure, 2L);
+
+            verify(measureManager, times(1)).getMeasure("inspectit/self/my-measure");
+            verify(commonTags, times(1)).getCommonTagContext();
+            verify(measureManager, times(2)).tryRecordingMeasurement(eq("inspectit/self/my-measure"), anyLong(), any(TagContext.class));
+
+            updateConfiguration();
+            service.recordMeasurement(measure, 3L);
+
+            verify(measureManager, times(2)).getMeasure("inspectit/self/my-measure");
+            verify(commonTags, times(2)).getCommonTagContext();
+        }
+
+        @Test
+        void undefinedMeasure() {
+            updateConfiguration();
+            when(measureManager.getMeasure(anyString())).thenReturn(Optional.empty());
+
+            service.recordMeasurement(SelfMonitoringMeasure.of("my-measure"), 42L);
+
+            verify(measureManager).getMeasure("inspectit/self/my-measure");
+            verifyNoMoreInteractions(measureManager);
+        }
+    }
+
+    @Nested
+    class WithDurationSelfMonitoring {
+
+        @Test
+        void componentTag() {
+            updateConfiguration();
+
+            try (Scope scope = service.withDurationSelfMonitoring(SelfMonitoringMeasure.duration("my-component"))) {
+                // measured code
+            }
+
+            ArgumentCaptor<TagContext> tags = ArgumentCaptor.forClass(TagContext.class);
+            verify(measureManager).tryRecordingDoubleMeasurement(eq("inspectit/self/duration"), anyDouble(), tags.capture());
+            assertThat(InternalUtils.getTags(tags.getValue())).toIterable()
+                    .anySatisfy(tag -> {
+                        assertThat(tag.getKey().getName()).isEqualTo("component-name");
+                        assertThat(tag.getValue().asString()).isEqualTo("my-component");
+                    });
+        }
+    }
+
+    @Nested
+    class StartBatch {
+
+        @Test
+        void disabled() {
+            settings.setEnabled(false);
+            updateConfiguration();
+
+            SelfMonitoringBatch batch = service.startBatch(SelfMonitoringMeasure.of("my-measure"));
+
+            assertThat(batch).isSameAs(SelfMonitoringBatch.DISABLED);
+        }
+
+        @Test
+        void sumRecordedOnce() {
+            updateConfiguration();
+
+            try (SelfMonitoringBatch batch = service.startBatch(SelfMonitoringMeasure.of("my-measure"))) {
+                for (int i = 1; i <= 3; i++) {
+                    batch.add(i);
+                }
+            }
+
+            captureRecordedTags("inspectit/self/my-measure", 6d);
+        }
+
+        @Test
+        void emptyBatch() {
+            updateConfiguration();
+
+            try (SelfMonitoringBatch batch = service.startBatch(SelfMonitoringMeasure.of("my-measure"))) {
+                // nothing measured
+            }
+
+            verifyNoInteractions(measureManager);
+        }
+    }
+}
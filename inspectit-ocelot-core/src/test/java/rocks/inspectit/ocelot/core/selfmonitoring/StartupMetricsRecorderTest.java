@@ -0,0 +1,74 @@
+package rocks.inspectit.ocelot.core.selfmonitoring;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rocks.inspectit.ocelot.core.instrumentation.config.model.ClassInstrumentationConfiguration;
+import rocks.inspectit.ocelot.core.instrumentation.event.ClassInstrumentedEvent;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StartupMetricsRecorderTest {
+
+    @InjectMocks
+    private StartupMetricsRecorder recorder;
+
+    @Mock
+    private SelfMonitoringService selfMonitoringService;
+
+    private ClassInstrumentedEvent instrumentedEvent(ClassInstrumentationConfiguration configuration) {
+        return new ClassInstrumentedEvent(this, String.class, null, configuration);
+    }
+
+    @Nested
+    class RecordStartupPhases {
+
+        @Test
+        void phasesRecorded() {
+            StartupTimings timings = new StartupTimings();
+            timings.phaseCompleted(StartupTimings.ENVIRONMENT_PHASE);
+            ReflectionTestUtils.setField(recorder, "startupTimings", timings);
+
+            recorder.recordStartupPhases();
+
+            assertThat(timings.getPhaseDurations()).containsOnlyKeys(StartupTimings.ENVIRONMENT_PHASE, StartupTimings.CONTEXT_PHASE);
+            verify(selfMonitoringService).recordMeasurement(eq("startup/duration"), anyLong(), eq(Collections.singletonMap("phase", StartupTimings.ENVIRONMENT_PHASE)));
+            verify(selfMonitoringService).recordMeasurement(eq("startup/duration"), anyLong(), eq(Collections.singletonMap("phase", StartupTimings.CONTEXT_PHASE)));
+        }
+
+        @Test
+        void notStartedByAgent() {
+            recorder.recordStartupPhases();
+
+            verifyNoInteractions(selfMonitoringService);
+        }
+    }
+
+    @Nested
+    class ClassInstrumented {
+
+        @Test
+        void onlyFirstInstrumentationRecorded() {
+            ReflectionTestUtils.setField(recorder, "startupTimings", new StartupTimings());
+            ClassInstrumentationConfiguration configuration = mock(ClassInstrumentationConfiguration.class);
+
+            recorder.classInstrumented(instrumentedEvent(ClassInstrumentationConfiguration.NO_INSTRUMENTATION));
+            verifyNoInteractions(selfMonitoringService);
+
+            recorder.classInstrumented(instrumentedEvent(configuration));
+            recorder.classInstrumented(instrumentedEvent(configuration));
+
+            verify(selfMonitoringService).recordMeasurement(eq("startup/duration"), anyLong(), eq(Collections.singletonMap("phase", "first-instrumentation")));
+        }
+    }
+}
@@ -10,12 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
 import rocks.inspectit.ocelot.config.model.InspectitConfig;
 import rocks.inspectit.ocelot.config.model.selfmonitoring.LogPreloadingSettings;
 import rocks.inspectit.ocelot.core.instrumentation.config.event.InstrumentationConfigurationChangedEvent;
 
+import java.util.List;
 import java.util.stream.IntStream;
-import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,22 +53,20 @@ public class LogPreloaderTest {
 
         @Test
         void readWhenEmpty() {
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false).count()).isZero();
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).isEmpty();
         }
 
         @Test
         void logOneWarnMessage() {
             logPreloader.onLoggingEvent(warnEvent, null);
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false).count()).isOne();
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).hasSize(1);
         }
 
         @Test
         void logMultipleWarnMessages() {
             IntStream.range(0, DEFAULT_BUFFER_SIZE - 2).forEach(n -> logPreloader.onLoggingEvent(warnEvent, null));
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false)
-                    .count()).isEqualTo(DEFAULT_BUFFER_SIZE - 2);
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs()
-                    .spliterator(), false)).extracting(ILoggingEvent::getLevel).containsOnly(Level.WARN);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).hasSize(DEFAULT_BUFFER_SIZE - 2);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).extracting(PreloadedLogRecord::getLevel).containsOnly(Level.WARN);
         }
 
         @Test
@@ -75,26 +74,21 @@ public class LogPreloaderTest {
             logPreloader.onLoggingEvent(errorEvent, null);
             IntStream.range(0, DEFAULT_BUFFER_SIZE).forEach(n -> logPreloader.onLoggingEvent(warnEvent, null));
 
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false)
-                    .count()).isEqualTo(DEFAULT_BUFFER_SIZE);
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs()
-                    .spliterator(), false)).extracting(ILoggingEvent::getLevel).containsOnly(Level.WARN);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).hasSize(DEFAULT_BUFFER_SIZE);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).extracting(PreloadedLogRecord::getLevel).containsOnly(Level.WARN);
         }
 
         @Test
         void logMessagesAndChangeBufferSize() {
             IntStream.range(0, DEFAULT_BUFFER_SIZE / 2).forEach(n -> logPreloader.onLoggingEvent(warnEvent, null));
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false)
-                    .count()).isEqualTo(DEFAULT_BUFFER_SIZE / 2);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).hasSize(DEFAULT_BUFFER_SIZE / 2);
 
             logPreloader.doEnable(createConfig(2 * DEFAULT_BUFFER_SIZE));
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false).count()).isZero();
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).isEmpty();
 
             IntStream.range(0, DEFAULT_BUFFER_SIZE + 1).forEach(n -> logPreloader.onLoggingEvent(errorEvent, null));
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false)
-                    .count()).isEqualTo(DEFAULT_BUFFER_SIZE + 1);
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs()
-                    .spliterator(), false)).extracting(ILoggingEvent::getLevel).containsOnly(Level.ERROR);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).hasSize(DEFAULT_BUFFER_SIZE + 1);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).extracting(PreloadedLogRecord::getLevel).containsOnly(Level.ERROR);
         }
 
         @Test
@@ -102,11 +96,99 @@ public class LogPreloaderTest {
             logPreloader.onLoggingEvent(warnEvent, null);
             logPreloader.onInvalidationEvent(new InstrumentationConfigurationChangedEvent(this, null, null));
 
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false).count()).isEqualTo(2);
-            assertThat(StreamSupport.stream(logPreloader.getPreloadedLogs().spliterator(), false)
-                    .map(ILoggingEvent::getFormattedMessage)).allMatch(s -> s.contains("Dummy") || s.contains("Instrumentation configuration changed!"));
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).hasSize(2);
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords().stream()
+                    .map(PreloadedLogRecord::getMessage)).allMatch(s -> s.contains("Dummy") || s.contains("Instrumentation configuration changed!"));
         }
 
+        @Test
+        void logsSinceSequence() {
+            logPreloader.onLoggingEvent(errorEvent, null);
+            long sequence = logPreloader.getNextSequence();
+            logPreloader.onLoggingEvent(warnEvent, null);
+            logPreloader.onLoggingEvent(warnEvent, null);
+
+            assertThat(logPreloader.getPreloadedLogs(sequence).getRecords()).hasSize(2)
+                    .extracting(PreloadedLogRecord::getSequence)
+                    .containsExactly(sequence, sequence + 1);
+            assertThat(logPreloader.getPreloadedLogs(logPreloader.getNextSequence()).getRecords()).isEmpty();
+        }
+
+        @Test
+        void sequenceContinuesAfterBufferChange() {
+            IntStream.range(0, 3).forEach(n -> logPreloader.onLoggingEvent(warnEvent, null));
+            long sequence = logPreloader.getNextSequence();
+
+            logPreloader.doEnable(createConfig(2 * DEFAULT_BUFFER_SIZE));
+            logPreloader.onLoggingEvent(warnEvent, null);
+
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).extracting(PreloadedLogRecord::getSequence)
+                    .containsExactly(sequence);
+        }
+
+        @Test
+        void sequenceAheadOfBuffer() {
+            logPreloader.onLoggingEvent(warnEvent, null);
+
+            assertThat(logPreloader.getPreloadedLogs(1000).getRecords()).hasSize(1);
+        }
+
+        @Test
+        void logLevelApplied() {
+            InspectitConfig config = createConfig(DEFAULT_BUFFER_SIZE);
+            config.getLogPreloading().setLogLevel(Level.ERROR);
+            logPreloader.doEnable(config);
+
+            logPreloader.onLoggingEvent(warnEvent, null);
+            logPreloader.onLoggingEvent(errorEvent, null);
+
+            assertThat(logPreloader.getPreloadedLogs(0).getRecords()).extracting(PreloadedLogRecord::getLevel)
+                    .containsExactly(Level.ERROR);
+        }
+
+        @Test
+        void eventConvertedToRecord() {
+            ILoggingEvent event = new LoggingEvent("com.dummy.Method", (Logger) LoggerFactory.getLogger(LogPreloaderTest.class), Level.WARN, "Message {}", new RuntimeException("failure"), new String[]{"Foo"});
+
+            logPreloader.onLoggingEvent(event, null);
+
+            PreloadedLogRecord record = logPreloader.getPreloadedLogs(0).getRecords().get(0);
+            assertThat(record.getMessage()).isEqualTo("Message Foo");
+            assertThat(record.getLoggerName()).isEqualTo(LogPreloaderTest.class.getName());
+            assertThat(record.getTimestamp()).isEqualTo(event.getTimeStamp());
+            assertThat(record.getThrowable()).contains("java.lang.RuntimeException: failure")
+                    .contains("LogPreloaderTest");
+        }
+
+        @Test
+        void recordsLimitedByMemory() {
+            InspectitConfig config = createConfig(DEFAULT_BUFFER_SIZE);
+            config.getLogPreloading().setMaxMemory(DataSize.ofBytes(1000));
+            logPreloader.doEnable(config);
+
+            ILoggingEvent event = new LoggingEvent("com.dummy.Method", (Logger) LoggerFactory.getLogger(LogPreloaderTest.class), Level.ERROR, "Dummy Info", null, new String[]{});
+            IntStream.range(0, DEFAULT_BUFFER_SIZE).forEach(n -> logPreloader.onLoggingEvent(event, null));
+
+            List<PreloadedLogRecord> records = logPreloader.getPreloadedLogs(0).getRecords();
+            assertThat(records).hasSizeBetween(2, DEFAULT_BUFFER_SIZE - 1);
+            assertThat(records.stream().mapToLong(PreloadedLogRecord::getSize).sum()).isLessThanOrEqualTo(1000);
+            assertThat(records.get(records.size() - 1).getSequence()).isEqualTo(logPreloader.getNextSequence() - 1);
+        }
+
+        @Test
+        void largeRecordTruncated() {
+            InspectitConfig config = createConfig(DEFAULT_BUFFER_SIZE);
+            config.getLogPreloading().setMaxMemory(DataSize.ofBytes(1000));
+            logPreloader.doEnable(config);
+
+            logPreloader.onLoggingEvent(errorEvent, null);
+
+            List<PreloadedLogRecord> records = logPreloader.getPreloadedLogs(0).getRecords();
+            assertThat(records).hasSize(1);
+            assertThat(records.get(0).getSize()).isLessThanOrEqualTo(1000);
+            assertThat(records.get(0).getMessage()).isEqualTo("Dummy Info");
+            assertThat(records.get(0).getThrowable()).startsWith("java.lang.Throwable").endsWith("[truncated]");
+        }
     }
 
 }
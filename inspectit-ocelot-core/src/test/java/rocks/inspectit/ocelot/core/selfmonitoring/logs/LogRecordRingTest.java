@@ -0,0 +1,196 @@
+package rocks.inspectit.ocelot.core.selfmonitoring.logs;
+
+import ch.qos.logback.classic.Level;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LogRecordRingTest {
+
+    private static PreloadedLogRecord record(long sequence, String message) {
+        return new PreloadedLogRecord(sequence, 0, Level.WARN, "logger", "thread", message, null);
+    }
+
+    private static void add(LogRecordRing ring, String message) {
+        ring.publish(record(ring.claimSequence(), message));
+    }
+
+    @Nested
+    class Publish {
+
+        @Test
+        void oldestRecordsOverwritten() {
+            LogRecordRing ring = new LogRecordRing(3, Long.MAX_VALUE, 0);
+
+            for (int i = 0; i < 5; i++) {
+                add(ring, "message " + i);
+            }
+
+            assertThat(ring.getLogs(0).getRecords()).extracting(PreloadedLogRecord::getMessage)
+                    .containsExactly("message 2", "message 3", "message 4");
+        }
+
+        @Test
+        void outdatedRecordDropped() {
+            LogRecordRing ring = new LogRecordRing(2, Long.MAX_VALUE, 0);
+            long first = ring.claimSequence();
+            long second = ring.claimSequence();
+            long third = ring.claimSequence();
+
+            // the first record is published after the record which reuses its slot
+            ring.publish(record(third, "third"));
+            ring.publish(record(first, "first"));
+            ring.publish(record(second, "second"));
+
+            assertThat(ring.getLogs(0).getRecords()).extracting(PreloadedLogRecord::getMessage)
+                    .containsExactly("second", "third");
+        }
+
+        @Test
+        void oldestRecordsEvicted() {
+            long recordSize = record(0, "message").getSize();
+            LogRecordRing ring = new LogRecordRing(10, recordSize * 3, 0);
+
+            for (int i = 0; i < 5; i++) {
+                add(ring, "message");
+            }
+
+            assertThat(ring.getLogs(0).getRecords()).extracting(PreloadedLogRecord::getSequence).containsExactly(2L, 3L, 4L);
+            assertThat(ring.getRetainedBytes()).isEqualTo(recordSize * 3);
+        }
+
+        @Test
+        void concurrentWriters() throws Exception {
+            int threads = 4;
+            int recordsPerThread = 10_000;
+            LogRecordRing ring = new LogRecordRing(128, Long.MAX_VALUE, 0);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> writers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Thread writer = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < recordsPerThread; j++) {
+                        add(ring, "message");
+                    }
+                });
+                writer.start();
+                writers.add(writer);
+            }
+            start.countDown();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+
+            long end = threads * recordsPerThread;
+            assertThat(ring.getNextSequence()).isEqualTo(end);
+            assertThat(ring.getLogs(0).getRecords()).extracting(PreloadedLogRecord::getSequence)
+                    .containsExactlyElementsOf(() -> LongStream.range(end - 128, end).iterator());
+            assertThat(ring.getRetainedBytes()).isEqualTo(128 * record(0, "message").getSize());
+        }
+    }
+
+    @Nested
+    class GetRecords {
+
+        @Test
+        void fromSequence() {
+            LogRecordRing ring = new LogRecordRing(10, Long.MAX_VALUE, 100);
+            for (int i = 0; i < 4; i++) {
+                add(ring, "message " + i);
+            }
+
+            assertThat(ring.getLogs(102).getRecords()).extracting(PreloadedLogRecord::getMessage)
+                    .containsExactly("message 2", "message 3");
+            assertThat(ring.getLogs(104).getRecords()).isEmpty();
+            assertThat(ring.getLogs(0).getRecords()).hasSize(4);
+            assertThat(ring.getLogs(102).getNextSequence()).isEqualTo(104);
+        }
+
+        @Test
+        void unpublishedRecord() {
+            LogRecordRing ring = new LogRecordRing(10, Long.MAX_VALUE, 0);
+            add(ring, "first");
+            long second = ring.claimSequence();
+            add(ring, "third");
+
+            PreloadedLogs logs = ring.getLogs(0);
+
+            // the third record must not be returned before the second one
+            assertThat(logs.getRecords()).extracting(PreloadedLogRecord::getMessage).containsExactly("first");
+            assertThat(logs.getNextSequence()).isEqualTo(second);
+
+            ring.publish(record(second, "second"));
+            logs = ring.getLogs(logs.getNextSequence());
+
+            assertThat(logs.getRecords()).extracting(PreloadedLogRecord::getMessage).containsExactly("second", "third");
+            assertThat(logs.getNextSequence()).isEqualTo(3);
+        }
+
+        @Test
+        void evictedRecordsSkipped() {
+            long recordSize = record(0, "message").getSize();
+            LogRecordRing ring = new LogRecordRing(10, recordSize * 2, 0);
+            for (int i = 0; i < 4; i++) {
+                add(ring, "message");
+            }
+
+            PreloadedLogs logs = ring.getLogs(0);
+
+            assertThat(logs.getRecords()).extracting(PreloadedLogRecord::getSequence).containsExactly(2L, 3L);
+            assertThat(logs.getNextSequence()).isEqualTo(4);
+        }
+
+        @Test
+        void unpublishedRecordNotEvicted() {
+            long recordSize = record(0, "message").getSize();
+            LogRecordRing ring = new LogRecordRing(10, recordSize * 2, 0);
+            add(ring, "message");
+            long second = ring.claimSequence();
+            for (int i = 0; i < 3; i++) {
+                add(ring, "message");
+            }
+
+            PreloadedLogs logs = ring.getLogs(0);
+
+            // the eviction stops at the unpublished record, so that it is not skipped by readers
+            assertThat(logs.getRecords()).isEmpty();
+            assertThat(logs.getNextSequence()).isEqualTo(second);
+
+            ring.publish(record(second, "message"));
+            logs = ring.getLogs(logs.getNextSequence());
+
+            assertThat(logs.getRecords()).extracting(PreloadedLogRecord::getSequence).containsExactly(1L, 2L, 3L, 4L);
+
+            add(ring, "message");
+
+            assertThat(ring.getLogs(0).getRecords()).extracting(PreloadedLogRecord::getSequence).containsExactly(4L, 5L);
+            assertThat(ring.getRetainedBytes()).isEqualTo(recordSize * 2);
+        }
+
+        @Test
+        void lappedRecordReleased() {
+            long recordSize = record(0, "message").getSize();
+            LogRecordRing ring = new LogRecordRing(2, recordSize, 0);
+            long first = ring.claimSequence();
+            for (int i = 0; i < 3; i++) {
+                add(ring, "message");
+            }
+
+            // the first record is published after more than capacity newer records have been published
+            ring.publish(record(first, "message"));
+
+            assertThat(ring.getLogs(0).getRecords()).extracting(PreloadedLogRecord::getSequence).containsExactly(3L);
+            assertThat(ring.getRetainedBytes()).isEqualTo(recordSize);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package rocks.inspectit.ocelot.core.service.scheduling;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class MonitoredScheduledExecutorTest {
+
+    private MonitoredScheduledExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        executor = new MonitoredScheduledExecutor("test", 1, Thread.MIN_PRIORITY);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private TaskStatistics getStatistics(String name) {
+        return executor.getStatistics()
+                .stream()
+                .filter(statistics -> statistics.getName().equals(name))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+
+    @Nested
+    class Execute {
+
+        @Test
+        void threadsConfigured() throws Exception {
+            Thread[] thread = new Thread[1];
+            executor.submit(() -> thread[0] = Thread.currentThread()).get();
+
+            assertThat(thread[0].getName()).isEqualTo("inspectit-test-thread-0");
+            assertThat(thread[0].getPriority()).isEqualTo(Thread.MIN_PRIORITY);
+            assertThat(thread[0].isDaemon()).isTrue();
+        }
+
+        @Test
+        void runsRecorded() throws Exception {
+            Future<?> future = executor.submit(() -> "done");
+
+            assertThat(future.get()).isEqualTo("done");
+            await().untilAsserted(() -> assertThat(getStatistics("MonitoredScheduledExecutorTest").getRuns()).isEqualTo(1));
+        }
+
+        @Test
+        void lagRecorded() throws Exception {
+            CountDownLatch blocked = new CountDownLatch(1);
+            executor.execute(MonitoredScheduledExecutor.named("blocking", () -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            Future<?> delayed = executor.submit(MonitoredScheduledExecutor.named("delayed", () -> {
+            }));
+
+            Thread.sleep(50);
+            blocked.countDown();
+            delayed.get();
+
+            await().untilAsserted(() -> {
+                assertThat(getStatistics("delayed").getRuns()).isEqualTo(1);
+                assertThat(getStatistics("delayed").getLagNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+                assertThat(getStatistics("blocking").getDurationNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+            });
+        }
+    }
+
+    @Nested
+    class SchedulePeriodic {
+
+        @Test
+        void allRunsRecorded() {
+            // the runs take longer than the delay, which is no overrun for fixed-delay tasks
+            ScheduledFuture<?> future = executor.scheduleWithFixedDelay(MonitoredScheduledExecutor.named("periodic", () -> {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }), 0, 1, TimeUnit.MILLISECONDS);
+
+            await().untilAsserted(() -> assertThat(getStatistics("periodic").getRuns()).isGreaterThanOrEqualTo(3));
+            future.cancel(false);
+            assertThat(future.isCancelled()).isTrue();
+            assertThat(getStatistics("periodic").getOverruns()).isZero();
+        }
+
+        @Test
+        void overrunsRecorded() {
+            ScheduledFuture<?> future = executor.scheduleAtFixedRate(MonitoredScheduledExecutor.named("slow", () -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }), 0, 10, TimeUnit.MILLISECONDS);
+
+            await().untilAsserted(() -> assertThat(getStatistics("slow").getOverruns()).isGreaterThanOrEqualTo(2));
+            future.cancel(false);
+        }
+    }
+
+    @Nested
+    class GetTaskName {
+
+        @Test
+        void lambdaNamedAfterDeclaringClass() {
+            Runnable task = () -> {
+            };
+
+            assertThat(MonitoredScheduledExecutor.getTaskName(task)).isEqualTo("MonitoredScheduledExecutorTest");
+        }
+
+        @Test
+        void explicitName() {
+            assertThat(MonitoredScheduledExecutor.getTaskName(MonitoredScheduledExecutor.named("my-task", () -> {
+            }))).isEqualTo("my-task");
+        }
+    }
+}
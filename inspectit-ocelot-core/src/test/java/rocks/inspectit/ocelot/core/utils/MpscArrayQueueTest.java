@@ -0,0 +1,145 @@
+package rocks.inspectit.ocelot.core.utils;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MpscArrayQueueTest {
+
+    @Nested
+    class Offer {
+
+        @Test
+        void boundedByCapacity() {
+            MpscArrayQueue<String> queue = new MpscArrayQueue<>(3);
+
+            assertThat(queue.offer("a")).isTrue();
+            assertThat(queue.offer("b")).isTrue();
+            assertThat(queue.offer("c")).isTrue();
+            assertThat(queue.offer("d")).isFalse();
+            assertThat(queue.size()).isEqualTo(3);
+            assertThat(queue.capacity()).isEqualTo(3);
+        }
+
+        @Test
+        void spaceFreedByPoll() {
+            MpscArrayQueue<String> queue = new MpscArrayQueue<>(2);
+            queue.offer("a");
+            queue.offer("b");
+
+            assertThat(queue.poll()).isEqualTo("a");
+            assertThat(queue.offer("c")).isTrue();
+            assertThat(queue.offer("d")).isFalse();
+        }
+
+        @Test
+        void nullRejected() {
+            MpscArrayQueue<String> queue = new MpscArrayQueue<>(2);
+
+            assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        void invalidCapacity() {
+            assertThatThrownBy(() -> new MpscArrayQueue<>(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Poll {
+
+        @Test
+        void fifoOrder() {
+            MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+            List<Integer> result = new ArrayList<>();
+
+            for (int i = 0; i < 10; i++) {
+                queue.offer(i);
+                queue.offer(i + 100);
+                result.add(queue.poll());
+                result.add(queue.poll());
+            }
+
+            assertThat(result).hasSize(20);
+            assertThat(result.subList(0, 4)).containsExactly(0, 100, 1, 101);
+            assertThat(queue.poll()).isNull();
+            assertThat(queue.isEmpty()).isTrue();
+        }
+
+        @Test
+        void drainLimited() {
+            MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(8);
+            for (int i = 0; i < 5; i++) {
+                queue.offer(i);
+            }
+            List<Integer> drained = new ArrayList<>();
+
+            assertThat(queue.drain(drained::add, 3)).isEqualTo(3);
+            assertThat(drained).containsExactly(0, 1, 2);
+            assertThat(queue.drain(drained::add, 3)).isEqualTo(2);
+            assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+        }
+    }
+
+    @Test
+    void concurrentProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 10000;
+        MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger finished = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int offset = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+                finished.incrementAndGet();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        Set<Integer> received = new HashSet<>();
+        int[] lastPerProducer = new int[producers];
+        Arrays.fill(lastPerProducer, -1);
+        while (received.size() < producers * perProducer) {
+            Integer value = queue.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            // the elements of each producer are received in order
+            int producer = value / perProducer;
+            assertThat(value % perProducer).isGreaterThan(lastPerProducer[producer]);
+            lastPerProducer[producer] = value % perProducer;
+            received.add(value);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(finished.get()).isEqualTo(producers);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+}